@@ -1,7 +1,11 @@
+import java.time.LocalDateTime
+import java.time.format.DateTimeFormatter
+
 plugins {
     java
     id("org.springframework.boot") version "3.5.8"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.back"
@@ -51,6 +55,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-websocket")
     implementation("org.springframework.security:spring-security-messaging")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("io.micrometer:micrometer-registry-prometheus")
 
@@ -67,3 +73,51 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 대용량 시드가 필요한 벤치마크는 기본 test에서 제외하고 별도 태스크로 실행
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs @Tag(\"benchmark\") tests."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxHeapSize = "2g"
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// 서비스 계층 핫패스 JMH (src/jmh). 결과는 k6와 같은 k6/results 아래에 JSON으로 남긴다.
+// ./gradlew jmh                              -> k6/results/jmh/jmh_20260401_182500.json
+// ./gradlew jmh -PjmhLabel=before            -> k6/results/jmh/jmh_before_20260401_182500.json
+// ./gradlew jmh -PjmhIncludes=PostListFacade -> 해당 벤치마크만 실행
+val jmhRunId = providers.gradleProperty("jmhLabel")
+    .map { "jmh_${it}_" }
+    .orElse("jmh_")
+    .map { it + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) }
+val jmhResultsDir = layout.projectDirectory.dir("k6/results/jmh").asFile
+
+jmh {
+    jmhVersion = "1.37"
+    includes = providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf())
+    profilers = listOf("gc") // gc.alloc.rate.norm (B/op)
+    fork = 1
+    warmupIterations = 3
+    warmup = "2s"
+    iterations = 5
+    timeOnIteration = "2s"
+    resultFormat = "JSON"
+    resultsFile = layout.projectDirectory.file(jmhRunId.map { "k6/results/jmh/$it.json" })
+}
+
+tasks.named("jmh") {
+    doFirst { jmhResultsDir.mkdirs() }
+}
@@ -25,6 +25,14 @@ const BASE_SCENARIO_CONFIG = {
         exec: 'partyAddMembersWrite',
         tags: { area: 'party', kind: 'write' },
     },
+    chat_ws_native: {
+        exec: 'chatWsNative',
+        tags: { area: 'chat', kind: 'ws' },
+    },
+    chat_ws_sockjs: {
+        exec: 'chatWsSockJs',
+        tags: { area: 'chat', kind: 'ws' },
+    },
 };
 
 function scaleTarget(target, weight) {
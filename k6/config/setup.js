@@ -3,6 +3,7 @@ import { check, fail } from 'k6';
 
 import {
     BASE_URL,
+    IS_CHAT_WS_PRESET,
     IS_CONTENTION_PRESET,
     LEADER_CREDENTIALS,
     MEMBER_CREDENTIALS,
@@ -47,7 +48,7 @@ export function setup() {
         fail('No contention write targets were discovered. Check leader/member seed data.');
     }
 
-    if (!IS_CONTENTION_PRESET && discovery.writeTargets.length === 0) {
+    if (!IS_CONTENTION_PRESET && !IS_CHAT_WS_PRESET && discovery.writeTargets.length === 0) {
         fail('No realistic write targets were discovered. Check leader/member seed data.');
     }
 
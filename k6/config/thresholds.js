@@ -1,9 +1,9 @@
-import { IS_CONTENTION_PRESET, MIN_WRITE_SUCCESS_SAMPLES } from '../core/env.js';
+import { IS_CHAT_WS_PRESET, IS_CONTENTION_PRESET, MIN_WRITE_SUCCESS_SAMPLES } from '../core/env.js';
 
 const REALISTIC_THRESHOLDS = {
     http_req_failed: ['rate<0.01'],
     dropped_iterations: ['count==0'],
-    'http_req_duration{endpoint:posts_list}': ['p(95)<50'],
+    'http_req_duration{endpoint:posts_list_public}': ['p(95)<50'],
     'http_req_duration{endpoint:auth_login}': ['p(95)<180'],
     'http_req_duration{endpoint:chat_rooms}': ['p(95)<50'],
     'http_req_duration{endpoint:chat_messages}': ['p(95)<50'],
@@ -19,6 +19,19 @@ const CONTENTION_THRESHOLDS = {
     'business_result_count{endpoint:party_add_members,business_result:success}': ['count>0'],
 };
 
-export const thresholds = IS_CONTENTION_PRESET
-    ? CONTENTION_THRESHOLDS
-    : REALISTIC_THRESHOLDS;
+const CHAT_WS_THRESHOLDS = {
+    ws_chat_session_failed: ['rate<0.01'],
+    ws_chat_lost: ['count==0'],
+    'ws_chat_latency{transport:native}': ['p(95)<100'],
+    'ws_chat_latency{transport:sockjs}': ['p(95)<100'],
+};
+
+function selectThresholds() {
+    if (IS_CONTENTION_PRESET) {
+        return CONTENTION_THRESHOLDS;
+    }
+
+    return IS_CHAT_WS_PRESET ? CHAT_WS_THRESHOLDS : REALISTIC_THRESHOLDS;
+}
+
+export const thresholds = selectThresholds();
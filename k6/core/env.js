@@ -44,9 +44,14 @@ export const BASE_URL = __ENV.BASE_URL || PLAN_BASE_URL;
 export const RUN_ID = __ENV.RUN_ID || `${ACTIVE_PRESET_NAME}_manual`;
 export const SCENARIO_FAMILY = ACTIVE_PRESET.scenarioFamily || ACTIVE_PRESET_NAME;
 export const IS_CONTENTION_PRESET = ACTIVE_PRESET.shape.type === 'contention';
+export const IS_CHAT_WS_PRESET = SCENARIO_FAMILY === 'chat_ws_compare';
 export const PARTY_WRITE_PAIR_SIZE = ACTIVE_PRESET.partyWritePairSize || 2;
 export const MIN_WRITE_SUCCESS_SAMPLES = ACTIVE_PRESET.minWriteSuccessSamples || 0;
 
+export const WS_MESSAGES_PER_SESSION = Number(__ENV.WS_MESSAGES_PER_SESSION || 10);
+export const WS_SEND_INTERVAL_MS = Number(__ENV.WS_SEND_INTERVAL_MS || 100);
+export const WS_SESSION_TIMEOUT_MS = Number(__ENV.WS_SESSION_TIMEOUT_MS || 10000);
+
 export const LEADER_CREDENTIALS = uniqueCredentials(parseCredentials(__ENV.LEADER_CREDENTIALS || ''));
 export const MEMBER_CREDENTIALS = uniqueCredentials(parseCredentials(__ENV.MEMBER_CREDENTIALS || ''));
 export const ALL_CREDENTIALS = uniqueCredentials([...LEADER_CREDENTIALS, ...MEMBER_CREDENTIALS]);
@@ -1,4 +1,4 @@
-import { Counter, Trend } from 'k6/metrics';
+import { Counter, Rate, Trend } from 'k6/metrics';
 
 import { SCENARIO_FAMILY } from './env.js';
 
@@ -6,6 +6,12 @@ export const businessResultCount = new Counter('business_result_count');
 export const businessResultDuration = new Trend('business_result_duration', true);
 export const endpointSuccessDuration = new Trend('endpoint_success_duration', true);
 
+// WebSocket 채팅 (tag transport: native | sockjs)
+export const wsChatLatency = new Trend('ws_chat_latency', true); // SEND → 같은 세션이 MESSAGE 받을 때까지
+export const wsChatReceived = new Counter('ws_chat_received'); // 받은 내 메시지 수 (k6 summary의 rate = 초당 메시지)
+export const wsChatLost = new Counter('ws_chat_lost'); // 세션 시간 안에 돌아오지 않은 메시지 수
+export const wsChatSessionFailed = new Rate('ws_chat_session_failed');
+
 export function recordBusinessOutcome(endpoint, res, successStatuses = [200], businessStatusMap = {}) {
     const businessResult = successStatuses.includes(res.status)
         ? 'success'
@@ -12,6 +12,11 @@ function requestTags(endpoint) {
     };
 }
 
+// 서버 로그/exemplar의 requestId로 k6 run/VU/iteration을 역추적할 수 있도록 전달
+function requestId() {
+    return `${RUN_ID}.${__VU}.${__ITER}`;
+}
+
 export function runGet({ url, endpoint, checkName, credentials }) {
     if (credentials) {
         ensureAuthenticated(credentials);
@@ -23,10 +28,16 @@ export function runGet({ url, endpoint, checkName, credentials }) {
             ? {
                 headers: {
                     Cookie: getAuthCookieHeader(),
+                    'X-Request-Id': requestId(),
                 },
                 tags: requestTags(endpoint),
             }
-            : { tags: requestTags(endpoint) },
+            : {
+                headers: {
+                    'X-Request-Id': requestId(),
+                },
+                tags: requestTags(endpoint),
+            },
     );
 
     runStatusChecks(res, endpoint, checkName, [200], {
@@ -62,6 +73,7 @@ export function runPostJson({
             headers: {
                 'Content-Type': 'application/json',
                 Cookie: getAuthCookieHeader(),
+                'X-Request-Id': requestId(),
             },
             tags: requestTags(endpoint),
             ...(responseCallback ? { responseCallback } : {}),
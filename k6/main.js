@@ -1,5 +1,5 @@
 export { options, setup } from './config/index.js';
 export { loginOnly } from './scenarios/auth.js';
-export { chatMessagesRead, chatRoomsRead } from './scenarios/chat.js';
+export { chatMessagesRead, chatRoomsRead, chatWsNative, chatWsSockJs } from './scenarios/chat.js';
 export { partyAddMembersWrite, partyMembersRead } from './scenarios/party.js';
 export { postsListPublic } from './scenarios/posts.js';
@@ -1,4 +1,21 @@
-import { BASE_URL } from '../core/env.js';
+import exec from 'k6/execution';
+import ws from 'k6/ws';
+import { check } from 'k6';
+
+import { createDiscoverySession } from '../core/auth.js';
+import {
+    BASE_URL,
+    SCENARIO_FAMILY,
+    WS_MESSAGES_PER_SESSION,
+    WS_SEND_INTERVAL_MS,
+    WS_SESSION_TIMEOUT_MS,
+} from '../core/env.js';
+import {
+    wsChatLatency,
+    wsChatLost,
+    wsChatReceived,
+    wsChatSessionFailed,
+} from '../core/metrics.js';
 import { runGet } from '../core/requests.js';
 import { getChatRoomTarget } from '../core/runtime.js';
 
@@ -23,3 +40,158 @@ export function chatMessagesRead(data) {
         credentials: target.credential,
     });
 }
+
+// STOMP over WebSocket 전송 → 브로드캐스트 수신 지연 (SockJS /ws vs 네이티브 /ws-native)
+const WS_BASE_URL = BASE_URL.replace(/^http/, 'ws');
+const accessTokens = {};
+
+function accessTokenFor(credential) {
+    if (!accessTokens[credential.email]) {
+        accessTokens[credential.email] = createDiscoverySession(credential).accessToken;
+    }
+
+    return accessTokens[credential.email];
+}
+
+function stompFrame(command, headers, body = '') {
+    const headerLines = Object.entries(headers).map(([key, value]) => `${key}:${value}`);
+    return `${command}\n${headerLines.join('\n')}\n\n${body}\0`;
+}
+
+// 한 WebSocket 메시지에 STOMP 프레임이 여러 개 올 수 있음 (서버 프레임 묶기)
+function parseStompFrames(data) {
+    return data
+        .split('\0')
+        .map((raw) => raw.replace(/^[\r\n]+/, ''))
+        .filter(Boolean)
+        .map((raw) => {
+            const separator = raw.indexOf('\n\n');
+            const head = separator === -1 ? raw : raw.slice(0, separator);
+            return {
+                command: head.split('\n')[0],
+                body: separator === -1 ? '' : raw.slice(separator + 2),
+            };
+        });
+}
+
+function sockJsUrl() {
+    const serverId = String(Math.floor(Math.random() * 1000)).padStart(3, '0');
+    const sessionId = `${exec.vu.idInTest}_${exec.scenario.iterationInTest}_${Date.now()}`;
+    return `${WS_BASE_URL}/ws/${serverId}/${sessionId}/websocket`;
+}
+
+// SockJS 프레임: o(open), h(heartbeat), a[...](메시지 배열), c[...](close)
+const TRANSPORTS = {
+    native: {
+        url: () => `${WS_BASE_URL}/ws-native`,
+        params: { compression: 'deflate' },
+        encode: (frame) => frame,
+        decode: (data) => [data],
+        opensOnConnect: true,
+    },
+    sockjs: {
+        url: sockJsUrl,
+        params: {},
+        encode: (frame) => JSON.stringify([frame]),
+        decode: (data) => (data.startsWith('a') ? JSON.parse(data.slice(1)) : []),
+        opensOnConnect: false,
+    },
+};
+
+function runChatWs(data, transportName) {
+    const transport = TRANSPORTS[transportName];
+    const target = getChatRoomTarget(data);
+    const token = accessTokenFor(target.credential);
+    const tags = { transport: transportName, scenario_family: SCENARIO_FAMILY };
+    const marker = `k6-${exec.vu.idInTest}-${exec.scenario.iterationInTest}`;
+    const sentAt = {};
+    let received = 0;
+    let connected = false;
+
+    const res = ws.connect(transport.url(), { ...transport.params, tags }, (socket) => {
+        const send = (frame) => socket.send(transport.encode(frame));
+
+        const startStomp = () => send(stompFrame('CONNECT', {
+            'accept-version': '1.2',
+            'heart-beat': '0,0',
+            Authorization: `Bearer ${token}`,
+        }));
+
+        const startSending = () => {
+            let sent = 0;
+            const sendNext = () => {
+                const content = `${marker}-${sent}`;
+                sentAt[content] = Date.now();
+                send(stompFrame('SEND', {
+                    destination: `/pub/chats/${target.chatRoomId}/messages`,
+                    'content-type': 'application/json',
+                }, JSON.stringify({ messageType: 'TEXT', content })));
+                sent += 1;
+                if (sent < WS_MESSAGES_PER_SESSION) {
+                    socket.setTimeout(sendNext, WS_SEND_INTERVAL_MS);
+                }
+            };
+            sendNext();
+        };
+
+        const onStompFrame = (frame) => {
+            if (frame.command === 'CONNECTED') {
+                connected = true;
+                send(stompFrame('SUBSCRIBE', { id: 'sub-0', destination: `/sub/chats/${target.chatRoomId}` }));
+                socket.setTimeout(startSending, 100); // SUBSCRIBE 처리 후 전송
+                return;
+            }
+            if (frame.command === 'ERROR') {
+                console.error(`[k6-ws-error] ${JSON.stringify({ transport: transportName, body: frame.body })}`);
+                socket.close();
+                return;
+            }
+            if (frame.command !== 'MESSAGE') {
+                return;
+            }
+
+            const content = JSON.parse(frame.body).content;
+            if (sentAt[content] === undefined) {
+                return; // 같은 방의 다른 VU 메시지
+            }
+            wsChatLatency.add(Date.now() - sentAt[content], tags);
+            wsChatReceived.add(1, tags);
+            delete sentAt[content];
+            received += 1;
+            if (received >= WS_MESSAGES_PER_SESSION) {
+                socket.close();
+            }
+        };
+
+        socket.on('open', () => {
+            if (transport.opensOnConnect) {
+                startStomp();
+            }
+        });
+        socket.on('message', (message) => {
+            if (message === 'o') {
+                startStomp();
+                return;
+            }
+            transport.decode(message)
+                .flatMap(parseStompFrames)
+                .forEach(onStompFrame);
+        });
+        socket.setTimeout(() => socket.close(), WS_SESSION_TIMEOUT_MS);
+    });
+
+    const ok = check(res, {
+        'ws handshake status 101': (r) => r && r.status === 101,
+    }) && connected;
+
+    wsChatSessionFailed.add(!ok, tags);
+    wsChatLost.add(Object.keys(sentAt).length, tags);
+}
+
+export function chatWsNative(data) {
+    runChatWs(data, 'native');
+}
+
+export function chatWsSockJs(data) {
+    runChatWs(data, 'sockjs');
+}
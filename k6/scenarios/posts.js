@@ -6,7 +6,7 @@ import { runGet } from '../core/requests.js';
 export function postsListPublic() {
     const res = runGet({
         url: `${BASE_URL}/api/v1/posts?size=20`,
-        endpoint: 'posts_list',
+        endpoint: 'posts_list_public',
         checkName: 'posts list status 200',
     });
 
@@ -104,13 +104,14 @@ SET @ga_3 = (SELECT game_account_id FROM game_account WHERE user_id = @user_3 LI
 SET @ga_4 = (SELECT game_account_id FROM game_account WHERE user_id = @user_4 LIMIT 1);
 
 -- 3) Posts for list, party, and chat scenarios
+-- looking_positions: Position 비트마스크 (ANY=1, TOP=2, JUNGLE=4, MID=8, ADC=16, SUPPORT=32)
 INSERT INTO post (
     created_at, updated_at, deleted_at, is_active,
     game_mode, looking_positions, memo, mic, my_position, queue_type, recruit_count, status,
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('JUNGLE', 'MID'), 'LOADTEST_POST_01',
+       'SUMMONERS_RIFT', 12 /* JUNGLE|MID */, 'LOADTEST_POST_01',
        b'1', 'TOP', 'DUO', 3, 'RECRUIT', @ga_main, @user_main
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_01');
@@ -121,7 +122,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('TOP', 'SUPPORT'), 'LOADTEST_POST_02',
+       'SUMMONERS_RIFT', 34 /* TOP|SUPPORT */, 'LOADTEST_POST_02',
        b'0', 'ADC', 'DUO', 2, 'RECRUIT', @ga_2, @user_2
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_02');
@@ -132,7 +133,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('ADC', 'SUPPORT'), 'LOADTEST_POST_03',
+       'SUMMONERS_RIFT', 48 /* ADC|SUPPORT */, 'LOADTEST_POST_03',
        b'1', 'MID', 'DUO', 2, 'RECRUIT', @ga_3, @user_3
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_03');
@@ -143,7 +144,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('TOP', 'MID'), 'LOADTEST_POST_04',
+       'SUMMONERS_RIFT', 10 /* TOP|MID */, 'LOADTEST_POST_04',
        b'0', 'JUNGLE', 'FLEX', 5, 'RECRUIT', @ga_4, @user_4
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_04');
@@ -154,7 +155,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'HOWLING_ABYSS', JSON_ARRAY('ANY'), 'LOADTEST_POST_05',
+       'HOWLING_ABYSS', 1 /* ANY */, 'LOADTEST_POST_05',
        b'1', 'ANY', 'NORMAL', 5, 'RECRUIT', @ga_main, @user_main
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_05');
@@ -165,7 +166,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'ARENA', JSON_ARRAY('ANY'), 'LOADTEST_POST_06',
+       'ARENA', 1 /* ANY */, 'LOADTEST_POST_06',
        b'0', 'ANY', 'NORMAL', 2, 'RECRUIT', @ga_2, @user_2
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_06');
@@ -176,7 +177,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('MID', 'JUNGLE'), 'LOADTEST_POST_07',
+       'SUMMONERS_RIFT', 12 /* MID|JUNGLE */, 'LOADTEST_POST_07',
        b'1', 'SUPPORT', 'DUO', 2, 'RECRUIT', @ga_3, @user_3
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_07');
@@ -187,7 +188,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('ADC', 'SUPPORT'), 'LOADTEST_POST_08',
+       'SUMMONERS_RIFT', 48 /* ADC|SUPPORT */, 'LOADTEST_POST_08',
        b'1', 'TOP', 'FLEX', 5, 'RECRUIT', @ga_4, @user_4
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_08');
@@ -198,7 +199,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('JUNGLE', 'MID'), 'LOADTEST_POST_09',
+       'SUMMONERS_RIFT', 12 /* JUNGLE|MID */, 'LOADTEST_POST_09',
        b'1', 'TOP', 'DUO', 3, 'RECRUIT', @ga_main, @user_main
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_09');
@@ -209,7 +210,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('ADC', 'SUPPORT'), 'LOADTEST_POST_10',
+       'SUMMONERS_RIFT', 48 /* ADC|SUPPORT */, 'LOADTEST_POST_10',
        b'1', 'MID', 'DUO', 3, 'RECRUIT', @ga_main, @user_main
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_10');
@@ -220,7 +221,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('TOP', 'MID'), 'LOADTEST_POST_11',
+       'SUMMONERS_RIFT', 10 /* TOP|MID */, 'LOADTEST_POST_11',
        b'0', 'JUNGLE', 'DUO', 3, 'RECRUIT', @ga_main, @user_main
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_11');
@@ -231,7 +232,7 @@ INSERT INTO post (
     game_account_id, user_id
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('MID', 'SUPPORT'), 'LOADTEST_POST_12',
+       'SUMMONERS_RIFT', 40 /* MID|SUPPORT */, 'LOADTEST_POST_12',
        b'1', 'ADC', 'DUO', 3, 'RECRUIT', @ga_main, @user_main
 FROM DUAL
 WHERE NOT EXISTS (SELECT 1 FROM post WHERE memo = 'LOADTEST_POST_12');
@@ -323,6 +324,47 @@ SET @party_10 = (SELECT party_id FROM party WHERE post_id = @post_10 LIMIT 1);
 SET @party_11 = (SELECT party_id FROM party WHERE post_id = @post_11 LIMIT 1);
 SET @party_12 = (SELECT party_id FROM party WHERE post_id = @post_12 LIMIT 1);
 
+-- party_member ids are handed out by the application from id_sequence (pooled-lo blocks).
+-- Reserve a range for the AUTO_INCREMENT inserts below so they never land inside a block
+-- already held by a running server, then point AUTO_INCREMENT at the start of that range.
+SET @party_member_id_lo = NULL;
+SET @id_sequence_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'id_sequence'
+);
+
+START TRANSACTION;
+SET @query := IF(
+    @id_sequence_exists = 0,
+    'SELECT "id_sequence not found, keeping AUTO_INCREMENT as is"',
+    'SELECT next_val INTO @party_member_id_lo FROM id_sequence WHERE sequence_name = ''party_member'' FOR UPDATE'
+);
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @query := IF(
+    @party_member_id_lo IS NULL,
+    'SELECT "id_sequence row for party_member not found"',
+    CONCAT('UPDATE id_sequence SET next_val = ', @party_member_id_lo + 1000,
+           ' WHERE sequence_name = ''party_member''')
+);
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+COMMIT;
+
+SET @query := IF(
+    @party_member_id_lo IS NULL,
+    'SELECT "party_member AUTO_INCREMENT unchanged"',
+    CONCAT('ALTER TABLE party_member AUTO_INCREMENT = ', @party_member_id_lo)
+);
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
 INSERT INTO party_member (joined_at, left_at, role, state, party_id, user_id)
 SELECT @now, NULL, 'LEADER', 'JOINED', @party_1, @user_main
 FROM DUAL
@@ -375,7 +417,7 @@ WITH RECURSIVE write_seq AS (
     SELECT n + 1 FROM write_seq WHERE n < 50
 )
 SELECT @now, @now, NULL, b'1',
-       'SUMMONERS_RIFT', JSON_ARRAY('TOP', 'JUNGLE', 'MID', 'ADC'),
+       'SUMMONERS_RIFT', 30 /* TOP|JUNGLE|MID|ADC */,
        CONCAT('LOADTEST_WRITE_', LPAD(write_seq.n, 3, '0')),
        b'1', 'SUPPORT', 'FLEX', 5, 'RECRUIT', @ga_main, @user_main
 FROM write_seq
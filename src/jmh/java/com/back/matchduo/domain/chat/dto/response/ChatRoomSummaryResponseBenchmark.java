@@ -0,0 +1,52 @@
+package com.back.matchduo.domain.chat.dto.response;
+
+import com.back.matchduo.domain.chat.entity.ChatMessage;
+import com.back.matchduo.domain.chat.entity.ChatRoom;
+import com.back.matchduo.domain.post.entity.Post;
+import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.fixture.EntityFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChatRoomSummaryResponse.of: 내 채팅방 목록 한 페이지(20개) 요약 조립
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChatRoomSummaryResponseBenchmark {
+
+    private static final int ROOMS = 20;
+    private static final long ME = 1L;
+
+    private final List<ChatRoom> rooms = new ArrayList<>();
+    private final List<ChatMessage> lastMessages = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User me = EntityFixtures.user(ME);
+        for (long id = 1; id <= ROOMS; id++) {
+            User other = EntityFixtures.user(100 + id);
+            Post post = EntityFixtures.post(id, id % 2 == 0 ? me : other, null);
+            // 절반은 내가 방장(receiver), 절반은 내가 지원자(sender)
+            ChatRoom room = id % 2 == 0
+                    ? EntityFixtures.chatRoom(id, post, me, other)
+                    : EntityFixtures.chatRoom(id, post, other, me);
+            rooms.add(room);
+            // 일부 방은 아직 메시지가 없음
+            lastMessages.add(id % 5 == 0 ? null : EntityFixtures.chatMessage(id * 100, room, other));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROOMS)
+    public void ofPage(Blackhole blackhole) {
+        for (int i = 0; i < ROOMS; i++) {
+            blackhole.consume(ChatRoomSummaryResponse.of(rooms.get(i), ME, lastMessages.get(i), i % 3));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.back.matchduo.domain.gameaccount.service;
+
+import com.back.matchduo.domain.gameaccount.dto.response.MatchResponse;
+import com.back.matchduo.domain.gameaccount.entity.GameAccount;
+import com.back.matchduo.domain.gameaccount.entity.Match;
+import com.back.matchduo.domain.gameaccount.entity.MatchParticipant;
+import com.back.matchduo.fixture.EntityFixtures;
+import com.back.matchduo.fixture.FakeDataDragonService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MatchService.convertToMatchResponse: 최근 20경기 응답 변환 (이미지 URL 포맷팅 + perks JSON 파싱)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MatchServiceBenchmark {
+
+    private static final int RECENT_MATCHES = 20;
+    private static final String VERSION = "15.24.1";
+
+    private MatchService matchService;
+    private final List<Match> matches = new ArrayList<>();
+    private final List<MatchParticipant> participants = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        matchService = new MatchService(null, null, null, null, null, null, new FakeDataDragonService(), new ObjectMapper());
+
+        GameAccount gameAccount = EntityFixtures.gameAccount(1L, EntityFixtures.user(1L));
+        for (long id = 1; id <= RECENT_MATCHES; id++) {
+            Match match = EntityFixtures.match(id, gameAccount);
+            matches.add(match);
+            participants.add(EntityFixtures.matchParticipant(match, gameAccount));
+        }
+    }
+
+    @Benchmark
+    public MatchResponse convertSingle() {
+        return matchService.convertToMatchResponse(matches.get(0), participants.get(0), VERSION);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECENT_MATCHES)
+    public void convertRecentMatches(Blackhole blackhole) {
+        for (int i = 0; i < RECENT_MATCHES; i++) {
+            blackhole.consume(matchService.convertToMatchResponse(matches.get(i), participants.get(i), VERSION));
+        }
+    }
+}
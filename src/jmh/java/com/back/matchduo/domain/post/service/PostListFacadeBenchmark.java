@@ -0,0 +1,131 @@
+package com.back.matchduo.domain.post.service;
+
+import com.back.matchduo.domain.gameaccount.entity.GameAccount;
+import com.back.matchduo.domain.gameaccount.entity.GameAccountStats;
+import com.back.matchduo.domain.gameaccount.entity.Match;
+import com.back.matchduo.domain.gameaccount.entity.MatchParticipant;
+import com.back.matchduo.domain.gameaccount.entity.Rank;
+import com.back.matchduo.domain.gameaccount.service.DataDragonService;
+import com.back.matchduo.domain.party.entity.Party;
+import com.back.matchduo.domain.party.entity.PartyMember;
+import com.back.matchduo.domain.party.entity.PartyMemberRole;
+import com.back.matchduo.domain.post.dto.response.PostListResponse;
+import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.Post;
+import com.back.matchduo.domain.post.entity.PostStatus;
+import com.back.matchduo.domain.post.entity.QueueType;
+import com.back.matchduo.domain.post.repository.PostGameAccountQueryRepository;
+import com.back.matchduo.domain.post.repository.PostListQueryRepository;
+import com.back.matchduo.domain.post.repository.PostPartyQueryRepository;
+import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.fixture.EntityFixtures;
+import com.back.matchduo.fixture.FakeDataDragonService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostListFacade.getPostList 응답 조립 비용 (쿼리 결과는 고정 fixture, DB 왕복 제외)
+ * - 한 페이지 20건 + hasNext 판정용 1건, 작성자마다 솔로랭크/집계 1행(최근 20경기 + 선호 챔피언 3개), 파티원 2~5명
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PostListFacadeBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int RECENT_MATCHES = 20;
+
+    private PostListFacade postListFacade;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Post> posts = new ArrayList<>();
+        List<GameAccount> accounts = new ArrayList<>();
+        List<Rank> ranks = new ArrayList<>();
+        List<GameAccountStats> stats = new ArrayList<>();
+        List<Party> parties = new ArrayList<>();
+        List<PartyMember> members = new ArrayList<>();
+
+        long memberUserId = 10_000;
+        long matchId = 1;
+        for (long id = PAGE_SIZE + 1; id >= 1; id--) {
+            User writer = EntityFixtures.user(id);
+            GameAccount gameAccount = EntityFixtures.gameAccount(id, writer);
+            Post post = EntityFixtures.post(id, writer, gameAccount);
+            Party party = EntityFixtures.party(id, post);
+
+            posts.add(post);
+            accounts.add(gameAccount);
+            ranks.add(EntityFixtures.soloRank(gameAccount));
+            List<MatchParticipant> recentMatches = new ArrayList<>();
+            for (int i = 0; i < RECENT_MATCHES; i++) {
+                Match match = EntityFixtures.match(matchId++, gameAccount);
+                recentMatches.add(EntityFixtures.matchParticipant(match, gameAccount));
+            }
+            stats.add(EntityFixtures.gameAccountStats(gameAccount, recentMatches));
+
+            parties.add(party);
+            members.add(EntityFixtures.partyMember(id * 10, party, writer, PartyMemberRole.LEADER));
+            for (int i = 1; i < post.getRecruitCount() - 1; i++) {
+                members.add(EntityFixtures.partyMember(id * 10 + i, party,
+                        EntityFixtures.user(memberUserId++), PartyMemberRole.MEMBER));
+            }
+        }
+
+        PostListQueryRepository postListQueryRepository = new PostListQueryRepository(null) {
+            @Override
+            public List<Post> findPosts(Long cursor, int limitPlusOne, PostStatus status, QueueType queueType,
+                                        GameMode gameMode, List<Position> myPositions, Position lookingFor,
+                                        Short minTierOrdinal, Short maxTierOrdinal) {
+                return posts.subList(0, Math.min(limitPlusOne, posts.size()));
+            }
+        };
+        PostGameAccountQueryRepository postGameAccountQueryRepository = new PostGameAccountQueryRepository(null) {
+            @Override
+            public List<GameAccount> findLolAccountsByUserIds(List<Long> userIds) {
+                return accounts;
+            }
+
+            @Override
+            public List<Rank> findRanksByGameAccountIds(List<Long> gameAccountIds) {
+                return ranks;
+            }
+
+            @Override
+            public List<GameAccountStats> findStatsByGameAccountIds(List<Long> gameAccountIds) {
+                return stats;
+            }
+        };
+        PostPartyQueryRepository postPartyQueryRepository = new PostPartyQueryRepository(null) {
+            @Override
+            public List<Party> findPartiesByPostIds(List<Long> postIds) {
+                return parties;
+            }
+
+            @Override
+            public List<PartyMember> findJoinedMembersByPartyIds(List<Long> partyIds) {
+                return members;
+            }
+        };
+
+        DataDragonService dataDragonService = new FakeDataDragonService();
+        postListFacade = new PostListFacade(
+                null, null, null, null, null,
+                null, null, null, null,
+                postListQueryRepository,
+                postPartyQueryRepository,
+                postGameAccountQueryRepository,
+                new PostGameProfileIconUrlBuilder(dataDragonService),
+                dataDragonService
+        );
+    }
+
+    @Benchmark
+    public PostListResponse getPostList() {
+        return postListFacade.getPostList(null, PAGE_SIZE, null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,102 @@
+package com.back.matchduo.domain.post.service;
+
+import com.back.matchduo.domain.gameaccount.entity.Tier;
+import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.QueueType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostMatchIndex 추천 조회/갱신 비용 (모집 중 글 100,000건)
+ * - 큐 3종 × 티어 10구간 + 언랭, 구하는 포지션 1~2개(10%는 ANY), 마이크 50%, 언랭 작성자 10%
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostMatchIndexBenchmark {
+
+    private static final int OPEN_POSTS = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    private PostMatchIndex index;
+    private List<PostMatchEntry> entries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Position[] lanes = {Position.TOP, Position.JUNGLE, Position.MID, Position.ADC, Position.SUPPORT};
+        QueueType[] queueTypes = QueueType.values();
+        Tier[] tiers = Tier.values();
+        String[] divisions = {"I", "II", "III", "IV"};
+
+        entries = new ArrayList<>(OPEN_POSTS);
+        for (long postId = 1; postId <= OPEN_POSTS; postId++) {
+            Set<Position> looking = EnumSet.noneOf(Position.class);
+            if (random.nextInt(10) == 0) {
+                looking.add(Position.ANY);
+            } else {
+                looking.add(lanes[random.nextInt(lanes.length)]);
+                if (random.nextBoolean()) {
+                    looking.add(lanes[random.nextInt(lanes.length)]);
+                }
+            }
+            Short tierOrdinal = random.nextInt(10) == 0
+                    ? null
+                    : Tier.toOrdinal(tiers[random.nextInt(tiers.length)].name(), divisions[random.nextInt(4)]);
+
+            entries.add(new PostMatchEntry(
+                    postId,
+                    postId % 20_000,
+                    GameMode.SUMMONERS_RIFT,
+                    queueTypes[random.nextInt(queueTypes.length)],
+                    lanes[random.nextInt(lanes.length)],
+                    Position.toMask(looking),
+                    random.nextBoolean(),
+                    2 + random.nextInt(4),
+                    tierOrdinal
+            ));
+        }
+        index = PostMatchIndex.build(entries);
+    }
+
+    // 대표 요청: 솔로 듀오, 정글 구하는 글, 골드 ±1 티어, 마이크 가능
+    @Benchmark
+    public List<PostMatchEntry> recommendNarrow() {
+        return index.search(QueueType.DUO, Position.JUNGLE, Tier.SILVER, Tier.PLATINUM, true, PAGE_SIZE,
+                entry -> false);
+    }
+
+    // 조건 없음: 모든 버킷 OR
+    @Benchmark
+    public List<PostMatchEntry> recommendAll() {
+        return index.search(null, null, null, null, null, PAGE_SIZE, entry -> false);
+    }
+
+    // 증분 갱신: 기존 글 1건 버킷 이동 (티어/큐 변경)
+    @Benchmark
+    public void upsertExisting() {
+        PostMatchEntry entry = entries.get(cursor++ % OPEN_POSTS);
+        index.upsert(new PostMatchEntry(
+                entry.postId(), entry.writerId(), entry.gameMode(),
+                entry.queueType() == QueueType.DUO ? QueueType.FLEX : QueueType.DUO,
+                entry.myPosition(), entry.lookingPositionMask(), !entry.mic(),
+                entry.recruitCount(), entry.writerTierOrdinal()
+        ));
+    }
+
+    // 전체 재구성 (기동/정기 reconcile, DB 조회 제외)
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public PostMatchIndex rebuild() {
+        return PostMatchIndex.build(entries);
+    }
+}
@@ -0,0 +1,187 @@
+package com.back.matchduo.fixture;
+
+import com.back.matchduo.domain.chat.entity.ChatMessage;
+import com.back.matchduo.domain.chat.entity.ChatRoom;
+import com.back.matchduo.domain.chat.entity.MessageType;
+import com.back.matchduo.domain.gameaccount.entity.GameAccount;
+import com.back.matchduo.domain.gameaccount.entity.GameAccountStats;
+import com.back.matchduo.domain.gameaccount.entity.Match;
+import com.back.matchduo.domain.gameaccount.entity.MatchParticipant;
+import com.back.matchduo.domain.gameaccount.entity.Rank;
+import com.back.matchduo.domain.party.entity.Party;
+import com.back.matchduo.domain.party.entity.PartyMember;
+import com.back.matchduo.domain.party.entity.PartyMemberRole;
+import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Post;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.QueueType;
+import com.back.matchduo.domain.user.entity.User;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JMH용 엔티티 그래프 빌더 (Spring / DB 없이)
+ * - 식별자, 감사 필드(createdAt)처럼 DB가 채우는 값은 리플렉션으로 주입한다.
+ * - 값은 실제 응답 크기와 비슷하도록 채운다 (랭크, 최근 20경기 집계, 선호 챔피언 3개, 파티원 등).
+ */
+public final class EntityFixtures {
+
+    private static final String[] CHAMPIONS = {"Ahri", "LeeSin", "Jinx", "Thresh", "Darius", "Yasuo", "Lux"};
+    private static final String[] TIERS = {"SILVER", "GOLD", "PLATINUM", "EMERALD", "DIAMOND"};
+    private static final Position[] POSITIONS = {Position.TOP, Position.JUNGLE, Position.MID, Position.ADC, Position.SUPPORT};
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 5, 12, 4, 33, 824_913_000);
+
+    private EntityFixtures() {
+    }
+
+    public static User user(long id) {
+        User user = User.createUser("user" + id + "@test.com", "password", "소환사" + id);
+        user.updateProfileImage("https://cdn.matchduo.test/profile/" + id + ".png");
+        setField(user, "id", id);
+        setField(user, "createdAt", BASE_TIME);
+        return user;
+    }
+
+    public static GameAccount gameAccount(long id, User user) {
+        GameAccount gameAccount = GameAccount.builder()
+                .gameNickname("Hide on bush " + id)
+                .gameTag("KR1")
+                .gameType("LEAGUE_OF_LEGENDS")
+                .puuid("puuid-" + id)
+                .profileIconId(4000 + (int) (id % 100))
+                .user(user)
+                .build();
+        setField(gameAccount, "gameAccountId", id);
+        return gameAccount;
+    }
+
+    public static Rank soloRank(GameAccount gameAccount) {
+        long id = gameAccount.getGameAccountId();
+        return Rank.builder()
+                .queueType("RANKED_SOLO_5x5")
+                .tier(TIERS[(int) (id % TIERS.length)])
+                .rank("II")
+                .wins(120)
+                .losses(98)
+                .winRate(55.0)
+                .gameAccount(gameAccount)
+                .build();
+    }
+
+    public static Match match(long id, GameAccount gameAccount) {
+        Match match = Match.builder()
+                .riotMatchId("KR_79299682" + id)
+                .gameAccount(gameAccount)
+                .queueId(420)
+                .gameStartTimestamp(1_767_600_000_000L - id * 3_600_000L)
+                .gameDuration(1_500 + (int) (id % 600))
+                .win(id % 2 == 0)
+                .build();
+        setField(match, "matchId", id);
+        return match;
+    }
+
+    public static MatchParticipant matchParticipant(Match match, GameAccount gameAccount) {
+        long id = match.getMatchId();
+        return MatchParticipant.builder()
+                .match(match)
+                .gameAccount(gameAccount)
+                .championId(100 + (int) (id % 50))
+                .championName(CHAMPIONS[(int) (id % CHAMPIONS.length)])
+                .spell1Id(4)
+                .spell2Id(id % 2 == 0 ? 14 : 11)
+                .kills((int) (id % 12))
+                .deaths((int) (id % 7))
+                .assists((int) (id % 15))
+                .kda(3.2)
+                .cs(180 + (int) (id % 60))
+                .level(16)
+                .item0(3031).item1(3006).item2(3094).item3(3036).item4(0).item5(1055).item6(3363)
+                .perks("""
+                        {"statPerks":{"defense":5001,"flex":5008,"offense":5005},
+                         "styles":[{"description":"primaryStyle","style":8000,
+                                    "selections":[{"perk":8008},{"perk":9111},{"perk":9104},{"perk":8014}]},
+                                   {"description":"subStyle","style":8300,
+                                    "selections":[{"perk":8304},{"perk":8345}]}]}
+                        """)
+                .puuid(gameAccount.getPuuid())
+                .build();
+    }
+
+    public static GameAccountStats gameAccountStats(GameAccount gameAccount, List<MatchParticipant> recentSoloMatches) {
+        GameAccountStats stats = GameAccountStats.create(gameAccount);
+        recentSoloMatches.forEach(stats::addSoloGame);
+        stats.updateFavoriteChampions(List.of(CHAMPIONS[1], CHAMPIONS[2], CHAMPIONS[3]));
+        setField(stats, "gameAccountId", gameAccount.getGameAccountId());
+        return stats;
+    }
+
+    public static Post post(long id, User writer, GameAccount gameAccount) {
+        Post post = Post.builder()
+                .user(writer)
+                .gameAccount(gameAccount)
+                .gameMode(GameMode.SUMMONERS_RIFT)
+                .queueType(id % 2 == 0 ? QueueType.DUO : QueueType.FLEX)
+                .myPosition(POSITIONS[(int) (id % POSITIONS.length)])
+                .lookingPositions(List.of(POSITIONS[(int) ((id + 1) % POSITIONS.length)], Position.SUPPORT))
+                .mic(true)
+                .recruitCount(id % 2 == 0 ? 2 : 5)
+                .memo("골드 이상 즐겜러 구해요, 디코 가능하신 분 " + id)
+                .build();
+        setField(post, "id", id);
+        setField(post, "createdAt", BASE_TIME.minusMinutes(id));
+        return post;
+    }
+
+    public static Party party(long id, Post post) {
+        Party party = new Party(post.getId(), post.getUser().getId(), post.getRecruitCount());
+        setField(party, "id", id);
+        return party;
+    }
+
+    public static PartyMember partyMember(long id, Party party, User user, PartyMemberRole role) {
+        PartyMember member = PartyMember.builder()
+                .party(party)
+                .user(user)
+                .role(role)
+                .build();
+        setField(member, "id", id);
+        return member;
+    }
+
+    public static ChatRoom chatRoom(long id, Post post, User receiver, User sender) {
+        ChatRoom room = ChatRoom.create(post, receiver, sender);
+        setField(room, "id", id);
+        setField(room, "createdAt", BASE_TIME);
+        return room;
+    }
+
+    public static ChatMessage chatMessage(long id, ChatRoom room, User sender) {
+        ChatMessage message = ChatMessage.create(room, sender, MessageType.TEXT, "오늘 저녁 9시에 듀오 가능하세요? " + id);
+        setField(message, "id", id);
+        setField(message, "createdAt", BASE_TIME.plusSeconds(id));
+        return message;
+    }
+
+    public static LocalDateTime baseTime() {
+        return BASE_TIME;
+    }
+
+    public static void setField(Object target, String name, Object value) {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException ignored) {
+                // 상위 클래스(BaseEntity 등)에서 계속 탐색
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException(target.getClass().getSimpleName() + "." + name + " 필드가 없습니다.");
+    }
+}
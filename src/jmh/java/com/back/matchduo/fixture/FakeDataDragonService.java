@@ -0,0 +1,36 @@
+package com.back.matchduo.fixture;
+
+import com.back.matchduo.domain.gameaccount.service.DataDragonService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+
+/**
+ * 네트워크 없이 고정 버전/룬 매핑을 돌려주는 DataDragonService
+ */
+public class FakeDataDragonService extends DataDragonService {
+
+    private static final Map<Integer, String> STYLES = Map.of(
+            8000, "Precision", 8100, "Domination", 8200, "Sorcery", 8300, "Inspiration", 8400, "Resolve");
+    private static final Map<Integer, String> PERKS = Map.of(
+            8008, "LethalTempo", 8112, "Electrocute", 8214, "SummonAery", 8304, "MagicalFootwear", 8437, "GraspOfTheUndying");
+
+    public FakeDataDragonService() {
+        super(null, new ObjectMapper());
+    }
+
+    @Override
+    public String getLatestVersion() {
+        return "15.24.1";
+    }
+
+    @Override
+    public String getStyleName(Integer styleId) {
+        return STYLES.get(styleId);
+    }
+
+    @Override
+    public String getPerkName(Integer styleId, Integer perkId) {
+        return PERKS.get(perkId);
+    }
+}
@@ -0,0 +1,60 @@
+package com.back.matchduo.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JacksonConfig.LocalDateTimeWithOffsetSerializer: 채팅 메시지 목록처럼 LocalDateTime이 많은 응답의 직렬화 비용
+ * - withOffset: 운영 설정 (ZonedDateTime 변환 + ISO_OFFSET_DATE_TIME 포맷)
+ * - javaTimeModule: Jackson 기본 LocalDateTime 직렬화 (비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JacksonConfigBenchmark {
+
+    private static final int MESSAGES = 50;
+
+    public record MessagePayload(Long chatMessageId, String content, LocalDateTime createdAt, LocalDateTime readAt) {
+    }
+
+    private ObjectMapper withOffsetMapper;
+    private ObjectMapper javaTimeModuleMapper;
+    private List<MessagePayload> payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        withOffsetMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule().addSerializer(new JacksonConfig.LocalDateTimeWithOffsetSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        javaTimeModuleMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime base = LocalDateTime.of(2026, 1, 5, 12, 4, 33, 824_913_000);
+        payload = new ArrayList<>();
+        for (long id = 1; id <= MESSAGES; id++) {
+            payload.add(new MessagePayload(id, "오늘 저녁 9시에 듀오 가능하세요? " + id,
+                    base.plusSeconds(id), base.plusSeconds(id + 30)));
+        }
+    }
+
+    @Benchmark
+    public byte[] withOffset() throws Exception {
+        return withOffsetMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] javaTimeModule() throws Exception {
+        return javaTimeModuleMapper.writeValueAsBytes(payload);
+    }
+}
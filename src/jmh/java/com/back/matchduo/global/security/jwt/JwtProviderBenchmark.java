@@ -0,0 +1,46 @@
+package com.back.matchduo.global.security.jwt;
+
+import com.back.matchduo.global.config.JwtProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider: 인증 요청마다 JwtAuthenticationFilter에서 일어나는 검증 + userId 추출 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtProvider = new JwtProvider(new JwtProperties("jmh-benchmark-secret-key-must-be-at-least-32-bytes", 3600, 604800));
+        accessToken = jwtProvider.createAccessToken(12_345L);
+    }
+
+    @Benchmark
+    public void validate() {
+        jwtProvider.validate(accessToken);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return jwtProvider.getUserId(accessToken);
+    }
+
+    // JwtAuthenticationFilter 경로: validate 후 getUserId (토큰을 두 번 파싱)
+    @Benchmark
+    public Long validateThenGetUserId() {
+        jwtProvider.validate(accessToken);
+        return jwtProvider.getUserId(accessToken);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtProvider.createAccessToken(12_345L);
+    }
+}
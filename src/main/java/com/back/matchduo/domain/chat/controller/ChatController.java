@@ -1,15 +1,16 @@
 package com.back.matchduo.domain.chat.controller;
 
 import com.back.matchduo.domain.chat.dto.internal.ChatMessagesWithRoom;
+import com.back.matchduo.domain.chat.dto.internal.ChatReadPointer;
 import com.back.matchduo.domain.chat.dto.internal.ChatRoomDetailWithGameAccount;
 import com.back.matchduo.domain.chat.dto.request.ChatMessageReadRequest;
 import com.back.matchduo.domain.chat.dto.request.ChatMessageSendRequest;
 import com.back.matchduo.domain.chat.dto.request.ChatRoomCreateRequest;
 import com.back.matchduo.domain.chat.dto.response.*;
 import com.back.matchduo.domain.chat.entity.ChatMessage;
-import com.back.matchduo.domain.chat.entity.ChatMessageRead;
 import com.back.matchduo.domain.chat.entity.ChatRoom;
 import com.back.matchduo.domain.chat.service.ChatMessageService;
+import com.back.matchduo.domain.chat.service.ChatRoomLanes;
 import com.back.matchduo.domain.chat.service.ChatRoomService;
 import com.back.matchduo.global.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,6 +34,7 @@ public class ChatController {
 
     private final ChatRoomService chatRoomService;
     private final ChatMessageService chatMessageService;
+    private final ChatRoomLanes chatRoomLanes;
 
     @Operation(summary = "채팅방 생성", description = "모집글 기반 1:1 채팅방을 생성합니다. 이미 존재하면 기존 채팅방을 반환합니다 (멱등성 보장).")
     @PostMapping("/api/v1/chats")
@@ -90,7 +92,7 @@ public class ChatController {
             @PathVariable Long chatRoomId) {
 
         Long userId = userDetails.getId();
-        ChatRoom room = chatRoomService.leave(chatRoomId, userId);
+        ChatRoom room = chatRoomLanes.call(chatRoomId, () -> chatRoomService.leave(chatRoomId, userId));
         return ResponseEntity.ok(ChatRoomLeaveResponse.of(room));
     }
 
@@ -102,36 +104,42 @@ public class ChatController {
             @Valid @RequestBody ChatMessageSendRequest request) {
 
         Long userId = userDetails.getId();
-        ChatMessage message = chatMessageService.send(
-                chatRoomId, userId, request.messageType(), request.content());
+        ChatMessage message = chatRoomLanes.call(chatRoomId, () -> chatMessageService.send(
+                chatRoomId, userId, request.messageType(), request.content()));
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ChatMessageSendResponse.of(message));
     }
 
-    @Operation(summary = "메시지 목록 조회", description = "채팅방의 메시지 목록을 조회합니다. 최신순 정렬, 커서 기반 페이징을 지원합니다.")
+    @Operation(summary = "메시지 목록 조회", description = "채팅방의 메시지 목록을 조회합니다. 최신순 정렬, 커서 기반 페이징을 지원합니다. "
+            + "afterSeq를 주면 그 순번 이후 메시지를 오래된순으로 반환합니다 (재연결 시 누락분 조회, nextCursor = 다음 afterSeq).")
     @GetMapping("/api/v1/chats/{chatRoomId}/messages")
     public ResponseEntity<ChatMessageListResponse> getMessages(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @PathVariable Long chatRoomId,
             @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Long afterSeq,
             @RequestParam(defaultValue = "30") int size) {
 
         Long userId = userDetails.getId();
         int pageSize = Math.min(Math.max(size, 1), 100);
 
+        if (afterSeq != null) {
+            return ResponseEntity.ok(getMessagesAfterSeq(chatRoomId, userId, afterSeq, pageSize));
+        }
+
         ChatMessagesWithRoom result =
                 chatMessageService.getMessagesWithRoom(chatRoomId, userId, cursor, pageSize + 1);
 
-        List<ChatMessage> messages = result.messages();
+        List<ChatMessageListResponse.ChatMessageItemResponse> messages = result.messages();
         boolean hasNext = messages.size() > pageSize;
 
-        List<ChatMessage> finalMessages = hasNext
+        List<ChatMessageListResponse.ChatMessageItemResponse> finalMessages = hasNext
                 ? new ArrayList<>(messages.subList(0, pageSize))
                 : new ArrayList<>(messages);
 
         Long nextCursor = hasNext && !finalMessages.isEmpty()
-                ? finalMessages.get(finalMessages.size() - 1).getId()
+                ? finalMessages.get(finalMessages.size() - 1).chatMessageId()
                 : null;
 
         return ResponseEntity.ok(ChatMessageListResponse.of(
@@ -143,6 +151,25 @@ public class ChatController {
         ));
     }
 
+    /** 재연결 catch-up: 순번 이후 메시지 (오래된순) */
+    private ChatMessageListResponse getMessagesAfterSeq(Long chatRoomId, Long userId, Long afterSeq, int pageSize) {
+        ChatMessagesWithRoom result =
+                chatMessageService.getMessagesAfterSeq(chatRoomId, userId, afterSeq, pageSize + 1);
+
+        List<ChatMessageListResponse.ChatMessageItemResponse> messages = result.messages();
+        boolean hasNext = messages.size() > pageSize;
+
+        List<ChatMessageListResponse.ChatMessageItemResponse> finalMessages = hasNext
+                ? new ArrayList<>(messages.subList(0, pageSize))
+                : new ArrayList<>(messages);
+
+        Long nextCursor = hasNext && !finalMessages.isEmpty()
+                ? finalMessages.get(finalMessages.size() - 1).seq()
+                : null;
+
+        return ChatMessageListResponse.of(result.room(), userId, finalMessages, nextCursor, hasNext);
+    }
+
     @Operation(summary = "메시지 읽음 처리", description = "지정한 메시지까지 읽음 처리합니다. 안 읽은 메시지 수 계산에 사용됩니다.")
     @PostMapping("/api/v1/chats/{chatRoomId}/messages/read")
     public ResponseEntity<ChatMessageReadResponse> markAsRead(
@@ -151,13 +178,13 @@ public class ChatController {
             @Valid @RequestBody ChatMessageReadRequest request) {
 
         Long userId = userDetails.getId();
-        ChatMessageRead readState = chatMessageService.markReadUpTo(
-                chatRoomId, userId, request.lastReadMessageId());
+        ChatReadPointer pointer = chatRoomLanes.call(chatRoomId, () -> chatMessageService.markReadUpTo(
+                chatRoomId, userId, request.lastReadMessageId()));
 
         return ResponseEntity.ok(ChatMessageReadResponse.of(
                 chatRoomId,
-                readState.getLastReadMessage() != null ? readState.getLastReadMessage().getId() : null,
-                readState.getLastReadAt()
+                pointer.lastReadMessageId(),
+                pointer.readAt()
         ));
     }
 }
\ No newline at end of file
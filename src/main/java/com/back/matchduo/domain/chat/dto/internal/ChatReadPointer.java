@@ -0,0 +1,30 @@
+package com.back.matchduo.domain.chat.dto.internal;
+
+import com.back.matchduo.domain.chat.entity.ChatMessageRead;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방-유저 읽음 포인터
+ * - Redis(최신)와 chat_message_read(주기적으로 반영) 사이에서 주고받는 내부 DTO
+ * - lastReadSeq는 sessionNo 세션 기준, 읽은 게 없으면 0
+ */
+public record ChatReadPointer(
+        Long chatRoomId,
+        Long userId,
+        Integer sessionNo,
+        Long lastReadSeq,
+        Long lastReadMessageId,
+        LocalDateTime readAt
+) {
+    public static ChatReadPointer from(ChatMessageRead state) {
+        return new ChatReadPointer(
+                state.getChatRoom().getId(),
+                state.getUser().getId(),
+                state.getChatRoom().getCurrentSessionNo(),
+                state.getLastReadSeq(),
+                state.getLastReadMessage() != null ? state.getLastReadMessage().getId() : null,
+                state.getLastReadAt()
+        );
+    }
+}
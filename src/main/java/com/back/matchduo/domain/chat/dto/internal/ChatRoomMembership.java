@@ -0,0 +1,31 @@
+package com.back.matchduo.domain.chat.dto.internal;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 채팅방 구성원 스냅샷 (로컬 + Redis 캐시, ChatRoomMembershipService)
+ * - 1:1 방 구성원은 바뀌지 않고 나가기/재개 때만 상태가 바뀌므로 그때 무효화
+ * - STOMP SUBSCRIBE/SEND 인가와 메시지 전송 경로에서 방 조회 대신 사용
+ */
+public record ChatRoomMembership(
+        Long chatRoomId,
+        Long senderId,
+        Long receiverId,
+        boolean senderLeft,
+        boolean receiverLeft,
+        Integer sessionNo
+) {
+    public boolean isMember(Long userId) {
+        return userId != null && (userId.equals(senderId) || userId.equals(receiverId));
+    }
+
+    public Long otherUserId(Long userId) {
+        return userId.equals(senderId) ? receiverId : senderId;
+    }
+
+    /** 한쪽이라도 나가면 채팅방 닫힘 */
+    @JsonIgnore
+    public boolean isOpen() {
+        return !senderLeft && !receiverLeft;
+    }
+}
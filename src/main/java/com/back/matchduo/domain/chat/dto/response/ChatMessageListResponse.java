@@ -52,6 +52,7 @@ public record ChatMessageListResponse(
     /** 채팅 메시지 아이템 */
     public record ChatMessageItemResponse(
             Long chatMessageId,
+            Long seq, // 세션 안 순번 (재연결 시 afterSeq로 누락분 조회)
             Long senderId,
             String content,
             String messageType,
@@ -60,6 +61,7 @@ public record ChatMessageListResponse(
         public static ChatMessageItemResponse of(ChatMessage message) {
             return new ChatMessageItemResponse(
                     message.getId(),
+                    message.getSeq(),
                     message.getSender().getId(),
                     message.getContent(),
                     message.getMessageType().name(),
@@ -72,7 +74,7 @@ public record ChatMessageListResponse(
     public static ChatMessageListResponse of(
             ChatRoom room,
             Long userId,
-            List<ChatMessage> messages,
+            List<ChatMessageItemResponse> messageItems,
             Long nextCursor,
             boolean hasNext
     ) {
@@ -90,10 +92,6 @@ public record ChatMessageListResponse(
                 room.getPost().getStatus().name()
         );
 
-        List<ChatMessageItemResponse> messageItems = messages.stream()
-                .map(ChatMessageItemResponse::of)
-                .toList();
-
         return new ChatMessageListResponse(
                 room.getId(),
                 header,
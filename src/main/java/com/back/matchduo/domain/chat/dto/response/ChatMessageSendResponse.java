@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 public record ChatMessageSendResponse(
         Long chatMessageId,
         Long chatRoomId,
+        Long seq,
         MessageType messageType,
         Long senderId,
         String content,
@@ -20,6 +21,7 @@ public record ChatMessageSendResponse(
         return new ChatMessageSendResponse(
                 message.getId(),
                 message.getChatRoom().getId(),
+                message.getSeq(),
                 message.getMessageType(),
                 message.getSender().getId(),
                 message.getContent(),
@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 /**
  * 채팅 메시지 엔티티
  * - sessionNo로 세션별 메시지 분리
+ * - seq: 방-세션 안에서 1부터 빈틈없이 증가하는 순번 (안 읽은 수 계산, 재연결 시 누락분 조회)
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -26,6 +27,10 @@ import java.time.LocalDateTime;
                 // 무한스크롤(커서/범위조회) + 세션 필터링
                 @Index(name = "idx_chat_message_room_session_message_id", columnList = "chat_room_id, session_no, chat_message_id"),
                 @Index(name = "idx_chat_message_room_session_created_at", columnList = "chat_room_id, session_no, created_at")
+        },
+        uniqueConstraints = {
+                // 방-세션당 순번 1개 (재연결 catch-up 범위 조회도 이 인덱스로)
+                @UniqueConstraint(name = "uk_chat_message_room_session_seq", columnNames = {"chat_room_id", "session_no", "seq"})
         }
 )
 public class ChatMessage {
@@ -58,14 +63,41 @@ public class ChatMessage {
     @Column(name = "session_no", nullable = false)
     private Integer sessionNo;
 
+    @Column(name = "seq", nullable = false)
+    private Long seq;
+
     @PrePersist
     private void prePersist() {
-        if (sessionNo == null) {
+        if (sessionNo == null || seq == null) {
             throw new CustomException(CustomErrorCode.CHAT_INVALID_SESSION);
         }
     }
 
     public static ChatMessage create(ChatRoom room, User sender, MessageType type, String content) {
+        validate(room, sender, type, content);
+        return create(room, sender, type, content, room.getCurrentSessionNo(), room.nextSeq());
+    }
+
+    /**
+     * 세션/순번을 이미 발급받은 경우 (ChatRoomRepository.incrementLastSeq)
+     * - room, sender는 getReferenceById 프록시여도 된다 (id만 사용)
+     */
+    public static ChatMessage create(ChatRoom room, User sender, MessageType type, String content,
+                                     Integer sessionNo, Long seq) {
+        validate(room, sender, type, content);
+
+        ChatMessage msg = new ChatMessage();
+        msg.chatRoom = room;
+        msg.sender = sender;
+        msg.messageType = type;
+        msg.content = content;
+        msg.sessionNo = sessionNo;
+        msg.seq = seq;
+
+        return msg;
+    }
+
+    private static void validate(ChatRoom room, User sender, MessageType type, String content) {
         if (room == null || room.getId() == null) {
             throw new CustomException(CustomErrorCode.CHAT_INVALID_CHAT_ROOM);
         }
@@ -78,14 +110,5 @@ public class ChatMessage {
         if (content == null || content.isBlank()) {
             throw new CustomException(CustomErrorCode.CHAT_INVALID_MESSAGE_CONTENT);
         }
-
-        ChatMessage msg = new ChatMessage();
-        msg.chatRoom = room;
-        msg.sender = sender;
-        msg.messageType = type;
-        msg.content = content;
-        msg.sessionNo = room.getCurrentSessionNo();
-
-        return msg;
     }
 }
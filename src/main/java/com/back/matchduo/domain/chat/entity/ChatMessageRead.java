@@ -52,6 +52,10 @@ public class ChatMessageRead {
     @Column(name = "last_read_at")
     private LocalDateTime lastReadAt;
 
+    // 마지막으로 읽은 메시지 순번 (현재 세션 기준, 안 읽은 수 = room.lastSeq - lastReadSeq)
+    @Column(name = "last_read_seq", nullable = false)
+    private Long lastReadSeq = 0L;
+
     public static ChatMessageRead create(ChatRoom chatRoom, User user) {
         if (chatRoom == null || chatRoom.getId() == null) {
             throw new CustomException(CustomErrorCode.CHAT_INVALID_CHAT_ROOM);
@@ -65,6 +69,7 @@ public class ChatMessageRead {
         state.user = user;
         state.lastReadMessage = null;
         state.lastReadAt = null;
+        state.lastReadSeq = 0L;
         return state;
     }
 
@@ -72,6 +77,7 @@ public class ChatMessageRead {
     public void resetForNewSession() {
         this.lastReadMessage = null;
         this.lastReadAt = null;
+        this.lastReadSeq = 0L;
     }
 
     /** 특정 메시지까지 읽음 처리 */
@@ -85,6 +91,14 @@ public class ChatMessageRead {
 
         this.lastReadMessage = message;
         this.lastReadAt = LocalDateTime.now();
+        this.lastReadSeq = message.getSeq();
+    }
+
+    /** 안 읽은 메시지 수 (채팅방 마지막 순번 기준) */
+    public long unreadCount(ChatRoom room) {
+        long lastSeq = room.getLastSeq() == null ? 0L : room.getLastSeq();
+        long readSeq = this.lastReadSeq == null ? 0L : this.lastReadSeq;
+        return Math.max(0L, lastSeq - readSeq);
     }
 
     private void validateMessage(ChatMessage message) {
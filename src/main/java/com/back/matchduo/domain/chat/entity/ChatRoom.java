@@ -66,6 +66,10 @@ public class ChatRoom {
     @Column(name = "session_started_at", nullable = false)
     private LocalDateTime sessionStartedAt;
 
+    // 현재 세션의 마지막 메시지 순번 (메시지 전송 시 방 row 락 안에서 증가, 새 세션이면 0부터)
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq = 0L;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -78,6 +82,7 @@ public class ChatRoom {
     private void prePersist() {
         if (currentSessionNo == null) currentSessionNo = 1;
         if (sessionStartedAt == null) sessionStartedAt = LocalDateTime.now();
+        if (lastSeq == null) lastSeq = 0L;
     }
 
     public static ChatRoom create(Post post, User receiver, User sender) {
@@ -102,6 +107,7 @@ public class ChatRoom {
         chatRoom.senderLeft = false;
         chatRoom.currentSessionNo = 1;
         chatRoom.sessionStartedAt = LocalDateTime.now();
+        chatRoom.lastSeq = 0L;
         return chatRoom;
     }
 
@@ -161,6 +167,17 @@ public class ChatRoom {
         if (this.currentSessionNo == null) this.currentSessionNo = 1;
         this.currentSessionNo += 1;
         this.sessionStartedAt = LocalDateTime.now();
+        this.lastSeq = 0L;
+    }
+
+    /**
+     * 현재 세션의 다음 메시지 순번 발급
+     * - 동시 전송에서 중복되지 않도록 방을 락으로 조회한 트랜잭션에서만 호출
+     */
+    public long nextSeq() {
+        if (this.lastSeq == null) this.lastSeq = 0L;
+        this.lastSeq += 1;
+        return this.lastSeq;
     }
 
     /** 유저가 receiver(방장)인지 확인 */
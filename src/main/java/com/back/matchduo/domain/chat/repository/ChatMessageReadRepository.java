@@ -18,7 +18,7 @@ public interface ChatMessageReadRepository extends JpaRepository<ChatMessageRead
     /** 새 세션 시작 시 읽음 상태 벌크 초기화 */
     @Modifying
     @Query("UPDATE ChatMessageRead r " +
-           "SET r.lastReadMessage = NULL, r.lastReadAt = NULL " +
+           "SET r.lastReadMessage = NULL, r.lastReadAt = NULL, r.lastReadSeq = 0 " +
            "WHERE r.chatRoom.id = :chatRoomId")
     void resetAllForRoom(
             @Param("chatRoomId") Long chatRoomId);
@@ -24,13 +24,25 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             @Param("cursor") Long cursor,
             Pageable pageable);
 
-    /** 안 읽은 메시지 수 */
-    @Query("SELECT COUNT(m) FROM ChatMessage m " +
-           "WHERE m.chatRoom.id = :roomId AND m.sessionNo = :sessionNo AND m.id > :lastReadId")
-    long countUnread(
+    /** 순번 이후 메시지 (재연결 catch-up, 오래된 순) */
+    @Query("SELECT m FROM ChatMessage m " +
+            "JOIN FETCH m.sender " +
+            "WHERE m.chatRoom.id = :roomId AND m.sessionNo = :sessionNo " +
+            "AND m.seq > :afterSeq " +
+            "ORDER BY m.seq ASC")
+    List<ChatMessage> findAfterSeqWithSender(
             @Param("roomId") Long roomId,
             @Param("sessionNo") Integer sessionNo,
-            @Param("lastReadId") Long lastReadId);
+            @Param("afterSeq") Long afterSeq,
+            Pageable pageable);
+
+    /** 읽음 처리 대상 (메시지 + 채팅방 멤버/세션, 락 없이 PK 조회 1번) */
+    @Query("SELECT m.id AS messageId, m.seq AS seq, m.sessionNo AS sessionNo, " +
+           "r.id AS chatRoomId, r.currentSessionNo AS currentSessionNo, " +
+           "r.sender.id AS senderId, r.receiver.id AS receiverId " +
+           "FROM ChatMessage m JOIN m.chatRoom r " +
+           "WHERE m.id = :messageId")
+    Optional<ReadTarget> findReadTargetById(@Param("messageId") Long messageId);
 
     /** 채팅방의 마지막 메시지 조회 (현재 세션) */
     Optional<ChatMessage> findFirstByChatRoomIdAndSessionNoOrderByIdDesc(Long roomId, Integer sessionNo);
@@ -57,4 +69,14 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     @Query("DELETE FROM ChatMessage m WHERE m.sender.id = :userId")
     void deleteBySenderId(@Param("userId") Long userId);
 
+    interface ReadTarget {
+        Long getMessageId();
+        Long getSeq();
+        Integer getSessionNo();
+        Long getChatRoomId();
+        Integer getCurrentSessionNo();
+        Long getSenderId();
+        Long getReceiverId();
+    }
+
 }
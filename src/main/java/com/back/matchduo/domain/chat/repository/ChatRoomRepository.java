@@ -6,6 +6,7 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -45,11 +46,23 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
            "AND r.sender.id = :senderId")
     Optional<ChatRoom> findByPostIdAndSenderIdWithLock(@Param("postId") Long postId, @Param("senderId") Long senderId);
 
-    /** WebSocket 구독 시 채팅방 멤버 검증용 */
-    @Query("SELECT COUNT(r) > 0 FROM ChatRoom r " +
-           "WHERE r.id = :chatRoomId " +
-           "AND (r.sender.id = :userId OR r.receiver.id = :userId)")
-    boolean existsByIdAndMember(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+    /** 메시지 전송 시 순번 발급 (열린 방 + 세션 일치할 때만, UPDATE가 방 row 락을 잡는다) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChatRoom r SET r.lastSeq = r.lastSeq + 1 " +
+           "WHERE r.id = :id " +
+           "AND r.currentSessionNo = :sessionNo " +
+           "AND r.senderLeft = false AND r.receiverLeft = false")
+    int incrementLastSeq(@Param("id") Long id, @Param("sessionNo") Integer sessionNo);
+
+    /** 방금 발급한 순번 조회 (같은 트랜잭션, 락 보유 중) */
+    @Query("SELECT r.lastSeq FROM ChatRoom r WHERE r.id = :id")
+    Long findLastSeqById(@Param("id") Long id);
+
+    /** 구성원 스냅샷 조회 (ChatRoomMembershipService 캐시 로더) */
+    @Query("SELECT r.id AS chatRoomId, r.sender.id AS senderId, r.receiver.id AS receiverId, " +
+           "r.senderLeft AS senderLeft, r.receiverLeft AS receiverLeft, r.currentSessionNo AS sessionNo " +
+           "FROM ChatRoom r WHERE r.id = :id")
+    Optional<MembershipView> findMembershipById(@Param("id") Long id);
 
     /** 채팅방 상세 조회 (sender, receiver, post 함께 로드 - N+1 방지) */
     @Query("SELECT r FROM ChatRoom r " +
@@ -84,4 +97,13 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     List<User> findCandidateUsers(@Param("postId") Long postId, @Param("leaderId") Long leaderId);
 
     void deleteBySenderIdOrReceiverId(Long senderId, Long receiverId);
-}
\ No newline at end of file
+
+    interface MembershipView {
+        Long getChatRoomId();
+        Long getSenderId();
+        Long getReceiverId();
+        Boolean getSenderLeft();
+        Boolean getReceiverLeft();
+        Integer getSessionNo();
+    }
+}
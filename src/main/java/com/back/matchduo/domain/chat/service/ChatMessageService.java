@@ -1,6 +1,9 @@
 package com.back.matchduo.domain.chat.service;
 
 import com.back.matchduo.domain.chat.dto.internal.ChatMessagesWithRoom;
+import com.back.matchduo.domain.chat.dto.internal.ChatReadPointer;
+import com.back.matchduo.domain.chat.dto.internal.ChatRoomMembership;
+import com.back.matchduo.domain.chat.dto.response.ChatMessageListResponse.ChatMessageItemResponse;
 import com.back.matchduo.domain.chat.entity.ChatMessage;
 import com.back.matchduo.domain.chat.entity.ChatMessageRead;
 import com.back.matchduo.domain.chat.entity.ChatRoom;
@@ -20,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -31,12 +35,47 @@ public class  ChatMessageService {
     private final ChatMessageReadRepository chatMessageReadRepository;
     private final UserRepository userRepository;
     private final ChatUnreadCacheService chatUnreadCacheService;
+    private final ChatMessageWindowCache chatMessageWindowCache;
+    private final ChatReadPointerService chatReadPointerService;
+    private final ChatRoomMembershipService chatRoomMembershipService;
 
-    /** 메시지 전송 */
+    /**
+     * 메시지 전송
+     * - 구성원/열림 검증은 캐시된 스냅샷으로, 순번은 조건부 UPDATE로 발급 (방/유저 SELECT 없음)
+     * - UPDATE가 방 row 락을 잡으므로 같은 방 전송은 커밋 순서대로 직렬화
+     * - 스냅샷이 오래됐으면(나가기/재개 직후) 캐시를 비우고 방 row 락 경로로 다시 검증
+     */
     public ChatMessage send(Long chatRoomId, Long senderId, MessageType type, String content) {
-        ChatRoom room = getRoomOrThrow(chatRoomId);
-
         validateSenderId(senderId);
+        ChatRoomMembership membership = chatRoomMembershipService.get(chatRoomId);
+        if (!membership.isMember(senderId)) {
+            throw new CustomException(CustomErrorCode.CHAT_USER_NOT_IN_ROOM);
+        }
+        if (!membership.isOpen()) {
+            throw new CustomException(CustomErrorCode.CHAT_ROOM_CLOSED);
+        }
+
+        if (chatRoomRepository.incrementLastSeq(chatRoomId, membership.sessionNo()) == 0) {
+            chatRoomMembershipService.evictNow(chatRoomId);
+            return sendWithRoomLock(chatRoomId, senderId, type, content);
+        }
+        // MySQL은 UPDATE ... RETURNING이 없어 PK 단건 조회로 발급된 순번 확인
+        Long seq = chatRoomRepository.findLastSeqById(chatRoomId);
+
+        ChatMessage message = ChatMessage.create(
+                chatRoomRepository.getReferenceById(chatRoomId),
+                userRepository.getReferenceById(senderId),
+                type, content, membership.sessionNo(), seq);
+        ChatMessage saved = chatMessageRepository.save(message);
+
+        afterSend(saved, membership.otherUserId(senderId));
+        return saved;
+    }
+
+    /** 메시지 전송 DB 경로 (방 row 비관적 락 안에서 검증 + 순번 발급) */
+    private ChatMessage sendWithRoomLock(Long chatRoomId, Long senderId, MessageType type, String content) {
+        ChatRoom room = getRoomWithLockOrThrow(chatRoomId);
+
         User sender = userRepository.findById(senderId)
                         .orElseThrow(() -> new CustomException(CustomErrorCode.NOT_FOUND_USER));
 
@@ -46,13 +85,21 @@ public class  ChatMessageService {
         ChatMessage message = ChatMessage.create(room, sender, type, content);
         ChatMessage saved = chatMessageRepository.save(message);
 
-        // Redis: 상대방 unreadCount 증가
         Long receiverId = room.isSender(senderId)
                 ? room.getReceiver().getId()
                 : room.getSender().getId();
+        afterSend(saved, receiverId);
+        return saved;
+    }
+
+    private void afterSend(ChatMessage saved, Long receiverId) {
+        Long chatRoomId = saved.getChatRoom().getId();
+
+        // Redis: 상대방 unreadCount 증가
         chatUnreadCacheService.increment(chatRoomId, receiverId);
 
-        return saved;
+        // Redis: 최근 메시지 창에 추가 (커밋 후)
+        chatMessageWindowCache.append(chatRoomId, saved.getSessionNo(), ChatMessageItemResponse.of(saved));
     }
 
     /**
@@ -60,6 +107,7 @@ public class  ChatMessageService {
      * - cursorMessageId가 null이면 최신부터
      * - 현재 세션(room.currentSessionNo)의 메시지만 조회
      * - 결과는 최신 -> 과거(desc) 정렬로 반환
+     * - 첫 페이지(cursor 없음)는 Redis 최근 메시지 창에서, 이전 페이지는 MySQL 커서 조회
      * */
     @Transactional(readOnly = true)
     public ChatMessagesWithRoom getMessagesWithRoom(Long chatRoomId, Long requesterId, Long cursorMessageId, int size) {
@@ -82,24 +130,99 @@ public class  ChatMessageService {
             throw new CustomException(CustomErrorCode.CHAT_INVALID_SESSION);
         }
 
-        List<ChatMessage> messages = chatMessageRepository.findByCursorWithSender(
-                chatRoomId, sessionNo, cursorMessageId, pageable);
+        if (cursorMessageId != null) {
+            return new ChatMessagesWithRoom(toItems(chatMessageRepository.findByCursorWithSender(
+                    chatRoomId, sessionNo, cursorMessageId, pageable)), room);
+        }
+
+        Optional<List<ChatMessageItemResponse>> cached =
+                chatMessageWindowCache.getLatest(chatRoomId, sessionNo, pageSize);
+        if (cached.isPresent()) {
+            return new ChatMessagesWithRoom(cached.get(), room);
+        }
+
+        // 창 미스: 창 크기만큼 읽어 채우고 요청한 개수만 반환
+        int loadSize = chatMessageWindowCache.isEnabled()
+                ? Math.max(pageSize, chatMessageWindowCache.windowSize())
+                : pageSize;
+        List<ChatMessageItemResponse> latest = toItems(chatMessageRepository.findByCursorWithSender(
+                chatRoomId, sessionNo, null, PageRequest.of(0, loadSize)));
+        chatMessageWindowCache.fill(chatRoomId, sessionNo, latest);
+
+        return new ChatMessagesWithRoom(
+                latest.size() > pageSize ? latest.subList(0, pageSize) : latest, room);
+    }
+
+    /**
+     * 순번 이후 메시지 조회 (재연결 catch-up)
+     * - 현재 세션에서 seq > afterSeq 인 메시지를 오래된 -> 최신(asc) 순으로 size개
+     */
+    @Transactional(readOnly = true)
+    public ChatMessagesWithRoom getMessagesAfterSeq(Long chatRoomId, Long requesterId, Long afterSeq, int size) {
+        ChatRoom room = getRoomWithDetailsOrThrow(chatRoomId);
+        validateMember(room, requesterId);
+
+        int pageSize = (size <= 0 || size > 100) ? 30 : size;
+        long fromSeq = (afterSeq == null || afterSeq < 0) ? 0L : afterSeq;
+
+        Integer sessionNo = room.getCurrentSessionNo();
+        if (sessionNo == null) {
+            throw new CustomException(CustomErrorCode.CHAT_INVALID_SESSION);
+        }
+
+        // 클라이언트가 이미 최신이면 조회 생략
+        if (fromSeq >= room.getLastSeq()) {
+            return new ChatMessagesWithRoom(List.of(), room);
+        }
 
-        return new ChatMessagesWithRoom(messages, room);
+        return new ChatMessagesWithRoom(toItems(chatMessageRepository.findAfterSeqWithSender(
+                chatRoomId, sessionNo, fromSeq, PageRequest.of(0, pageSize))), room);
     }
 
     /**
      * 읽음 처리 (마지막 읽은 메시지 포인터)
      * - 현재 세션 메시지만 반영 (이전 세션 메시지는 무시)
+     * - 검증은 락 없는 조회 1번, 포인터는 Redis CAS로만 이동 (MySQL은 ChatReadPointerFlusher가 배치 반영)
+     * - Redis 비활성/실패 시 읽음 행을 락으로 잡고 바로 갱신
      */
-    public ChatMessageRead markReadUpTo(Long chatRoomId, Long requesterId, Long chatMessageId) {
+    public ChatReadPointer markReadUpTo(Long chatRoomId, Long requesterId, Long chatMessageId) {
         if (requesterId == null) {
             throw new CustomException(CustomErrorCode.CHAT_INVALID_USER_ID);
         }
         if (chatMessageId == null) {
             throw new CustomException(CustomErrorCode.CHAT_INVALID_MESSAGE);
         }
+        if (chatRoomId == null) {
+            throw new CustomException(CustomErrorCode.CHAT_INVALID_CHAT_ROOM);
+        }
+        if (!chatReadPointerService.isEnabled()) {
+            return markReadUpToInDb(chatRoomId, requesterId, chatMessageId);
+        }
+
+        ChatMessageRepository.ReadTarget target = chatMessageRepository.findReadTargetById(chatMessageId)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.CHAT_MESSAGE_NOT_FOUND));
 
+        // 메시지-채팅방 불일치 시 차단
+        if (!chatRoomId.equals(target.getChatRoomId())) {
+            throw new CustomException(CustomErrorCode.CHAT_ROOM_MISMATCH);
+        }
+        if (!requesterId.equals(target.getSenderId()) && !requesterId.equals(target.getReceiverId())) {
+            throw new CustomException(CustomErrorCode.CHAT_USER_NOT_IN_ROOM);
+        }
+
+        // 이전 세션 메시지면 이동 없이 현재 포인터만
+        boolean currentSession = target.getSessionNo().equals(target.getCurrentSessionNo());
+        return chatReadPointerService.advance(
+                        chatRoomId,
+                        requesterId,
+                        target.getCurrentSessionNo(),
+                        currentSession ? target.getSeq() : 0L,
+                        target.getMessageId())
+                .orElseGet(() -> markReadUpToInDb(chatRoomId, requesterId, chatMessageId));
+    }
+
+    /** 읽음 처리 DB 경로 (읽음 행 비관적 락) */
+    private ChatReadPointer markReadUpToInDb(Long chatRoomId, Long requesterId, Long chatMessageId) {
         ChatRoom room = getRoomOrThrow(chatRoomId);
         validateMember(room, requesterId);
 
@@ -134,10 +257,16 @@ public class  ChatMessageService {
         // Redis: 내 unreadCount 초기화
         chatUnreadCacheService.reset(chatRoomId, requesterId);
 
-        return saved;
+        return ChatReadPointer.from(saved);
     }
 
     /** 헬퍼 메서드 */
+    private List<ChatMessageItemResponse> toItems(List<ChatMessage> messages) {
+        return messages.stream()
+                .map(ChatMessageItemResponse::of)
+                .toList();
+    }
+
     private ChatRoom getRoomOrThrow(Long chatRoomId) {
         if (chatRoomId == null) {
             throw new CustomException(CustomErrorCode.CHAT_INVALID_CHAT_ROOM);
@@ -146,6 +275,15 @@ public class  ChatMessageService {
                 .orElseThrow(() -> new CustomException(CustomErrorCode.CHAT_ROOM_NOT_FOUND));
     }
 
+    /** 메시지 전송 시 비관적 락 조회 (순번 발급) */
+    private ChatRoom getRoomWithLockOrThrow(Long chatRoomId) {
+        if (chatRoomId == null) {
+            throw new CustomException(CustomErrorCode.CHAT_INVALID_CHAT_ROOM);
+        }
+        return chatRoomRepository.findByIdWithLock(chatRoomId)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.CHAT_ROOM_NOT_FOUND));
+    }
+
     /** 채팅방 상세 조회 (sender, receiver, post 함께 로드) */
     private ChatRoom getRoomWithDetailsOrThrow(Long chatRoomId) {
         if (chatRoomId == null) {
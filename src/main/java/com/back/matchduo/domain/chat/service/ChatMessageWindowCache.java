@@ -0,0 +1,279 @@
+package com.back.matchduo.domain.chat.service;
+
+import com.back.matchduo.domain.chat.dto.response.ChatMessageListResponse.ChatMessageItemResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채팅방 현재 세션의 최근 메시지 창 (Redis ZSET, 첫 페이지 조회용)
+ * - chat:window:{roomId}:{sessionNo} = ZSET(score = 메시지 ID, member = 메시지 아이템 JSON), 최근 size개만 유지
+ *   (같은 ID는 하나만: 추가 전에 같은 score를 지운다)
+ * - chat:window:{roomId}:{sessionNo}:floor = 이 ID 이상의 메시지는 창에 빠짐없이 있다 (0이면 세션 전체)
+ * - 메시지 전송 커밋 후 추가, 새 세션 시작 시 이전 세션 창 삭제 + 빈 창(floor=0)으로 시작
+ * - floor가 없으면(만료/Redis 재시작) 첫 조회가 MySQL에서 최근 size개를 읽어 채운다.
+ * - Redis 실패 시 조회는 MySQL로, 쓰기는 로그만 남긴다. (추가 실패 시엔 창을 지워 빈 곳이 있는 창을 쓰지 않게 함) 메트릭: chat.window (tag: result = hit | miss)
+ */
+@Slf4j
+@Service
+public class ChatMessageWindowCache {
+
+    private static final String KEY_PREFIX = "chat:window:";
+    private static final String FLOOR_SUFFIX = ":floor";
+
+    // 창 크기 초과분 제거 + floor를 남은 최소 ID로 올림 (추가/채우기 공통)
+    private static final String TRIM = """
+            local size = redis.call('ZCARD', KEYS[1])
+            local max = tonumber(ARGV[1])
+            if size > max then
+              redis.call('ZREMRANGEBYRANK', KEYS[1], 0, size - max - 1)
+              local floor = redis.call('GET', KEYS[2])
+              local lowest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+              if floor and tonumber(lowest[2]) > tonumber(floor) then
+                redis.call('SET', KEYS[2], lowest[2], 'KEEPTTL')
+              end
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            """;
+
+    // KEYS: 창, floor / ARGV: size, ttl, 메시지 ID, JSON
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[3], ARGV[3])
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[4])
+            """ + TRIM + "return 1", Long.class);
+
+    // KEYS: 창, floor / ARGV: size, ttl, floor, (메시지 ID, JSON)...
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            for i = 4, #ARGV, 2 do
+              redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[i], ARGV[i])
+              redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            local floor = tonumber(ARGV[3])
+            local current = redis.call('GET', KEYS[2])
+            if current and tonumber(current) < floor then
+              floor = tonumber(current)
+            end
+            redis.call('SET', KEYS[2], floor)
+            """ + TRIM + "return 1", Long.class);
+
+    // KEYS: 창, floor / ARGV: 개수 → [floor, 최신 JSON...], floor가 없으면 빈 목록
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            local floor = redis.call('GET', KEYS[2])
+            if not floor then
+              return {}
+            end
+            local members = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            table.insert(members, 1, floor)
+            return members
+            """, List.class);
+
+    // 창 전용 직렬화 (LocalDateTime은 배열로, 응답용 ObjectMapper의 오프셋 문자열은 역직렬화가 안 됨)
+    private static final ObjectMapper WINDOW_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final int windowSize;
+    private final long ttlSeconds;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ChatMessageWindowCache(
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${custom.chat.hot-window.enabled:true}") boolean enabled,
+            @Value("${custom.chat.hot-window.size:50}") int windowSize,
+            @Value("${custom.chat.hot-window.ttl-seconds:86400}") long ttlSeconds
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.windowSize = windowSize;
+        this.ttlSeconds = ttlSeconds;
+        this.hitCounter = meterRegistry.counter("chat.window", "result", "hit");
+        this.missCounter = meterRegistry.counter("chat.window", "result", "miss");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 창 크기 (미스 시 MySQL에서 이만큼 읽어 채운다) **/
+    public int windowSize() {
+        return windowSize;
+    }
+
+    /**
+     * 최신 메시지 limit개 (최신 → 과거)
+     * @return 창으로 답할 수 없으면(창 없음, 창보다 큰 요청 등) empty
+     */
+    public Optional<List<ChatMessageItemResponse>> getLatest(Long chatRoomId, Integer sessionNo, int limit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            List<?> raw = stringRedisTemplate.execute(READ_SCRIPT,
+                    List.of(key(chatRoomId, sessionNo), floorKey(chatRoomId, sessionNo)),
+                    String.valueOf(limit));
+            if (raw == null || raw.isEmpty()) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+
+            long floor = Long.parseLong(String.valueOf(raw.get(0)));
+            List<ChatMessageItemResponse> messages = new ArrayList<>(raw.size() - 1);
+            for (int i = 1; i < raw.size(); i++) {
+                ChatMessageItemResponse item = WINDOW_MAPPER.readValue(
+                        String.valueOf(raw.get(i)), ChatMessageItemResponse.class);
+                if (item.chatMessageId() < floor) {
+                    break; // floor 아래는 빠진 메시지가 있을 수 있음
+                }
+                messages.add(item);
+            }
+
+            // limit개를 다 채웠거나, 세션 전체가 창에 있으면 그대로 응답
+            if (messages.size() == limit || floor == 0) {
+                hitCounter.increment();
+                return Optional.of(messages);
+            }
+            missCounter.increment();
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("Redis 채팅 창 조회 실패, DB fallback: chatRoomId={}, {}", chatRoomId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * MySQL에서 읽은 최신 메시지로 창 채우기
+     * @param latest 최신 → 과거, windowSize개보다 적으면 세션 전체로 간주
+     */
+    public void fill(Long chatRoomId, Integer sessionNo, List<ChatMessageItemResponse> latest) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long floor = latest.size() < windowSize
+                    ? 0L
+                    : latest.get(latest.size() - 1).chatMessageId();
+
+            List<String> args = new ArrayList<>(3 + latest.size() * 2);
+            args.add(String.valueOf(windowSize));
+            args.add(String.valueOf(ttlSeconds));
+            args.add(String.valueOf(floor));
+            for (ChatMessageItemResponse item : latest) {
+                args.add(String.valueOf(item.chatMessageId()));
+                args.add(WINDOW_MAPPER.writeValueAsString(item));
+            }
+            stringRedisTemplate.execute(FILL_SCRIPT,
+                    List.of(key(chatRoomId, sessionNo), floorKey(chatRoomId, sessionNo)),
+                    args.toArray());
+        } catch (Exception e) {
+            log.warn("Redis 채팅 창 채우기 실패: chatRoomId={}, {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    /** 메시지 전송 시 창에 추가 (트랜잭션 안이면 커밋 후 실행) **/
+    public void append(Long chatRoomId, Integer sessionNo, ChatMessageItemResponse item) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(APPEND_SCRIPT,
+                        List.of(key(chatRoomId, sessionNo), floorKey(chatRoomId, sessionNo)),
+                        String.valueOf(windowSize),
+                        String.valueOf(ttlSeconds),
+                        String.valueOf(item.chatMessageId()),
+                        WINDOW_MAPPER.writeValueAsString(item));
+            } catch (Exception e) {
+                // 메시지가 빠진 창이 floor 때문에 완전한 것으로 보이지 않도록 창을 지운다 (다음 조회가 MySQL에서 다시 채움)
+                log.warn("Redis 채팅 창 추가 실패, 창 삭제: chatRoomId={}, {}", chatRoomId, e.getMessage());
+                invalidate(chatRoomId, sessionNo);
+            }
+        });
+    }
+
+    private void invalidate(Long chatRoomId, Integer sessionNo) {
+        try {
+            stringRedisTemplate.delete(List.of(key(chatRoomId, sessionNo), floorKey(chatRoomId, sessionNo)));
+        } catch (Exception e) {
+            log.warn("Redis 채팅 창 삭제 실패: chatRoomId={}, {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 새 세션 시작 (채팅방 생성/재개, 트랜잭션 안이면 커밋 후 실행)
+     * - 이전 세션 창 삭제, 새 세션은 메시지가 없으므로 floor=0 (커밋 직후 먼저 도착한 메시지가 있어도 NX라 안전)
+     */
+    public void startSession(Long chatRoomId, Integer sessionNo) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                if (sessionNo > 1) {
+                    stringRedisTemplate.delete(List.of(
+                            key(chatRoomId, sessionNo - 1), floorKey(chatRoomId, sessionNo - 1)));
+                }
+                stringRedisTemplate.opsForValue().setIfAbsent(
+                        floorKey(chatRoomId, sessionNo), "0", Duration.ofSeconds(ttlSeconds));
+            } catch (Exception e) {
+                log.warn("Redis 채팅 창 세션 시작 실패: chatRoomId={}, {}", chatRoomId, e.getMessage());
+            }
+        });
+    }
+
+    /** 채팅방 관련 모든 창 삭제 (스케줄러용) **/
+    public void deleteByChatRoomId(Long chatRoomId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            var keys = stringRedisTemplate.keys(KEY_PREFIX + chatRoomId + ":*");
+            if (keys != null && !keys.isEmpty()) {
+                stringRedisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            log.warn("Redis 채팅 창 삭제 실패: chatRoomId={}, {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private String key(Long chatRoomId, Integer sessionNo) {
+        return KEY_PREFIX + chatRoomId + ":" + sessionNo;
+    }
+
+    private String floorKey(Long chatRoomId, Integer sessionNo) {
+        return key(chatRoomId, sessionNo) + FLOOR_SUFFIX;
+    }
+}
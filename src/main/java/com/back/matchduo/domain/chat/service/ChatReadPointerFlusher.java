@@ -0,0 +1,106 @@
+package com.back.matchduo.domain.chat.service;
+
+import com.back.matchduo.domain.chat.dto.internal.ChatReadPointer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Redis 읽음 포인터를 chat_message_read에 배치 반영
+ * - 읽음 행은 채팅방 생성/재개 때 항상 만들어지므로 UPDATE만 한다. (행이 없으면 건너뜀)
+ * - 현재 세션 포인터이고 저장된 순번보다 클 때만 반영 (새 세션 초기화, 늦게 도착한 포인터 무시)
+ * - 그 사이 삭제된 메시지는 last_read_message_id = NULL로 (FK 위반 방지)
+ * - 반영 실패 시 다시 dirty로 등록. 메트릭: chat.read.pointer.flushed
+ */
+@Slf4j
+@Component
+public class ChatReadPointerFlusher {
+
+    // 한 주기에 최대 몇 번 꺼낼지 (밀려 있으면 다음 주기로)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private static final String UPDATE_SQL = """
+            UPDATE chat_message_read
+            SET last_read_message_id = (SELECT m.chat_message_id FROM chat_message m WHERE m.chat_message_id = ?),
+                last_read_seq = ?,
+                last_read_at = ?
+            WHERE chat_room_id = ?
+              AND user_id = ?
+              AND last_read_seq < ?
+              AND ? = (SELECT r.current_session_no FROM chat_room r WHERE r.chat_room_id = ?)
+            """;
+
+    private final ChatReadPointerService chatReadPointerService;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final Counter flushedCounter;
+
+    public ChatReadPointerFlusher(
+            ChatReadPointerService chatReadPointerService,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${custom.chat.read-pointer.enabled:true}") boolean enabled,
+            @Value("${custom.chat.read-pointer.flush-batch-size:500}") int batchSize
+    ) {
+        this.chatReadPointerService = chatReadPointerService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushedCounter = meterRegistry.counter("chat.read.pointer.flushed");
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.chat.read-pointer.flush-interval-ms:3000}",
+            fixedDelayString = "${custom.chat.read-pointer.flush-interval-ms:3000}"
+    )
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<ChatReadPointer> pointers;
+            try {
+                pointers = chatReadPointerService.drainDirty(batchSize);
+            } catch (Exception e) {
+                log.warn("Redis 읽음 포인터 꺼내기 실패: {}", e.getMessage());
+                return;
+            }
+            if (pointers.isEmpty()) {
+                return;
+            }
+
+            write(pointers);
+            if (pointers.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void write(List<ChatReadPointer> pointers) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, pointers, pointers.size(), (ps, pointer) -> {
+                ps.setLong(1, pointer.lastReadMessageId());
+                ps.setLong(2, pointer.lastReadSeq());
+                ps.setTimestamp(3, Timestamp.valueOf(pointer.readAt()));
+                ps.setLong(4, pointer.chatRoomId());
+                ps.setLong(5, pointer.userId());
+                ps.setLong(6, pointer.lastReadSeq());
+                ps.setInt(7, pointer.sessionNo());
+                ps.setLong(8, pointer.chatRoomId());
+            });
+            flushedCounter.increment(pointers.size());
+        } catch (Exception e) {
+            log.warn("읽음 포인터 MySQL 반영 실패, 다음 주기에 재시도: count={}, {}", pointers.size(), e.getMessage());
+            chatReadPointerService.markDirty(pointers);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.back.matchduo.domain.chat.service;
+
+import com.back.matchduo.domain.chat.dto.internal.ChatReadPointer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 읽음 포인터 (Redis, 앞으로만 이동)
+ * - chat:read:{roomId}:{userId} = HASH(session, seq, messageId, readAt), (session, seq)가 커질 때만 교체 (Lua CAS)
+ * - 바뀐 포인터는 chat:read:dirty SET에 모아 두고 ChatReadPointerFlusher가 MySQL에 배치로 반영
+ * - 읽음 처리 시 unread 카운터(chat:unread:{roomId}:{userId})도 같은 스크립트에서 0으로
+ * - Redis 실패 시 empty를 돌려주고 호출 측이 DB로 처리
+ */
+@Slf4j
+@Service
+public class ChatReadPointerService {
+
+    private static final String KEY_PREFIX = "chat:read:";
+    private static final String DIRTY_KEY = "chat:read:dirty";
+
+    // KEYS: 포인터, dirty, unread / ARGV: session, seq, messageId, readAt(ms), ttl, dirty 멤버, unread ttl
+    // seq가 0이면 이동 없이 현재 포인터만 반환 → [session, seq, messageId, readAt]
+    private static final RedisScript<List> ADVANCE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HMGET', KEYS[1], 'session', 'seq', 'messageId', 'readAt')
+            local session = tonumber(ARGV[1])
+            local seq = tonumber(ARGV[2])
+            local currentSession = tonumber(current[1] or '0')
+            local currentSeq = tonumber(current[2] or '0')
+            if seq > 0 and (session > currentSession or (session == currentSession and seq > currentSeq)) then
+              redis.call('HSET', KEYS[1], 'session', ARGV[1], 'seq', ARGV[2], 'messageId', ARGV[3], 'readAt', ARGV[4])
+              redis.call('EXPIRE', KEYS[1], ARGV[5])
+              redis.call('SADD', KEYS[2], ARGV[6])
+              current = {ARGV[1], ARGV[2], ARGV[3], ARGV[4]}
+            end
+            redis.call('SET', KEYS[3], '0', 'EX', ARGV[7])
+            return current
+            """, List.class);
+
+    // KEYS: dirty / ARGV: 개수, 포인터 키 prefix → [멤버, session, seq, messageId, readAt, ...]
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local members = redis.call('SPOP', KEYS[1], ARGV[1])
+            local result = {}
+            for _, member in ipairs(members) do
+              local pointer = redis.call('HMGET', ARGV[2] .. member, 'session', 'seq', 'messageId', 'readAt')
+              if pointer[1] then
+                table.insert(result, member)
+                for i = 1, 4 do
+                  table.insert(result, pointer[i])
+                end
+              end
+            end
+            return result
+            """, List.class);
+
+    private static final long UNREAD_TTL_SECONDS = 7 * 24 * 60 * 60;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final long ttlSeconds;
+
+    public ChatReadPointerService(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${custom.chat.read-pointer.enabled:true}") boolean enabled,
+            @Value("${custom.chat.read-pointer.ttl-seconds:604800}") long ttlSeconds
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 읽음 포인터를 앞으로 이동 (더 뒤의 포인터가 이미 있으면 그대로)
+     * @param seq 0이면 이동 없이 현재 포인터만 조회 (이전 세션 메시지 읽음 요청)
+     * @return 처리 후 현재 포인터, Redis 실패 시 empty
+     */
+    public Optional<ChatReadPointer> advance(Long chatRoomId, Long userId, Integer sessionNo, long seq, Long messageId) {
+        try {
+            List<?> raw = stringRedisTemplate.execute(ADVANCE_SCRIPT,
+                    List.of(key(chatRoomId, userId), DIRTY_KEY, ChatUnreadCacheService.unreadKey(chatRoomId, userId)),
+                    String.valueOf(sessionNo),
+                    String.valueOf(seq),
+                    String.valueOf(messageId),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(ttlSeconds),
+                    member(chatRoomId, userId),
+                    String.valueOf(UNREAD_TTL_SECONDS));
+            if (raw == null || raw.size() < 4) {
+                return Optional.empty();
+            }
+
+            // 다른 세션 포인터면 현재 세션에서는 아직 읽은 게 없음
+            if (raw.get(0) == null || !sessionNo.equals(Integer.valueOf(String.valueOf(raw.get(0))))) {
+                return Optional.of(new ChatReadPointer(chatRoomId, userId, sessionNo, 0L, null, null));
+            }
+            return Optional.of(toPointer(chatRoomId, userId, raw, 0));
+        } catch (Exception e) {
+            log.warn("Redis 읽음 포인터 갱신 실패, DB fallback: chatRoomId={}, {}", chatRoomId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * MySQL에 반영할 포인터 꺼내기 (SPOP이라 여러 노드가 동시에 꺼내도 겹치지 않음)
+     */
+    public List<ChatReadPointer> drainDirty(int count) {
+        List<?> raw = stringRedisTemplate.execute(DRAIN_SCRIPT,
+                List.of(DIRTY_KEY), String.valueOf(count), KEY_PREFIX);
+        if (raw == null || raw.isEmpty()) {
+            return List.of();
+        }
+
+        List<ChatReadPointer> pointers = new ArrayList<>(raw.size() / 5);
+        for (int i = 0; i + 4 < raw.size(); i += 5) {
+            String[] ids = String.valueOf(raw.get(i)).split(":");
+            pointers.add(toPointer(Long.valueOf(ids[0]), Long.valueOf(ids[1]), raw, i + 1));
+        }
+        return pointers;
+    }
+
+    /** 반영 실패한 포인터를 다음 주기에 다시 시도 **/
+    public void markDirty(List<ChatReadPointer> pointers) {
+        if (pointers.isEmpty()) {
+            return;
+        }
+        try {
+            String[] members = pointers.stream()
+                    .map(pointer -> member(pointer.chatRoomId(), pointer.userId()))
+                    .toArray(String[]::new);
+            stringRedisTemplate.opsForSet().add(DIRTY_KEY, members);
+        } catch (Exception e) {
+            log.warn("Redis 읽음 포인터 재등록 실패: count={}, {}", pointers.size(), e.getMessage());
+        }
+    }
+
+    /** 채팅방 관련 모든 포인터 삭제 (스케줄러용) **/
+    public void deleteByChatRoomId(Long chatRoomId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            var keys = stringRedisTemplate.keys(KEY_PREFIX + chatRoomId + ":*");
+            if (keys != null && !keys.isEmpty()) {
+                stringRedisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            log.warn("Redis 읽음 포인터 삭제 실패: chatRoomId={}, {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    private ChatReadPointer toPointer(Long chatRoomId, Long userId, List<?> raw, int offset) {
+        long readAtMillis = Long.parseLong(String.valueOf(raw.get(offset + 3)));
+        return new ChatReadPointer(
+                chatRoomId,
+                userId,
+                Integer.valueOf(String.valueOf(raw.get(offset))),
+                Long.valueOf(String.valueOf(raw.get(offset + 1))),
+                Long.valueOf(String.valueOf(raw.get(offset + 2))),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(readAtMillis), ZoneId.systemDefault())
+        );
+    }
+
+    private String key(Long chatRoomId, Long userId) {
+        return KEY_PREFIX + member(chatRoomId, userId);
+    }
+
+    private String member(Long chatRoomId, Long userId) {
+        return chatRoomId + ":" + userId;
+    }
+}
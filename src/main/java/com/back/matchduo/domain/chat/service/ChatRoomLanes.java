@@ -0,0 +1,122 @@
+package com.back.matchduo.domain.chat.service;
+
+import com.back.matchduo.global.concurrency.ShardedExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방 단위 처리 lane (chatRoomId → 단일 스레드 lane)
+ * - 같은 방의 전송/읽음/나가기는 이 노드에서 도착 순서대로 하나씩 처리, 다른 방은 lane 수만큼 병렬
+ * - 방 row의 조건부 UPDATE/락은 다른 노드와의 경합용으로 그대로 두고, 노드 안에서는 경합하지 않게 한다.
+ * - lane 큐가 가득 차면 제출한 스레드(STOMP inbound/요청 스레드)가 max-wait-ms까지 기다린 뒤 SERVER_BUSY
+ * - 호출 스레드의 SecurityContext를 lane 작업에 넘긴다. (ReadWriteRoutingDataSource가 쓴 사용자를 기록해 다음 조회를 primary로 보내도록)
+ * - 종료 시 웹 서버가 멈춘 뒤, JPA/DataSource 빈이 닫히기 전에 남은 작업을 shutdown-timeout-ms까지 처리하고 멈춘다.
+ * - custom.chat.lanes.enabled=false면 호출 스레드에서 바로 실행
+ */
+@Component
+public class ChatRoomLanes implements SmartLifecycle {
+
+    // 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024), 웹 서버 종료(DEFAULT_PHASE - 2048)보다 나중에 멈춤
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final ShardedExecutor executor;
+    private final Duration shutdownTimeout;
+    private volatile boolean running;
+
+    public ChatRoomLanes(
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${custom.chat.lanes.enabled:true}") boolean enabled,
+            @Value("${custom.chat.lanes.count:0}") int count,
+            @Value("${custom.chat.lanes.queue-capacity:256}") int queueCapacity,
+            @Value("${custom.chat.lanes.max-wait-ms:200}") long maxWaitMs,
+            @Value("${custom.chat.lanes.shutdown-timeout-ms:10000}") long shutdownTimeoutMs
+    ) {
+        this.shutdownTimeout = Duration.ofMillis(shutdownTimeoutMs);
+        // lane 작업은 DB/Redis I/O로 블로킹되므로 기본은 코어 수의 2배
+        int laneCount = count > 0 ? count : Runtime.getRuntime().availableProcessors() * 2;
+        this.executor = enabled
+                ? new ShardedExecutor("chat-room", laneCount, queueCapacity, Duration.ofMillis(maxWaitMs),
+                        Threading.VIRTUAL.isActive(environment), meterRegistry)
+                : null;
+    }
+
+    /** 방 lane에서 실행하고 결과를 기다린다 (REST 요청용) */
+    public <T> T call(Long chatRoomId, Supplier<T> task) {
+        if (executor == null || chatRoomId == null) {
+            return task.get();
+        }
+        try {
+            return executor.submit(chatRoomId, withSecurityContext(task)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /** 방 lane에 넣고 바로 반환 (STOMP 전송용, 실패는 lane에서 로그) */
+    public void execute(Long chatRoomId, Runnable task) {
+        if (executor == null || chatRoomId == null) {
+            task.run();
+            return;
+        }
+        executor.execute(chatRoomId, DelegatingSecurityContextRunnable.create(task, null));
+    }
+
+    private static <T> Supplier<T> withSecurityContext(Supplier<T> task) {
+        SecurityContext context = SecurityContextHolder.getContext();
+        return () -> {
+            SecurityContextHolder.setContext(context);
+            try {
+                return task.get();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        if (executor != null) {
+            executor.close(shutdownTimeout);
+        }
+    }
+}
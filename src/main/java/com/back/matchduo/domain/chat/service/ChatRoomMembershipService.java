@@ -0,0 +1,55 @@
+package com.back.matchduo.domain.chat.service;
+
+import com.back.matchduo.domain.chat.dto.internal.ChatRoomMembership;
+import com.back.matchduo.domain.chat.repository.ChatRoomRepository;
+import com.back.matchduo.global.cache.CacheNames;
+import com.back.matchduo.global.exception.CustomErrorCode;
+import com.back.matchduo.global.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅방 구성원 스냅샷 캐시 (chatRoomId → ChatRoomMembership)
+ * - 나가기/재개/방 정리 시 evict (트랜잭션 안이면 커밋 후 무효화)
+ * - 전송 중 스냅샷이 DB와 다르면 evictNow (pub/sub 유실 등으로 남은 스냅샷)
+ * - 없는 방은 캐시하지 않고 CHAT_ROOM_NOT_FOUND
+ * - 읽기 전용으로 두지 않는다: 커밋 후 evict 직후의 재적재가 복제본으로 가면 지연된 스냅샷을 TTL 동안 캐시하게 되므로 primary에서 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ChatRoomMembershipService {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Cacheable(cacheNames = CacheNames.CHAT_ROOM_MEMBERSHIP, key = "#chatRoomId", sync = true)
+    public ChatRoomMembership get(Long chatRoomId) {
+        if (chatRoomId == null) {
+            throw new CustomException(CustomErrorCode.CHAT_INVALID_CHAT_ROOM);
+        }
+        ChatRoomRepository.MembershipView view = chatRoomRepository.findMembershipById(chatRoomId)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.CHAT_ROOM_NOT_FOUND));
+
+        return new ChatRoomMembership(
+                view.getChatRoomId(),
+                view.getSenderId(),
+                view.getReceiverId(),
+                view.getSenderLeft(),
+                view.getReceiverLeft(),
+                view.getSessionNo()
+        );
+    }
+
+    /** 나가기/재개/방 정리 시 (커밋 후 무효화) */
+    @CacheEvict(cacheNames = CacheNames.CHAT_ROOM_MEMBERSHIP, key = "#chatRoomId")
+    public void evict(Long chatRoomId) {
+    }
+
+    /** 오래된 스냅샷 발견 시 즉시 무효화 (이후 트랜잭션이 롤백돼도 유지) */
+    @CacheEvict(cacheNames = CacheNames.CHAT_ROOM_MEMBERSHIP, key = "#chatRoomId", beforeInvocation = true)
+    public void evictNow(Long chatRoomId) {
+    }
+}
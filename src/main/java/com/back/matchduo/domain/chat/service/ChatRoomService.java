@@ -39,6 +39,8 @@ public class ChatRoomService {
     private final UserRepository userRepository;
     private final GameAccountRepository gameAccountRepository;
     private final ChatUnreadCacheService chatUnreadCacheService;
+    private final ChatMessageWindowCache chatMessageWindowCache;
+    private final ChatRoomMembershipService chatRoomMembershipService;
 
     /**
      * 채팅방 생성 (멱등)
@@ -80,6 +82,8 @@ public class ChatRoomService {
                         if (lockedRoom.isClosed()) {
                             lockedRoom.resumeAsNewSession();
                             resetReadStates(lockedRoom, sender, receiver);
+                            chatMessageWindowCache.startSession(lockedRoom.getId(), lockedRoom.getCurrentSessionNo());
+                            chatRoomMembershipService.evict(lockedRoom.getId());
                             return chatRoomRepository.save(lockedRoom);
                         }
                         return lockedRoom;
@@ -96,6 +100,8 @@ public class ChatRoomService {
                         chatMessageReadRepository.save(ChatMessageRead.create(saved, sender));
                         chatMessageReadRepository.save(ChatMessageRead.create(saved, receiver));
 
+                        chatMessageWindowCache.startSession(saved.getId(), saved.getCurrentSessionNo());
+
                         return saved;
                     } catch (DataIntegrityViolationException e) {
                         // UNIQUE(post_id, sender_id) 충돌 등 누군가가 동시에 먼저 생성한 경우
@@ -106,6 +112,8 @@ public class ChatRoomService {
                         if (existingRoom.isClosed()) {
                             existingRoom.resumeAsNewSession();
                             resetReadStates(existingRoom, sender, receiver);
+                            chatMessageWindowCache.startSession(existingRoom.getId(), existingRoom.getCurrentSessionNo());
+                            chatRoomMembershipService.evict(existingRoom.getId());
                             return chatRoomRepository.save(existingRoom);
                         }
                         return existingRoom;
@@ -115,6 +123,7 @@ public class ChatRoomService {
 
     /**
      * 채팅방 나가기
+     * - 구성원 스냅샷 캐시는 커밋 후 무효화
      */
     public ChatRoom leave(Long chatRoomId, Long userId) {
         ChatRoom room = chatRoomRepository.findByIdWithLock(chatRoomId)
@@ -124,6 +133,7 @@ public class ChatRoomService {
         room.leave(userId);
 
         chatUnreadCacheService.delete(chatRoomId, userId);
+        chatRoomMembershipService.evict(chatRoomId);
 
         return chatRoomRepository.save(room);
     }
@@ -183,20 +193,13 @@ public class ChatRoomService {
                     ChatMessage lastMessage = lastMessageMap.get(room.getId());
                     ChatMessageRead readState = readStateMap.get(room.getId());
 
-                    // Redis 조회 + Fallback
+                    // Redis 조회 + Fallback (순번 차이, COUNT 쿼리 없음)
                     int unreadCount = chatUnreadCacheService.getOrSync(
                             room.getId(),
                             userId,
-                            () -> {
-                                if (lastMessage == null) {
-                                    return 0L;
-                                }
-                                Long lastReadId = (readState != null && readState.getLastReadMessage() != null)
-                                        ? readState.getLastReadMessage().getId()
-                                        : 0L;
-                                return chatMessageRepository.countUnread(
-                                        room.getId(), room.getCurrentSessionNo(), lastReadId);
-                            }
+                            () -> readState != null
+                                    ? readState.unreadCount(room)
+                                    : room.getLastSeq()
                     );
 
                     return ChatRoomSummaryResponse.of(room, userId, lastMessage, unreadCount);
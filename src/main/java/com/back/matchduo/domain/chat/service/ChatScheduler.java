@@ -22,6 +22,9 @@ public class ChatScheduler {
     private final ChatMessageRepository chatMessageRepository;
     private final ChatMessageReadRepository chatMessageReadRepository;
     private final ChatUnreadCacheService chatUnreadCacheService;
+    private final ChatMessageWindowCache chatMessageWindowCache;
+    private final ChatReadPointerService chatReadPointerService;
+    private final ChatRoomMembershipService chatRoomMembershipService;
 
     /**
      * 닫힌 채팅방 정리 (매일 새벽 3시)
@@ -43,6 +46,9 @@ public class ChatScheduler {
 
         // Redis 캐시 삭제
         roomIds.forEach(chatUnreadCacheService::deleteByChatRoomId);
+        roomIds.forEach(chatMessageWindowCache::deleteByChatRoomId);
+        roomIds.forEach(chatReadPointerService::deleteByChatRoomId);
+        roomIds.forEach(chatRoomMembershipService::evict);
 
         // FK 제약 때문에 자식 먼저 삭제
         chatMessageReadRepository.deleteByRoomIds(roomIds);
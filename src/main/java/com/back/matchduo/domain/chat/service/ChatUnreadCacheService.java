@@ -19,6 +19,11 @@ public class ChatUnreadCacheService {
     private static final Duration TTL = Duration.ofDays(7);
 
     private String buildKey(Long chatRoomId, Long userId) {
+        return unreadKey(chatRoomId, userId);
+    }
+
+    /** 읽음 포인터 스크립트가 같은 키를 0으로 초기화 **/
+    static String unreadKey(Long chatRoomId, Long userId) {
         return UNREAD_KEY_PREFIX + chatRoomId + ":" + userId;
     }
 
@@ -4,6 +4,7 @@ import com.back.matchduo.domain.chat.dto.request.ChatMessageSendRequest;
 import com.back.matchduo.domain.chat.dto.response.ChatMessageSendResponse;
 import com.back.matchduo.domain.chat.entity.ChatMessage;
 import com.back.matchduo.domain.chat.service.ChatMessageService;
+import com.back.matchduo.domain.chat.service.ChatRoomLanes;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import java.security.Principal;
 /**
  * WebSocket 채팅 메시지
  * - /pub/chats/{chatRoomId}/messages -> 메시지 수신 후 /sub/chats/{chatRoomId}로 브로드캐스트
+ * - 저장과 브로드캐스트는 방 lane에서 실행 (같은 방은 순서대로, lane이 밀리면 inbound 스레드가 대기 후 거절)
  */
 @Slf4j
 @Controller
@@ -28,6 +30,7 @@ public class ChatWebSocketController {
 
     private final ChatMessageService chatMessageService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomLanes chatRoomLanes;
 
     /** WebSocket으로 메시지 전송 및 브로드캐스트 */
     @MessageMapping("/chats/{chatRoomId}/messages")
@@ -38,6 +41,10 @@ public class ChatWebSocketController {
     ) {
         Long userId = extractUserId(principal);
 
+        chatRoomLanes.execute(chatRoomId, () -> sendAndBroadcast(chatRoomId, userId, request));
+    }
+
+    private void sendAndBroadcast(Long chatRoomId, Long userId, ChatMessageSendRequest request) {
         // 메시지 저장
         ChatMessage message = chatMessageService.send(
                 chatRoomId, userId, request.messageType(), request.content());
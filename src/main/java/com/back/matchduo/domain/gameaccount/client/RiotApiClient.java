@@ -1,6 +1,8 @@
 package com.back.matchduo.domain.gameaccount.client;
 
 import com.back.matchduo.domain.gameaccount.dto.RiotApiDto;
+import com.back.matchduo.global.concurrency.Bulkhead;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,13 +19,17 @@ import java.util.List;
 
 /**
  * Riot API 호출을 담당하는 Client
+ * - 동시 호출 수는 riotBulkhead로 제한 (가상 스레드 모드에서도 Riot rate limit 보호)
+ * - 메서드별 지연: riot.api.requests (tag: method, exception, 벌크헤드 대기 시간 포함)
  */
 @Slf4j
 @Component
+@Timed(value = "riot.api.requests", description = "Riot API 호출 지연")
 @RequiredArgsConstructor
 public class RiotApiClient {
 
     private final RestTemplate restTemplate;
+    private final Bulkhead riotBulkhead;
 
     @Value("${riot.api.base-url:https://asia.api.riotgames.com}")
     private String riotApiBaseUrl;
@@ -52,12 +58,12 @@ public class RiotApiClient {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<RiotApiDto.AccountResponse> response = restTemplate.exchange(
+            ResponseEntity<RiotApiDto.AccountResponse> response = riotBulkhead.call(() -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
                     RiotApiDto.AccountResponse.class
-            );
+            ));
 
             return response.getBody();
         } catch (Exception e) {
@@ -85,12 +91,12 @@ public class RiotApiClient {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<List<RiotApiDto.RankResponse>> response = restTemplate.exchange(
+            ResponseEntity<List<RiotApiDto.RankResponse>> response = riotBulkhead.call(() -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
                     new ParameterizedTypeReference<List<RiotApiDto.RankResponse>>() {}
-            );
+            ));
 
             return response.getBody();
         } catch (Exception e) {
@@ -116,12 +122,12 @@ public class RiotApiClient {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<RiotApiDto.SummonerResponse> response = restTemplate.exchange(
+            ResponseEntity<RiotApiDto.SummonerResponse> response = riotBulkhead.call(() -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
                     RiotApiDto.SummonerResponse.class
-            );
+            ));
 
             return response.getBody();
         } catch (Exception e) {
@@ -151,12 +157,12 @@ public class RiotApiClient {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<List<String>> response = restTemplate.exchange(
+            ResponseEntity<List<String>> response = riotBulkhead.call(() -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
                     new ParameterizedTypeReference<List<String>>() {}
-            );
+            ));
 
             return response.getBody();
         } catch (Exception e) {
@@ -183,12 +189,12 @@ public class RiotApiClient {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<RiotApiDto.MatchResponse> response = restTemplate.exchange(
+            ResponseEntity<RiotApiDto.MatchResponse> response = riotBulkhead.call(() -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
                     RiotApiDto.MatchResponse.class
-            );
+            ));
 
             return response.getBody();
         } catch (Exception e) {
@@ -4,6 +4,7 @@ import com.back.matchduo.domain.gameaccount.dto.response.FavoriteChampionRespons
 import com.back.matchduo.domain.gameaccount.dto.response.MatchResponse;
 import com.back.matchduo.domain.gameaccount.service.MatchService;
 import com.back.matchduo.global.security.AuthPrincipal;
+import com.back.matchduo.global.web.ConditionalGetSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,8 +13,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/game-accounts")
@@ -22,6 +25,7 @@ import java.util.List;
 public class MatchController {
 
     private final MatchService matchService;
+    private final ConditionalGetSupport conditionalGetSupport;
 
     private static final int DEFAULT_MATCH_COUNT = 20;
 
@@ -56,6 +60,7 @@ public class MatchController {
     /**
      * 최근 매치 조회 (DB에서 조회)
      * 누구나 다른 사람의 게임 계정 전적도 조회할 수 있습니다.
+     * If-None-Match가 현재 ETag(마지막 전적 갱신 시각 기준)와 같으면 본 조회 없이 304
      * @param gameAccountId 게임 계정 ID
      * @param count 조회할 매치 개수 (기본값: 20)
      * @return 매치 정보 목록
@@ -67,26 +72,36 @@ public class MatchController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "매치 정보 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "게임 계정을 찾을 수 없습니다.")
     })
     public ResponseEntity<List<MatchResponse>> getRecentMatches(
             @Parameter(description = "게임 계정 ID", required = true)
             @PathVariable Long gameAccountId,
             @Parameter(description = "조회할 매치 개수 (기본값: 20)")
-            @RequestParam(defaultValue = "20") int count) {
+            @RequestParam(defaultValue = "20") int count,
+            WebRequest webRequest) {
         Long userId = null;
         try {
             userId = AuthPrincipal.getUserId();
         } catch (Exception ignored) {
             // 비로그인 허용
         }
-        List<MatchResponse> responses = matchService.getRecentMatches(gameAccountId, userId, count);
-        return ResponseEntity.ok(responses);
+        Optional<String> etag = matchService.getRecentMatchesEtag(gameAccountId, count);
+        if (etag.isPresent() && conditionalGetSupport.checkNotModified(webRequest, "game_account_matches", etag.get())) {
+            return null; // 304 Not Modified
+        }
+        // 본문과 같은 트랜잭션에서 읽은 ETag로 응답 (위 ETag와 다른 복제본을 읽었어도 본문과 어긋나지 않게)
+        Long viewerId = userId;
+        return conditionalGetSupport.ok(etag.orElse(null),
+                () -> matchService.getRecentMatchesWithEtag(gameAccountId, viewerId, count),
+                () -> { });
     }
 
     /**
      * 선호 챔피언 TOP 3 조회
      * 누구나 다른 사람의 게임 계정 선호 챔피언도 조회할 수 있습니다.
+     * If-None-Match가 현재 ETag(마지막 전적 갱신 시각 기준)와 같으면 본 조회 없이 304
      * @param gameAccountId 게임 계정 ID
      * @return 선호 챔피언 목록 (최대 3개)
      */
@@ -97,19 +112,28 @@ public class MatchController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "선호 챔피언 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "게임 계정을 찾을 수 없습니다.")
     })
     public ResponseEntity<List<FavoriteChampionResponse>> getFavoriteChampions(
             @Parameter(description = "게임 계정 ID", required = true)
-            @PathVariable Long gameAccountId) {
+            @PathVariable Long gameAccountId,
+            WebRequest webRequest) {
         Long userId = null;
         try {
             userId = AuthPrincipal.getUserId();
         } catch (Exception ignored) {
             // 비로그인 허용
         }
-        List<FavoriteChampionResponse> responses = matchService.getFavoriteChampions(gameAccountId, userId);
-        return ResponseEntity.ok(responses);
+        Optional<String> etag = matchService.getFavoriteChampionsEtag(gameAccountId);
+        if (etag.isPresent() && conditionalGetSupport.checkNotModified(webRequest, "favorite_champions", etag.get())) {
+            return null; // 304 Not Modified
+        }
+        // 본문과 함께 읽은 ETag로 응답 (캐시된 본문이 위 ETag보다 오래됐으면 evict 후 다시 조회)
+        Long viewerId = userId;
+        return conditionalGetSupport.ok(etag.orElse(null),
+                () -> matchService.getFavoriteChampions(gameAccountId, viewerId),
+                () -> matchService.evictFavoriteChampions(gameAccountId));
     }
 }
 
@@ -3,6 +3,7 @@ package com.back.matchduo.domain.gameaccount.controller;
 import com.back.matchduo.domain.gameaccount.dto.response.RankResponse;
 import com.back.matchduo.domain.gameaccount.service.RankService;
 import com.back.matchduo.global.security.AuthPrincipal;
+import com.back.matchduo.global.web.ConditionalGetSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,8 +12,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/game-accounts")
@@ -21,6 +24,7 @@ import java.util.List;
 public class RankController {
 
     private final RankService rankService;
+    private final ConditionalGetSupport conditionalGetSupport;
 
     /**
      * 게임 계정의 랭크 정보 갱신 (전적 갱신)
@@ -48,6 +52,7 @@ public class RankController {
 
     /**
      * 게임 계정의 모든 랭크 정보 조회
+     * If-None-Match가 현재 ETag(랭크 갱신 시각 + 행 수)와 같으면 본 조회 없이 304
      * @param gameAccountId 게임 계정 ID
      * @return 랭크 정보 목록
      */
@@ -58,19 +63,28 @@ public class RankController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "랭크 정보 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "게임 계정을 찾을 수 없습니다.")
     })
     public ResponseEntity<List<RankResponse>> getRanksByGameAccountId(
             @Parameter(description = "게임 계정 ID", required = true)
-            @PathVariable Long gameAccountId) {
+            @PathVariable Long gameAccountId,
+            WebRequest webRequest) {
         Long userId = null;
         try {
             userId = AuthPrincipal.getUserId();
         } catch (Exception ignored) {
             // 비로그인 허용
         }
-        List<RankResponse> responses = rankService.getRanksByGameAccountId(gameAccountId, userId);
-        return ResponseEntity.ok(responses);
+        Optional<String> etag = rankService.getRanksEtag(gameAccountId);
+        if (etag.isPresent() && conditionalGetSupport.checkNotModified(webRequest, "game_account_ranks", etag.get())) {
+            return null; // 304 Not Modified
+        }
+        // 본문과 함께 읽은 ETag로 응답 (캐시된 본문이 위 ETag보다 오래됐으면 evict 후 다시 조회)
+        Long viewerId = userId;
+        return conditionalGetSupport.ok(etag.orElse(null),
+                () -> rankService.getRanksByGameAccountId(gameAccountId, viewerId),
+                () -> rankService.evictRanks(gameAccountId));
     }
 }
 
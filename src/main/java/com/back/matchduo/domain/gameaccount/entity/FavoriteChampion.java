@@ -1,6 +1,7 @@
 package com.back.matchduo.domain.gameaccount.entity;
 
 import com.back.matchduo.global.entity.BaseEntity;
+import com.back.matchduo.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,7 +18,10 @@ import lombok.NoArgsConstructor;
 public class FavoriteChampion extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdSequences.FAVORITE_CHAMPION)
+    @TableGenerator(name = IdSequences.FAVORITE_CHAMPION, table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.FAVORITE_CHAMPION, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "favorite_champion_id")
     private Long favoriteChampionId;
 
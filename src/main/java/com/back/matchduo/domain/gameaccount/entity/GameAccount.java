@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "game_account")
 @Getter
@@ -38,6 +40,10 @@ public class GameAccount extends BaseEntity {
     @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false)
     private User user;
 
+    // 마지막 전적 갱신 시각 (전적/선호 챔피언 조회의 ETag 버전 값)
+    @Column(name = "matches_refreshed_at")
+    private LocalDateTime matchesRefreshedAt;
+
     @Builder
     public GameAccount(String gameNickname, String gameTag, String gameType, String puuid, Integer profileIconId, User user) {
         this.gameNickname = gameNickname;
@@ -74,4 +80,11 @@ public class GameAccount extends BaseEntity {
     public void updatePuuid(String puuid) {
         this.puuid = puuid;
     }
+
+    /**
+     * 전적 갱신/삭제 시각 기록
+     */
+    public void markMatchesRefreshed() {
+        this.matchesRefreshedAt = LocalDateTime.now();
+    }
 }
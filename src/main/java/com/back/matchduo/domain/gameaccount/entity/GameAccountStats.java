@@ -0,0 +1,123 @@
+package com.back.matchduo.domain.gameaccount.entity;
+
+import com.back.matchduo.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게임 계정별 솔로랭크 최근 N경기 집계 (계정당 1행)
+ * - 전적 갱신(MatchService) 시점에 증분 반영하고, 모집글 목록/상세는 참가자 20행 대신 이 1행만 읽는다.
+ * - 선호 챔피언 TOP 3 이름도 함께 둔다. (승률 등 상세는 favorite_champion)
+ */
+@Entity
+@Table(name = "game_account_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GameAccountStats extends BaseEntity {
+
+    /** 집계 대상 큐 (솔로랭크) */
+    public static final int SOLO_QUEUE_ID = 420;
+
+    /** 집계 창 크기 (최근 경기 수) */
+    public static final int WINDOW_SIZE = 20;
+
+    @Id
+    @Column(name = "game_account_id")
+    private Long gameAccountId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_account_id", referencedColumnName = "game_account_id")
+    private GameAccount gameAccount;
+
+    @Column(name = "solo_games", nullable = false)
+    private Integer soloGames;  // 창 안의 경기 수 (최대 WINDOW_SIZE)
+
+    @Column(name = "solo_wins", nullable = false)
+    private Integer soloWins;
+
+    @Column(name = "solo_kills", nullable = false)
+    private Integer soloKills;
+
+    @Column(name = "solo_deaths", nullable = false)
+    private Integer soloDeaths;
+
+    @Column(name = "solo_assists", nullable = false)
+    private Integer soloAssists;
+
+    @Column(name = "champion1_name")
+    private String champion1Name;
+
+    @Column(name = "champion2_name")
+    private String champion2Name;
+
+    @Column(name = "champion3_name")
+    private String champion3Name;
+
+    public static GameAccountStats create(GameAccount gameAccount) {
+        GameAccountStats stats = new GameAccountStats();
+        stats.gameAccount = gameAccount;
+        stats.resetSolo();
+        return stats;
+    }
+
+    /**
+     * 솔로랭크 집계 초기화 (창 전체 재계산 전)
+     */
+    public void resetSolo() {
+        this.soloGames = 0;
+        this.soloWins = 0;
+        this.soloKills = 0;
+        this.soloDeaths = 0;
+        this.soloAssists = 0;
+    }
+
+    /**
+     * 창에 들어온 경기 반영
+     */
+    public void addSoloGame(MatchParticipant participant) {
+        this.soloGames++;
+        this.soloWins += Boolean.TRUE.equals(participant.getMatch().getWin()) ? 1 : 0;
+        this.soloKills += participant.getKills();
+        this.soloDeaths += participant.getDeaths();
+        this.soloAssists += participant.getAssists();
+    }
+
+    /**
+     * 창에서 밀려난 경기 제외
+     */
+    public void removeSoloGame(MatchParticipant participant) {
+        this.soloGames--;
+        this.soloWins -= Boolean.TRUE.equals(participant.getMatch().getWin()) ? 1 : 0;
+        this.soloKills -= participant.getKills();
+        this.soloDeaths -= participant.getDeaths();
+        this.soloAssists -= participant.getAssists();
+    }
+
+    /**
+     * 선호 챔피언 TOP 3 이름 갱신 (순위 순서, 없으면 null)
+     */
+    public void updateFavoriteChampions(List<String> championNames) {
+        this.champion1Name = championNames.size() > 0 ? championNames.get(0) : null;
+        this.champion2Name = championNames.size() > 1 ? championNames.get(1) : null;
+        this.champion3Name = championNames.size() > 2 ? championNames.get(2) : null;
+    }
+
+    /**
+     * 선호 챔피언 이름 목록 (순위 순서)
+     */
+    public List<String> getFavoriteChampionNames() {
+        List<String> names = new ArrayList<>(3);
+        for (String name : new String[]{champion1Name, champion2Name, champion3Name}) {
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+}
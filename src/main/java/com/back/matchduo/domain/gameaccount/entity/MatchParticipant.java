@@ -1,6 +1,7 @@
 package com.back.matchduo.domain.gameaccount.entity;
 
 import com.back.matchduo.global.entity.BaseEntity;
+import com.back.matchduo.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,7 +18,10 @@ import lombok.NoArgsConstructor;
 public class MatchParticipant extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdSequences.MATCH_PARTICIPANT)
+    @TableGenerator(name = IdSequences.MATCH_PARTICIPANT, table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.MATCH_PARTICIPANT, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "match_participant_id")
     private Long matchParticipantId;
 
@@ -13,6 +13,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Rank extends BaseEntity {
 
+    /** 모집글 티어 필터/표시 기준 큐 */
+    public static final String SOLO_QUEUE_TYPE = "RANKED_SOLO_5x5";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "rank_id")
@@ -66,5 +69,12 @@ public class Rank extends BaseEntity {
         this.losses = losses;
         this.winRate = winRate;
     }
+
+    /**
+     * 티어/디비전 서열 (Tier 참고, 언랭이면 null)
+     */
+    public Short getTierOrdinal() {
+        return Tier.toOrdinal(tier, rank);
+    }
 }
 
@@ -0,0 +1,84 @@
+package com.back.matchduo.domain.gameaccount.entity;
+
+import java.util.Locale;
+
+/**
+ * 랭크 티어 (낮은 티어부터 선언 순서)
+ * - 티어/디비전을 정수 서열로 바꿔 모집글(post.writer_tier_ordinal)에 비정규화해 둔다.
+ * - 서열 = 티어 순번 * 4 + 디비전 순번 (IV=0 … I=3), IRON IV=0 … DIAMOND I=27
+ * - 마스터 이상은 디비전이 없으므로 티어 최하 서열 하나만 쓴다. (MASTER=28, GRANDMASTER=32, CHALLENGER=36)
+ */
+public enum Tier {
+    IRON,
+    BRONZE,
+    SILVER,
+    GOLD,
+    PLATINUM,
+    EMERALD,
+    DIAMOND,
+    MASTER,
+    GRANDMASTER,
+    CHALLENGER;
+
+    private static final int DIVISIONS = 4;
+
+    /** 티어 범위 필터 하한 (해당 티어 IV) */
+    public short lowestOrdinal() {
+        return (short) (ordinal() * DIVISIONS);
+    }
+
+    /** 티어 범위 필터 상한 (해당 티어 I) */
+    public short highestOrdinal() {
+        return (short) (ordinal() * DIVISIONS + DIVISIONS - 1);
+    }
+
+    /** 서열이 속한 티어 */
+    public static Tier fromOrdinal(int tierOrdinal) {
+        return values()[tierOrdinal / DIVISIONS];
+    }
+
+    private boolean hasDivision() {
+        return ordinal() < MASTER.ordinal();
+    }
+
+    /**
+     * 요청 파라미터 티어 문자열 변환 (대소문자 무시, 비어 있으면 null)
+     * @throws IllegalArgumentException 알 수 없는 티어
+     */
+    public static Tier from(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Tier.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Rank의 티어/디비전 문자열을 서열로 변환
+     * @param tier "DIAMOND" 등
+     * @param division "I" ~ "IV"
+     * @return 서열, 언랭/알 수 없는 값이면 null
+     */
+    public static Short toOrdinal(String tier, String division) {
+        Tier parsed;
+        try {
+            parsed = from(tier);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (parsed == null) {
+            return null;
+        }
+        if (!parsed.hasDivision()) {
+            return parsed.lowestOrdinal();
+        }
+
+        int divisionIndex = switch (division == null ? "" : division.trim().toUpperCase(Locale.ROOT)) {
+            case "IV" -> 0;
+            case "III" -> 1;
+            case "II" -> 2;
+            case "I" -> 3;
+            default -> -1;
+        };
+        return divisionIndex < 0 ? null : (short) (parsed.lowestOrdinal() + divisionIndex);
+    }
+}
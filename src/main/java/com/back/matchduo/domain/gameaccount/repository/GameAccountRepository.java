@@ -2,7 +2,10 @@ package com.back.matchduo.domain.gameaccount.repository;
 
 import com.back.matchduo.domain.gameaccount.entity.GameAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +26,18 @@ public interface GameAccountRepository extends JpaRepository<GameAccount, Long>
     Optional<GameAccount> findByUser_Id(Long userId);
 
     void deleteAllByUser_Id(Long userId);
+
+    /**
+     * 전적/선호 챔피언 응답의 버전 값 (조건부 요청용)
+     * @param gameAccountId 게임 계정 ID
+     * @return 전적 갱신 시각 + 계정 수정 시각 (puuid 변경 등)
+     */
+    @Query("select ga.matchesRefreshedAt as matchesRefreshedAt, ga.updatedAt as updatedAt " +
+            "from GameAccount ga where ga.gameAccountId = :gameAccountId")
+    Optional<RefreshStamp> findRefreshStampById(@Param("gameAccountId") Long gameAccountId);
+
+    interface RefreshStamp {
+        LocalDateTime getMatchesRefreshedAt();
+        LocalDateTime getUpdatedAt();
+    }
 }
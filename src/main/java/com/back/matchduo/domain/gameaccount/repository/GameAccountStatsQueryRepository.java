@@ -0,0 +1,41 @@
+package com.back.matchduo.domain.gameaccount.repository;
+
+import com.back.matchduo.domain.gameaccount.entity.MatchParticipant;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class GameAccountStatsQueryRepository {
+
+    private final EntityManager em;
+
+    /**
+     * 계정의 큐별 경기 참가 정보를 최신순으로 offset부터 limit개 조회 (계정 단위 LIMIT)
+     * - 정렬: 게임 시작 시각 DESC, 참가자 ID DESC (같은 시각이면 ID로 순서 고정)
+     * - 현재 puuid로 뛴 경기만 (계정 수정 전 기록 제외)
+     */
+    public List<MatchParticipant> findRecentParticipants(
+            Long gameAccountId, String puuid, int queueId, int offset, int limit) {
+        if (limit <= 0) return List.of();
+
+        return em.createQuery(
+                        "SELECT mp FROM MatchParticipant mp " +
+                                "JOIN FETCH mp.match m " +
+                                "WHERE mp.gameAccount.gameAccountId = :gameAccountId " +
+                                "AND mp.puuid = :puuid " +
+                                "AND m.queueId = :queueId " +
+                                "ORDER BY m.gameStartTimestamp DESC, mp.matchParticipantId DESC",
+                        MatchParticipant.class
+                )
+                .setParameter("gameAccountId", gameAccountId)
+                .setParameter("puuid", puuid)
+                .setParameter("queueId", queueId)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.back.matchduo.domain.gameaccount.repository;
+
+import com.back.matchduo.domain.gameaccount.entity.GameAccountStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GameAccountStatsRepository extends JpaRepository<GameAccountStats, Long> {
+
+    /**
+     * 게임 계정의 집계 행 삭제
+     */
+    void deleteByGameAccountId(Long gameAccountId);
+}
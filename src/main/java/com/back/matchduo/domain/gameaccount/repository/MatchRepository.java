@@ -2,9 +2,13 @@ package com.back.matchduo.domain.gameaccount.repository;
 
 import com.back.matchduo.domain.gameaccount.entity.Match;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface MatchRepository extends JpaRepository<Match, Long> {
 
@@ -18,6 +22,14 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
      */
     boolean existsByRiotMatchIdAndGameAccount_GameAccountId(String riotMatchId, Long gameAccountId);
 
+    /**
+     * 이미 저장된 매치 ID 일괄 조회 (전적 갱신 중복 체크, 매치마다 exists 쿼리를 날리지 않음)
+     */
+    @Query("select m.riotMatchId from Match m " +
+            "where m.gameAccount.gameAccountId = :gameAccountId and m.riotMatchId in :riotMatchIds")
+    Set<String> findSavedRiotMatchIds(@Param("gameAccountId") Long gameAccountId,
+                                      @Param("riotMatchIds") Collection<String> riotMatchIds);
+
     /**
      * 매치 ID와 게임 계정 ID로 매치 조회
      */
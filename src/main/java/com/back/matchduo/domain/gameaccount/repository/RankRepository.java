@@ -2,7 +2,10 @@ package com.back.matchduo.domain.gameaccount.repository;
 
 import com.back.matchduo.domain.gameaccount.entity.Rank;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,5 +25,21 @@ public interface RankRepository extends JpaRepository<Rank, Long> {
      * @return 랭크 정보
      */
     Optional<Rank> findByGameAccount_GameAccountIdAndQueueType(Long gameAccountId, String queueType);
+
+    /**
+     * 랭크 조회 응답의 버전 값 (조건부 요청용, 게임 계정이 없으면 empty)
+     * @param gameAccountId 게임 계정 ID
+     * @return 랭크 최종 갱신 시각 + 랭크 행 수
+     */
+    @Query("select max(r.updatedAt) as ranksUpdatedAt, count(r) as rankCount " +
+            "from GameAccount ga left join Rank r on r.gameAccount = ga " +
+            "where ga.gameAccountId = :gameAccountId " +
+            "group by ga.gameAccountId")
+    Optional<RankStamp> findStampByGameAccountId(@Param("gameAccountId") Long gameAccountId);
+
+    interface RankStamp {
+        LocalDateTime getRanksUpdatedAt();
+        Long getRankCount();
+    }
 }
 
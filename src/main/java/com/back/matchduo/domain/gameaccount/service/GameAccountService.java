@@ -14,9 +14,13 @@ import com.back.matchduo.domain.gameaccount.repository.RankRepository;
 import com.back.matchduo.domain.post.repository.PostRepository;
 import com.back.matchduo.domain.user.entity.User;
 import com.back.matchduo.domain.user.repository.UserRepository;
+import com.back.matchduo.global.cache.CacheNames;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -70,6 +74,10 @@ public class GameAccountService {
      * @param userId 인증된 사용자 ID
      * @return 생성된 게임 계정 정보
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.USER_GAME_ACCOUNTS, key = "#userId"),
+            @CacheEvict(cacheNames = CacheNames.OTHER_PROFILE, key = "#userId")
+    })
     public GameAccountResponse createGameAccount(GameAccountCreateRequest request, Long userId) {
         // User 조회
         User user = userRepository.findById(userId)
@@ -150,6 +158,7 @@ public class GameAccountService {
      * @return 게임 계정 정보
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.GAME_ACCOUNT, key = "#gameAccountId", sync = true)
     public GameAccountResponse getGameAccount(Long gameAccountId, Long userId) {
         GameAccount gameAccount = gameAccountRepository.findById(gameAccountId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.GAME_ACCOUNT_NOT_FOUND));
@@ -177,6 +186,7 @@ public class GameAccountService {
      * @return 게임 계정 목록
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.USER_GAME_ACCOUNTS, key = "#userId", sync = true)
     public List<GameAccountResponse> getUserGameAccounts(Long userId) {
 
         return gameAccountRepository.findByUser_Id(userId)
@@ -208,6 +218,10 @@ public class GameAccountService {
      * @param userId 인증된 사용자 ID
      * @return 수정된 게임 계정 정보
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.GAME_ACCOUNT, key = "#gameAccountId"),
+            @CacheEvict(cacheNames = CacheNames.USER_GAME_ACCOUNTS, key = "#userId")
+    })
     public GameAccountResponse updateGameAccount(Long gameAccountId, GameAccountUpdateRequest request, Long userId) {
         GameAccount gameAccount = gameAccountRepository.findById(gameAccountId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.GAME_ACCOUNT_NOT_FOUND));
@@ -290,6 +304,13 @@ public class GameAccountService {
      * @param gameAccountId 게임 계정 ID
      * @param userId 인증된 사용자 ID
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.GAME_ACCOUNT, key = "#gameAccountId"),
+            @CacheEvict(cacheNames = CacheNames.GAME_ACCOUNT_RANKS, key = "#gameAccountId"),
+            @CacheEvict(cacheNames = CacheNames.FAVORITE_CHAMPIONS, key = "#gameAccountId"),
+            @CacheEvict(cacheNames = CacheNames.USER_GAME_ACCOUNTS, key = "#userId"),
+            @CacheEvict(cacheNames = CacheNames.OTHER_PROFILE, key = "#userId")
+    })
     public void deleteGameAccount(Long gameAccountId, Long userId) {
         GameAccount gameAccount = gameAccountRepository.findById(gameAccountId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.GAME_ACCOUNT_NOT_FOUND));
@@ -352,6 +373,10 @@ public class GameAccountService {
      * @param gameAccount 게임 계정
      * @return 갱신된 프로필 아이콘 ID (조회 실패 시 null)
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.GAME_ACCOUNT, key = "#gameAccount.gameAccountId"),
+            @CacheEvict(cacheNames = CacheNames.USER_GAME_ACCOUNTS, key = "#gameAccount.user.id")
+    })
     public Integer refreshProfileIconId(GameAccount gameAccount) {
         Integer profileIconId = fetchProfileIconId(gameAccount.getPuuid(), gameAccount.getGameType());
 
@@ -0,0 +1,126 @@
+package com.back.matchduo.domain.gameaccount.service;
+
+import com.back.matchduo.domain.gameaccount.entity.GameAccount;
+import com.back.matchduo.domain.gameaccount.entity.GameAccountStats;
+import com.back.matchduo.domain.gameaccount.entity.MatchParticipant;
+import com.back.matchduo.domain.gameaccount.repository.GameAccountStatsQueryRepository;
+import com.back.matchduo.domain.gameaccount.repository.GameAccountStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.back.matchduo.domain.gameaccount.entity.GameAccountStats.SOLO_QUEUE_ID;
+import static com.back.matchduo.domain.gameaccount.entity.GameAccountStats.WINDOW_SIZE;
+
+/**
+ * 게임 계정 솔로랭크 집계(game_account_stats) 유지
+ * - 전적 갱신 트랜잭션 안에서 새로 저장된 경기만큼 증분 반영한다.
+ * - 집계 행이 없으면(첫 갱신, 마이그레이션 이전 계정) 최근 WINDOW_SIZE경기로 한 번 만든다.
+ * - 호출자(MatchService) 트랜잭션에 참여한다. 여기서 트랜잭션을 따로 걸면 집계 실패가
+ *   전적 갱신 전체를 rollback-only로 만들기 때문에 두지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameAccountStatsService {
+
+    // 조회 쿼리(GameAccountStatsQueryRepository)와 같은 순서: 최신 경기 먼저, 같은 시각이면 ID 큰 것 먼저
+    private static final Comparator<MatchParticipant> RECENT_FIRST = Comparator
+            .comparing((MatchParticipant mp) -> mp.getMatch().getGameStartTimestamp(), Comparator.reverseOrder())
+            .thenComparing(MatchParticipant::getMatchParticipantId, Comparator.reverseOrder());
+
+    private final GameAccountStatsRepository gameAccountStatsRepository;
+    private final GameAccountStatsQueryRepository gameAccountStatsQueryRepository;
+
+    /**
+     * 새로 저장된 경기 반영 (저장 후 flush된 상태에서 호출)
+     * 새 솔로랭크 경기 k개가 창에 들어오면 기존 창에서 최대 k경기가 밀려나므로, 창 바로 뒤 k행만 읽어 빼준다.
+     * @param gameAccount 게임 계정
+     * @param newParticipants 이번 갱신에서 저장된 참가 정보
+     */
+    public void applyNewMatches(GameAccount gameAccount, List<MatchParticipant> newParticipants) {
+        GameAccountStats stats = gameAccountStatsRepository.findById(gameAccount.getGameAccountId()).orElse(null);
+        if (stats == null) {
+            create(gameAccount);
+            return;
+        }
+
+        String puuid = gameAccount.getPuuid();
+        List<MatchParticipant> newSolo = newParticipants.stream()
+                .filter(mp -> SOLO_QUEUE_ID == mp.getMatch().getQueueId() && puuid.equals(mp.getPuuid()))
+                .toList();
+        if (newSolo.isEmpty()) {
+            return;
+        }
+
+        // 새 경기 저장 후 기준 [WINDOW_SIZE, WINDOW_SIZE + k) 위치의 경기
+        List<MatchParticipant> tail = gameAccountStatsQueryRepository.findRecentParticipants(
+                gameAccount.getGameAccountId(), puuid, SOLO_QUEUE_ID, WINDOW_SIZE, newSolo.size());
+        Set<Long> tailIds = tail.stream()
+                .map(MatchParticipant::getMatchParticipantId)
+                .collect(Collectors.toSet());
+
+        // 들어온 경기: tail에 없고 tail보다 앞선 새 경기 (tail이 k개 미만이면 전체 경기가 창+tail 안에 있다)
+        MatchParticipant tailLast = tail.size() < newSolo.size() ? null : tail.get(tail.size() - 1);
+        int entered = 0;
+        for (MatchParticipant mp : newSolo) {
+            if (!tailIds.contains(mp.getMatchParticipantId())
+                    && (tailLast == null || RECENT_FIRST.compare(mp, tailLast) < 0)) {
+                stats.addSoloGame(mp);
+                entered++;
+            }
+        }
+
+        // 밀려난 경기: tail의 기존 경기 중 새 경기 저장 전 위치가 창 안이었던 것
+        int agedOut = 0;
+        for (int i = 0; i < tail.size(); i++) {
+            MatchParticipant old = tail.get(i);
+            if (newSolo.contains(old)) {
+                continue;
+            }
+            long newAhead = newSolo.stream().filter(mp -> RECENT_FIRST.compare(mp, old) < 0).count();
+            long previousPosition = WINDOW_SIZE + i - newAhead;
+            if (previousPosition < WINDOW_SIZE) {
+                stats.removeSoloGame(old);
+                agedOut++;
+            }
+        }
+
+        log.debug("솔로랭크 집계 반영: gameAccountId={}, 들어온 경기={}, 밀려난 경기={}, 창 경기 수={}",
+                gameAccount.getGameAccountId(), entered, agedOut, stats.getSoloGames());
+    }
+
+    /**
+     * 선호 챔피언 TOP 3 이름 반영
+     * @param gameAccount 게임 계정
+     * @param championNames 순위 순서의 챔피언 이름 (최대 3개)
+     */
+    public void updateFavoriteChampions(GameAccount gameAccount, List<String> championNames) {
+        GameAccountStats stats = gameAccountStatsRepository.findById(gameAccount.getGameAccountId())
+                .orElseGet(() -> create(gameAccount));
+        stats.updateFavoriteChampions(championNames);
+    }
+
+    /**
+     * 게임 계정의 집계 삭제 (매치 정보 삭제 시)
+     * @param gameAccountId 게임 계정 ID
+     */
+    public void deleteByGameAccountId(Long gameAccountId) {
+        gameAccountStatsRepository.deleteByGameAccountId(gameAccountId);
+    }
+
+    private GameAccountStats create(GameAccount gameAccount) {
+        GameAccountStats stats = GameAccountStats.create(gameAccount);
+        gameAccountStatsQueryRepository.findRecentParticipants(
+                gameAccount.getGameAccountId(), gameAccount.getPuuid(), SOLO_QUEUE_ID, 0, WINDOW_SIZE
+        ).forEach(stats::addSoloGame);
+        log.debug("솔로랭크 집계 생성: gameAccountId={}, 창 경기 수={}",
+                gameAccount.getGameAccountId(), stats.getSoloGames());
+        return gameAccountStatsRepository.save(stats);
+    }
+}
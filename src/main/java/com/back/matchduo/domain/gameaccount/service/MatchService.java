@@ -13,12 +13,17 @@ import com.back.matchduo.domain.gameaccount.repository.FavoriteChampionRepositor
 import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
 import com.back.matchduo.domain.gameaccount.repository.MatchParticipantRepository;
 import com.back.matchduo.domain.gameaccount.repository.MatchRepository;
+import com.back.matchduo.global.cache.CacheNames;
+import com.back.matchduo.global.web.ConditionalGetSupport;
+import com.back.matchduo.global.web.EtaggedBody;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +35,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,6 +49,7 @@ public class MatchService {
     private final MatchParticipantRepository matchParticipantRepository;
     private final GameAccountRepository gameAccountRepository;
     private final FavoriteChampionRepository favoriteChampionRepository;
+    private final GameAccountStatsService gameAccountStatsService;
     private final RiotApiClient riotApiClient;
     private final DataDragonService dataDragonService;
     private final ObjectMapper objectMapper;
@@ -58,6 +66,7 @@ public class MatchService {
      * @param count 조회할 매치 개수
      * @return 저장된 매치 정보 목록
      */
+    @CacheEvict(cacheNames = CacheNames.FAVORITE_CHAMPIONS, key = "#gameAccountId")
     public List<MatchResponse> refreshMatchHistory(Long gameAccountId, Long userId, int count) {
         // 게임 계정 조회
         GameAccount gameAccount = gameAccountRepository.findById(gameAccountId)
@@ -84,8 +93,12 @@ public class MatchService {
             return List.of();
         }
 
-        // 각 매치 상세 정보 조회 및 저장
-        int savedCount = 0;
+        // 이미 저장된 매치는 한 번에 조회해서 건너뛴다
+        Set<String> savedMatchIds = matchRepository.findSavedRiotMatchIds(gameAccountId, matchIds);
+
+        // 각 매치 상세 정보 조회 후 모아서 저장 (flush 시점에 배치 INSERT)
+        List<Match> newMatches = new ArrayList<>();
+        List<MatchParticipant> newParticipants = new ArrayList<>();
         for (String matchId : matchIds) {
             try {
                 // 매치 상세 정보 조회
@@ -99,7 +112,7 @@ public class MatchService {
                 }
                 
                 // 중복 체크
-                if (matchRepository.existsByRiotMatchIdAndGameAccount_GameAccountId(matchId, gameAccountId)) {
+                if (savedMatchIds.contains(matchId)) {
                     log.debug("이미 저장된 매치: matchId={}, gameAccountId={}", matchId, gameAccountId);
                     continue;  // 스킵
                 }
@@ -121,7 +134,7 @@ public class MatchService {
                 // 룬 정보 JSON 변환
                 String perksJson = convertPerksToJson(participant.getPerks());
 
-                // Match 엔티티 생성 및 저장
+                // Match 엔티티 생성
                 Match match = Match.builder()
                         .riotMatchId(matchId)
                         .gameAccount(gameAccount)
@@ -130,11 +143,10 @@ public class MatchService {
                         .gameDuration(matchResponse.getInfo().getGameDuration())
                         .win(participant.getWin())
                         .build();
-                Match savedMatch = matchRepository.save(match);
 
-                // MatchParticipant 엔티티 생성 및 저장 (participant의 puuid 저장)
+                // MatchParticipant 엔티티 생성 (participant의 puuid 저장)
                 MatchParticipant matchParticipant = MatchParticipant.builder()
-                        .match(savedMatch)
+                        .match(match)
                         .gameAccount(gameAccount)
                         .championId(participant.getChampionId())
                         .championName(participant.getChampionName())
@@ -156,10 +168,9 @@ public class MatchService {
                         .perks(perksJson)
                         .puuid(participant.getPuuid())  // participant의 puuid 저장
                         .build();
-                matchParticipantRepository.save(matchParticipant);
-
-                savedCount++;
-                log.debug("매치 저장 완료: matchId={}, gameAccountId={}", matchId, gameAccountId);
+                newMatches.add(match);
+                newParticipants.add(matchParticipant);
+                log.debug("매치 저장 대상 추가: matchId={}, gameAccountId={}", matchId, gameAccountId);
             } catch (Exception e) {
                 log.error("매치 저장 실패: matchId={}, gameAccountId={}, error={}", 
                         matchId, gameAccountId, e.getMessage());
@@ -167,12 +178,23 @@ public class MatchService {
             }
         }
 
-        log.info("매치 정보 갱신 완료: gameAccountId={}, 요청자 userId={}, 저장된 매치 개수={}", 
-                gameAccountId, userId, savedCount);
-
         // 매치 데이터를 DB에 반영 (flush) - 같은 트랜잭션 내에서 선호 챔피언 계산을 위해
+        // ID는 id_sequence 블록에서 받으므로 INSERT가 flush까지 미뤄져 테이블당 배치 1번으로 나간다.
+        matchRepository.saveAll(newMatches);
+        matchParticipantRepository.saveAll(newParticipants);
         matchRepository.flush();
-        matchParticipantRepository.flush();
+
+        log.info("매치 정보 갱신 완료: gameAccountId={}, 요청자 userId={}, 저장된 매치 개수={}", 
+                gameAccountId, userId, newMatches.size());
+
+        // 솔로랭크 집계(game_account_stats) 증분 반영 - 모집글 목록/상세는 이 1행만 읽는다
+        // 실패해도 전적 갱신은 성공으로 처리 (다음 갱신 때 다시 반영)
+        try {
+            gameAccountStatsService.applyNewMatches(gameAccount, newParticipants);
+        } catch (Exception e) {
+            log.error("솔로랭크 집계 반영 실패: gameAccountId={}, error={}, exceptionType={}",
+                    gameAccountId, e.getMessage(), e.getClass().getName(), e);
+        }
 
         // 선호 챔피언 TOP 3 계산 및 저장 (같은 트랜잭션에서 실행하여 저장된 매치 데이터를 즉시 사용 가능)
         // 예외 발생 시에도 메인 트랜잭션에 영향을 주지 않도록 try-catch로 처리
@@ -185,6 +207,11 @@ public class MatchService {
             // 선호 챔피언 저장 실패해도 전적 갱신은 성공으로 처리
         }
 
+        // 전적/선호 챔피언 조회 ETag 버전 갱신 (새 매치가 없으면 응답도 같으므로 그대로)
+        if (!newMatches.isEmpty()) {
+            gameAccount.markMatchesRefreshed();
+        }
+
         // 저장된 매치 정보 조회하여 반환
         return getRecentMatches(gameAccountId, userId, count);
     }
@@ -194,6 +221,7 @@ public class MatchService {
      * @param gameAccountId 게임 계정 ID
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.FAVORITE_CHAMPIONS, key = "#gameAccountId")
     public void deleteMatchesByGameAccountId(Long gameAccountId) {
         // MatchParticipant 먼저 삭제 (외래키 제약조건 때문에)
         matchParticipantRepository.deleteByGameAccount_GameAccountId(gameAccountId);
@@ -206,6 +234,65 @@ public class MatchService {
         // 선호 챔피언 삭제
         favoriteChampionRepository.deleteByGameAccount_GameAccountId(gameAccountId);
         log.info("선호 챔피언 정보 삭제 완료: gameAccountId={}", gameAccountId);
+
+        // 솔로랭크 집계 삭제
+        gameAccountStatsService.deleteByGameAccountId(gameAccountId);
+        log.info("솔로랭크 집계 삭제 완료: gameAccountId={}", gameAccountId);
+    }
+
+    /**
+     * 최근 매치 조회 응답의 ETag (계정 1행만 읽는다)
+     * @param gameAccountId 게임 계정 ID
+     * @param count 조회할 매치 개수
+     * @return ETag, 게임 계정이 없으면 empty (본 조회에서 404)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getRecentMatchesEtag(Long gameAccountId, int count) {
+        return recentMatchesEtag(gameAccountId, count);
+    }
+
+    /**
+     * 선호 챔피언 조회 응답의 ETag (계정 1행만 읽는다)
+     * @param gameAccountId 게임 계정 ID
+     * @return ETag, 게임 계정이 없으면 empty (본 조회에서 404)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getFavoriteChampionsEtag(Long gameAccountId) {
+        return favoriteChampionsEtag(gameAccountId);
+    }
+
+    /**
+     * 최근 매치 조회 + 같은 트랜잭션에서 먼저 읽은 ETag (본문이 ETag보다 오래될 수 없음)
+     * @param gameAccountId 게임 계정 ID
+     * @param userId 인증된 사용자 ID (로그용)
+     * @param count 조회할 매치 개수
+     * @return 매치 정보 목록 + ETag
+     */
+    @Transactional(readOnly = true)
+    public EtaggedBody<List<MatchResponse>> getRecentMatchesWithEtag(Long gameAccountId, Long userId, int count) {
+        String etag = recentMatchesEtag(gameAccountId, count)
+                .orElseThrow(() -> new CustomException(CustomErrorCode.GAME_ACCOUNT_NOT_FOUND));
+        return new EtaggedBody<>(etag, getRecentMatches(gameAccountId, userId, count));
+    }
+
+    /**
+     * 선호 챔피언 조회 캐시 무효화 (캐시된 본문의 ETag가 현재 ETag와 다를 때)
+     * @param gameAccountId 게임 계정 ID
+     */
+    @CacheEvict(cacheNames = CacheNames.FAVORITE_CHAMPIONS, key = "#gameAccountId")
+    public void evictFavoriteChampions(Long gameAccountId) {
+    }
+
+    private Optional<String> recentMatchesEtag(Long gameAccountId, int count) {
+        return gameAccountRepository.findRefreshStampById(gameAccountId)
+                .map(stamp -> ConditionalGetSupport.etag("matches", gameAccountId, count,
+                        stamp.getMatchesRefreshedAt(), stamp.getUpdatedAt(), dataDragonService.getLatestVersion()));
+    }
+
+    private Optional<String> favoriteChampionsEtag(Long gameAccountId) {
+        return gameAccountRepository.findRefreshStampById(gameAccountId)
+                .map(stamp -> ConditionalGetSupport.etag("favorite-champions", gameAccountId,
+                        stamp.getMatchesRefreshedAt(), stamp.getUpdatedAt(), dataDragonService.getLatestVersion()));
     }
 
     /**
@@ -265,7 +352,7 @@ public class MatchService {
     /**
      * Match와 MatchParticipant를 MatchResponse로 변환
      */
-    private MatchResponse convertToMatchResponse(Match match, MatchParticipant participant, String version) {
+    MatchResponse convertToMatchResponse(Match match, MatchParticipant participant, String version) {
         // 이미지 URL 생성
         String championImageUrl = getChampionImageUrl(participant.getChampionName(), version);
         String spell1ImageUrl = getSpellImageUrl(participant.getSpell1Id(), version);
@@ -663,6 +750,7 @@ public class MatchService {
             log.debug("선호 챔피언 계산: 매치 데이터가 없습니다. gameAccountId={}", gameAccountId);
             // 기존 데이터 삭제
             favoriteChampionRepository.deleteByGameAccount_GameAccountId(gameAccountId);
+            gameAccountStatsService.updateFavoriteChampions(gameAccount, List.of());
             return;
         }
 
@@ -746,6 +834,11 @@ public class MatchService {
             }
         }
 
+        // 모집글 목록용 집계 행에도 TOP 3 이름 반영
+        gameAccountStatsService.updateFavoriteChampions(gameAccount, sortedStats.stream()
+                .map(stats -> stats.championName)
+                .toList());
+
         log.info("선호 챔피언 계산 및 저장 완료: gameAccountId={}, 저장된 챔피언 수={}", 
                 gameAccountId, sortedStats.size());
     }
@@ -775,14 +868,16 @@ public class MatchService {
 
     /**
      * 선호 챔피언 TOP 3 조회
+     * ETag를 같은 트랜잭션에서 먼저 읽어 본문과 함께 캐시한다. (본문이 ETag보다 오래될 수 없음)
      * @param gameAccountId 게임 계정 ID
      * @param userId 인증된 사용자 ID (로그용)
-     * @return 선호 챔피언 목록
+     * @return 선호 챔피언 목록 + ETag
      */
     @Transactional(readOnly = true)
-    public List<FavoriteChampionResponse> getFavoriteChampions(Long gameAccountId, Long userId) {
-        // 게임 계정 조회
-        GameAccount gameAccount = gameAccountRepository.findById(gameAccountId)
+    @Cacheable(cacheNames = CacheNames.FAVORITE_CHAMPIONS, key = "#gameAccountId", sync = true)
+    public EtaggedBody<List<FavoriteChampionResponse>> getFavoriteChampions(Long gameAccountId, Long userId) {
+        // ETag(버전 값) 먼저, 게임 계정이 없으면 empty
+        String etag = favoriteChampionsEtag(gameAccountId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.GAME_ACCOUNT_NOT_FOUND));
 
         // DB에서 선호 챔피언 조회
@@ -791,14 +886,14 @@ public class MatchService {
 
         if (favoriteChampions.isEmpty()) {
             log.debug("선호 챔피언 데이터가 없습니다: gameAccountId={}", gameAccountId);
-            return List.of();
+            return new EtaggedBody<>(etag, List.of());
         }
 
         // Data Dragon 버전 가져오기
         String version = dataDragonService.getLatestVersion();
 
         // FavoriteChampionResponse로 변환
-        return favoriteChampions.stream()
+        List<FavoriteChampionResponse> responses = favoriteChampions.stream()
                 .map(fc -> {
                     String championImageUrl = getChampionImageUrl(fc.getChampionName(), version);
                     return FavoriteChampionResponse.builder()
@@ -813,6 +908,7 @@ public class MatchService {
                             .build();
                 })
                 .collect(Collectors.toList());
+        return new EtaggedBody<>(etag, responses);
     }
 }
 
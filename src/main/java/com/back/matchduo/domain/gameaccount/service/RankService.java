@@ -5,16 +5,27 @@ import com.back.matchduo.domain.gameaccount.dto.RiotApiDto;
 import com.back.matchduo.domain.gameaccount.dto.response.RankResponse;
 import com.back.matchduo.domain.gameaccount.entity.GameAccount;
 import com.back.matchduo.domain.gameaccount.entity.Rank;
+import com.back.matchduo.domain.gameaccount.entity.Tier;
 import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
 import com.back.matchduo.domain.gameaccount.repository.RankRepository;
+import com.back.matchduo.domain.post.event.PostChangedEvent;
+import com.back.matchduo.domain.post.repository.PostRepository;
+import com.back.matchduo.global.cache.CacheNames;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
+import com.back.matchduo.global.web.ConditionalGetSupport;
+import com.back.matchduo.global.web.EtaggedBody;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,6 +38,8 @@ public class RankService {
     private final GameAccountRepository gameAccountRepository;
     private final RiotApiClient riotApiClient;
     private final GameAccountService gameAccountService;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 승률 계산 (소수점 첫째 자리까지 반올림)
@@ -51,6 +64,7 @@ public class RankService {
      * @param userId 인증된 사용자 ID (로그용)
      * @return 갱신된 랭크 정보 목록
      */
+    @CacheEvict(cacheNames = CacheNames.GAME_ACCOUNT_RANKS, key = "#gameAccountId")
     public List<RankResponse> refreshRankData(Long gameAccountId, Long userId) {
         // 게임 계정 조회
         GameAccount gameAccount = gameAccountRepository.findById(gameAccountId)
@@ -71,8 +85,14 @@ public class RankService {
             throw new CustomException(CustomErrorCode.RANK_FETCH_FAILED);
         }
 
+        // 갱신 전 솔로랭크 (모집글 비정규화 값과 비교용)
+        Optional<Rank> previousSoloRank = rankRepository
+                .findByGameAccount_GameAccountIdAndQueueType(gameAccountId, Rank.SOLO_QUEUE_TYPE);
+        Short previousTierOrdinal = previousSoloRank.map(Rank::getTierOrdinal).orElse(null);
+
         if (rankResponses == null || rankResponses.isEmpty()) {
             log.warn("랭크 정보가 없습니다: gameAccountId={}", gameAccountId);
+            syncPostTierOrdinal(gameAccountId, previousSoloRank, previousTierOrdinal, List.of());
             return List.of();
         }
 
@@ -118,28 +138,85 @@ public class RankService {
         // 프로필 아이콘도 함께 갱신
         gameAccountService.refreshProfileIconId(gameAccount);
 
+        syncPostTierOrdinal(gameAccountId, previousSoloRank, previousTierOrdinal, rankResponses);
+
         log.info("랭크 정보 갱신 완료: gameAccountId={}, 요청자 userId={}, 소유자 userId={}, 갱신된 랭크 개수={}", 
                 gameAccountId, userId, gameAccount.getUser().getId(), savedRanks.size());
         return savedRanks;
     }
 
+    /**
+     * 솔로랭크 티어가 바뀌었으면 이 계정 모집글의 티어 서열도 맞춘다 (목록 티어 필터가 post만 읽음)
+     * - 솔로랭크 항목이 없으면(배치 전/랭크 이탈) null로, 남아 있던 솔로랭크 행은 지운다. (다음 갱신에서 이전 값으로 다시 잡히지 않게)
+     */
+    private void syncPostTierOrdinal(Long gameAccountId, Optional<Rank> previousSoloRank, Short previousTierOrdinal,
+                                     List<RiotApiDto.RankResponse> rankResponses) {
+        Optional<RiotApiDto.RankResponse> soloRank = rankResponses.stream()
+                .filter(riotRank -> Rank.SOLO_QUEUE_TYPE.equals(riotRank.getQueueType()))
+                .findFirst();
+        if (soloRank.isEmpty()) {
+            previousSoloRank.ifPresent(rankRepository::delete);
+        }
+
+        Short tierOrdinal = soloRank
+                .map(riotRank -> Tier.toOrdinal(riotRank.getTier(), riotRank.getRank()))
+                .orElse(null);
+        if (Objects.equals(tierOrdinal, previousTierOrdinal)) {
+            return;
+        }
+
+        int updated = postRepository.updateWriterTierOrdinalByGameAccountId(gameAccountId, tierOrdinal);
+        log.info("모집글 티어 서열 갱신: gameAccountId={}, {} -> {}, 모집글 수={}",
+                gameAccountId, previousTierOrdinal, tierOrdinal, updated);
+        // 매칭 인덱스의 티어 구간도 커밋 후 옮긴다
+        eventPublisher.publishEvent(new PostChangedEvent(
+                postRepository.findRecruitIdsByGameAccountId(gameAccountId)));
+    }
+
     /**
      * 게임 계정의 모든 랭크 정보 조회
      * 누구나 다른 사람의 게임 계정 랭크 정보도 조회할 수 있습니다.
+     * ETag를 같은 트랜잭션에서 먼저 읽어 본문과 함께 캐시한다. (본문이 ETag보다 오래될 수 없음)
      * @param gameAccountId 게임 계정 ID
      * @param userId 인증된 사용자 ID (로그용)
-     * @return 랭크 정보 목록
+     * @return 랭크 정보 목록 + ETag
      */
     @Transactional(readOnly = true)
-    public List<RankResponse> getRanksByGameAccountId(Long gameAccountId, Long userId) {
-        // 게임 계정 조회
-        GameAccount gameAccount = gameAccountRepository.findById(gameAccountId)
+    @Cacheable(cacheNames = CacheNames.GAME_ACCOUNT_RANKS, key = "#gameAccountId", sync = true)
+    public EtaggedBody<List<RankResponse>> getRanksByGameAccountId(Long gameAccountId, Long userId) {
+        // ETag(버전 값) 먼저, 게임 계정이 없으면 empty
+        String etag = ranksEtag(gameAccountId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.GAME_ACCOUNT_NOT_FOUND));
 
         List<Rank> ranks = rankRepository.findByGameAccount_GameAccountId(gameAccountId);
-        return ranks.stream()
+        List<RankResponse> responses = ranks.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
+        return new EtaggedBody<>(etag, responses);
+    }
+
+    /**
+     * 랭크 조회 응답의 ETag (게임 계정 + 랭크 인덱스 조회 1번)
+     * @param gameAccountId 게임 계정 ID
+     * @return ETag, 게임 계정이 없으면 empty (본 조회에서 404)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getRanksEtag(Long gameAccountId) {
+        return ranksEtag(gameAccountId);
+    }
+
+    /**
+     * 랭크 조회 캐시 무효화 (캐시된 본문의 ETag가 현재 ETag와 다를 때)
+     * @param gameAccountId 게임 계정 ID
+     */
+    @CacheEvict(cacheNames = CacheNames.GAME_ACCOUNT_RANKS, key = "#gameAccountId")
+    public void evictRanks(Long gameAccountId) {
+    }
+
+    private Optional<String> ranksEtag(Long gameAccountId) {
+        return rankRepository.findStampByGameAccountId(gameAccountId)
+                .map(stamp -> ConditionalGetSupport.etag("ranks", gameAccountId,
+                        stamp.getRanksUpdatedAt(), stamp.getRankCount()));
     }
 
     /**
@@ -2,6 +2,7 @@ package com.back.matchduo.domain.notification.entity;
 
 import com.back.matchduo.domain.notification.enums.NotificationType;
 import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -20,7 +21,10 @@ import java.time.LocalDateTime;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdSequences.NOTIFICATION)
+    @TableGenerator(name = IdSequences.NOTIFICATION, table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.NOTIFICATION, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "notification_id")
     private Long id;
 
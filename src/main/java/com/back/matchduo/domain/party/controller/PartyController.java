@@ -7,6 +7,7 @@ import com.back.matchduo.global.dto.ApiResponse;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
 import com.back.matchduo.global.security.CustomUserDetails;
+import com.back.matchduo.global.web.ConditionalGetSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -14,8 +15,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -24,20 +27,28 @@ import java.util.List;
 public class PartyController {
 
     private final PartyService partyService;
+    private final ConditionalGetSupport conditionalGetSupport;
 
 
     // 1. 모집글 기준 파티 상세 정보 조회
+    // If-None-Match가 현재 ETag와 같으면 멤버/모집글 조회 없이 304
     @GetMapping("/posts/{postId}/party")
-    @Operation(summary = "파티 상세 조회", description = "모집글에 연결된 파티 정보와 참여 여부를 조회합니다.")
+    @Operation(summary = "파티 상세 조회", description = "모집글에 연결된 파티 정보와 참여 여부를 조회합니다. (ETag 조건부 요청 지원)")
     public ResponseEntity<PartyByPostResponse> getPartyByPost(
             @PathVariable Long postId,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
     ) {
         Long currentUserId = null;
         if (userDetails != null) {
             currentUserId = userDetails.getId();
         }
 
+        Optional<String> etag = partyService.getPartyByPostIdEtag(postId, currentUserId);
+        if (etag.isPresent() && conditionalGetSupport.checkNotModified(webRequest, "party_detail", etag.get())) {
+            return null; // 304 Not Modified
+        }
+
         PartyByPostResponse response = partyService.getPartyByPostId(postId, currentUserId);
         return ResponseEntity.ok(response);
     }
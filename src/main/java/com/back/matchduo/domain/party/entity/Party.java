@@ -31,6 +31,11 @@ public class Party extends BaseEntity {
     @Column(name = "joined_member_count", nullable = false)
     private Integer joinedMemberCount;
 
+    // 낙관적 동시성 모드에서 엔티티 수정 충돌 감지 (벌크 UPDATE도 직접 +1 해야 함)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private PartyStatus status;
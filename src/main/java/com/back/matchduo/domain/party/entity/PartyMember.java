@@ -1,6 +1,7 @@
 package com.back.matchduo.domain.party.entity;
 
 import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -28,7 +29,10 @@ import java.time.LocalDateTime;
 public class PartyMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdSequences.PARTY_MEMBER)
+    @TableGenerator(name = IdSequences.PARTY_MEMBER, table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.PARTY_MEMBER, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "party_member_id")
     private Long id;
 
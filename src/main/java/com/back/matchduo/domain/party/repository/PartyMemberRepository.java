@@ -3,9 +3,11 @@ package com.back.matchduo.domain.party.repository;
 import com.back.matchduo.domain.party.entity.PartyMember;
 import com.back.matchduo.domain.party.entity.PartyMemberState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,5 +55,18 @@ public interface PartyMemberRepository extends JpaRepository<PartyMember, Long>
 
     List<PartyMember> findAllByPartyId(Long partyId);
 
+    // 나갔던 멤버 재참여 (낙관적 동시성 모드, 이미 JOINED인 행은 건너뛰므로 반환값으로 중복 재참여 감지)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE PartyMember pm
+            SET pm.state = :joined, pm.joinedAt = :now, pm.leftAt = null
+            WHERE pm.id IN :memberIds
+              AND pm.state = :left
+            """)
+    int rejoinAllIfLeft(@Param("memberIds") List<Long> memberIds,
+                        @Param("left") PartyMemberState left,
+                        @Param("joined") PartyMemberState joined,
+                        @Param("now") LocalDateTime now);
+
     void deleteAllByUser_Id(Long userId);
 }
\ No newline at end of file
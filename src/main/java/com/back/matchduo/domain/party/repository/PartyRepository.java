@@ -5,6 +5,7 @@ import com.back.matchduo.domain.party.entity.PartyStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -22,9 +23,93 @@ public interface PartyRepository extends JpaRepository<Party, Long> {
     // 용도: 스케줄러가 6시간 지난 파티를 찾아서 자동으로 닫을 때 사용
     List<Party> findByStatusAndExpiresAtBefore(PartyStatus status, LocalDateTime now);
 
+    // 3. 만료된 ACTIVE 파티 ID를 청크 크기만큼 잠그고 조회
+    // 용도: 스케줄러 벌크 종료 (다른 노드가 잡은 행은 SKIP LOCKED로 건너뜀)
+    @Query(value = "SELECT party_id FROM party " +
+            "WHERE status = 'ACTIVE' AND expires_at < :now " +
+            "ORDER BY party_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> findExpiredActiveIdsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 4. 잠근 파티들을 한 번에 CLOSED 처리 (closedAt = expiresAt, expireParty()와 동일한 규칙)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Party p set p.status = :closed, p.closedAt = p.expiresAt, p.updatedAt = :now, " +
+            "p.version = p.version + 1 " +
+            "where p.id in :partyIds and p.status = :active")
+    int expireAllByIds(@Param("partyIds") List<Long> partyIds,
+                       @Param("active") PartyStatus active,
+                       @Param("closed") PartyStatus closed,
+                       @Param("now") LocalDateTime now);
+
+    // 5. 지정한 파티 중 실제로 만료된 ACTIVE 파티만 잠그고 조회
+    // 용도: 타이머 휠이 깨운 파티 종료 (그 사이 연장/해제된 파티는 제외)
+    @Query(value = "SELECT party_id FROM party " +
+            "WHERE party_id IN (:partyIds) AND status = 'ACTIVE' AND expires_at <= :now " +
+            "FOR UPDATE",
+            nativeQuery = true)
+    List<Long> findExpiredActiveIdsInForUpdate(@Param("partyIds") List<Long> partyIds,
+                                               @Param("now") LocalDateTime now);
+
+    // 6. 상태별 파티 만료 시각 조회 (엔티티 로딩 없이 ID/만료 시각만)
+    // 용도: 서버 기동 시 Redis 만료 큐 복구
+    @Query("select p.id as id, p.expiresAt as expiresAt from Party p " +
+            "where p.status = :status and p.expiresAt is not null")
+    List<ExpiryRow> findExpiryRowsByStatus(@Param("status") PartyStatus status);
+
+    // 7. 정원 안에서만 인원 증가 (낙관적 동시성 모드, 0이면 정원 초과 또는 모집 중 아님)
+    @Modifying(flushAutomatically = true)
+    @Query("update Party p set p.joinedMemberCount = p.joinedMemberCount + :count, " +
+            "p.version = p.version + 1, p.updatedAt = :now " +
+            "where p.id = :partyId and p.status = :recruit " +
+            "and p.joinedMemberCount + :count <= p.capacity")
+    int reserveSeats(@Param("partyId") Long partyId,
+                     @Param("count") int count,
+                     @Param("recruit") PartyStatus recruit,
+                     @Param("now") LocalDateTime now);
+
+    // 8. 정원이 찼고 아직 모집 중이면 ACTIVE 전환 (1이면 이 요청이 전환시킨 것)
+    @Modifying
+    @Query("update Party p set p.status = :active, p.expiresAt = :expiresAt, " +
+            "p.version = p.version + 1, p.updatedAt = :now " +
+            "where p.id = :partyId and p.status = :recruit " +
+            "and p.joinedMemberCount >= p.capacity")
+    int activateIfFull(@Param("partyId") Long partyId,
+                       @Param("recruit") PartyStatus recruit,
+                       @Param("active") PartyStatus active,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("now") LocalDateTime now);
+
+    @Query("select p.status from Party p where p.id = :partyId")
+    Optional<PartyStatus> findStatusById(@Param("partyId") Long partyId);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select p from Party p where p.id = :partyId")
     Optional<Party> findByIdForUpdate(@Param("partyId") Long partyId);
 
     void deleteAllByLeaderId(Long leaderId);
+
+    // 파티 ID 묶음의 모집글 ID
+    // 용도: 파티 상태 변경/만료 이벤트로 모집글 매칭 인덱스 갱신
+    @Query("select p.postId from Party p where p.id in :partyIds")
+    List<Long> findPostIdsByIdIn(@Param("partyIds") List<Long> partyIds);
+
+    interface ExpiryRow {
+        Long getId();
+        LocalDateTime getExpiresAt();
+    }
+
+    // 모집글 기준 파티 상세의 버전 값 (파티 갱신 시각/인원/버전 + 모집글 갱신 시각)
+    // 용도: GET /api/v1/posts/{postId}/party 조건부 요청 (ETag 비교 후 같으면 304)
+    @Query("select p.updatedAt as partyUpdatedAt, p.joinedMemberCount as joinedMemberCount, " +
+            "p.version as version, po.updatedAt as postUpdatedAt " +
+            "from Party p join Post po on po.id = p.postId " +
+            "where p.postId = :postId")
+    Optional<PartyStamp> findStampByPostId(@Param("postId") Long postId);
+
+    interface PartyStamp {
+        LocalDateTime getPartyUpdatedAt();
+        Integer getJoinedMemberCount();
+        Long getVersion();
+        LocalDateTime getPostUpdatedAt();
+    }
 }
@@ -0,0 +1,147 @@
+package com.back.matchduo.domain.party.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계층형 타이밍 휠
+ * - 레벨 0은 tickMs 간격의 wheelSize칸, 한 바퀴를 넘는 데드라인은 상위 휠(tick = 하위 휠 한 바퀴)에 올라간다.
+ * - 항목이 들어 있는 버킷만 DelayQueue에 등록되므로, 구동 스레드는 다음 버킷 만료 시점까지만 잠든다. (빈 tick 순회 없음)
+ * - 항목은 데드라인보다 먼저 꺼내지지 않는다. (최대 tickMs 늦게 꺼내짐)
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final Bucket<K>[] buckets;
+    private final DelayQueue<Bucket<K>> queue;
+
+    private long currentTime;
+    private HierarchicalTimingWheel<K> overflowWheel;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this(tickMs, wheelSize, startMs, new DelayQueue<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs, DelayQueue<Bucket<K>> queue) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.queue = queue;
+        this.currentTime = startMs - (startMs % tickMs);
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+    }
+
+    /**
+     * 데드라인 등록
+     * @return false면 이미 만료된 데드라인 (호출자가 바로 처리해야 함)
+     */
+    public synchronized boolean add(K key, long deadlineMs) {
+        // 버킷은 자기 구간의 시작 시각에 꺼내지므로, 한 tick 올려서 넣어야 데드라인보다 일찍 꺼내지지 않는다
+        return addInternal(new Entry<>(key, deadlineMs, deadlineMs + tickMs - 1));
+    }
+
+    /**
+     * 다음 버킷이 만료될 때까지 최대 timeoutMs 대기한 뒤, 데드라인이 지난 항목을 반환
+     * - 상위 휠 버킷이 만료되면 항목을 하위 휠로 내려보내고(cascade) 실제로 만료된 항목만 돌려준다.
+     */
+    public List<Entry<K>> pollExpired(long timeoutMs) throws InterruptedException {
+        Bucket<K> bucket = queue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (bucket == null) {
+            return List.of();
+        }
+
+        List<Entry<K>> expired = new ArrayList<>();
+        synchronized (this) {
+            while (bucket != null) {
+                advanceClock(bucket.getExpiration());
+                for (Entry<K> entry : bucket.drain()) {
+                    if (!addInternal(entry)) {
+                        expired.add(entry);
+                    }
+                }
+                bucket = queue.poll();
+            }
+        }
+        return expired;
+    }
+
+    private boolean addInternal(Entry<K> entry) {
+        if (entry.fireAtMs < currentTime + tickMs) {
+            return false;
+        }
+
+        if (entry.fireAtMs < currentTime + interval) {
+            long virtualId = entry.fireAtMs / tickMs;
+            Bucket<K> bucket = buckets[(int) (virtualId % wheelSize)];
+            bucket.add(entry);
+            if (bucket.setExpiration(virtualId * tickMs)) {
+                queue.offer(bucket);
+            }
+            return true;
+        }
+
+        if (overflowWheel == null) {
+            overflowWheel = new HierarchicalTimingWheel<>(interval, wheelSize, currentTime, queue);
+        }
+        return overflowWheel.addInternal(entry);
+    }
+
+    private void advanceClock(long timeMs) {
+        if (timeMs >= currentTime + tickMs) {
+            currentTime = timeMs - (timeMs % tickMs);
+            if (overflowWheel != null) {
+                overflowWheel.advanceClock(currentTime);
+            }
+        }
+    }
+
+    public record Entry<K>(K key, long deadlineMs, long fireAtMs) {
+    }
+
+    private static final class Bucket<K> implements Delayed {
+
+        private final List<Entry<K>> entries = new ArrayList<>();
+        private volatile long expiration = -1L;
+
+        void add(Entry<K> entry) {
+            entries.add(entry);
+        }
+
+        /** @return 만료 시각이 바뀌었으면 true (DelayQueue에 다시 넣어야 함) */
+        boolean setExpiration(long expirationMs) {
+            boolean changed = expiration != expirationMs;
+            expiration = expirationMs;
+            return changed;
+        }
+
+        long getExpiration() {
+            return expiration;
+        }
+
+        List<Entry<K>> drain() {
+            List<Entry<K>> drained = new ArrayList<>(entries);
+            entries.clear();
+            expiration = -1L;
+            return drained;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiration - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiration, ((Bucket<?>) other).expiration);
+        }
+    }
+}
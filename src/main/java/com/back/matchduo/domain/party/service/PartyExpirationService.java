@@ -0,0 +1,65 @@
+package com.back.matchduo.domain.party.service;
+
+import com.back.matchduo.domain.party.entity.PartyStatus;
+import com.back.matchduo.domain.party.repository.PartyRepository;
+import com.back.matchduo.domain.post.entity.PostStatus;
+import com.back.matchduo.domain.post.repository.PostRepository;
+import com.back.matchduo.domain.review.event.PartiesExpiredEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료 파티 자동 종료 (set-based)
+ * - 청크 1개 = 트랜잭션 1개 = SELECT(ID 잠금) 1번 + UPDATE party 1번 + UPDATE post 1번 + 이벤트 1개
+ * - 엔티티를 로딩하지 않으므로 dirty checking / post N+1이 없다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PartyExpirationService {
+
+    private final PartyRepository partyRepository;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * now 이전에 만료된 ACTIVE 파티를 최대 chunkSize개 종료
+     * @return 이번 청크에서 종료한 파티 수 (chunkSize보다 작으면 남은 대상 없음)
+     */
+    @Transactional
+    public int closeExpiredChunk(LocalDateTime now, int chunkSize) {
+        List<Long> partyIds = partyRepository.findExpiredActiveIdsForUpdate(now, chunkSize);
+        return closeLocked(partyIds, now);
+    }
+
+    /**
+     * 타이머 휠이 만료 시점에 넘겨준 파티 종료
+     * - 전달받은 ID 중 아직 ACTIVE이고 now 기준으로 만료된 파티만 닫는다 (중복/오래된 알림은 무시)
+     * @return 실제로 종료한 파티 수
+     */
+    @Transactional
+    public int closeExpired(List<Long> partyIds, LocalDateTime now) {
+        if (partyIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> lockedIds = partyRepository.findExpiredActiveIdsInForUpdate(partyIds, now);
+        return closeLocked(lockedIds, now);
+    }
+
+    private int closeLocked(List<Long> partyIds, LocalDateTime now) {
+        if (partyIds.isEmpty()) {
+            return 0;
+        }
+
+        partyRepository.expireAllByIds(partyIds, PartyStatus.ACTIVE, PartyStatus.CLOSED, now);
+        postRepository.updateStatusByPartyIds(partyIds, PostStatus.CLOSED);
+
+        eventPublisher.publishEvent(new PartiesExpiredEvent(partyIds));
+
+        return partyIds.size();
+    }
+}
@@ -0,0 +1,101 @@
+package com.back.matchduo.domain.party.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파티 만료 큐 (Redis ZSET, member = partyId, score = expiresAt epoch millis)
+ * - 모든 노드가 같은 ZSET을 바라보고, 만료 처리 권한은 claim()으로 한 노드만 가져간다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PartyExpiryQueue {
+
+    private static final String KEY = "party:expiry";
+
+    // score가 기대한 데드라인과 같을 때만 제거 (그 사이 다시 등록된 파티는 claim 실패)
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if score and tonumber(score) == tonumber(ARGV[2]) then " +
+            "  return redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** 만료 시각 등록/갱신 **/
+    public void schedule(Long partyId, LocalDateTime expiresAt) {
+        schedule(partyId, toEpochMillis(expiresAt));
+    }
+
+    public void schedule(Long partyId, long deadlineMs) {
+        stringRedisTemplate.opsForZSet().add(KEY, partyId.toString(), deadlineMs);
+    }
+
+    /** 여러 파티 일괄 등록 (기동 시 복구용) **/
+    public void scheduleAll(Map<Long, LocalDateTime> expiresAtByPartyId) {
+        if (expiresAtByPartyId.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        expiresAtByPartyId.forEach((partyId, expiresAt) ->
+                tuples.add(ZSetOperations.TypedTuple.of(partyId.toString(), (double) toEpochMillis(expiresAt))));
+        stringRedisTemplate.opsForZSet().add(KEY, tuples);
+    }
+
+    /** 만료 예약 해제 (모집 중으로 복귀, 수동 종료 등) **/
+    public void cancel(Long partyId) {
+        stringRedisTemplate.opsForZSet().remove(KEY, partyId.toString());
+    }
+
+    /**
+     * untilMs 이전에 만료되는 파티 조회 (제거하지 않음)
+     * @return partyId -> 만료 시각(epoch millis), 만료 시각 오름차순
+     */
+    public Map<Long, Long> findDueBefore(long untilMs, long offset, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .rangeByScoreWithScores(KEY, Double.NEGATIVE_INFINITY, untilMs, offset, limit);
+
+        Map<Long, Long> due = new LinkedHashMap<>();
+        if (tuples == null) {
+            return due;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                due.put(Long.valueOf(tuple.getValue()), tuple.getScore().longValue());
+            }
+        }
+        return due;
+    }
+
+    /**
+     * 만료 처리 권한 획득 (원자적으로 ZSET에서 제거)
+     * @return true면 이 노드가 해당 파티를 종료해야 함
+     */
+    public boolean claim(Long partyId, long deadlineMs) {
+        Long removed = stringRedisTemplate.execute(
+                CLAIM_SCRIPT, List.of(KEY), partyId.toString(), Long.toString(deadlineMs));
+        return removed != null && removed > 0;
+    }
+
+    /** ms 미만은 올림 (DB의 expiresAt보다 먼저 깨어나면 종료 조건에 걸리지 않음) **/
+    public static long toEpochMillis(LocalDateTime time) {
+        Instant instant = time.atZone(ZoneId.systemDefault()).toInstant();
+        long millis = instant.toEpochMilli();
+        return instant.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+    }
+}
@@ -0,0 +1,214 @@
+package com.back.matchduo.domain.party.service;
+
+import com.back.matchduo.domain.party.entity.PartyStatus;
+import com.back.matchduo.domain.party.repository.PartyRepository;
+import com.back.matchduo.domain.review.event.PartyStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 타이머 휠 기반 파티 만료
+ * - Redis ZSET(PartyExpiryQueue)이 전체 만료 예약의 원본, 노드마다 가까운 구간(horizon)만 로컬 타이밍 휠에 올린다.
+ * - 휠 스레드는 다음 데드라인까지 잠들었다가 깨어나 claim에 성공한 파티만 종료한다. (여러 노드가 떠도 1번만 종료)
+ * - 서버 기동 시 DB의 ACTIVE 파티로 ZSET을 복구하고, 누락분은 PartyScheduler의 정기 점검이 닫는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.party.expiry.timer-wheel-enabled", havingValue = "true")
+public class PartyExpiryTimer {
+
+    private static final long TICK_MS = 200;
+    private static final int WHEEL_SIZE = 64;
+    private static final int RECOVER_BATCH_SIZE = 1000;
+
+    private final PartyExpiryQueue expiryQueue;
+    private final PartyExpirationService partyExpirationService;
+    private final PartyRepository partyRepository;
+
+    @Value("${custom.party.expiry.horizon-ms:300000}")
+    private long horizonMs;
+
+    @Value("${custom.party.expiry.refill-interval-ms:60000}")
+    private long refillIntervalMs;
+
+    @Value("${custom.party.expiry.refill-batch-size:5000}")
+    private int refillBatchSize;
+
+    // 이 노드의 휠에 올라간 partyId -> 데드라인(epoch millis), 재등록/중복 적재 판별용
+    private final Map<Long, Long> scheduled = new ConcurrentHashMap<>();
+
+    private volatile HierarchicalTimingWheel<Long> wheel;
+    private volatile boolean running;
+    private Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
+        recoverFromDatabase();
+
+        running = true;
+        worker = new Thread(this::runLoop, "party-expiry-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /** 파티 상태 변경 커밋 후 만료 예약 갱신 **/
+    @Async("eventTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePartyStatusChange(PartyStatusChangedEvent event) {
+        Long partyId = event.getPartyId();
+        try {
+            if (event.getNewStatus() != PartyStatus.ACTIVE) {
+                expiryQueue.cancel(partyId);
+                return;
+            }
+
+            partyRepository.findById(partyId)
+                    .filter(party -> party.getStatus() == PartyStatus.ACTIVE && party.getExpiresAt() != null)
+                    .ifPresent(party -> {
+                        long deadlineMs = PartyExpiryQueue.toEpochMillis(party.getExpiresAt());
+                        expiryQueue.schedule(partyId, deadlineMs);
+                        if (!scheduleLocally(partyId, deadlineMs)) {
+                            // 이미 지난 데드라인은 refill과 같이 바로 종료
+                            fire(List.of(new HierarchicalTimingWheel.Entry<>(partyId, deadlineMs, deadlineMs)));
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("파티 만료 예약 갱신 실패: partyId={}, {}", partyId, e.getMessage());
+        }
+    }
+
+    private void recoverFromDatabase() {
+        try {
+            List<PartyRepository.ExpiryRow> rows = partyRepository.findExpiryRowsByStatus(PartyStatus.ACTIVE);
+
+            Map<Long, LocalDateTime> batch = new HashMap<>();
+            for (PartyRepository.ExpiryRow row : rows) {
+                batch.put(row.getId(), row.getExpiresAt());
+                if (batch.size() == RECOVER_BATCH_SIZE) {
+                    expiryQueue.scheduleAll(batch);
+                    batch.clear();
+                }
+            }
+            expiryQueue.scheduleAll(batch);
+
+            log.info("파티 만료 큐 복구 완료: ACTIVE 파티 {}개", rows.size());
+        } catch (Exception e) {
+            log.warn("파티 만료 큐 복구 실패, 정기 점검 스케줄러가 대신 처리합니다: {}", e.getMessage());
+        }
+    }
+
+    private void runLoop() {
+        long nextRefillAt = 0;
+        while (running) {
+            try {
+                long now = System.currentTimeMillis();
+                if (now >= nextRefillAt) {
+                    refill(now);
+                    nextRefillAt = now + refillIntervalMs;
+                }
+
+                // 다음 버킷 만료 또는 다음 refill 시점까지만 대기
+                long timeout = Math.max(1, nextRefillAt - System.currentTimeMillis());
+                fire(wheel.pollExpired(timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("파티 만료 타이머 처리 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /** horizon 안에 만료되는 예약을 Redis에서 읽어 로컬 휠에 적재 (다른 노드가 등록한 예약 포함) **/
+    private void refill(long now) {
+        List<HierarchicalTimingWheel.Entry<Long>> overdue = new ArrayList<>();
+        int offset = 0;
+        Map<Long, Long> page;
+        do {
+            page = expiryQueue.findDueBefore(now + horizonMs, offset, refillBatchSize);
+            page.forEach((partyId, deadlineMs) -> {
+                if (!scheduleLocally(partyId, deadlineMs)) {
+                    overdue.add(new HierarchicalTimingWheel.Entry<>(partyId, deadlineMs, deadlineMs));
+                }
+            });
+            offset += page.size();
+        } while (page.size() == refillBatchSize);
+
+        fire(overdue);
+    }
+
+    /** @return false면 이미 지난 데드라인 (바로 종료 대상) **/
+    private boolean scheduleLocally(Long partyId, long deadlineMs) {
+        HierarchicalTimingWheel<Long> current = wheel;
+        if (current == null || deadlineMs > System.currentTimeMillis() + horizonMs) {
+            return true;
+        }
+        Long prev = scheduled.put(partyId, deadlineMs);
+        if (prev != null && prev == deadlineMs) {
+            return true;
+        }
+        if (current.add(partyId, deadlineMs)) {
+            return true;
+        }
+        // 휠에 못 올렸으면 기록도 지운다 (남아 있으면 다음 refill이 이미 적재된 것으로 보고 건너뜀)
+        scheduled.remove(partyId, deadlineMs);
+        return false;
+    }
+
+    private void fire(List<HierarchicalTimingWheel.Entry<Long>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        List<Long> claimed = new ArrayList<>();
+        Map<Long, Long> claimedDeadlines = new HashMap<>();
+        for (HierarchicalTimingWheel.Entry<Long> entry : entries) {
+            // 그 사이 다른 데드라인으로 재등록된 오래된 항목은 버림
+            scheduled.remove(entry.key(), entry.deadlineMs());
+            if (expiryQueue.claim(entry.key(), entry.deadlineMs())) {
+                claimed.add(entry.key());
+                claimedDeadlines.put(entry.key(), entry.deadlineMs());
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        try {
+            int closed = partyExpirationService.closeExpired(claimed, LocalDateTime.now());
+            if (closed > 0) {
+                log.info("타이머 휠로 만료된 파티 {}개를 종료했습니다.", closed);
+            }
+        } catch (Exception e) {
+            // 종료 실패 시 예약을 되돌려 다음 refill에서 재시도
+            log.warn("만료 파티 종료 실패, 재예약합니다: partyIds={}, {}", claimed, e.getMessage());
+            claimedDeadlines.forEach(expiryQueue::schedule);
+        }
+    }
+}
@@ -1,54 +1,38 @@
 package com.back.matchduo.domain.party.service;
 
 
-import com.back.matchduo.domain.party.entity.Party;
-import com.back.matchduo.domain.party.entity.PartyStatus;
-import com.back.matchduo.domain.party.repository.PartyRepository;
-import com.back.matchduo.domain.post.entity.PostStatus;
-import com.back.matchduo.domain.post.repository.PostRepository;
-import com.back.matchduo.domain.review.event.PartyStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PartyScheduler {
-    private final PartyRepository partyRepository;
-    private final PostRepository postRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final PartyExpirationService partyExpirationService;
 
-    @Scheduled(cron = "0 * * * * *") // 매 분 0초마다 실행 (1분 주기)
-    @Transactional
+    @Value("${custom.party.expire-chunk-size:1000}")
+    private int chunkSize;
+
+    // 타이머 휠(PartyExpiryTimer) 사용 시에는 Redis 유실/노드 장애로 놓친 파티를 닫는 정기 점검 역할
+    @Scheduled(cron = "${custom.party.expiry.sweep-cron:0 * * * * *}") // 기본: 매 분 0초마다 실행 (1분 주기)
     public void autoCloseExpiredParties() {
         LocalDateTime now = LocalDateTime.now();
 
-        // 1. 만료된 파티 조회 (Repository 메서드 활용)
-        List<Party> expiredParties = partyRepository.findByStatusAndExpiresAtBefore(PartyStatus.ACTIVE, now);
-        if (expiredParties.isEmpty()) {
-            return;
-        }
-
-        log.info("자동 종료 대상 파티 {}개를 발견하여 종료 처리합니다.", expiredParties.size());
-
-        // 2. 파티 종료 처리 (Entity 메서드 활용)
-        for (Party party : expiredParties){
-            PartyStatus prevStatus = party.getStatus();
-            party.expireParty(); // 상태를 CLOSED로 변경, closedAt 설정
-
-        postRepository.findById(party.getPostId())
-                .ifPresent(post -> post.updateStatus(PostStatus.CLOSED));
+        // 청크마다 트랜잭션을 끊어서 대량 만료 시에도 긴 트랜잭션/락 점유를 피한다
+        int total = 0;
+        int closed;
+        do {
+            closed = partyExpirationService.closeExpiredChunk(now, chunkSize);
+            total += closed;
+        } while (closed == chunkSize);
 
-            eventPublisher.publishEvent(new PartyStatusChangedEvent(
-                    party.getId(), prevStatus, party.getStatus()
-            ));
+        if (total > 0) {
+            log.info("만료된 파티 {}개를 자동 종료했습니다. (chunkSize={})", total, chunkSize);
         }
     }
 }
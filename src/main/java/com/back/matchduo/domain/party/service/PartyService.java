@@ -12,10 +12,15 @@ import com.back.matchduo.domain.post.repository.PostRepository;
 import com.back.matchduo.domain.review.event.PartyStatusChangedEvent;
 import com.back.matchduo.domain.user.entity.User;
 import com.back.matchduo.domain.user.repository.UserRepository;
+import com.back.matchduo.global.aop.OptimisticRetry;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
+import com.back.matchduo.global.web.ConditionalGetSupport;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +28,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -37,6 +43,21 @@ public class PartyService {
     private final PostRepository postRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    // pessimistic: 파티 행 SELECT ... FOR UPDATE로 직렬화 (기본)
+    // optimistic: 잠금 없이 읽고, 인원은 조건부 UPDATE / 나머지는 @Version 충돌 시 재시도
+    @Value("${custom.party.concurrency-mode:pessimistic}")
+    private String concurrencyMode;
+
+    // 모집글 기준 파티 상세 응답의 ETag (파티+모집글 버전 값 1번 조회)
+    // 참여 여부(isJoined)가 사용자마다 다르므로 사용자 ID도 포함, 파티가 없으면 empty (본 조회에서 404)
+    public Optional<String> getPartyByPostIdEtag(Long postId, Long currentUserId) {
+        return partyRepository.findStampByPostId(postId)
+                .map(stamp -> ConditionalGetSupport.etag("party", postId, currentUserId,
+                        stamp.getPartyUpdatedAt(), stamp.getJoinedMemberCount(), stamp.getVersion(),
+                        stamp.getPostUpdatedAt()));
+    }
 
     public PartyByPostResponse getPartyByPostId(Long postId, Long currentUserId) {
         // 1. 파티 정보 조회
@@ -110,10 +131,10 @@ public class PartyService {
     }
 
     // 파티원 추가
+    @OptimisticRetry
     @Transactional
     public List<PartyMemberAddResponse> addMembers(Long partyId, Long currentUserId, PartyMemberAddRequest request) {
-        Party party = partyRepository.findByIdForUpdate(partyId)
-                .orElseThrow(() -> new CustomException(CustomErrorCode.PARTY_NOT_FOUND));
+        Party party = findPartyForWrite(partyId);
 
         if (!party.getLeaderId().equals(currentUserId)) {
             throw new CustomException(CustomErrorCode.NOT_PARTY_LEADER);
@@ -150,8 +171,20 @@ public class PartyService {
                 .filter(userId -> !existingByUserId.containsKey(userId))
                 .toList();
 
-        for (PartyMember existingMember : existingMembers) {
-            existingMember.rejoinParty();
+        if (isOptimistic() && !existingMembers.isEmpty()) {
+            // 같은 유저를 동시에 재참여시키는 요청은 한쪽만 통과
+            List<Long> memberIds = existingMembers.stream().map(PartyMember::getId).toList();
+            int rejoined = partyMemberRepository.rejoinAllIfLeft(
+                    memberIds, PartyMemberState.LEFT, PartyMemberState.JOINED, LocalDateTime.now());
+            if (rejoined != memberIds.size()) {
+                throw new CustomException(CustomErrorCode.PARTY_ALREADY_JOINED);
+            }
+            // 벌크 UPDATE로 이미 재참여 처리됨, 응답용으로 영속 상태만 DB 값으로 맞춤 (flush 때 같은 UPDATE를 또 내지 않게)
+            existingMembers.forEach(entityManager::refresh);
+        } else {
+            for (PartyMember existingMember : existingMembers) {
+                existingMember.rejoinParty();
+            }
         }
 
         int rejoinCount = existingMembers.size();
@@ -167,7 +200,12 @@ public class PartyService {
         }
 
         if (!newMembers.isEmpty()) {
-            partyMemberRepository.saveAll(newMembers);
+            try {
+                partyMemberRepository.saveAll(newMembers);
+            } catch (DataIntegrityViolationException e) {
+                // 낙관적 모드에서 같은 유저를 동시에 추가한 경우 (uk_party_member_user)
+                throw new CustomException(CustomErrorCode.PARTY_ALREADY_JOINED, e);
+            }
         }
 
         Map<Long, PartyMember> newMemberByUserId = newMembers.stream()
@@ -179,6 +217,11 @@ public class PartyService {
             responses.add(createAddResponse(member, userById.get(targetUserId)));
         }
 
+        if (isOptimistic()) {
+            reserveSeatsAndActivate(party, additionalCount);
+            return responses;
+        }
+
         party.increaseJoinedMemberCount(additionalCount);
 
         if (party.isFull()) {
@@ -197,6 +240,40 @@ public class PartyService {
         return responses;
     }
 
+    // 낙관적 모드: 정원 검사와 증가를 UPDATE 한 번으로 처리 (트랜잭션 마지막에 실행해 행 잠금 시간을 최소화)
+    private void reserveSeatsAndActivate(Party party, int additionalCount) {
+        LocalDateTime now = LocalDateTime.now();
+        int reserved = partyRepository.reserveSeats(party.getId(), additionalCount, PartyStatus.RECRUIT, now);
+        if (reserved == 0) {
+            // 그 사이 다른 요청이 정원을 채웠거나 파티가 닫힘
+            PartyStatus latestStatus = partyRepository.findStatusById(party.getId())
+                    .orElseThrow(() -> new CustomException(CustomErrorCode.PARTY_NOT_FOUND));
+            throw new CustomException(latestStatus == PartyStatus.RECRUIT
+                    ? CustomErrorCode.PARTY_IS_FULL
+                    : CustomErrorCode.PARTY_ALREADY_CLOSED);
+        }
+
+        int activated = partyRepository.activateIfFull(
+                party.getId(), PartyStatus.RECRUIT, PartyStatus.ACTIVE, now.plusHours(6), now);
+        if (activated == 1) {
+            eventPublisher.publishEvent(new PartyStatusChangedEvent(
+                    party.getId(), PartyStatus.RECRUIT, PartyStatus.ACTIVE
+            ));
+            postRepository.updateStatusById(party.getPostId(), PostStatus.ACTIVE);
+        }
+    }
+
+    private Party findPartyForWrite(Long partyId) {
+        return (isOptimistic()
+                ? partyRepository.findById(partyId)
+                : partyRepository.findByIdForUpdate(partyId))
+                .orElseThrow(() -> new CustomException(CustomErrorCode.PARTY_NOT_FOUND));
+    }
+
+    private boolean isOptimistic() {
+        return "optimistic".equalsIgnoreCase(concurrencyMode);
+    }
+
     private PartyMemberAddResponse createAddResponse(PartyMember member, User user) {
         String nickname = user.getNickname();
         String profileImage = user.getProfileImage();
@@ -205,10 +282,10 @@ public class PartyService {
 
 
     // 파티원 제외 (강퇴)
+    @OptimisticRetry
     @Transactional
     public PartyMemberRemoveResponse removeMember(Long partyId, Long partyMemberId, Long currentUserId) {
-        Party party = partyRepository.findByIdForUpdate(partyId)
-                .orElseThrow(() -> new CustomException(CustomErrorCode.PARTY_NOT_FOUND));
+        Party party = findPartyForWrite(partyId);
 
         if (!party.getLeaderId().equals(currentUserId)) {
             throw new CustomException(CustomErrorCode.NOT_PARTY_LEADER);
@@ -331,10 +408,10 @@ public class PartyService {
     }
 
     // 파티 상태 수동 종료
+    @OptimisticRetry
     @Transactional
     public PartyCloseResponse closeParty(Long partyId, Long currentUserId) {
-        Party party = partyRepository.findByIdForUpdate(partyId)
-                .orElseThrow(() -> new CustomException(CustomErrorCode.PARTY_NOT_FOUND));
+        Party party = findPartyForWrite(partyId);
 
         if (!party.getLeaderId().equals(currentUserId)) {
             throw new CustomException(CustomErrorCode.NOT_PARTY_LEADER);
@@ -363,11 +440,11 @@ public class PartyService {
 
 
     // 파티원 스스로 탈퇴
+    @OptimisticRetry
     @Transactional
     public PartyMemberLeaveResponse leaveParty(Long partyId, Long currentUserId) {
         // 1. 파티 조회
-        Party party = partyRepository.findByIdForUpdate(partyId)
-                .orElseThrow(() -> new CustomException(CustomErrorCode.PARTY_NOT_FOUND));
+        Party party = findPartyForWrite(partyId);
 
         // 2. 파티장은 탈퇴 불가 (파티 종료를 이용해야 함)
         if (party.getLeaderId().equals(currentUserId)) {
@@ -6,17 +6,24 @@ import com.back.matchduo.domain.post.dto.request.PostUpdateRequest;
 import com.back.matchduo.domain.post.dto.response.PostCreateResponse;
 import com.back.matchduo.domain.post.dto.response.PostDeleteResponse;
 import com.back.matchduo.domain.post.dto.response.PostListResponse;
+import com.back.matchduo.domain.post.dto.response.PostRecommendationResponse;
 import com.back.matchduo.domain.post.dto.response.PostStatusUpdateResponse;
 import com.back.matchduo.domain.post.dto.response.PostUpdateResponse;
 import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Position;
 import com.back.matchduo.domain.post.entity.PostStatus;
 import com.back.matchduo.domain.post.entity.QueueType;
 import com.back.matchduo.domain.post.service.PostService;
 import com.back.matchduo.global.security.AuthPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -38,17 +45,25 @@ public class PostController {
     }
 
     // 모집글 목록 조회 (Cursor 기반 무한 스크롤)
-    // 추가 필터: myPositions=TOP,JUNGLE (CSV), tier=DIAMOND (단일)
-    @GetMapping
+    // 추가 필터: myPositions=TOP,JUNGLE (CSV), lookingFor=MID (내 포지션을 구하는 글, ANY 구인 글 포함), tier=DIAMOND (단일),
+    // minTier=GOLD&maxTier=DIAMOND (작성 계정 솔로랭크 기준 범위, 양끝 티어 포함)
+    // 응답은 미리 직렬화된 JSON 바이트 (첫 페이지 마이크로 캐시, PostService.getPostListJson)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "모집글 목록 조회", description = "필터링 조건에 따라 모집글 목록을 커서 기반 페이징으로 조회합니다.")
-    public PostListResponse getPostList(
+    @ApiResponse(responseCode = "200", content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = PostListResponse.class)))
+    public ResponseEntity<byte[]> getPostList(
             @RequestParam(required = false) Long cursor,
             @RequestParam(required = false) Integer size,
             @RequestParam(required = false) PostStatus status,
             @RequestParam(required = false) QueueType queueType,
             @RequestParam(required = false)GameMode gameMode,
             @RequestParam(required = false) String myPositions,
-            @RequestParam(required = false) String tier
+            @RequestParam(required = false) Position lookingFor,
+            @RequestParam(required = false) String tier,
+            @RequestParam(required = false) String minTier,
+            @RequestParam(required = false) String maxTier
     ) {
         Long currentUserId = null;
         try {
@@ -57,7 +72,33 @@ public class PostController {
             // 비로그인 허용
         }
 
-        return postService.getPostList(cursor, size, status, queueType, gameMode, myPositions, tier, currentUserId);
+        byte[] body = postService.getPostListJson(
+                cursor, size, status, queueType, gameMode, myPositions, lookingFor, tier, minTier, maxTier, currentUserId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // 추천 모집글 조회 (모집 중 글 매칭 인덱스, DB 조회 없음)
+    // myPosition=JUNGLE (이 포지션 또는 ANY를 구하는 글), tier=GOLD&tierRange=1 (SILVER~PLATINUM), mic=true
+    @GetMapping("/recommended")
+    @Operation(summary = "추천 모집글 조회", description = "내 큐/포지션/티어/마이크 조건에 맞는 모집 중 글을 최신순으로 조회합니다.")
+    public PostRecommendationResponse getRecommendedPosts(
+            @RequestParam(required = false) QueueType queueType,
+            @RequestParam(required = false) Position myPosition,
+            @RequestParam(required = false) String tier,
+            @RequestParam(required = false) Integer tierRange,
+            @RequestParam(required = false) Boolean mic,
+            @RequestParam(required = false) Integer size
+    ) {
+        Long currentUserId = null;
+        try {
+            currentUserId = AuthPrincipal.getUserId();
+        } catch (Exception ignored) {
+            // 비로그인 허용
+        }
+
+        return postService.getRecommendedPosts(queueType, myPosition, tier, tierRange, mic, size, currentUserId);
     }
 
     // 모집글 수정 (작성자만)
@@ -0,0 +1,39 @@
+package com.back.matchduo.domain.post.dto.response;
+
+import com.back.matchduo.domain.gameaccount.entity.Tier;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.QueueType;
+import com.back.matchduo.domain.post.service.PostMatchEntry;
+
+import java.util.List;
+
+// 추천 모집글: 매칭 인덱스 값만으로 조립 (작성자/참여자 상세는 GET /api/v1/posts/{postId})
+public record PostRecommendationResponse(
+        List<PostDto> posts
+) {
+    public record PostDto(
+            Long postId,
+            Long writerId,
+            String gameMode,
+            QueueType queueType,
+            Position myPosition,
+            List<Position> lookingPositions,
+            Boolean mic,
+            Integer recruitCount,
+            String writerTier       // 작성 계정 솔로랭크 티어, 언랭이면 null
+    ) {
+        public static PostDto from(PostMatchEntry entry) {
+            return new PostDto(
+                    entry.postId(),
+                    entry.writerId(),
+                    entry.gameMode().name(),
+                    entry.queueType(),
+                    entry.myPosition(),
+                    List.copyOf(entry.lookingPositions()),
+                    entry.mic(),
+                    entry.recruitCount(),
+                    entry.writerTierOrdinal() == null ? null : Tier.fromOrdinal(entry.writerTierOrdinal()).name()
+            );
+        }
+    }
+}
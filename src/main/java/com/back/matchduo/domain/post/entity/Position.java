@@ -1,10 +1,63 @@
 package com.back.matchduo.domain.post.entity;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 포지션
+ * - bit: post.looking_positions(SMALLINT) 비트마스크 값. DB에 저장되므로 기존 값은 바꾸지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
 public enum Position {
-    ANY,       // 상관없음
-    TOP,       // 탑
-    JUNGLE,    // 정글
-    MID,       // 미드
-    ADC,       // 원딜
-    SUPPORT    // 서포터
+    ANY(1),            // 상관없음
+    TOP(1 << 1),       // 탑
+    JUNGLE(1 << 2),    // 정글
+    MID(1 << 3),       // 미드
+    ADC(1 << 4),       // 원딜
+    SUPPORT(1 << 5);   // 서포터
+
+    private final int bit;
+
+    // 모든 포지션 비트를 켠 값 (가능한 마스크 범위)
+    private static final int ALL_BITS = (1 << values().length) - 1;
+
+    public static short toMask(Collection<Position> positions) {
+        int mask = 0;
+        for (Position position : positions) {
+            mask |= position.bit;
+        }
+        return (short) mask;
+    }
+
+    public static Set<Position> fromMask(int mask) {
+        Set<Position> positions = EnumSet.noneOf(Position.class);
+        for (Position position : values()) {
+            if ((mask & position.bit) != 0) {
+                positions.add(position);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * "이 포지션을 구하는 글" 마스크 목록: target 비트 또는 ANY 비트가 켜진 모든 값
+     * (mask & bits) <> 0 조건을 인덱스로 찾을 수 있도록 IN 목록으로 펼친다. (포지션 6개 → 최대 48개)
+     */
+    public static List<Short> masksLookingFor(Position target) {
+        int bits = target.bit | ANY.bit;
+        List<Short> masks = new ArrayList<>();
+        for (int mask = 1; mask <= ALL_BITS; mask++) {
+            if ((mask & bits) != 0) {
+                masks.add((short) mask);
+            }
+        }
+        return masks;
+    }
 }
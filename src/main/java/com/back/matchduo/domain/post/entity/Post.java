@@ -9,10 +9,19 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "post")
+@Table(
+        name = "post",
+        indexes = {
+                @Index(name = "idx_post_looking_positions", columnList = "looking_positions, post_id"),
+                @Index(name = "idx_post_writer_tier", columnList = "writer_tier_ordinal, post_id")
+        }
+)
 public class Post extends SoftDeletableEntity {
 
     @Id
@@ -44,8 +53,14 @@ public class Post extends SoftDeletableEntity {
     @Column(name = "my_position", nullable = false, length = 20)
     private Position myPosition;
 
-    @Column(name = "looking_positions", columnDefinition = "JSON", nullable = false)
-    private String lookingPositions;
+    // 구하는 포지션 비트마스크 (Position.bit 합), 조회는 getLookingPositions()
+    @Getter(AccessLevel.NONE)
+    @Column(name = "looking_positions", columnDefinition = "SMALLINT", nullable = false)
+    private Short lookingPositionMask;
+
+    // 작성 계정 솔로랭크 티어 서열 (Tier.toOrdinal, 언랭이면 null), 랭크 갱신 시 RankService가 맞춰 둔다
+    @Column(name = "writer_tier_ordinal", columnDefinition = "SMALLINT")
+    private Short writerTierOrdinal;
 
     @Column(nullable = false)
     private Boolean mic;
@@ -58,26 +73,26 @@ public class Post extends SoftDeletableEntity {
 
     @Builder
     public Post(User user, GameAccount gameAccount,GameMode gameMode, QueueType queueType, Position myPosition,
-                String lookingPositions, Boolean mic, Integer recruitCount, String memo) {
+                Collection<Position> lookingPositions, Boolean mic, Integer recruitCount, String memo) {
         this.user = user;
         this.gameAccount = gameAccount;
         this.gameMode = gameMode;
         this.queueType = queueType;
         this.myPosition = myPosition;
-        this.lookingPositions = lookingPositions;
+        this.lookingPositionMask = lookingPositions == null ? null : Position.toMask(lookingPositions);
         this.mic = mic;
         this.recruitCount = recruitCount;
         this.memo = memo;
         this.status = PostStatus.RECRUIT;
     }
 
-    public void update(Position myPosition, String lookingPositions, QueueType queueType,
+    public void update(Position myPosition, Collection<Position> lookingPositions, QueueType queueType,
                        Boolean mic, Integer recruitCount, String memo) {
         if (myPosition != null) {
             this.myPosition = myPosition;
         }
         if (lookingPositions != null) {
-            this.lookingPositions = lookingPositions;
+            this.lookingPositionMask = Position.toMask(lookingPositions);
         }
         if (queueType != null) {
             this.queueType = queueType;
@@ -93,6 +108,14 @@ public class Post extends SoftDeletableEntity {
         }
     }
 
+    public Set<Position> getLookingPositions() {
+        return Position.fromMask(lookingPositionMask);
+    }
+
+    public void updateWriterTierOrdinal(Short writerTierOrdinal) {
+        this.writerTierOrdinal = writerTierOrdinal;
+    }
+
     public void updateStatus(PostStatus status) {
         this.status = status;
     }
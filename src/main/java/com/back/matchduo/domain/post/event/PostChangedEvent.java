@@ -0,0 +1,20 @@
+package com.back.matchduo.domain.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 모집글 생성/수정/상태 변경/삭제 (커밋 후 매칭 인덱스가 해당 글을 다시 읽는다)
+ * - 파티 상태 변경은 PartyStatusChangedEvent, 스케줄러 만료는 PartiesExpiredEvent로 따로 받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+    private List<Long> postIds;
+
+    public static PostChangedEvent of(Long postId) {
+        return new PostChangedEvent(List.of(postId));
+    }
+}
@@ -1,8 +1,7 @@
 package com.back.matchduo.domain.post.repository;
 
-import com.back.matchduo.domain.gameaccount.entity.FavoriteChampion;
 import com.back.matchduo.domain.gameaccount.entity.GameAccount;
-import com.back.matchduo.domain.gameaccount.entity.MatchParticipant;
+import com.back.matchduo.domain.gameaccount.entity.GameAccountStats;
 import com.back.matchduo.domain.gameaccount.entity.Rank;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
@@ -43,31 +42,13 @@ public class PostGameAccountQueryRepository {
                 .getResultList();
     }
 
-    public List<MatchParticipant> findRecentSoloRankMatchParticipantsByGameAccountIds(
-            List<Long> gameAccountIds, int limit) {
+    public List<GameAccountStats> findStatsByGameAccountIds(List<Long> gameAccountIds) {
         if (gameAccountIds == null || gameAccountIds.isEmpty()) return List.of();
 
         return em.createQuery(
-                        "SELECT mp FROM MatchParticipant mp " +
-                                "JOIN FETCH mp.match m " +
-                                "WHERE mp.gameAccount.gameAccountId IN :ids " +
-                                "AND m.queueId = 420 " +
-                                "ORDER BY m.gameStartTimestamp DESC",
-                        MatchParticipant.class
-                )
-                .setParameter("ids", gameAccountIds)
-                .setMaxResults(gameAccountIds.size() * limit)
-                .getResultList();
-    }
-
-    public List<FavoriteChampion> findFavoriteChampionsByGameAccountIds(List<Long> gameAccountIds) {
-        if (gameAccountIds == null || gameAccountIds.isEmpty()) return List.of();
-
-        return em.createQuery(
-                        "SELECT fc FROM FavoriteChampion fc " +
-                                "WHERE fc.gameAccount.gameAccountId IN :ids " +
-                                "ORDER BY fc.gameAccount.gameAccountId ASC, fc.rank ASC",
-                        FavoriteChampion.class
+                        "SELECT s FROM GameAccountStats s " +
+                                "WHERE s.gameAccountId IN :ids",
+                        GameAccountStats.class
                 )
                 .setParameter("ids", gameAccountIds)
                 .getResultList();
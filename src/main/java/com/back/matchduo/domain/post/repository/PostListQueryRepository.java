@@ -15,7 +15,7 @@ public class PostListQueryRepository {
 
     private final EntityManager em;
 
-    // 목록 조회: 필터 + cursor + FINISHED 제외 + 벤 필터링
+    // 목록 조회: 필터 + cursor + FINISHED 제외 (벤 필터링은 PostListFacade에서 메모리로 처리)
     public List<Post> findPosts(
             Long cursor,
             int limitPlusOne,
@@ -23,19 +23,14 @@ public class PostListQueryRepository {
             QueueType queueType,
             GameMode gameMode,
             List<Position> myPositions, // enum list
-            String tier,                // "DIAMOND" 등
-            List<Long> bannedUserIds    // 벤된 유저 ID 목록 (null이거나 빈 리스트면 필터링 안 함)
+            Position lookingFor,        // 내 포지션을 구하는 글만 (null/ANY면 미적용)
+            Short minTierOrdinal,       // 작성 계정 솔로랭크 티어 서열 하한 (Tier, 포함)
+            Short maxTierOrdinal        // 상한 (포함)
     ) {
         StringBuilder jpql = new StringBuilder();
-        jpql.append("SELECT DISTINCT p FROM Post p ");
+        jpql.append("SELECT p FROM Post p ");
         jpql.append("JOIN FETCH p.user u ");
 
-        // tier 필터가 있으면 GameAccount/Rank join
-        if (tier != null && !tier.isBlank()) {
-            jpql.append("JOIN GameAccount ga ON ga.user = u ");
-            jpql.append("JOIN Rank r ON r.gameAccount = ga ");
-        }
-
         jpql.append("WHERE p.isActive = true ");
         jpql.append("AND p.status <> :finished ");
 
@@ -49,7 +44,7 @@ public class PostListQueryRepository {
             jpql.append("AND p.queueType = :queueType ");
         }
         if (gameMode != null) {
-            jpql.append("AND gm.id = :gameModeId ");
+            jpql.append("AND p.gameMode = :gameMode ");
         }
 
         // myPositions 필터: ANY 포함되면 적용 안 함
@@ -57,16 +52,18 @@ public class PostListQueryRepository {
             jpql.append("AND p.myPosition IN :myPositions ");
         }
 
-        // tier 필터 : 게임모드/큐타입 상관없이 "솔로랭크(RANKED_SOLO_5x5)" 기준으로만 tier 체크
-        if (tier != null && !tier.isBlank()) {
-            jpql.append("AND ga.gameType = :lolType ");
-            jpql.append("AND r.queueType = :soloQueueType ");
-            jpql.append("AND r.tier = :tier ");
+        // lookingFor 필터: (looking_positions & (lookingFor | ANY)) <> 0 을 해당 마스크 IN 목록으로 (인덱스 range 조회)
+        boolean filterLookingFor = lookingFor != null && lookingFor != Position.ANY;
+        if (filterLookingFor) {
+            jpql.append("AND p.lookingPositionMask IN :lookingMasks ");
         }
 
-        // 벤 필터링: 벤된 유저의 모집글 제외 (빈 리스트면 조건 추가 안 함)
-        if (bannedUserIds != null && !bannedUserIds.isEmpty()) {
-            jpql.append("AND u.id NOT IN :bannedUserIds ");
+        // tier 필터 : 게임모드/큐타입 상관없이 작성 계정 솔로랭크 기준, post에 비정규화된 서열로 range 조회 (join 없음)
+        if (minTierOrdinal != null) {
+            jpql.append("AND p.writerTierOrdinal >= :minTierOrdinal ");
+        }
+        if (maxTierOrdinal != null) {
+            jpql.append("AND p.writerTierOrdinal <= :maxTierOrdinal ");
         }
 
         jpql.append("ORDER BY p.id DESC");
@@ -82,16 +79,12 @@ public class PostListQueryRepository {
         if (myPositions != null && !myPositions.isEmpty()) {
             query.setParameter("myPositions", myPositions);
         }
-
-        if (tier != null && !tier.isBlank()) {
-            query.setParameter("lolType", "LEAGUE_OF_LEGENDS");
-            query.setParameter("soloQueueType", "RANKED_SOLO_5x5");
-            query.setParameter("tier", tier);
+        if (filterLookingFor) {
+            query.setParameter("lookingMasks", Position.masksLookingFor(lookingFor));
         }
 
-        if (bannedUserIds != null && !bannedUserIds.isEmpty()) {
-            query.setParameter("bannedUserIds", bannedUserIds);
-        }
+        if (minTierOrdinal != null) query.setParameter("minTierOrdinal", minTierOrdinal);
+        if (maxTierOrdinal != null) query.setParameter("maxTierOrdinal", maxTierOrdinal);
 
         query.setMaxResults(limitPlusOne);
         return query.getResultList();
@@ -1,7 +1,11 @@
 package com.back.matchduo.domain.post.repository;
 
+import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Position;
 import com.back.matchduo.domain.post.entity.Post;
 import com.back.matchduo.domain.post.entity.PostStatus;
+import com.back.matchduo.domain.post.entity.QueueType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -27,5 +31,51 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("update Post p set p.status = :status where p.id = :postId")
     int updateStatusById(@Param("postId") Long postId, @Param("status") PostStatus status);
 
+    // 파티 ID 묶음에 연결된 모집글 상태 일괄 변경 (스케줄러 벌크 종료용)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Post p set p.status = :status " +
+            "where p.id in (select pa.postId from Party pa where pa.id in :partyIds)")
+    int updateStatusByPartyIds(@Param("partyIds") List<Long> partyIds, @Param("status") PostStatus status);
+
+    // 작성 계정의 솔로랭크 티어가 바뀌면 그 계정 모집글의 티어 서열 일괄 갱신 (랭크 갱신용)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Post p set p.writerTierOrdinal = :tierOrdinal " +
+            "where p.gameAccount.gameAccountId = :gameAccountId")
+    int updateWriterTierOrdinalByGameAccountId(@Param("gameAccountId") Long gameAccountId,
+                                               @Param("tierOrdinal") Short tierOrdinal);
+
+    // 작성 계정의 모집 중 글 ID (티어 변경 시 매칭 인덱스 갱신용)
+    @Query("select p.id from Post p where p.gameAccount.gameAccountId = :gameAccountId " +
+            "and p.isActive = true and p.status = 'RECRUIT'")
+    List<Long> findRecruitIdsByGameAccountId(@Param("gameAccountId") Long gameAccountId);
+
+    // 매칭 인덱스 전체 재구성: 상태별 글 요약을 postId 순 keyset으로 나눠 조회 (엔티티 로딩 없음)
+    @Query("select p.id as id, p.user.id as writerId, p.gameMode as gameMode, p.queueType as queueType, " +
+            "p.myPosition as myPosition, p.lookingPositionMask as lookingPositionMask, p.mic as mic, " +
+            "p.recruitCount as recruitCount, p.writerTierOrdinal as writerTierOrdinal " +
+            "from Post p where p.isActive = true and p.status = :status and p.id > :afterId order by p.id")
+    List<MatchRow> findMatchRowsAfter(@Param("status") PostStatus status,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    // 매칭 인덱스 증분 갱신: 지정한 글 중 해당 상태인 글 요약
+    @Query("select p.id as id, p.user.id as writerId, p.gameMode as gameMode, p.queueType as queueType, " +
+            "p.myPosition as myPosition, p.lookingPositionMask as lookingPositionMask, p.mic as mic, " +
+            "p.recruitCount as recruitCount, p.writerTierOrdinal as writerTierOrdinal " +
+            "from Post p where p.id in :ids and p.isActive = true and p.status = :status")
+    List<MatchRow> findMatchRowsByIds(@Param("ids") List<Long> ids, @Param("status") PostStatus status);
+
     Optional<Post> findFirstByMemo(String memo);
+
+    interface MatchRow {
+        Long getId();
+        Long getWriterId();
+        GameMode getGameMode();
+        QueueType getQueueType();
+        Position getMyPosition();
+        Short getLookingPositionMask();
+        Boolean getMic();
+        Integer getRecruitCount();
+        Short getWriterTierOrdinal();
+    }
 }
@@ -1,9 +1,9 @@
 package com.back.matchduo.domain.post.service;
 
-import com.back.matchduo.domain.gameaccount.entity.FavoriteChampion;
 import com.back.matchduo.domain.gameaccount.entity.GameAccount;
-import com.back.matchduo.domain.gameaccount.entity.MatchParticipant;
+import com.back.matchduo.domain.gameaccount.entity.GameAccountStats;
 import com.back.matchduo.domain.gameaccount.entity.Rank;
+import com.back.matchduo.domain.gameaccount.entity.Tier;
 import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
 import com.back.matchduo.domain.gameaccount.service.DataDragonService;
 import com.back.matchduo.domain.party.entity.*;
@@ -13,19 +13,17 @@ import com.back.matchduo.domain.post.dto.request.PostCreateRequest;
 import com.back.matchduo.domain.post.dto.request.PostUpdateRequest;
 import com.back.matchduo.domain.post.dto.response.*;
 import com.back.matchduo.domain.post.entity.*;
+import com.back.matchduo.domain.post.event.PostChangedEvent;
 import com.back.matchduo.domain.post.repository.PostGameAccountQueryRepository;
 import com.back.matchduo.domain.post.repository.PostListQueryRepository;
 import com.back.matchduo.domain.post.repository.PostPartyQueryRepository;
 import com.back.matchduo.domain.post.repository.PostRepository;
 import com.back.matchduo.domain.review.event.PartyStatusChangedEvent;
 import com.back.matchduo.domain.user.entity.User;
-import com.back.matchduo.domain.user.repository.UserBanRepository;
 import com.back.matchduo.domain.user.repository.UserRepository;
+import com.back.matchduo.domain.user.service.UserBanCacheService;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -37,6 +35,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -46,9 +45,8 @@ public class PostListFacade {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final UserBanRepository userBanRepository;
+    private final UserBanCacheService userBanCacheService;
     private final EntityManager entityManager;
-    private final ObjectMapper objectMapper;
     private final ApplicationEventPublisher eventPublisher;
 
     private final PartyRepository partyRepository;
@@ -62,6 +60,9 @@ public class PostListFacade {
     private final PostGameProfileIconUrlBuilder iconUrlBuilder;
     private final DataDragonService dataDragonService;
 
+    // 벤 유저 글만 연속으로 나오는 구간에서 한 요청이 스캔할 최대 라운드 수
+    private static final int MAX_BAN_FILTER_ROUNDS = 5;
+
     // 모집글 생성 + 화면에 필요한 최소 파티 표시(작성자만)
     @Transactional
     public PostCreateResponse createPostWithPartyView(PostCreateRequest request, Long userId) {
@@ -76,12 +77,17 @@ public class PostListFacade {
 
         // =================================================================
 
-        // lookingPositions 직렬화
-        String lookingPositionsJson = serializePositions(request.lookingPositions());
-
         // User 연결
         User writerRef = getUserReference(userId);
 
+        // 작성 계정 솔로랭크 티어 서열 (목록 티어 필터용 비정규화, 언랭이면 null)
+        Short writerTierOrdinal = postGameAccountQueryRepository
+                .findRanksByGameAccountIds(List.of(gameAccount.getGameAccountId())).stream()
+                .filter(rank -> Rank.SOLO_QUEUE_TYPE.equals(rank.getQueueType()))
+                .findFirst()
+                .map(Rank::getTierOrdinal)
+                .orElse(null);
+
         // Post 저장
         Post post = Post.builder()
                 .user(writerRef)
@@ -89,11 +95,12 @@ public class PostListFacade {
                 .gameMode(request.gameMode()) // [변경] Request의 Enum 값을 바로 사용
                 .queueType(request.queueType())
                 .myPosition(request.myPosition())
-                .lookingPositions(lookingPositionsJson)
+                .lookingPositions(request.lookingPositions())
                 .mic(request.mic())
                 .recruitCount(request.recruitCount())
                 .memo(request.memo())
                 .build();
+        post.updateWriterTierOrdinal(writerTierOrdinal);
 
         Post saved = postRepository.save(post);
 
@@ -107,6 +114,7 @@ public class PostListFacade {
                 .role(PartyMemberRole.LEADER)
                 .build();
         partyMemberRepository.save(leader);
+        eventPublisher.publishEvent(PostChangedEvent.of(saved.getId()));
 
         // 생성 직후 participants는 최소 작성자 1명으로 표시
         List<Position> lookingPositions = request.lookingPositions();
@@ -135,14 +143,9 @@ public class PostListFacade {
         // 합성 검증 포함
         postValidator.validateUpdateMerged(post, request);
 
-        // lookingPositions 변경이 들어오면 JSON으로 직렬화
-        String lookingPositionsJson = (request.lookingPositions() != null)
-                ? serializePositions(request.lookingPositions())
-                : null;
-
         post.update(
                 request.myPosition(),
-                lookingPositionsJson,
+                request.lookingPositions(),
                 request.queueType(),
                 request.mic(),
                 request.recruitCount(),
@@ -176,11 +179,13 @@ public class PostListFacade {
             }
         }
 
+        eventPublisher.publishEvent(PostChangedEvent.of(post.getId()));
+
         // 응답 조립 → 단건 조회로 조립 : N+1 이슈가 아니므로 단순 조회로 구성
         User writer = post.getUser(); // 트랜잭션 내
         PostWriter writerDto = buildWriterDto(writer, null, null);
 
-        List<Position> lookingPositions = parsePositions(post.getLookingPositions());
+        List<Position> lookingPositions = List.copyOf(post.getLookingPositions());
 
         // 파티가 이미 생성돼 있으면 붙이고, 없으면 작성자만
         Integer currentParticipants = 1;
@@ -207,7 +212,10 @@ public class PostListFacade {
             QueueType queueType,
             GameMode gameMode,
             String myPositionsCsv,
+            Position lookingFor,
             String tier,
+            String minTier,
+            String maxTier,
             Long currentUserId
     ) {
         int pageSize = (size == null || size <= 0) ? 20 : Math.min(size, 50);
@@ -215,35 +223,39 @@ public class PostListFacade {
         // myPositions 파싱 (ANY 포함되면 필터 미적용)
         List<Position> myPositions = postListQueryRepository.parseMyPositionsCsv(myPositionsCsv);
 
-        // tier normalize
-        String normalizedTier = (tier == null || tier.isBlank()) ? null : tier.trim().toUpperCase();
-
-        // 벤된 유저 ID 목록 조회 (currentUserId가 null이면 빈 리스트)
-        List<Long> bannedUserIds = List.of();
-        if (currentUserId != null) {
-            bannedUserIds = userBanRepository.findBannedUserIds(currentUserId);
-        }
-
-        // Post 목록 1번 조회 (size + 1)
-        List<Post> posts = postListQueryRepository.findPosts(
+        // 티어 필터 → 서열 범위 (tier는 해당 티어 IV~I, minTier/maxTier와 같이 오면 교집합)
+        Tier exactTier = parseTier(tier);
+        Tier lowerTier = parseTier(minTier);
+        Tier upperTier = parseTier(maxTier);
+        Short minTierOrdinal = maxOrdinal(
+                exactTier == null ? null : exactTier.lowestOrdinal(),
+                lowerTier == null ? null : lowerTier.lowestOrdinal());
+        Short maxTierOrdinal = minOrdinal(
+                exactTier == null ? null : exactTier.highestOrdinal(),
+                upperTier == null ? null : upperTier.highestOrdinal());
+
+        // 벤된 유저 ID 집합 (캐시, currentUserId가 null이면 빈 집합)
+        Set<Long> bannedUserIds = currentUserId == null
+                ? Set.of()
+                : userBanCacheService.getBannedUserIds(currentUserId);
+
+        // Post 목록 조회 (size + 1, 벤 유저 글은 메모리에서 제외)
+        VisiblePage page = fetchVisiblePage(
                 cursor,
-                pageSize + 1,
+                pageSize,
                 status,
                 queueType,
                 gameMode,
                 myPositions.isEmpty() ? null : myPositions,
-                normalizedTier,
-                bannedUserIds.isEmpty() ? null : bannedUserIds
+                lookingFor,
+                minTierOrdinal,
+                maxTierOrdinal,
+                bannedUserIds
         );
 
-        boolean hasNext = posts.size() > pageSize;
-        if (hasNext) {
-            posts.remove(posts.size() - 1);
-        }
-
-        Long nextCursor = hasNext && !posts.isEmpty()
-                ? posts.get(posts.size() - 1).getId()
-                : null;
+        List<Post> posts = page.posts();
+        boolean hasNext = page.hasNext();
+        Long nextCursor = page.nextCursor();
 
         if (posts.isEmpty()) {
             return new PostListResponse(List.of(), nextCursor, hasNext);
@@ -276,37 +288,10 @@ public class PostListFacade {
                     .put(r.getQueueType(), r);
         }
 
-        // MatchParticipant 일괄 조회 (솔로랭크 최근 20경기)
-        List<MatchParticipant> matchParticipants = 
-            postGameAccountQueryRepository.findRecentSoloRankMatchParticipantsByGameAccountIds(gameAccountIds, 20);
-
-        // gameAccountId -> List<MatchParticipant> 매핑
-        Map<Long, List<MatchParticipant>> matchesByAccountId = new HashMap<>();
-        for (MatchParticipant mp : matchParticipants) {
-            Long gaId = mp.getGameAccount().getGameAccountId();
-            matchesByAccountId.computeIfAbsent(gaId, k -> new ArrayList<>())
-                    .add(mp);
-        }
-
-        // 각 계정별 최근 20경기만 유지
-        for (Long gaId : matchesByAccountId.keySet()) {
-            List<MatchParticipant> matches = matchesByAccountId.get(gaId);
-            if (matches.size() > 20) {
-                matchesByAccountId.put(gaId, matches.subList(0, 20));
-            }
-        }
-
-        // FavoriteChampion 일괄 조회
-        List<FavoriteChampion> favoriteChampions = 
-            postGameAccountQueryRepository.findFavoriteChampionsByGameAccountIds(gameAccountIds);
-
-        // gameAccountId -> List<FavoriteChampion> 매핑
-        Map<Long, List<FavoriteChampion>> championsByAccountId = new HashMap<>();
-        for (FavoriteChampion fc : favoriteChampions) {
-            Long gaId = fc.getGameAccount().getGameAccountId();
-            championsByAccountId.computeIfAbsent(gaId, k -> new ArrayList<>())
-                    .add(fc);
-        }
+        // 솔로랭크 집계 일괄 조회 (계정당 1행: 최근 20경기 KDA 합계 + 선호 챔피언 TOP 3)
+        Map<Long, GameAccountStats> statsByAccountId = postGameAccountQueryRepository
+                .findStatsByGameAccountIds(gameAccountIds).stream()
+                .collect(Collectors.toMap(GameAccountStats::getGameAccountId, Function.identity()));
 
         // Party 일괄 조회 (postIds IN)
         List<Long> postIds = posts.stream().map(Post::getId).toList();
@@ -346,24 +331,7 @@ public class PostListFacade {
                 Rank matched = findSoloRank(ga.getGameAccountId(), rankMap);
 
                 if (matched != null) {
-                    // KDA 계산
-                    List<MatchParticipant> matches = matchesByAccountId.getOrDefault(ga.getGameAccountId(), List.of());
-                    KdaStats kdaStats = calculateKdaStats(matches);
-
-                    // 선호 챔피언 이미지 URL 생성
-                    List<FavoriteChampion> champions = championsByAccountId.getOrDefault(ga.getGameAccountId(), List.of());
-                    List<String> championImageUrls = buildChampionImageUrls(champions);
-
-                    writerGameSummary = new PostWriter.WriterGameSummary(
-                            matched.getTier(),
-                            matched.getRank(),
-                            matched.getWinRate(),
-                            kdaStats.kda,
-                            kdaStats.avgKills,
-                            kdaStats.avgDeaths,
-                            kdaStats.avgAssists,
-                            championImageUrls
-                    );
+                    writerGameSummary = buildGameSummary(matched, statsByAccountId.get(ga.getGameAccountId()));
                 } else {
                     writerGameSummary = new PostWriter.WriterGameSummary(
                             null, null, null, null, null, null, null, null
@@ -413,7 +381,7 @@ public class PostListFacade {
                     p.getGameMode().name(), // [변경] .getId() 호출 제거 -> .name() 사용
                     p.getQueueType(),
                     p.getMyPosition(),
-                    parsePositions(p.getLookingPositions()),
+                    List.copyOf(p.getLookingPositions()),
                     p.getMic(),
                     p.getRecruitCount(),
                     currentParticipants,
@@ -463,11 +431,10 @@ public class PostListFacade {
                     .orElse(null);
 
             if (soloRank != null) {
-                writerGameSummary = new PostWriter.WriterGameSummary(
-                        soloRank.getTier(),
-                        soloRank.getRank(),
-                        null, null, null, null, null, null
+                List<GameAccountStats> stats = postGameAccountQueryRepository.findStatsByGameAccountIds(
+                        List.of(ga.getGameAccountId())
                 );
+                writerGameSummary = buildGameSummary(soloRank, stats.isEmpty() ? null : stats.get(0));
             } else {
                 writerGameSummary = new PostWriter.WriterGameSummary(
                         null, null, null, null, null, null, null, null
@@ -514,35 +481,85 @@ public class PostListFacade {
             ));
         }
 
-        List<Position> lookingPositions = parsePositions(post.getLookingPositions());
+        List<Position> lookingPositions = List.copyOf(post.getLookingPositions());
 
         return PostUpdateResponse.of(post, lookingPositions, currentParticipants, writerDto, participants);
     }
 
-    private Rank findSoloRank(Long gameAccountId, Map<Long, Map<String, Rank>> rankMap) {
-        Map<String, Rank> m = rankMap.get(gameAccountId);
-        if (m == null) return null;
-
-        // 정책: 솔로랭크만 사용
-        return m.get("RANKED_SOLO_5x5");
+    private record VisiblePage(List<Post> posts, boolean hasNext, Long nextCursor) {
     }
 
-    private String serializePositions(List<Position> positions) {
-        try {
-            return objectMapper.writeValueAsString(positions);
-        } catch (JsonProcessingException e) {
-            throw new CustomException(CustomErrorCode.POSITION_SERIALIZE_FAILED);
+    // 벤 필터링: 긴 NOT IN 대신 벤 인원만큼 더 읽어서 메모리에서 제외 (쿼리 모양/실행 계획이 벤 수와 무관)
+    private VisiblePage fetchVisiblePage(
+            Long cursor,
+            int pageSize,
+            PostStatus status,
+            QueueType queueType,
+            GameMode gameMode,
+            List<Position> myPositions,
+            Position lookingFor,
+            Short minTierOrdinal,
+            Short maxTierOrdinal,
+            Set<Long> bannedUserIds
+    ) {
+        List<Post> visible = new ArrayList<>();
+        Long scanCursor = cursor;
+        int overFetch = Math.min(bannedUserIds.size(), pageSize);
+
+        for (int round = 0; round < MAX_BAN_FILTER_ROUNDS; round++) {
+            int fetchSize = pageSize + 1 - visible.size() + overFetch;
+            List<Post> fetched = postListQueryRepository.findPosts(
+                    scanCursor, fetchSize, status, queueType, gameMode, myPositions, lookingFor,
+                    minTierOrdinal, maxTierOrdinal);
+
+            for (Post post : fetched) {
+                scanCursor = post.getId();
+                if (!bannedUserIds.contains(post.getUser().getId())) {
+                    visible.add(post);
+                }
+                if (visible.size() > pageSize) {
+                    visible.remove(visible.size() - 1);
+                    return new VisiblePage(visible, true, visible.get(visible.size() - 1).getId());
+                }
+            }
+
+            if (fetched.size() < fetchSize) {
+                return new VisiblePage(visible, false, null);
+            }
         }
+
+        // 라운드 한도 도달: 스캔한 위치부터 다음 페이지로 이어서 조회
+        return new VisiblePage(visible, true, scanCursor);
     }
 
-    private List<Position> parsePositions(String json) {
+    private Tier parseTier(String value) {
         try {
-            return objectMapper.readValue(json, new TypeReference<List<Position>>() {});
-        } catch (Exception e) {
-            return List.of();
+            return Tier.from(value);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(CustomErrorCode.INVALID_REQUEST);
         }
     }
 
+    private Short maxOrdinal(Short a, Short b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a >= b ? a : b;
+    }
+
+    private Short minOrdinal(Short a, Short b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a <= b ? a : b;
+    }
+
+    private Rank findSoloRank(Long gameAccountId, Map<Long, Map<String, Rank>> rankMap) {
+        Map<String, Rank> m = rankMap.get(gameAccountId);
+        if (m == null) return null;
+
+        // 정책: 솔로랭크만 사용
+        return m.get(Rank.SOLO_QUEUE_TYPE);
+    }
+
     private User getUserReference(Long userId) {
         if (userId == null) {
             throw new CustomException(CustomErrorCode.POST_FORBIDDEN);
@@ -563,6 +580,25 @@ public class PostListFacade {
         );
     }
 
+    // 솔로랭크 티어 + 집계 행으로 작성자 게임 요약 조립 (집계 행이 없으면 KDA/챔피언은 비움)
+    private PostWriter.WriterGameSummary buildGameSummary(Rank soloRank, GameAccountStats stats) {
+        KdaStats kdaStats = calculateKdaStats(stats);
+        List<String> championImageUrls = buildChampionImageUrls(
+                stats == null ? List.of() : stats.getFavoriteChampionNames()
+        );
+
+        return new PostWriter.WriterGameSummary(
+                soloRank.getTier(),
+                soloRank.getRank(),
+                soloRank.getWinRate(),
+                kdaStats.kda,
+                kdaStats.avgKills,
+                kdaStats.avgDeaths,
+                kdaStats.avgAssists,
+                championImageUrls
+        );
+    }
+
     private static class KdaStats {
         Double kda;
         Double avgKills;
@@ -577,20 +613,16 @@ public class PostListFacade {
         }
     }
 
-    private KdaStats calculateKdaStats(List<MatchParticipant> matches) {
-        if (matches == null || matches.isEmpty()) {
+    private KdaStats calculateKdaStats(GameAccountStats stats) {
+        if (stats == null || stats.getSoloGames() == 0) {
             return new KdaStats(null, null, null, null);
         }
 
-        int totalKills = matches.stream().mapToInt(MatchParticipant::getKills).sum();
-        int totalDeaths = matches.stream().mapToInt(MatchParticipant::getDeaths).sum();
-        int totalAssists = matches.stream().mapToInt(MatchParticipant::getAssists).sum();
-
-        int gameCount = matches.size();
+        int gameCount = stats.getSoloGames();
 
-        double avgKills = (double) totalKills / gameCount;
-        double avgDeaths = (double) totalDeaths / gameCount;
-        double avgAssists = (double) totalAssists / gameCount;
+        double avgKills = (double) stats.getSoloKills() / gameCount;
+        double avgDeaths = (double) stats.getSoloDeaths() / gameCount;
+        double avgAssists = (double) stats.getSoloAssists() / gameCount;
 
         double kda = avgDeaths == 0
                 ? (avgKills + avgAssists)
@@ -604,19 +636,19 @@ public class PostListFacade {
         return new KdaStats(kda, avgKills, avgDeaths, avgAssists);
     }
 
-    private List<String> buildChampionImageUrls(List<FavoriteChampion> champions) {
-        if (champions == null || champions.isEmpty()) {
+    private List<String> buildChampionImageUrls(List<String> championNames) {
+        if (championNames == null || championNames.isEmpty()) {
             return List.of();
         }
 
         String version = dataDragonService.getLatestVersion();
 
-        return champions.stream()
+        return championNames.stream()
                 .limit(3)
-                .map(fc -> String.format(
+                .map(championName -> String.format(
                         "https://ddragon.leagueoflegends.com/cdn/%s/img/champion/%s.png",
                         version,
-                        fc.getChampionName()
+                        championName
                 ))
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,225 @@
+package com.back.matchduo.domain.post.service;
+
+import com.back.matchduo.domain.post.dto.response.PostListResponse;
+import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.PostStatus;
+import com.back.matchduo.domain.post.entity.QueueType;
+import com.back.matchduo.domain.post.event.PostChangedEvent;
+import com.back.matchduo.domain.review.event.PartiesExpiredEvent;
+import com.back.matchduo.domain.review.event.PartyStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 모집글 목록 첫 페이지(cursor 없음) 응답 마이크로 캐시
+ * - 키: 정규화한 필터 값, 값: 비로그인 기준 응답 + 미리 직렬화한 JSON 바이트 (적중 시 Jackson을 거치지 않는다)
+ * - 같은 키로 동시에 미스가 나면 한 요청만 만들고 나머지는 그 결과를 기다린다. (single-flight)
+ * - TTL은 1초 안팎, 모집글 생성/수정/상태 변경 커밋 후 전부 비운다. 다른 노드의 변경은 TTL로만 반영된다.
+ * - 메트릭: post.list.cache (tag: result = hit | miss | coalesced)
+ */
+@Component
+public class PostListResponseCache {
+
+    // 필터 조합 수 상한: 넘치면 비우고 다시 채운다
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long ttlNanos;
+
+    private final Map<Key, Slot> slots = new ConcurrentHashMap<>();
+    // 무효화 세대: 만드는 도중 무효화되면 결과를 기다리던 요청에는 주되 저장하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+
+    public PostListResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${custom.post.list-cache.enabled:true}") boolean enabled,
+            @Value("${custom.post.list-cache.ttl-ms:1000}") long ttlMs
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttlNanos = Duration.ofMillis(ttlMs).toNanos();
+        this.hitCounter = meterRegistry.counter("post.list.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("post.list.cache", "result", "miss");
+        this.coalescedCounter = meterRegistry.counter("post.list.cache", "result", "coalesced");
+    }
+
+    /**
+     * 정규화한 목록 필터 (같은 응답이 나오는 요청은 같은 키)
+     */
+    public record Key(
+            int size,
+            PostStatus status,
+            QueueType queueType,
+            GameMode gameMode,
+            String myPositions,     // 정렬한 포지션 CSV, ANY 포함/미지정이면 ""
+            Position lookingFor,    // ANY면 null (필터 미적용과 같음)
+            String tier,
+            String minTier,
+            String maxTier
+    ) {
+        public static Key of(Integer size, PostStatus status, QueueType queueType, GameMode gameMode,
+                             String myPositionsCsv, Position lookingFor, String tier, String minTier, String maxTier) {
+            return new Key(
+                    (size == null || size <= 0) ? 20 : Math.min(size, 50),
+                    status,
+                    queueType,
+                    gameMode,
+                    normalizePositions(myPositionsCsv),
+                    lookingFor == Position.ANY ? null : lookingFor,
+                    normalize(tier),
+                    normalize(minTier),
+                    normalize(maxTier)
+            );
+        }
+
+        private static String normalizePositions(String csv) {
+            if (csv == null || csv.isBlank()) {
+                return "";
+            }
+            String[] tokens = Arrays.stream(csv.split(","))
+                    .map(token -> token.trim().toUpperCase(Locale.ROOT))
+                    .filter(token -> !token.isEmpty())
+                    .distinct()
+                    .sorted()
+                    .toArray(String[]::new);
+            return Arrays.asList(tokens).contains(Position.ANY.name())
+                    ? ""
+                    : Arrays.stream(tokens).collect(Collectors.joining(","));
+        }
+
+        private static String normalize(String value) {
+            return (value == null || value.isBlank()) ? null : value.trim().toUpperCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * 응답 + 직렬화된 JSON
+     */
+    public record CachedPage(PostListResponse response, byte[] json) {
+    }
+
+    private static final class Slot {
+        final CompletableFuture<CachedPage> page = new CompletableFuture<>();
+        volatile long expiresAtNanos = Long.MAX_VALUE; // 만드는 중에는 만료 없음
+
+        boolean isUsable(long now) {
+            return !page.isDone() || expiresAtNanos - now > 0;
+        }
+    }
+
+    /**
+     * 캐시된 페이지 조회, 없거나 만료됐으면 loader로 한 번만 만든다
+     * @param loader 비로그인 기준 첫 페이지 조회
+     */
+    public CachedPage get(Key key, Supplier<PostListResponse> loader) {
+        if (!enabled) {
+            return serialize(loader.get());
+        }
+
+        long now = System.nanoTime();
+        Slot existing = slots.get(key);
+        if (existing != null && existing.isUsable(now)) {
+            return await(existing);
+        }
+
+        if (slots.size() >= MAX_ENTRIES) {
+            slots.clear();
+        }
+        Slot mine = new Slot();
+        Slot winner = slots.compute(key, (k, current) -> current != null && current.isUsable(now) ? current : mine);
+        if (winner != mine) {
+            return await(winner);
+        }
+
+        missCounter.increment();
+        long startedGeneration = generation.get();
+        try {
+            CachedPage page = serialize(loader.get());
+            mine.expiresAtNanos = System.nanoTime() + ttlNanos;
+            mine.page.complete(page);
+            if (generation.get() != startedGeneration) {
+                slots.remove(key, mine);
+            }
+            return page;
+        } catch (Throwable e) {
+            // Error(OOM/StackOverflow 등)도 슬롯을 풀어야 기다리던 요청과 이후 요청이 영원히 막히지 않는다
+            slots.remove(key, mine);
+            mine.page.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 응답 직렬화 (캐시 대상이 아닌 요청도 같은 ObjectMapper로)
+     */
+    public CachedPage serialize(PostListResponse response) {
+        try {
+            return new CachedPage(response, objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("모집글 목록 직렬화 실패", e);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        slots.clear();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostChanged(PostChangedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePartyStatusChange(PartyStatusChangedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePartiesExpired(PartiesExpiredEvent event) {
+        invalidateAll();
+    }
+
+    private CachedPage await(Slot slot) {
+        if (slot.page.isDone()) {
+            hitCounter.increment();
+        } else {
+            coalescedCounter.increment();
+        }
+        try {
+            return slot.page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
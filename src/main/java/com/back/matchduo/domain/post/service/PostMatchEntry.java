@@ -0,0 +1,26 @@
+package com.back.matchduo.domain.post.service;
+
+import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.QueueType;
+
+import java.util.Set;
+
+/**
+ * 매칭 인덱스(PostMatchIndex)에 올리는 모집 중 글 요약 (추천 응답도 이 값만으로 만든다)
+ */
+public record PostMatchEntry(
+        Long postId,
+        Long writerId,
+        GameMode gameMode,
+        QueueType queueType,
+        Position myPosition,
+        short lookingPositionMask,
+        boolean mic,
+        int recruitCount,
+        Short writerTierOrdinal     // Tier 서열, 언랭이면 null
+) {
+    public Set<Position> lookingPositions() {
+        return Position.fromMask(lookingPositionMask);
+    }
+}
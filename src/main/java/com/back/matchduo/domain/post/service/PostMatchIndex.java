@@ -0,0 +1,217 @@
+package com.back.matchduo.domain.post.service;
+
+import com.back.matchduo.domain.gameaccount.entity.Tier;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.QueueType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 모집 중(RECRUIT) 글 매칭 인덱스 (프로세스 메모리)
+ * - 글마다 슬롯 번호를 주고, (큐 타입 × 티어 구간) 버킷마다 포지션별 BitSet으로 "이 포지션을 구하는 글"을 표시한다.
+ * - 조회는 요청한 큐/티어 구간 버킷의 BitSet을 OR/AND 한 뒤 큰 슬롯부터 훑는다. (DB 조회 없음)
+ * - 슬롯은 추가 순서대로 늘어나고 재사용하지 않는다. build()는 postId 순으로 다시 채우므로 큰 슬롯 ≈ 최신 글,
+ *   모집 재개로 다시 들어온 글은 새 슬롯을 받아 최신 글로 취급된다. 빈 슬롯은 다음 build()에서 정리된다.
+ * - 읽기/쓰기는 ReadWriteLock으로 보호한다. (쓰기는 글 단위 변경뿐이라 짧다)
+ */
+public class PostMatchIndex {
+
+    /** 티어 구간 = Tier 순번, 언랭은 마지막 구간 */
+    static final int UNRANKED_BAND = Tier.values().length;
+    private static final int BANDS = UNRANKED_BAND + 1;
+
+    private static final Position[] POSITIONS = Position.values();
+    private static final QueueType[] QUEUE_TYPES = QueueType.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotByPostId = new HashMap<>();
+    private final Bucket[] buckets = new Bucket[QUEUE_TYPES.length * BANDS];
+    private PostMatchEntry[] entries = new PostMatchEntry[1024];
+    private int nextSlot;
+
+    private static final class Bucket {
+        // 구하는 포지션 비트가 켜진 글 (Position 순서, ANY 포함)
+        final BitSet[] lookingFor = new BitSet[POSITIONS.length];
+        final BitSet all = new BitSet();
+        final BitSet micOn = new BitSet();
+
+        Bucket() {
+            for (int i = 0; i < lookingFor.length; i++) {
+                lookingFor[i] = new BitSet();
+            }
+        }
+    }
+
+    public PostMatchIndex() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * 전체 재구성용: postId 순으로 슬롯을 채운 새 인덱스
+     */
+    public static PostMatchIndex build(Collection<PostMatchEntry> recruitEntries) {
+        PostMatchIndex index = new PostMatchIndex();
+        recruitEntries.stream()
+                .sorted(Comparator.comparing(PostMatchEntry::postId))
+                .forEach(index::upsert);
+        return index;
+    }
+
+    /**
+     * 모집 중인 글 추가 또는 갱신 (같은 글이면 슬롯 유지)
+     */
+    public void upsert(PostMatchEntry entry) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByPostId.get(entry.postId());
+            if (slot != null) {
+                unindex(slot, entries[slot]);
+            } else {
+                slot = nextSlot++;
+                if (slot == entries.length) {
+                    entries = Arrays.copyOf(entries, entries.length * 2);
+                }
+                slotByPostId.put(entry.postId(), slot);
+            }
+            entries[slot] = entry;
+            index(slot, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모집 중이 아니게 된 글 제거 (없으면 무시)
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByPostId.remove(postId);
+            if (slot != null) {
+                unindex(slot, entries[slot]);
+                entries[slot] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByPostId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 모집 중 글 (최신 글 먼저)
+     * @param queueType 큐 타입 (null이면 전체)
+     * @param myPosition 내 포지션 (null/ANY면 포지션 조건 없음), 이 포지션 또는 ANY를 구하는 글만
+     * @param minTier 작성자 솔로랭크 하한 (minTier/maxTier 둘 다 null이면 언랭 포함 전체)
+     * @param maxTier 작성자 솔로랭크 상한
+     * @param mic 마이크 여부 (null이면 상관없음)
+     * @param limit 최대 개수
+     * @param exclude 결과에서 뺄 글 (본인 글, 차단 유저 글 등)
+     */
+    public List<PostMatchEntry> search(
+            QueueType queueType,
+            Position myPosition,
+            Tier minTier,
+            Tier maxTier,
+            Boolean mic,
+            int limit,
+            Predicate<PostMatchEntry> exclude
+    ) {
+        boolean anyTier = minTier == null && maxTier == null;
+        int fromBand = anyTier ? 0 : (minTier == null ? 0 : minTier.ordinal());
+        int toBand = anyTier ? UNRANKED_BAND : (maxTier == null ? UNRANKED_BAND - 1 : maxTier.ordinal());
+
+        lock.readLock().lock();
+        try {
+            BitSet matched = new BitSet(nextSlot);
+            BitSet candidates = new BitSet(nextSlot);
+
+            for (QueueType queue : QUEUE_TYPES) {
+                if (queueType != null && queue != queueType) {
+                    continue;
+                }
+                for (int band = fromBand; band <= toBand; band++) {
+                    Bucket bucket = buckets[bucketIndex(queue, band)];
+                    if (bucket.all.isEmpty()) {
+                        continue;
+                    }
+
+                    candidates.clear();
+                    if (myPosition == null || myPosition == Position.ANY) {
+                        candidates.or(bucket.all);
+                    } else {
+                        candidates.or(bucket.lookingFor[myPosition.ordinal()]);
+                        candidates.or(bucket.lookingFor[Position.ANY.ordinal()]);
+                    }
+                    if (Boolean.TRUE.equals(mic)) {
+                        candidates.and(bucket.micOn);
+                    } else if (Boolean.FALSE.equals(mic)) {
+                        candidates.andNot(bucket.micOn);
+                    }
+                    matched.or(candidates);
+                }
+            }
+
+            List<PostMatchEntry> result = new ArrayList<>(Math.min(limit, matched.cardinality()));
+            for (int slot = matched.previousSetBit(nextSlot - 1);
+                 slot >= 0 && result.size() < limit;
+                 slot = matched.previousSetBit(slot - 1)) {
+                PostMatchEntry entry = entries[slot];
+                if (!exclude.test(entry)) {
+                    result.add(entry);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(int slot, PostMatchEntry entry) {
+        Bucket bucket = buckets[bucketIndex(entry.queueType(), band(entry.writerTierOrdinal()))];
+        bucket.all.set(slot);
+        if (entry.mic()) {
+            bucket.micOn.set(slot);
+        }
+        for (Position position : POSITIONS) {
+            if ((entry.lookingPositionMask() & position.getBit()) != 0) {
+                bucket.lookingFor[position.ordinal()].set(slot);
+            }
+        }
+    }
+
+    private void unindex(int slot, PostMatchEntry entry) {
+        Bucket bucket = buckets[bucketIndex(entry.queueType(), band(entry.writerTierOrdinal()))];
+        bucket.all.clear(slot);
+        bucket.micOn.clear(slot);
+        for (BitSet positionSet : bucket.lookingFor) {
+            positionSet.clear(slot);
+        }
+    }
+
+    private static int band(Short tierOrdinal) {
+        return tierOrdinal == null ? UNRANKED_BAND : Tier.fromOrdinal(tierOrdinal).ordinal();
+    }
+
+    private static int bucketIndex(QueueType queueType, int band) {
+        return queueType.ordinal() * BANDS + band;
+    }
+}
@@ -0,0 +1,234 @@
+package com.back.matchduo.domain.post.service;
+
+import com.back.matchduo.domain.gameaccount.entity.Tier;
+import com.back.matchduo.domain.party.repository.PartyRepository;
+import com.back.matchduo.domain.post.dto.response.PostRecommendationResponse;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.PostStatus;
+import com.back.matchduo.domain.post.entity.QueueType;
+import com.back.matchduo.domain.post.event.PostChangedEvent;
+import com.back.matchduo.domain.post.repository.PostRepository;
+import com.back.matchduo.domain.review.event.PartiesExpiredEvent;
+import com.back.matchduo.domain.review.event.PartyStatusChangedEvent;
+import com.back.matchduo.domain.user.service.UserBanCacheService;
+import com.back.matchduo.global.exception.CustomErrorCode;
+import com.back.matchduo.global.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 모집 중 글 매칭 인덱스 관리 + 추천 조회 (GET /api/v1/posts/recommended)
+ * - 서버 기동 시 MySQL의 RECRUIT 글로 인덱스를 만들고, 글/파티 상태 변경 커밋 후 바뀐 글만 다시 읽어 반영한다.
+ * - 인덱스는 노드마다 따로 있으므로 다른 노드의 변경은 정기 재구성(reconcile-interval-ms)으로 맞춘다.
+ * - 재구성 도중/직전(복제 지연)에 갱신된 글은 새 인덱스로 바꾼 뒤 한 번 더 읽어 덮어쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostMatchIndexService {
+
+    private static final int REBUILD_BATCH_SIZE = 5_000;
+    private static final long REPLAY_WINDOW_MS = 10_000;
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 50;
+
+    private final PostRepository postRepository;
+    private final PartyRepository partyRepository;
+    private final UserBanCacheService userBanCacheService;
+
+    private volatile PostMatchIndex index = new PostMatchIndex();
+
+    // 증분 갱신한 postId -> 시각(epoch millis), 재구성 후 다시 반영할 대상
+    private final Map<Long, Long> recentlyRefreshed = new ConcurrentHashMap<>();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.post.matchmaking.reconcile-interval-ms:60000}",
+            fixedDelayString = "${custom.post.matchmaking.reconcile-interval-ms:60000}"
+    )
+    public void reconcile() {
+        rebuild();
+    }
+
+    /**
+     * 추천 모집글 조회 (인덱스만 읽는다)
+     * @param queueType 큐 타입 (null이면 전체)
+     * @param myPosition 내 포지션 (이 포지션 또는 ANY를 구하는 글), null/ANY면 포지션 조건 없음
+     * @param tier 내 솔로랭크 티어 (null이면 티어 조건 없음)
+     * @param tierRange 내 티어 위아래로 허용할 티어 수
+     * @param mic 마이크 여부 (null이면 상관없음)
+     * @param size 개수 (기본 20, 최대 50)
+     * @param currentUserId 로그인 사용자 (본인 글/차단 유저 글 제외), 비로그인이면 null
+     */
+    public PostRecommendationResponse recommend(
+            QueueType queueType,
+            Position myPosition,
+            String tier,
+            Integer tierRange,
+            Boolean mic,
+            Integer size,
+            Long currentUserId
+    ) {
+        int limit = (size == null || size <= 0) ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+
+        Tier minTier = null;
+        Tier maxTier = null;
+        Tier myTier = parseTier(tier);
+        if (myTier != null) {
+            int range = (tierRange == null || tierRange < 0) ? 1 : tierRange;
+            Tier[] tiers = Tier.values();
+            minTier = tiers[Math.max(0, myTier.ordinal() - range)];
+            maxTier = tiers[Math.min(tiers.length - 1, myTier.ordinal() + range)];
+        }
+
+        Set<Long> bannedUserIds = currentUserId == null
+                ? Set.of()
+                : userBanCacheService.getBannedUserIds(currentUserId);
+
+        List<PostMatchEntry> entries = index.search(queueType, myPosition, minTier, maxTier, mic, limit,
+                entry -> entry.writerId().equals(currentUserId) || bannedUserIds.contains(entry.writerId()));
+
+        return new PostRecommendationResponse(entries.stream()
+                .map(PostRecommendationResponse.PostDto::from)
+                .toList());
+    }
+
+    /** 모집글 생성/수정/상태 변경/삭제 커밋 후 **/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostChanged(PostChangedEvent event) {
+        refresh(event.getPostIds());
+    }
+
+    /** 파티 상태 변경 커밋 후 (모집 완료/재개/종료 → 모집글 상태도 같이 바뀐다) **/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePartyStatusChange(PartyStatusChangedEvent event) {
+        refreshByPartyIds(List.of(event.getPartyId()));
+    }
+
+    /** 스케줄러 자동 종료 커밋 후 **/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePartiesExpired(PartiesExpiredEvent event) {
+        if (event.getPartyIds() == null || event.getPartyIds().isEmpty()) return;
+        refreshByPartyIds(event.getPartyIds());
+    }
+
+    /**
+     * 지정한 글을 DB에서 다시 읽어 반영 (RECRUIT이면 추가/갱신, 아니면 제거)
+     * 실패해도 요청은 이미 커밋됐으므로 로그만 남기고 정기 재구성에 맡긴다.
+     */
+    public void refresh(List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        postIds.forEach(postId -> recentlyRefreshed.put(postId, now));
+        try {
+            apply(index, postIds);
+        } catch (Exception e) {
+            log.warn("매칭 인덱스 갱신 실패: postIds={}, {}", postIds, e.getMessage());
+        }
+    }
+
+    /**
+     * MySQL의 RECRUIT 글로 인덱스 전체 재구성 (기동 시, 정기)
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<PostMatchEntry> entries = new ArrayList<>();
+            Long afterId = 0L;
+            while (true) {
+                List<PostRepository.MatchRow> rows = postRepository.findMatchRowsAfter(
+                        PostStatus.RECRUIT, afterId, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+                rows.forEach(row -> entries.add(toEntry(row)));
+                if (rows.size() < REBUILD_BATCH_SIZE) {
+                    break;
+                }
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+
+            PostMatchIndex rebuilt = PostMatchIndex.build(entries);
+            index = rebuilt;
+
+            // 재구성 시작 직전~도중에 갱신된 글은 스냅샷보다 새로울 수 있으므로 다시 반영
+            long replayFrom = startedAt - REPLAY_WINDOW_MS;
+            recentlyRefreshed.values().removeIf(refreshedAt -> refreshedAt < replayFrom);
+            List<Long> replay = new ArrayList<>(recentlyRefreshed.keySet());
+            if (!replay.isEmpty()) {
+                apply(rebuilt, replay);
+            }
+
+            log.info("매칭 인덱스 재구성 완료: 모집 중 글={}, 재반영={}, {}ms",
+                    rebuilt.size(), replay.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("매칭 인덱스 재구성 실패, 기존 인덱스를 유지합니다: {}", e.getMessage());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void refreshByPartyIds(List<Long> partyIds) {
+        try {
+            refresh(partyRepository.findPostIdsByIdIn(partyIds));
+        } catch (Exception e) {
+            log.warn("매칭 인덱스 갱신 실패: partyIds={}, {}", partyIds, e.getMessage());
+        }
+    }
+
+    private void apply(PostMatchIndex target, List<Long> postIds) {
+        Set<Long> recruiting = new HashSet<>();
+        for (PostRepository.MatchRow row : postRepository.findMatchRowsByIds(postIds, PostStatus.RECRUIT)) {
+            target.upsert(toEntry(row));
+            recruiting.add(row.getId());
+        }
+        for (Long postId : postIds) {
+            if (!recruiting.contains(postId)) {
+                target.remove(postId);
+            }
+        }
+    }
+
+    private PostMatchEntry toEntry(PostRepository.MatchRow row) {
+        return new PostMatchEntry(
+                row.getId(),
+                row.getWriterId(),
+                row.getGameMode(),
+                row.getQueueType(),
+                row.getMyPosition(),
+                row.getLookingPositionMask(),
+                Boolean.TRUE.equals(row.getMic()),
+                row.getRecruitCount(),
+                row.getWriterTierOrdinal()
+        );
+    }
+
+    private Tier parseTier(String value) {
+        try {
+            return Tier.from(value);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(CustomErrorCode.INVALID_REQUEST);
+        }
+    }
+}
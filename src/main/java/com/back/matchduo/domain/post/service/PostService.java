@@ -8,19 +8,29 @@ import com.back.matchduo.domain.post.dto.request.PostUpdateRequest;
 import com.back.matchduo.domain.post.dto.response.PostCreateResponse;
 import com.back.matchduo.domain.post.dto.response.PostDeleteResponse;
 import com.back.matchduo.domain.post.dto.response.PostListResponse;
+import com.back.matchduo.domain.post.dto.response.PostRecommendationResponse;
 import com.back.matchduo.domain.post.dto.response.PostStatusUpdateResponse;
 import com.back.matchduo.domain.post.dto.response.PostUpdateResponse;
 import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Position;
 import com.back.matchduo.domain.post.entity.Post;
 import com.back.matchduo.domain.post.entity.PostStatus;
 import com.back.matchduo.domain.post.entity.QueueType;
+import com.back.matchduo.domain.post.event.PostChangedEvent;
 import com.back.matchduo.domain.post.repository.PostRepository;
+import com.back.matchduo.domain.user.service.UserBanCacheService;
+import com.back.matchduo.global.aop.OptimisticRetry;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -30,6 +40,10 @@ public class PostService {
     private final PartyRepository partyRepository; // 👈 [추가] 파티 저장소 주입
     private final PostValidator postValidator;
     private final PostListFacade postListFacade;
+    private final PostMatchIndexService postMatchIndexService;
+    private final PostListResponseCache postListResponseCache;
+    private final UserBanCacheService userBanCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 모집글 생성
     @Transactional
@@ -37,21 +51,63 @@ public class PostService {
         return postListFacade.createPostWithPartyView(request, userId);
     }
 
-    // 모집글 목록 조회
-    public PostListResponse getPostList(
+    // 모집글 목록 조회 (응답 JSON)
+    // 첫 페이지는 비로그인 기준 응답을 마이크로 캐시에서 꺼내고, 로그인 사용자는 그 페이지에서 차단 유저 글만 뺀다.
+    // (차단 유저 글을 빼면 첫 페이지가 size보다 짧을 수 있다, 다음 페이지부터는 기존처럼 채워서 조회)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public byte[] getPostListJson(
             Long cursor,
             Integer size,
             PostStatus status,
             QueueType queueType,
             GameMode gameMode,
             String myPositions,
+            Position lookingFor,
             String tier,
+            String minTier,
+            String maxTier,
+            Long currentUserId
+    ) {
+        if (cursor != null) {
+            return postListResponseCache.serialize(postListFacade.getPostList(
+                    cursor, size, status, queueType, gameMode, myPositions, lookingFor, tier, minTier, maxTier,
+                    currentUserId)).json();
+        }
+
+        PostListResponseCache.Key key = PostListResponseCache.Key.of(
+                size, status, queueType, gameMode, myPositions, lookingFor, tier, minTier, maxTier);
+        PostListResponseCache.CachedPage page = postListResponseCache.get(key, () -> postListFacade.getPostList(
+                null, size, status, queueType, gameMode, myPositions, lookingFor, tier, minTier, maxTier, null));
+
+        if (currentUserId == null) {
+            return page.json();
+        }
+        Set<Long> bannedUserIds = userBanCacheService.getBannedUserIds(currentUserId);
+        List<PostListResponse.PostDto> visible = page.response().posts().stream()
+                .filter(post -> !bannedUserIds.contains(post.writer().userId()))
+                .toList();
+        if (visible.size() == page.response().posts().size()) {
+            return page.json();
+        }
+        return postListResponseCache.serialize(new PostListResponse(
+                visible, page.response().nextCursor(), page.response().hasNext())).json();
+    }
+
+    // 추천 모집글 조회 (매칭 인덱스, DB 조회 없음)
+    public PostRecommendationResponse getRecommendedPosts(
+            QueueType queueType,
+            Position myPosition,
+            String tier,
+            Integer tierRange,
+            Boolean mic,
+            Integer size,
             Long currentUserId
     ) {
-        return postListFacade.getPostList(cursor, size, status, queueType, gameMode, myPositions, tier, currentUserId);
+        return postMatchIndexService.recommend(queueType, myPosition, tier, tierRange, mic, size, currentUserId);
     }
 
-    // 모집글 수정
+    // 모집글 수정 (파티 정원/상태도 바꾸므로 파티 @Version 충돌 시 파티원 변경과 같은 방식으로 재시도)
+    @OptimisticRetry
     @Transactional
     public PostUpdateResponse updatePost(Long postId, PostUpdateRequest request, Long userId) {
         Post post = postRepository.findById(postId)
@@ -75,6 +131,7 @@ public class PostService {
         postValidator.validateStatusUpdateAllowed(request.status());
 
         post.updateStatus(request.status());
+        eventPublisher.publishEvent(PostChangedEvent.of(postId));
         return PostStatusUpdateResponse.of(post);
     }
 
@@ -114,6 +171,7 @@ public class PostService {
                 .orElseThrow(() -> new CustomException(CustomErrorCode.PARTY_NOT_FOUND));
         party.closeParty();
         partyRepository.save(party); // 👈 [핵심] Party도 강제 저장
+        eventPublisher.publishEvent(PostChangedEvent.of(postId));
 
         return PostDeleteResponse.of(postId);
     }
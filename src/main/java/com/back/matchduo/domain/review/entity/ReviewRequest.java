@@ -3,6 +3,7 @@ package com.back.matchduo.domain.review.entity;
 import com.back.matchduo.domain.party.entity.Party;
 import com.back.matchduo.domain.review.enums.ReviewRequestStatus;
 import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.global.entity.IdSequences;
 import com.back.matchduo.global.entity.SoftDeletableEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -27,7 +28,10 @@ import java.time.LocalDateTime;
 public class ReviewRequest extends SoftDeletableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = IdSequences.REVIEW_REQUEST)
+    @TableGenerator(name = IdSequences.REVIEW_REQUEST, table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.REVIEW_REQUEST, allocationSize = IdSequences.ALLOCATION_SIZE)
     @Column(name = "review_request_id")
     private Long id;
 
@@ -0,0 +1,16 @@
+package com.back.matchduo.domain.review.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 스케줄러가 자동 종료(ACTIVE -> CLOSED)한 파티 묶음
+ * - 청크 단위로 한 번만 발행된다.
+ */
+@Getter
+@AllArgsConstructor
+public class PartiesExpiredEvent {
+    private List<Long> partyIds;
+}
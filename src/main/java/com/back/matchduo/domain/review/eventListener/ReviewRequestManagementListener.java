@@ -7,6 +7,7 @@ import com.back.matchduo.domain.party.repository.PartyMemberRepository;
 import com.back.matchduo.domain.party.repository.PartyRepository;
 import com.back.matchduo.domain.review.entity.ReviewRequest;
 import com.back.matchduo.domain.review.enums.ReviewRequestStatus;
+import com.back.matchduo.domain.review.event.PartiesExpiredEvent;
 import com.back.matchduo.domain.review.event.PartyStatusChangedEvent;
 import com.back.matchduo.domain.review.repository.ReviewRequestRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -50,6 +51,17 @@ public class ReviewRequestManagementListener {
         }
     }
 
+    // 스케줄러 자동 종료 -> 청크 단위로 요청서 일괄 활성화
+    @Async("eventTaskExecutor")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePartiesExpired(PartiesExpiredEvent event) {
+        if (event.getPartyIds() == null || event.getPartyIds().isEmpty()) return;
+
+        reviewRequestRepository.completeAllByPartyIds(
+                event.getPartyIds(), ReviewRequestStatus.PENDING, ReviewRequestStatus.COMPLETED);
+    }
+
     private void createReviewRequests(Long partyId) {
 
         if (reviewRequestRepository.existsByPartyId(partyId)) return;
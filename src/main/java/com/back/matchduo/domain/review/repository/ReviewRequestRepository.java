@@ -5,6 +5,7 @@ import com.back.matchduo.domain.review.enums.ReviewRequestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -25,4 +26,12 @@ public interface ReviewRequestRepository extends JpaRepository<ReviewRequest, Lo
     boolean existsByPartyId(Long partyId);
 
     List<ReviewRequest> findAllByPartyIdAndStatus(Long partyId, ReviewRequestStatus reviewRequestStatus);
+
+    // 자동 종료된 파티들의 PENDING 요청서를 한 번에 COMPLETED로 전환
+    @Modifying
+    @Query("UPDATE ReviewRequest r SET r.status = :completed " +
+            "WHERE r.party.id IN :partyIds AND r.status = :pending")
+    int completeAllByPartyIds(@Param("partyIds") List<Long> partyIds,
+                              @Param("pending") ReviewRequestStatus pending,
+                              @Param("completed") ReviewRequestStatus completed);
 }
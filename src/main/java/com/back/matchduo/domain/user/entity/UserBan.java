@@ -12,6 +12,10 @@ import lombok.*;
 @Table(name = "user_bans",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"from_user_id", "to_user_id"})
+        },
+        indexes = {
+                // 나를 벤한 유저 조회 (to_user_id = ?) 를 커버링 인덱스로
+                @Index(name = "idx_user_bans_to_from", columnList = "to_user_id, from_user_id")
         })
 public class UserBan extends BaseEntity {
 
@@ -5,9 +5,11 @@ import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
 import com.back.matchduo.domain.user.dto.response.OtherProfileResponse;
 import com.back.matchduo.domain.user.entity.User;
 import com.back.matchduo.domain.user.repository.UserRepository;
+import com.back.matchduo.global.cache.CacheNames;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +21,7 @@ public class OtherProfileService {
     private final UserRepository userRepository;
     private final GameAccountRepository gameAccountRepository;
 
+    @Cacheable(cacheNames = CacheNames.OTHER_PROFILE, key = "#userId", sync = true)
     public OtherProfileResponse getOtherUserProfile(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(CustomErrorCode.NOT_FOUND_USER));
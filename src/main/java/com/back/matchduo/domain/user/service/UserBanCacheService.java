@@ -0,0 +1,171 @@
+package com.back.matchduo.domain.user.service;
+
+import com.back.matchduo.domain.user.repository.UserBanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 양방향 벤 목록 캐시 (로컬 → Redis SET → DB)
+ * - Redis: user:ban:{userId} SET, 벤이 없는 유저도 캐시하도록 EMPTY_MARKER를 함께 저장
+ * - 로컬: 짧은 TTL의 스냅샷 (다른 노드의 변경은 TTL 안에 반영)
+ * - 차단/해제 시 양쪽 유저의 캐시를 커밋 후 무효화
+ * - 무효화와 겹친 채우기가 이전 목록을 다시 쓰지 않도록 버전을 확인하고 쓴다.
+ *   (Redis: user:ban:ver:{userId}를 무효화 때 올리고, 채우기 전에 읽은 값과 같을 때만 SET 저장 / 로컬: 세대 번호)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBanCacheService {
+
+    private static final String KEY_PREFIX = "user:ban:";
+    private static final String VERSION_KEY_PREFIX = "user:ban:ver:";
+    private static final String EMPTY_MARKER = "-1";
+    private static final Duration REDIS_TTL = Duration.ofHours(1);
+    private static final int LOCAL_MAX_SIZE = 10_000;
+
+    // KEYS: 벤 SET, 버전 / ARGV: 읽어 둔 버전(없으면 ""), ttl, 멤버...
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+              return 0
+            end
+            redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: (벤 SET, 버전) 쌍 반복 / ARGV: 버전 ttl
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS, 2 do
+              redis.call('DEL', KEYS[i])
+              redis.call('INCR', KEYS[i + 1])
+              redis.call('EXPIRE', KEYS[i + 1], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private final UserBanRepository userBanRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${custom.user-ban.local-ttl-seconds:10}")
+    private long localTtlSeconds;
+
+    private final Map<Long, LocalEntry> localCache = new ConcurrentHashMap<>();
+    // 무효화 세대: 읽는 도중 무효화되면 결과는 돌려주되 로컬에 저장하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    /** 나를 벤했거나 내가 벤한 유저 ID 집합 (읽기 전용) **/
+    public Set<Long> getBannedUserIds(Long userId) {
+        long now = System.nanoTime();
+        LocalEntry local = localCache.get(userId);
+        if (local != null && local.expiresAtNanos() - now > 0) {
+            return local.bannedUserIds();
+        }
+
+        long startedGeneration = generation.get();
+        Set<Long> bannedUserIds = loadFromRedisOrDb(userId);
+        if (generation.get() != startedGeneration) {
+            return bannedUserIds;
+        }
+
+        if (localCache.size() >= LOCAL_MAX_SIZE) {
+            localCache.clear(); // 단순 상한: 넘치면 비우고 다시 채운다
+        }
+        localCache.put(userId, new LocalEntry(bannedUserIds, now + Duration.ofSeconds(localTtlSeconds).toNanos()));
+        return bannedUserIds;
+    }
+
+    /** 벤 관계가 바뀐 두 유저의 캐시 무효화 (트랜잭션 안이면 커밋 후 실행) **/
+    public void evict(Long fromUserId, Long toUserId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(fromUserId, toUserId);
+                }
+            });
+            return;
+        }
+        evictNow(fromUserId, toUserId);
+    }
+
+    private void evictNow(Long fromUserId, Long toUserId) {
+        generation.incrementAndGet();
+        localCache.remove(fromUserId);
+        localCache.remove(toUserId);
+        try {
+            stringRedisTemplate.execute(EVICT_SCRIPT,
+                    List.of(key(fromUserId), versionKey(fromUserId), key(toUserId), versionKey(toUserId)),
+                    String.valueOf(REDIS_TTL.toSeconds()));
+        } catch (Exception e) {
+            log.warn("Redis 벤 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private Set<Long> loadFromRedisOrDb(Long userId) {
+        String key = key(userId);
+        String version;
+        try {
+            Set<String> members = stringRedisTemplate.opsForSet().members(key);
+            if (members != null && !members.isEmpty()) {
+                return toIdSet(members);
+            }
+            // DB를 읽기 전의 버전 (그 사이 무효화되면 저장하지 않음)
+            version = stringRedisTemplate.opsForValue().get(versionKey(userId));
+        } catch (Exception e) {
+            log.warn("Redis 벤 캐시 조회 실패, DB fallback: {}", e.getMessage());
+            return Set.copyOf(userBanRepository.findBannedUserIds(userId));
+        }
+
+        Set<Long> bannedUserIds = Set.copyOf(userBanRepository.findBannedUserIds(userId));
+        try {
+            List<String> args = new ArrayList<>(bannedUserIds.size() + 3);
+            args.add(version == null ? "" : version);
+            args.add(String.valueOf(REDIS_TTL.toSeconds()));
+            args.add(EMPTY_MARKER);
+            for (Long bannedUserId : bannedUserIds) {
+                args.add(bannedUserId.toString());
+            }
+            stringRedisTemplate.execute(FILL_SCRIPT, List.of(key, versionKey(userId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("Redis 벤 캐시 저장 실패: {}", e.getMessage());
+        }
+        return bannedUserIds;
+    }
+
+    private Set<Long> toIdSet(Set<String> members) {
+        Set<Long> ids = new HashSet<>();
+        for (String member : members) {
+            if (!EMPTY_MARKER.equals(member)) {
+                ids.add(Long.valueOf(member));
+            }
+        }
+        return Set.copyOf(ids);
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String versionKey(Long userId) {
+        return VERSION_KEY_PREFIX + userId;
+    }
+
+    private record LocalEntry(Set<Long> bannedUserIds, long expiresAtNanos) {
+    }
+}
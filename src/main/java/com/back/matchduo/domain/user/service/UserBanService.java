@@ -21,6 +21,7 @@ public class UserBanService {
 
     private final UserBanRepository userBanRepository;
     private final UserRepository userRepository;
+    private final UserBanCacheService userBanCacheService;
 
     // 차단
     @Transactional
@@ -33,6 +34,7 @@ public class UserBanService {
         if (userBanRepository.existsByFromUserAndToUser(fromUser, toUser)) return;
 
         userBanRepository.save(UserBan.createBan(fromUser, toUser));
+        userBanCacheService.evict(fromUserId, toUserId);
     }
 
     // 차단 해제
@@ -45,6 +47,7 @@ public class UserBanService {
                 .orElseThrow(() -> new CustomException(CustomErrorCode.NOT_BANNED));
 
         userBanRepository.delete(ban);
+        userBanCacheService.evict(fromUserId, toUserId);
     }
 
     // 차단 목록 조회
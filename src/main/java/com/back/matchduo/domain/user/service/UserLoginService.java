@@ -9,9 +9,12 @@ import com.back.matchduo.domain.party.repository.PartyRepository;
 import com.back.matchduo.domain.post.repository.PostRepository;
 import com.back.matchduo.domain.review.repository.ReviewRepository;
 import com.back.matchduo.domain.user.repository.UserRepository;
+import com.back.matchduo.global.cache.CacheNames;
 import com.back.matchduo.global.security.cookie.AuthCookieProvider;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +33,11 @@ public class UserLoginService {
     private final ReviewRepository reviewRepository;
     private final PostRepository postRepository;
 
-    //회원 탈퇴 기능
+    //회원 탈퇴 기능 (게임 계정 단위 캐시는 TTL로 만료)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.OTHER_PROFILE, key = "#userId"),
+            @CacheEvict(cacheNames = CacheNames.USER_GAME_ACCOUNTS, key = "#userId")
+    })
     public void resign(Long userId, HttpServletResponse res) {
         // 1. 채팅 메시지 삭제
         chatMessageRepository.deleteBySenderId(userId);
@@ -4,10 +4,12 @@ import com.back.matchduo.domain.user.dto.request.UserUpdatePasswordRequest;
 import com.back.matchduo.domain.user.dto.response.UserProfileResponse;
 import com.back.matchduo.domain.user.entity.User;
 import com.back.matchduo.domain.user.repository.UserRepository;
+import com.back.matchduo.global.cache.CacheNames;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -34,6 +36,7 @@ public class UserProfileService {
     // 닉네임 수정
     private final List<String> bannedWords = List.of("씨발", "시발", "병신", "좆", "fuck", "ㅗ");
 
+    @CacheEvict(cacheNames = CacheNames.OTHER_PROFILE, key = "#user.id")
     public void updateNickname(User user, String nickname) {
         //공백 및 Null 체크
         if (nickname == null || nickname.trim().isEmpty()) {
@@ -70,6 +73,7 @@ public class UserProfileService {
     }
 
     // 자기소개 수정
+    @CacheEvict(cacheNames = CacheNames.OTHER_PROFILE, key = "#user.id")
     public void updateComment(User user, String comment) {
         User currentUser = findUser(user.getId());
         if (comment != null) {
@@ -133,6 +137,7 @@ public class UserProfileService {
     }
 
     // 이미지 업로드
+    @CacheEvict(cacheNames = CacheNames.OTHER_PROFILE, key = "#user.id")
     public void updateProfileImage(User user, MultipartFile file) {
         User currentUser = findUser(user.getId());
 
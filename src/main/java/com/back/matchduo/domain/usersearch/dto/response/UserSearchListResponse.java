@@ -4,6 +4,7 @@ import java.util.List;
 
 public record UserSearchListResponse(
         long totalCount,
+        boolean totalCountCapped, // true면 totalCount는 상한값이고 실제 결과는 그보다 많음
         List<UserDto> users,
         Long nextCursor,
         Boolean hasNext
@@ -2,28 +2,120 @@ package com.back.matchduo.domain.usersearch.repository;
 
 import com.back.matchduo.domain.user.entity.User;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class UserSearchQueryRepository {
 
+    // MySQL ngram_token_size 기본값: 이보다 짧은 검색어는 FULLTEXT로 찾을 수 없어 LIKE로 처리
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final List<String> LOL_GAME_TYPES = List.of("LEAGUE_OF_LEGENDS", "리그 오브 레전드");
+
     private final EntityManager em;
 
-    public List<User> findUsers(String nickname, Long cursor, int limit) {
+    // fulltext: MySQL n-gram FULLTEXT (V10), like: LIKE '%keyword%' (H2 / Flyway 미적용 환경)
+    @Value("${custom.user-search.mode:like}")
+    private String searchMode;
+
+    // 닉네임 또는 LOL Riot ID(gameNickname#gameTag)로 유저 검색 (id 내림차순)
+    public List<User> findUsers(Keyword keyword, Long cursor, int limit) {
+        List<Long> userIds = findUserIds(keyword, cursor, limit);
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return new ArrayList<>(em.createQuery(
+                        "SELECT u FROM User u WHERE u.id IN :ids ORDER BY u.id DESC",
+                        User.class
+                )
+                .setParameter("ids", userIds)
+                .getResultList());
+    }
+
+    // 정확한 COUNT 대신 cap + 1개까지만 센다 (반환값 > cap 이면 "cap개 이상")
+    public long countUsersUpTo(Keyword keyword, int cap) {
+        return findUserIds(keyword, null, cap + 1).size();
+    }
+
+    private List<Long> findUserIds(Keyword keyword, Long cursor, int limit) {
+        if (useFulltext(keyword)) {
+            return findUserIdsByFulltext(keyword, cursor, limit);
+        }
+        return findUserIdsByLike(keyword, cursor, limit);
+    }
+
+    private boolean useFulltext(Keyword keyword) {
+        return "fulltext".equalsIgnoreCase(searchMode)
+                && keyword.phrase().length() >= NGRAM_TOKEN_SIZE
+                && keyword.gameNamePhrase().length() >= NGRAM_TOKEN_SIZE;
+    }
+
+    private List<Long> findUserIdsByFulltext(Keyword keyword, Long cursor, int limit) {
+        String cursorCondition = cursor != null ? "AND %s < :cursor " : "";
+        String sql =
+                "SELECT id FROM (" +
+                        "SELECT u.id AS id FROM user u " +
+                        "WHERE MATCH(u.nickname) AGAINST (:phrase IN BOOLEAN MODE) " +
+                        cursorCondition.formatted("u.id") +
+                        "UNION " +
+                        "SELECT ga.user_id AS id FROM game_account ga " +
+                        "WHERE MATCH(ga.game_nickname) AGAINST (:gameNamePhrase IN BOOLEAN MODE) " +
+                        "AND ga.game_type IN (:lolTypes) " +
+                        (keyword.gameTag() != null ? "AND ga.game_tag LIKE :gameTag " : "") +
+                        cursorCondition.formatted("ga.user_id") +
+                        ") matched " +
+                        "ORDER BY id DESC " +
+                        "LIMIT :limit";
+
+        Query query = em.createNativeQuery(sql)
+                .setParameter("phrase", "\"" + keyword.phrase() + "\"")
+                .setParameter("gameNamePhrase", "\"" + keyword.gameNamePhrase() + "\"")
+                .setParameter("lolTypes", LOL_GAME_TYPES)
+                .setParameter("limit", limit);
+
+        if (keyword.gameTag() != null) {
+            query.setParameter("gameTag", keyword.gameTag() + "%");
+        }
+        if (cursor != null) {
+            query.setParameter("cursor", cursor);
+        }
+
+        List<?> rows = query.getResultList();
+        List<Long> userIds = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            userIds.add(((Number) row).longValue());
+        }
+        return userIds;
+    }
+
+    private List<Long> findUserIdsByLike(Keyword keyword, Long cursor, int limit) {
         String jpql =
-                "SELECT u FROM User u " +
-                        "WHERE u.nickname LIKE :keyword " +
+                "SELECT u.id FROM User u " +
+                        "WHERE (u.nickname LIKE :keyword " +
+                        "OR EXISTS (SELECT 1 FROM GameAccount ga " +
+                        "WHERE ga.user = u AND ga.gameType IN :lolTypes " +
+                        "AND ga.gameNickname LIKE :gameName " +
+                        (keyword.gameTag() != null ? "AND ga.gameTag LIKE :gameTag " : "") +
+                        ")) " +
                         (cursor != null ? "AND u.id < :cursor " : "") +
                         "ORDER BY u.id DESC";
 
-        var query = em.createQuery(jpql, User.class)
-                .setParameter("keyword", "%" + nickname + "%")
+        var query = em.createQuery(jpql, Long.class)
+                .setParameter("keyword", "%" + keyword.raw() + "%")
+                .setParameter("lolTypes", LOL_GAME_TYPES)
+                .setParameter("gameName", "%" + keyword.gameName() + "%")
                 .setMaxResults(limit);
 
+        if (keyword.gameTag() != null) {
+            query.setParameter("gameTag", keyword.gameTag() + "%");
+        }
         if (cursor != null) {
             query.setParameter("cursor", cursor);
         }
@@ -31,12 +123,31 @@ public class UserSearchQueryRepository {
         return query.getResultList();
     }
 
-    public long countUsers(String nickname) {
-        return em.createQuery(
-                        "SELECT COUNT(u) FROM User u WHERE u.nickname LIKE :keyword",
-                        Long.class
-                )
-                .setParameter("keyword", "%" + nickname + "%")
-                .getSingleResult();
+    /**
+     * 검색어: "닉네임" 또는 Riot ID 형식 "gameNickname#gameTag"
+     * - gameTag는 접두사 일치, '#' 뒤가 비어 있으면 태그 조건 없음
+     */
+    public record Keyword(String raw, String gameName, String gameTag) {
+
+        public static Keyword parse(String input) {
+            String raw = input.trim();
+            int sharp = raw.lastIndexOf('#');
+            if (sharp < 0) {
+                return new Keyword(raw, raw, null);
+            }
+
+            String gameName = raw.substring(0, sharp).trim();
+            String gameTag = raw.substring(sharp + 1).trim();
+            return new Keyword(raw, gameName.isEmpty() ? raw : gameName, gameTag.isEmpty() ? null : gameTag);
+        }
+
+        // BOOLEAN MODE 구문 검색용 ("..." 안에서 의미를 갖는 따옴표 제거)
+        String phrase() {
+            return raw.replace("\"", "");
+        }
+
+        String gameNamePhrase() {
+            return gameName.replace("\"", "");
+        }
     }
 }
@@ -9,6 +9,7 @@ import com.back.matchduo.domain.usersearch.repository.UserSearchQueryRepository;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +26,10 @@ public class UserSearchService {
     private final UserSearchGameAccountQueryRepository gameAccountQueryRepository;
     private final PostGameProfileIconUrlBuilder iconUrlBuilder;
 
+    // 검색 결과 수는 이 값까지만 센다 (넘으면 totalCountCapped = true)
+    @Value("${custom.user-search.count-cap:1000}")
+    private int countCap;
+
     public UserSearchListResponse search(String nickname, Long cursor, Integer size) {
         if (nickname == null || nickname.isBlank()) {
             throw new CustomException(CustomErrorCode.INVALID_SEARCH_KEYWORD);
@@ -32,10 +37,14 @@ public class UserSearchService {
 
         int pageSize = (size == null || size <= 0) ? 10 : Math.min(size, 50);
 
-        long totalCount = userSearchQueryRepository.countUsers(nickname);
+        UserSearchQueryRepository.Keyword keyword = UserSearchQueryRepository.Keyword.parse(nickname);
+
+        long matchedCount = userSearchQueryRepository.countUsersUpTo(keyword, countCap);
+        boolean totalCountCapped = matchedCount > countCap;
+        long totalCount = Math.min(matchedCount, countCap);
 
         List<User> users = userSearchQueryRepository.findUsers(
-                nickname, cursor, pageSize + 1
+                keyword, cursor, pageSize + 1
         );
 
         boolean hasNext = users.size() > pageSize;
@@ -48,7 +57,7 @@ public class UserSearchService {
                 : null;
 
         if (users.isEmpty()) {
-            return new UserSearchListResponse(totalCount, List.of(), null, false);
+            return new UserSearchListResponse(totalCount, totalCountCapped, List.of(), null, false);
         }
 
         List<Long> userIds = users.stream().map(User::getId).toList();
@@ -89,6 +98,6 @@ public class UserSearchService {
             ));
         }
 
-        return new UserSearchListResponse(totalCount, result, nextCursor, hasNext);
+        return new UserSearchListResponse(totalCount, totalCountCapped, result, nextCursor, hasNext);
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.back.matchduo.global.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(@Version) 시 메서드 전체를 새 트랜잭션으로 재시도
+ * - @Transactional보다 바깥에서 동작하므로 재시도마다 엔티티를 다시 읽는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticRetry {
+
+    int maxAttempts() default 5;
+
+    long backoffMillis() default 10;
+}
@@ -0,0 +1,39 @@
+package com.back.matchduo.global.aop;
+
+import com.back.matchduo.global.exception.CustomErrorCode;
+import com.back.matchduo.global.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // 트랜잭션 프록시보다 바깥
+public class OptimisticRetryAspect {
+
+    @Around("@annotation(retry)")
+    public Object retry(ProceedingJoinPoint joinPoint, OptimisticRetry retry) throws Throwable {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retry.maxAttempts()) {
+                    log.warn("낙관적 락 재시도 한도 초과: method={}, attempts={}",
+                            joinPoint.getSignature().toShortString(), attempt);
+                    throw new CustomException(CustomErrorCode.PARTY_CONCURRENT_MODIFICATION, e);
+                }
+                // 같은 행을 노리는 요청끼리 다시 부딪히지 않도록 지터를 섞어 대기
+                long backoff = retry.backoffMillis() * attempt;
+                Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff + 1));
+            }
+        }
+    }
+}
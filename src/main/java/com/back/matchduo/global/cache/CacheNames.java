@@ -0,0 +1,23 @@
+package com.back.matchduo.global.cache;
+
+/**
+ * 2단계 캐시 이름 (TwoLevelCacheManager에 값 타입과 함께 등록)
+ */
+public final class CacheNames {
+
+    /** gameAccountId → GameAccountResponse **/
+    public static final String GAME_ACCOUNT = "gameAccount";
+    /** userId → List<GameAccountResponse> **/
+    public static final String USER_GAME_ACCOUNTS = "userGameAccounts";
+    /** gameAccountId → EtaggedBody<List<RankResponse>> **/
+    public static final String GAME_ACCOUNT_RANKS = "gameAccountRanks";
+    /** gameAccountId → EtaggedBody<List<FavoriteChampionResponse>> **/
+    public static final String FAVORITE_CHAMPIONS = "favoriteChampions";
+    /** userId → OtherProfileResponse **/
+    public static final String OTHER_PROFILE = "otherProfile";
+    /** chatRoomId → ChatRoomMembership **/
+    public static final String CHAT_ROOM_MEMBERSHIP = "chatRoomMembership";
+
+    private CacheNames() {
+    }
+}
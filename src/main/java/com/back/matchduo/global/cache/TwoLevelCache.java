@@ -0,0 +1,224 @@
+package com.back.matchduo.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 로컬(Caffeine) → Redis → 원본(DB) 순으로 조회하는 캐시
+ * - Redis 장애는 miss로 취급하고 원본에서 읽는다. (요청은 실패시키지 않음)
+ * - 같은 키를 동시에 로드하면 한 요청만 원본을 읽고 나머지는 결과를 기다린다. (single-flight)
+ *   Caffeine compute 안에서 로드하지 않으므로 가상 스레드가 락에 pinning되지 않는다.
+ * - evict/clear는 Redis 삭제 후 다른 노드의 로컬 캐시 무효화를 브로드캐스트한다.
+ * - 메트릭: cache.two-level.gets (tag: cache, result = local_hit | redis_hit | miss)
+ *   적중률 = (local_hit + redis_hit) / 전체
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    /** 다른 노드에 로컬 무효화를 알린다. key == null 이면 전체 삭제 **/
+    @FunctionalInterface
+    public interface InvalidationPublisher {
+        void publish(String cacheName, String key);
+    }
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final InvalidationPublisher invalidationPublisher;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter remoteInvalidations;
+
+    public TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+            Cache remote,
+            InvalidationPublisher invalidationPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHits = getsCounter(meterRegistry, "local_hit");
+        this.redisHits = getsCounter(meterRegistry, "redis_hit");
+        this.misses = getsCounter(meterRegistry, "miss");
+        this.remoteInvalidations = Counter.builder("cache.two-level.remote.invalidations")
+                .description("다른 노드의 무효화 메시지로 비운 로컬 항목 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.two-level.local.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        value = remoteGet(key);
+        if (value != null) {
+            redisHits.increment();
+            local.put(localKey, value);
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return (T) value;
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, loading);
+        if (existing != null) {
+            return (T) await(key, existing);
+        }
+
+        try {
+            value = remoteGet(key);
+            if (value != null) {
+                redisHits.increment();
+            } else {
+                misses.increment();
+                value = valueLoader.call();
+                if (value != null) {
+                    remotePut(key, value);
+                }
+            }
+            if (value != null) {
+                local.put(localKey, value);
+            }
+            loading.complete(value);
+            return (T) value;
+        } catch (Exception e) {
+            loading.completeExceptionally(e);
+            throw e instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(localKey, loading);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        remotePut(key, value);
+        local.put(localKey(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        try {
+            remote.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("Redis 캐시 삭제 실패: cache={}, key={}, error={}", name, localKey, e.getMessage());
+        }
+        invalidationPublisher.publish(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            log.warn("Redis 캐시 전체 삭제 실패: cache={}, error={}", name, e.getMessage());
+        }
+        invalidationPublisher.publish(name, null);
+    }
+
+    /** 다른 노드의 무효화 메시지 처리 (Redis는 이미 발신 노드가 지웠으므로 로컬만) **/
+    void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+        remoteInvalidations.increment();
+    }
+
+    private Object remoteGet(Object key) {
+        try {
+            ValueWrapper wrapper = remote.get(key);
+            return wrapper != null ? wrapper.get() : null;
+        } catch (RuntimeException e) {
+            log.warn("Redis 캐시 조회 실패, 원본 조회로 대체: cache={}, error={}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void remotePut(Object key, Object value) {
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("Redis 캐시 저장 실패: cache={}, error={}", name, e.getMessage());
+        }
+    }
+
+    private Object await(Object key, CompletableFuture<Object> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ValueRetrievalException(key, null, e.getCause());
+        }
+    }
+
+    private Counter getsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.two-level.gets")
+                .description("2단계 캐시 조회 결과")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // Redis 키와 같은 규칙(toString)으로 로컬 키를 만들어 무효화 메시지로 주고받는다.
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,150 @@
+package com.back.matchduo.global.cache;
+
+import com.back.matchduo.global.web.EtaggedBody;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TwoLevelCache 관리 + 노드 간 로컬 캐시 무효화
+ * - 캐시는 값 타입과 함께 미리 등록한다. (Redis에는 타입 정보 없는 JSON으로 저장)
+ * - transactionAware: 트랜잭션 안의 @CacheEvict/put은 커밋 후 실행된다.
+ * - 무효화 메시지: "{nodeId}|{cacheName}|{key}" (key가 비어 있으면 전체 삭제), 자기 노드 메시지는 무시
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private static final String SEPARATOR = "|";
+
+    private final TwoLevelCacheProperties properties;
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JavaType> valueTypes = new LinkedHashMap<>();
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public TwoLevelCacheManager(
+            TwoLevelCacheProperties properties,
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.connectionFactory = connectionFactory;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        setTransactionAware(true);
+    }
+
+    public TwoLevelCacheManager register(String cacheName, Class<?> valueType) {
+        valueTypes.put(cacheName, objectMapper.constructType(valueType));
+        return this;
+    }
+
+    public TwoLevelCacheManager registerList(String cacheName, Class<?> elementType) {
+        valueTypes.put(cacheName, objectMapper.getTypeFactory().constructCollectionType(List.class, elementType));
+        return this;
+    }
+
+    /** 값 = EtaggedBody<List<elementType>> (ETag를 본문과 함께 캐시) */
+    public TwoLevelCacheManager registerEtaggedList(String cacheName, Class<?> elementType) {
+        TypeFactory typeFactory = objectMapper.getTypeFactory();
+        valueTypes.put(cacheName, typeFactory.constructParametricType(EtaggedBody.class,
+                typeFactory.constructCollectionType(List.class, elementType)));
+        return this;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        RedisCacheManager.RedisCacheManagerBuilder redisBuilder = RedisCacheManager
+                .builder(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory))
+                .disableCreateOnMissingCache();
+        valueTypes.forEach((name, type) -> redisBuilder.withCacheConfiguration(name, redisConfiguration(name, type)));
+        RedisCacheManager redisCacheManager = redisBuilder.build();
+        redisCacheManager.initializeCaches();
+
+        List<Cache> caches = new ArrayList<>();
+        for (String name : valueTypes.keySet()) {
+            TwoLevelCacheProperties.Spec spec = properties.specFor(name);
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                    .maximumSize(spec.localMaxSize())
+                    .expireAfterWrite(spec.localTtl())
+                    .build();
+            TwoLevelCache cache = new TwoLevelCache(
+                    name, local, redisCacheManager.getCache(name), this::publish, meterRegistry);
+            twoLevelCaches.put(name, cache);
+            caches.add(cache);
+            log.info("2단계 캐시 등록: name={}, local={}건/{}, redis={}",
+                    name, spec.localMaxSize(), spec.localTtl(), spec.redisTtl());
+        }
+        return caches;
+    }
+
+    // 등록되지 않은 이름은 만들지 않는다 (값 타입을 모르면 Redis 역직렬화가 불가능)
+    @Override
+    protected Cache getMissingCache(String name) {
+        return null;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = twoLevelCaches.get(parts[1]); // lookupCache는 트랜잭션 데코레이터를 돌려준다
+        if (cache != null) {
+            cache.invalidateLocal(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+
+    public String getInvalidationChannel() {
+        return properties.invalidationChannel();
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(properties.invalidationChannel(),
+                    nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : ""));
+        } catch (RuntimeException e) {
+            // 다른 노드는 로컬 TTL이 지나면 반영된다.
+            log.warn("캐시 무효화 브로드캐스트 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private RedisCacheConfiguration redisConfiguration(String name, JavaType valueType) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(properties.specFor(name).redisTtl())
+                .prefixCacheNameWith(properties.keyPrefix())
+                .disableCachingNullValues()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, valueType)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.back.matchduo.global.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 2단계 캐시 (Caffeine → Redis) 설정
+ * - enabled=false 이면 NoOpCacheManager (캐시 없이 매번 DB 조회)
+ * - keyPrefix: Redis 키 접두어, 값 구조가 바뀌면 버전을 올려 이전 값과 섞이지 않게 한다.
+ * - invalidationChannel: 무효화 브로드캐스트용 Redis pub/sub 채널
+ * - caches: 캐시별 설정, 비어 있는 항목은 기본값 (로컬 10,000건 / 30초, Redis 10분)
+ */
+@ConfigurationProperties(prefix = "custom.cache")
+public record TwoLevelCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("cache:v1:") String keyPrefix,
+        @DefaultValue("cache:invalidate") String invalidationChannel,
+        @DefaultValue Map<String, Spec> caches
+) {
+
+    private static final long DEFAULT_LOCAL_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_LOCAL_TTL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_REDIS_TTL = Duration.ofMinutes(10);
+
+    public record Spec(Long localMaxSize, Duration localTtl, Duration redisTtl) {
+    }
+
+    public Spec specFor(String cacheName) {
+        Spec spec = caches.getOrDefault(cacheName, new Spec(null, null, null));
+        return new Spec(
+                spec.localMaxSize() != null ? spec.localMaxSize() : DEFAULT_LOCAL_MAX_SIZE,
+                spec.localTtl() != null ? spec.localTtl() : DEFAULT_LOCAL_TTL,
+                spec.redisTtl() != null ? spec.redisTtl() : DEFAULT_REDIS_TTL
+        );
+    }
+}
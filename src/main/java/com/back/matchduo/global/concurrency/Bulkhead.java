@@ -0,0 +1,94 @@
+package com.back.matchduo.global.concurrency;
+
+import com.back.matchduo.global.exception.CustomErrorCode;
+import com.back.matchduo.global.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 세마포어 기반 벌크헤드
+ * - 가상 스레드는 개수 제한이 없으므로, 스레드 풀 크기 대신 자원(커넥션/외부 호출) 단위로 동시 실행 수를 제한한다.
+ * - maxWait 안에 permit을 얻지 못하면 거절 (무한 대기 대신 빠른 실패)
+ * - 메트릭: bulkhead.available.permits, bulkhead.rejected (tag: name)
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final Semaphore semaphore;
+    private final Duration maxWait;
+    private final Counter rejected;
+
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.semaphore = new Semaphore(maxConcurrent, true);
+        this.maxWait = maxWait;
+
+        Gauge.builder("bulkhead.available.permits", semaphore, Semaphore::availablePermits)
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("bulkhead.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /** 제한 없는 벌크헤드 (설정으로 끈 경우, 호출부는 그대로 두고 항상 통과) **/
+    public static Bulkhead unlimited(String name, MeterRegistry meterRegistry) {
+        return new Bulkhead(name, Integer.MAX_VALUE, Duration.ZERO, meterRegistry);
+    }
+
+    /** permit 획득 시도 (maxWait 초과 또는 인터럽트 시 false) **/
+    public boolean tryAcquire() {
+        try {
+            if (semaphore.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /** permit 획득 (실패 시 SERVER_BUSY) **/
+    public void acquire() {
+        if (!tryAcquire()) {
+            throw new CustomException(CustomErrorCode.SERVER_BUSY);
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+        acquire();
+        try {
+            return supplier.get();
+        } finally {
+            release();
+        }
+    }
+
+    public void run(Runnable runnable) {
+        acquire();
+        try {
+            runnable.run();
+        } finally {
+            release();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+}
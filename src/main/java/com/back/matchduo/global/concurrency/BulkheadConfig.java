@@ -0,0 +1,70 @@
+package com.back.matchduo.global.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 자원별 벌크헤드
+ * - mysql: Hikari 풀 크기만큼만 커넥션 점유 (초과 요청은 풀 대기열 대신 maxWait 후 거절)
+ * - redis: Lettuce 커넥션 사용 구간의 동시 실행 수
+ * - riot: Riot API 동시 호출 수
+ * - mail: SMTP 동시 전송 수 (가상 스레드 mailExecutor에서 사용)
+ */
+@Configuration
+public class BulkheadConfig {
+
+    @Bean
+    public Bulkhead mysqlBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${custom.bulkhead.mysql.max-concurrent:10}") int maxConcurrent,
+            @Value("${custom.bulkhead.mysql.max-wait-ms:1000}") long maxWaitMs
+    ) {
+        return new Bulkhead("mysql", maxConcurrent, Duration.ofMillis(maxWaitMs), meterRegistry);
+    }
+
+    @Bean
+    public Bulkhead redisBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${custom.bulkhead.redis.max-concurrent:64}") int maxConcurrent,
+            @Value("${custom.bulkhead.redis.max-wait-ms:500}") long maxWaitMs
+    ) {
+        return new Bulkhead("redis", maxConcurrent, Duration.ofMillis(maxWaitMs), meterRegistry);
+    }
+
+    // 끄면 제한 없이 통과 (Riot 쪽 rate limit만 적용)
+    @Bean
+    public Bulkhead riotBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${custom.bulkhead.riot.enabled:true}") boolean enabled,
+            @Value("${custom.bulkhead.riot.max-concurrent:8}") int maxConcurrent,
+            @Value("${custom.bulkhead.riot.max-wait-ms:3000}") long maxWaitMs
+    ) {
+        if (!enabled) {
+            return Bulkhead.unlimited("riot", meterRegistry);
+        }
+        return new Bulkhead("riot", maxConcurrent, Duration.ofMillis(maxWaitMs), meterRegistry);
+    }
+
+    @Bean
+    public Bulkhead mailBulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${custom.bulkhead.mail.max-concurrent:5}") int maxConcurrent,
+            @Value("${custom.bulkhead.mail.max-wait-ms:60000}") long maxWaitMs
+    ) {
+        return new Bulkhead("mail", maxConcurrent, Duration.ofMillis(maxWaitMs), meterRegistry);
+    }
+
+    // DataSource / RedisConnectionFactory 래핑 (기본: 가상 스레드 모드일 때만)
+    @Bean
+    @ConditionalOnExpression("${custom.bulkhead.enabled:${spring.threads.virtual.enabled:false}}")
+    public static BeanPostProcessor connectionBulkheadPostProcessor(BeanFactory beanFactory) {
+        return new ConnectionBulkheadPostProcessor(beanFactory);
+    }
+}
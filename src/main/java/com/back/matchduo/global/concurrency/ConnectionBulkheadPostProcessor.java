@@ -0,0 +1,241 @@
+package com.back.matchduo.global.concurrency;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.ReactiveRedisClusterConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 커넥션을 빌려주는 시점에 벌크헤드 permit을 잡고, close() 시 반납한다.
+ * - DataSource: getConnection() → mysqlBulkhead (초과 시 SQLTransientConnectionException, Hikari 타임아웃과 동일 계열)
+ * - RedisConnectionFactory: getConnection() → redisBulkhead (초과 시 RedisConnectionFailureException → 기존 Redis fallback 경로)
+ *   위임 팩토리로 감싸 수명주기(start/stop/destroy)와 reactive 팩토리 역할은 그대로 넘긴다.
+ *   pub/sub 구독 커넥션은 계속 열려 있으므로 subscribe 시점에 permit을 반납한다. (리스너 컨테이너가 permit을 영구 점유하지 않게)
+ * - Bulkhead 빈은 MeterRegistry에 의존하므로 첫 커넥션 요청 시점에 지연 조회한다.
+ */
+class ConnectionBulkheadPostProcessor implements BeanPostProcessor {
+
+    private final Supplier<Bulkhead> mysqlBulkhead;
+    private final Supplier<Bulkhead> redisBulkhead;
+
+    ConnectionBulkheadPostProcessor(BeanFactory beanFactory) {
+        this.mysqlBulkhead = SingletonSupplier.of(() -> beanFactory.getBean("mysqlBulkhead", Bulkhead.class));
+        this.redisBulkhead = SingletonSupplier.of(() -> beanFactory.getBean("redisBulkhead", Bulkhead.class));
+    }
+
+    // 이 메서드가 호출되면 permit 반납 (close 또는 구독 시작)
+    private static final Set<String> JDBC_RELEASE_METHODS = Set.of("close");
+    private static final Set<String> REDIS_RELEASE_METHODS = Set.of("close", "subscribe", "pSubscribe");
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+            return new BulkheadDataSource(dataSource, mysqlBulkhead);
+        }
+        if (bean instanceof RedisConnectionFactory connectionFactory && !(bean instanceof BulkheadRedisConnectionFactory)) {
+            return new BulkheadRedisConnectionFactory(connectionFactory, redisBulkhead);
+        }
+        return bean;
+    }
+
+    static class BulkheadDataSource extends DelegatingDataSource {
+
+        private final Supplier<Bulkhead> bulkhead;
+
+        BulkheadDataSource(DataSource target, Supplier<Bulkhead> bulkhead) {
+            super(target);
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            try {
+                return releaseOn(super.getConnection(), bulkhead.get(), JDBC_RELEASE_METHODS);
+            } catch (SQLException | RuntimeException e) {
+                bulkhead.get().release();
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            acquire();
+            try {
+                return releaseOn(super.getConnection(username, password), bulkhead.get(), JDBC_RELEASE_METHODS);
+            } catch (SQLException | RuntimeException e) {
+                bulkhead.get().release();
+                throw e;
+            }
+        }
+
+        private void acquire() throws SQLTransientConnectionException {
+            if (!bulkhead.get().tryAcquire()) {
+                throw new SQLTransientConnectionException("MySQL 벌크헤드 초과: 사용 가능한 커넥션 permit이 없습니다.");
+            }
+        }
+    }
+
+    /**
+     * Redis 커넥션 팩토리 위임 래퍼
+     * - 커넥션 획득만 벌크헤드를 거치고 나머지는 원본(LettuceConnectionFactory)에 넘긴다.
+     * - 원본이 reactive 팩토리가 아니면 reactive 커넥션 요청은 UnsupportedOperationException
+     */
+    static class BulkheadRedisConnectionFactory
+            implements RedisConnectionFactory, ReactiveRedisConnectionFactory, SmartLifecycle, DisposableBean {
+
+        private final RedisConnectionFactory target;
+        private final Supplier<Bulkhead> bulkhead;
+
+        BulkheadRedisConnectionFactory(RedisConnectionFactory target, Supplier<Bulkhead> bulkhead) {
+            this.target = target;
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public RedisConnection getConnection() {
+            return acquire(target::getConnection);
+        }
+
+        @Override
+        public RedisClusterConnection getClusterConnection() {
+            return acquire(target::getClusterConnection);
+        }
+
+        @Override
+        public boolean getConvertPipelineAndTxResults() {
+            return target.getConvertPipelineAndTxResults();
+        }
+
+        @Override
+        public RedisSentinelConnection getSentinelConnection() {
+            return target.getSentinelConnection();
+        }
+
+        @Override
+        public ReactiveRedisConnection getReactiveConnection() {
+            return reactiveTarget().getReactiveConnection();
+        }
+
+        @Override
+        public ReactiveRedisClusterConnection getReactiveClusterConnection() {
+            return reactiveTarget().getReactiveClusterConnection();
+        }
+
+        @Override
+        public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+            return target.translateExceptionIfPossible(ex);
+        }
+
+        @Override
+        public void start() {
+            if (target instanceof SmartLifecycle lifecycle) {
+                lifecycle.start();
+            }
+        }
+
+        @Override
+        public void stop() {
+            if (target instanceof SmartLifecycle lifecycle) {
+                lifecycle.stop();
+            }
+        }
+
+        @Override
+        public boolean isRunning() {
+            return !(target instanceof SmartLifecycle lifecycle) || lifecycle.isRunning();
+        }
+
+        @Override
+        public boolean isAutoStartup() {
+            return target instanceof SmartLifecycle lifecycle && lifecycle.isAutoStartup();
+        }
+
+        @Override
+        public int getPhase() {
+            return target instanceof SmartLifecycle lifecycle ? lifecycle.getPhase() : DEFAULT_PHASE;
+        }
+
+        @Override
+        public void destroy() throws Exception {
+            if (target instanceof DisposableBean disposable) {
+                disposable.destroy();
+            }
+        }
+
+        private <T> T acquire(Supplier<T> connection) {
+            if (!bulkhead.get().tryAcquire()) {
+                throw new RedisConnectionFailureException("Redis 벌크헤드 초과: 사용 가능한 permit이 없습니다.");
+            }
+            try {
+                return releaseOn(connection.get(), bulkhead.get(), REDIS_RELEASE_METHODS);
+            } catch (RuntimeException e) {
+                bulkhead.get().release();
+                throw e;
+            }
+        }
+
+        private ReactiveRedisConnectionFactory reactiveTarget() {
+            if (target instanceof ReactiveRedisConnectionFactory reactive) {
+                return reactive;
+            }
+            throw new UnsupportedOperationException(target.getClass().getName() + "는 reactive 커넥션을 지원하지 않습니다.");
+        }
+    }
+
+    // 반환된 커넥션에서 releaseMethods 중 하나가 처음 호출될 때 permit 반납
+    @SuppressWarnings("unchecked")
+    private static <T> T releaseOn(T connection, Bulkhead bulkhead, Set<String> releaseMethods) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (T) Proxy.newProxyInstance(
+                connection.getClass().getClassLoader(),
+                ClassUtils.getAllInterfaces(connection),
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> {
+                        if (!releaseMethods.contains(method.getName())) {
+                            yield invokeTarget(connection, method, args);
+                        }
+                        try {
+                            yield invokeTarget(connection, method, args);
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                bulkhead.release();
+                            }
+                        }
+                    }
+                });
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
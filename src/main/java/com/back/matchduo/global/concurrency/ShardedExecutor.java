@@ -0,0 +1,163 @@
+package com.back.matchduo.global.concurrency;
+
+import com.back.matchduo.global.exception.CustomErrorCode;
+import com.back.matchduo.global.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 키 단위 순서 보장 실행기 (액터 메일박스 방식)
+ * - 키를 N개 lane 중 하나에 고정하고, lane마다 스레드 1개가 큐를 순서대로 처리한다.
+ * - 같은 키의 작업은 제출 순서대로 하나씩, 다른 lane의 작업은 병렬로 실행된다.
+ * - 큐는 lane마다 크기 제한, 가득 차면 maxWait까지 제출자를 기다리게 한 뒤 SERVER_BUSY로 거절 (backpressure)
+ * - 메트릭: sharded.executor.queue.depth (tag: name, lane), sharded.executor.rejected (tag: name)
+ */
+@Slf4j
+public class ShardedExecutor implements AutoCloseable {
+
+    // 종료 여부를 확인하는 주기 (작업 중인 lane은 인터럽트하지 않는다)
+    private static final long POLL_INTERVAL_MS = 200;
+    private static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+    private final Duration maxWait;
+    private final BlockingQueue<Runnable>[] queues;
+    private final Thread[] workers;
+    private final Counter rejected;
+
+    private volatile boolean running = true;
+
+    @SuppressWarnings("unchecked")
+    public ShardedExecutor(String name, int laneCount, int queueCapacity, Duration maxWait,
+                           boolean virtualThreads, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxWait = maxWait;
+        this.queues = new BlockingQueue[laneCount];
+        this.workers = new Thread[laneCount];
+
+        for (int lane = 0; lane < laneCount; lane++) {
+            BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+            queues[lane] = queue;
+
+            Gauge.builder("sharded.executor.queue.depth", queue, BlockingQueue::size)
+                    .tag("name", name)
+                    .tag("lane", String.valueOf(lane))
+                    .register(meterRegistry);
+
+            Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+            workers[lane] = builder.name(name + "-lane-" + lane).start(() -> runLoop(queue));
+        }
+        this.rejected = Counter.builder("sharded.executor.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /** 키의 lane에 작업 추가 (큐가 maxWait 안에 비지 않으면 SERVER_BUSY) **/
+    public void execute(long key, Runnable task) {
+        BlockingQueue<Runnable> queue = queues[laneOf(key)];
+        try {
+            if (running && queue.offer(task, maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                // close()와 겹쳤으면 lane이 이미 끝났을 수 있으므로 꺼내서 거절 (lane은 종료를 본 뒤 큐가 비어야 끝남)
+                if (running || !queue.remove(task)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        throw new CustomException(CustomErrorCode.SERVER_BUSY);
+    }
+
+    /** 키의 lane에서 실행하고 결과를 future로 **/
+    public <T> CompletableFuture<T> submit(long key, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(key, () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    public int laneOf(long key) {
+        return Math.floorMod(Long.hashCode(key), queues.length);
+    }
+
+    public int getLaneCount() {
+        return queues.length;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** 새 작업은 거절하고, 남은 작업을 처리한 뒤 lane 스레드 종료 (최대 30초 대기) **/
+    @Override
+    public void close() {
+        close(DEFAULT_CLOSE_TIMEOUT);
+    }
+
+    /**
+     * 새 작업은 거절하고, lane 스레드가 남은 작업을 모두 처리하고 끝날 때까지 timeout만큼 기다린다.
+     * @return 모든 lane이 시간 안에 끝났으면 true (false면 남은 작업은 처리되지 않을 수 있음)
+     */
+    public boolean close(Duration timeout) {
+        running = false;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (Thread worker : workers) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !worker.join(Duration.ofNanos(remaining))) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int pending = 0;
+        boolean terminated = true;
+        for (int lane = 0; lane < workers.length; lane++) {
+            pending += queues[lane].size();
+            terminated &= !workers[lane].isAlive();
+        }
+        if (!terminated) {
+            log.warn("{} lane 종료 대기 시간 초과: timeout={}, 남은 작업={}", name, timeout, pending);
+        }
+        return terminated;
+    }
+
+    private void runLoop(BlockingQueue<Runnable> queue) {
+        while (true) {
+            Runnable task;
+            try {
+                task = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (task == null) {
+                if (!running && queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                log.error("{} lane 작업 실패: {}", name, e.getMessage(), e);
+            }
+        }
+    }
+}
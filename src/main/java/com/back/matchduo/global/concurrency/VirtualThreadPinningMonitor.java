@@ -0,0 +1,101 @@
+package com.back.matchduo.global.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 pinning 감지 (가상 스레드 모드에서만 동작)
+ * - JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아 메트릭으로 내보낸다.
+ * - 메트릭: jvm.threads.virtual.pinned (Timer, tag: frame = pinning을 일으킨 첫 애플리케이션 프레임)
+ * - 같은 프레임은 처음 한 번만 스택과 함께 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.back.matchduo.";
+    private static final int MAX_REPORTED_FRAMES = 1_000;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.virtual-threads.pinned-threshold-ms:20}")
+    private long pinnedThresholdMs;
+
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT)
+                    .withThreshold(Duration.ofMillis(pinnedThresholdMs))
+                    .withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+            log.info("가상 스레드 pinning 모니터 시작: threshold={}ms", pinnedThresholdMs);
+        } catch (Exception e) {
+            // JFR을 쓸 수 없는 런타임이면 모니터링만 포기
+            log.warn("가상 스레드 pinning 모니터 시작 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String frame = firstApplicationFrame(stackTrace);
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정(pinned)된 시간")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedFrames.size() < MAX_REPORTED_FRAMES && reportedFrames.add(frame)) {
+            log.warn("가상 스레드 pinning 감지: frame={}, duration={}ms, stack={}",
+                    frame, event.getDuration().toMillis(), stackTrace != null ? stackTrace.getFrames() : "N/A");
+        }
+    }
+
+    private String firstApplicationFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame() || frame.getMethod() == null) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return type.substring(APP_PACKAGE.length()) + "." + frame.getMethod().getName();
+            }
+        }
+        return "external";
+    }
+}
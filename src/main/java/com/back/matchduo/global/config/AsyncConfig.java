@@ -1,7 +1,10 @@
 package com.back.matchduo.global.config;
 
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -12,7 +15,14 @@ import java.util.concurrent.Executor;
 public class AsyncConfig {
 
     @Bean(name = "eventTaskExecutor")
-    public Executor eventTaskExecutor() {
+    public Executor eventTaskExecutor(Environment environment) {
+        // 가상 스레드 모드: 작업마다 가상 스레드 (동시성 제한은 스레드 수 대신 자원별 Bulkhead가 담당)
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Async-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);       // 기본적으로 유지할 스레드 수
         executor.setMaxPoolSize(10);      // 최대 생성 가능한 스레드 수
@@ -21,4 +31,4 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package com.back.matchduo.global.config;
+
+import com.back.matchduo.domain.chat.dto.internal.ChatRoomMembership;
+import com.back.matchduo.domain.gameaccount.dto.response.FavoriteChampionResponse;
+import com.back.matchduo.domain.gameaccount.dto.response.GameAccountResponse;
+import com.back.matchduo.domain.gameaccount.dto.response.RankResponse;
+import com.back.matchduo.domain.user.dto.response.OtherProfileResponse;
+import com.back.matchduo.global.cache.CacheNames;
+import com.back.matchduo.global.cache.TwoLevelCacheManager;
+import com.back.matchduo.global.cache.TwoLevelCacheProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 캐시 설정 (Caffeine → Redis 2단계, custom.cache.enabled=false 면 캐시 없음)
+ * - Redis 값은 앱 ObjectMapper(응답용 날짜 포맷)와 분리된 전용 매퍼로 직렬화한다.
+ * - 무효화 구독 커넥션은 Redis 벌크헤드 permit 하나를 계속 점유한다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "custom.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public TwoLevelCacheManager cacheManager(
+            TwoLevelCacheProperties properties,
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        JsonMapper cacheObjectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+
+        return new TwoLevelCacheManager(properties, connectionFactory, stringRedisTemplate, cacheObjectMapper, meterRegistry)
+                .register(CacheNames.GAME_ACCOUNT, GameAccountResponse.class)
+                .registerList(CacheNames.USER_GAME_ACCOUNTS, GameAccountResponse.class)
+                .registerEtaggedList(CacheNames.GAME_ACCOUNT_RANKS, RankResponse.class)
+                .registerEtaggedList(CacheNames.FAVORITE_CHAMPIONS, FavoriteChampionResponse.class)
+                .register(CacheNames.OTHER_PROFILE, OtherProfileResponse.class)
+                .register(CacheNames.CHAT_ROOM_MEMBERSHIP, ChatRoomMembership.class);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "custom.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getInvalidationChannel()));
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "custom.cache.enabled", havingValue = "false")
+    public CacheManager noOpCacheManager() {
+        return new NoOpCacheManager();
+    }
+}
@@ -0,0 +1,102 @@
+package com.back.matchduo.global.config;
+
+import com.back.matchduo.global.datasource.DataSourceRoutingProperties;
+import com.back.matchduo.global.datasource.ReadWriteRoutingDataSource;
+import com.back.matchduo.global.datasource.ReadYourWritesTracker;
+import com.back.matchduo.global.datasource.ReplicaLagMonitor;
+import com.back.matchduo.global.datasource.RoutingDataSourcePools;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 분리 DataSource (custom.datasource.routing.enabled=true 일 때만, 아니면 Boot 기본 단일 풀)
+ * - primary: spring.datasource.*, replica: custom.datasource.routing.replica.*
+ *   두 풀 모두 spring.datasource.hikari.* 를 공통으로 쓰고, replica는 풀 크기만 따로 둔다.
+ * - 풀 메트릭: hikaricp.* (tag: pool = primary | replica)
+ * - 벌크헤드(custom.bulkhead.mysql.max-concurrent)는 두 풀 크기의 합으로 맞춘다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "custom.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean(destroyMethod = "close")
+    public RoutingDataSourcePools routingDataSourcePools(
+            DataSourceProperties dataSourceProperties,
+            DataSourceRoutingProperties routingProperties,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        DataSourceRoutingProperties.Replica replicaProperties = routingProperties.replica();
+        if (replicaProperties == null || !StringUtils.hasText(replicaProperties.url())) {
+            throw new IllegalStateException("custom.datasource.routing.replica.url 설정이 필요합니다.");
+        }
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        configurePool(primary, "primary", environment, meterRegistry);
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(replicaProperties.url())
+                .username(StringUtils.hasText(replicaProperties.username())
+                        ? replicaProperties.username() : dataSourceProperties.determineUsername())
+                .password(StringUtils.hasText(replicaProperties.password())
+                        ? replicaProperties.password() : dataSourceProperties.determinePassword())
+                .build();
+        configurePool(replica, "replica", environment, meterRegistry);
+        replica.setMaximumPoolSize(replicaProperties.maximumPoolSize());
+        replica.setReadOnly(true);
+
+        return new RoutingDataSourcePools(primary, replica);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties routingProperties) {
+        return new ReadYourWritesTracker(routingProperties.stickyWindow());
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            RoutingDataSourcePools pools,
+            DataSourceRoutingProperties routingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(pools.replica(), routingProperties.maxReplicaLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            RoutingDataSourcePools pools,
+            ReadYourWritesTracker readYourWritesTracker,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                pools.primary(), pools.replica(), readYourWritesTracker, replicaLagMonitor, meterRegistry));
+    }
+
+    private static void configurePool(
+            HikariDataSource dataSource, String poolName, Environment environment, MeterRegistry meterRegistry) {
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        dataSource.setMetricRegistry(meterRegistry);
+    }
+}
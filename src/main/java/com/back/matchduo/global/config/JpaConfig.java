@@ -1,9 +1,25 @@
 package com.back.matchduo.global.config;
 
+import com.back.matchduo.global.query.QueryCountInterceptor;
+import com.back.matchduo.global.query.QueryCountSessionListener;
+import com.back.matchduo.global.query.QueryCountStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
-}
\ No newline at end of file
+
+    // 요청/테스트 단위 SQL 집계 (SqlBudgetFilter, @QueryBudget)
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountStatementInspector());
+            properties.put(AvailableSettings.INTERCEPTOR, new QueryCountInterceptor());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryCountSessionListener.class.getName());
+        };
+    }
+}
@@ -1,7 +1,12 @@
 package com.back.matchduo.global.config;
 
+import com.back.matchduo.global.concurrency.Bulkhead;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -12,7 +17,15 @@ import java.util.concurrent.Executor;
 public class MailAsyncConfig {
 
     @Bean(name = "mailExecutor")
-    public Executor mailExecutor() {
+    public Executor mailExecutor(Environment environment, @Qualifier("mailBulkhead") Bulkhead mailBulkhead) {
+        // 가상 스레드 모드: 큐가 차서 거절하는 대신, 가상 스레드에서 SMTP permit을 기다린다
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mail-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(task -> () -> mailBulkhead.run(task));
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
@@ -21,4 +34,4 @@ public class MailAsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,28 @@
 package com.back.matchduo.global.config;
 
+import com.back.matchduo.global.websocket.OutboundFrameAggregator;
+import com.back.matchduo.global.websocket.PerMessageDeflateHandshakeHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import com.back.matchduo.global.security.websocket.StompAuthChannelInterceptor;
 
 /**
  * WebSocket STOMP 설정
- * - /ws: WebSocket 엔드포인트
+ * - /ws: SockJS 엔드포인트 (기존 클라이언트)
+ * - /ws-native: 네이티브 WebSocket 엔드포인트 (permessage-deflate, 세션 송신 큐 + 프레임 묶기, 느린 클라이언트 정책)
  * - /sub: 구독 prefix (서버 -> 클라이언트)
  * - /pub: 발행 prefix (클라이언트 -> 서버)
+ * - 가상 스레드 모드에서는 inbound/outbound 채널도 가상 스레드로 처리
  */
 @Configuration
 @EnableWebSocketMessageBroker
@@ -21,6 +30,20 @@ import com.back.matchduo.global.security.websocket.StompAuthChannelInterceptor;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final OutboundFrameAggregator outboundFrameAggregator;
+    private final Environment environment;
+
+    @Value("${custom.websocket.native.compression:true}")
+    private boolean nativeCompression;
+
+    @Value("${custom.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${custom.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${custom.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -29,6 +52,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         // 클라이언트가 메시지 보낼 prefix (클라이언트 -> 서버)
         registry.setApplicationDestinationPrefixes("/pub");
+
+        // 세션별 발행 순서 유지 (outbound 채널이 여러 스레드여도 방 lane의 브로드캐스트 순서대로)
+        registry.setPreservePublishOrder(true);
     }
 
     @Override
@@ -36,10 +62,42 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*") // CORS 설정
                 .withSockJS();                 // SockJS fallback
+
+        registry.addEndpoint("/ws-native")
+                .setAllowedOriginPatterns("*")
+                .setHandshakeHandler(new PerMessageDeflateHandshakeHandler(nativeCompression));
+
+        // 세션별 수신 순서 유지 (inbound 채널이 여러 스레드여도 같은 세션 프레임은 도착 순서대로 방 lane에)
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 송신 버퍼/시간 한도 (넘으면 느린 클라이언트로 보고 연결 종료)
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(outboundFrameAggregator);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompAuthChannelInterceptor);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(virtualThreadExecutor("stomp-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(virtualThreadExecutor("stomp-outbound-"));
+        }
+    }
+
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
     }
 }
@@ -0,0 +1,7 @@
+package com.back.matchduo.global.datasource;
+
+/** 커넥션을 빌려올 풀 **/
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
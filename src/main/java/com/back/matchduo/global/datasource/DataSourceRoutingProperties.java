@@ -0,0 +1,32 @@
+package com.back.matchduo.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정
+ * - enabled=false 이면 spring.datasource 단일 풀 (Boot 기본 구성)
+ * - replica: 읽기 전용 복제본 접속 정보, username/password가 비어 있으면 spring.datasource 값을 쓴다.
+ * - stickyWindow: 쓰기 트랜잭션 커밋 후 같은 사용자의 읽기를 primary로 보내는 시간 (read-your-writes)
+ * - maxReplicaLag: 복제 지연이 이 값을 넘거나 확인에 실패하면 읽기도 primary로 보낸다.
+ * - lagCheckIntervalMs: 복제 지연 확인 주기
+ */
+@ConfigurationProperties(prefix = "custom.datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        Replica replica,
+        @DefaultValue("5s") Duration stickyWindow,
+        @DefaultValue("2s") Duration maxReplicaLag,
+        @DefaultValue("5000") long lagCheckIntervalMs
+) {
+
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.back.matchduo.global.datasource;
+
+import com.back.matchduo.global.security.CustomUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @Transactional(readOnly = true) → 복제본, 그 외 → primary
+ * - 트랜잭션 시작 시점이 아니라 첫 SQL 시점에 커넥션을 고르도록 LazyConnectionDataSourceProxy로 감싸서 쓴다.
+ *   (JpaTransactionManager는 커넥션을 빌린 뒤에 readOnly 플래그를 설정한다)
+ * - 방금 쓰기를 커밋한 사용자(ReadYourWritesTracker)와 복제 지연이 큰 경우(ReplicaLagMonitor)는 primary로 보낸다.
+ * - 메트릭: datasource.routing.connections (tag: route = primary | replica, reason)
+ *   reason = write | no_transaction | read | sticky | replica_unavailable
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReadYourWritesTracker readYourWritesTracker,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.meterRegistry = meterRegistry;
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return route(DataSourceRoute.PRIMARY, "no_transaction");
+        }
+
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteAfterCommit(userId);
+            return route(DataSourceRoute.PRIMARY, "write");
+        }
+        if (readYourWritesTracker.isSticky(userId)) {
+            return route(DataSourceRoute.PRIMARY, "sticky");
+        }
+        if (!replicaLagMonitor.isAvailable()) {
+            return route(DataSourceRoute.PRIMARY, "replica_unavailable");
+        }
+        return route(DataSourceRoute.REPLICA, "read");
+    }
+
+    private void markWriteAfterCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(userId);
+            }
+        });
+    }
+
+    private DataSourceRoute route(DataSourceRoute route, String reason) {
+        String name = route.name().toLowerCase();
+        counters.computeIfAbsent(name + ":" + reason, key -> Counter.builder("datasource.routing.connections")
+                        .description("라우팅별 커넥션 획득 수")
+                        .tag("route", name)
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+        return route;
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.back.matchduo.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 커밋한 사용자 목록 (read-your-writes)
+ * - 커밋 후 window 동안 해당 사용자의 읽기 전용 트랜잭션은 primary로 보낸다. (복제 지연 중 방금 쓴 값이 안 보이는 문제 방지)
+ * - 노드 로컬 기록이므로 다른 노드로 간 요청에는 적용되지 않는다. 그 경우에도 maxReplicaLag 이상 늦은 복제본은 쓰지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void markWrite(Long userId) {
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isSticky(Long userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+}
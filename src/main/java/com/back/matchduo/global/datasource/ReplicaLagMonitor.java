@@ -0,0 +1,73 @@
+package com.back.matchduo.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 복제본 지연 확인 (SHOW REPLICA STATUS → Seconds_Behind_Source)
+ * - 지연이 maxLag를 넘거나, 복제가 멈췄거나(NULL), 조회에 실패하면 복제본을 사용하지 않는다.
+ * - 복제 설정이 없는 인스턴스(로컬에서 같은 DB를 replica로 지정한 경우)는 지연 0으로 본다.
+ * - 조회 계정에 REPLICATION CLIENT 권한이 필요하다.
+ * - 메트릭: datasource.replica.lag (초, 확인 실패 시 -1), datasource.replica.available (1/0)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String SECONDS_BEHIND = "Seconds_Behind_Source";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private volatile long lagSeconds = -1;
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("복제본 지연 (초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("읽기 전용 트랜잭션을 복제본으로 보내는지 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${custom.datasource.routing.lag-check-interval-ms:5000}")
+    public void check() {
+        boolean wasAvailable = available;
+        try {
+            List<Map<String, Object>> status = replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS");
+            Object secondsBehind = status.isEmpty() ? Long.valueOf(0) : status.get(0).get(SECONDS_BEHIND);
+            if (secondsBehind == null) {
+                lagSeconds = -1;
+                available = false;
+            } else {
+                lagSeconds = ((Number) secondsBehind).longValue();
+                available = lagSeconds <= maxLag.toSeconds();
+            }
+        } catch (DataAccessException e) {
+            lagSeconds = -1;
+            available = false;
+            log.warn("복제본 지연 확인 실패: error={}", e.getMessage());
+        }
+
+        if (wasAvailable != available) {
+            log.warn("복제본 라우팅 {}: lag={}s, maxLag={}s",
+                    available ? "재개" : "중단 (primary로 읽기)", lagSeconds, maxLag.toSeconds());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.back.matchduo.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 라우팅 대상 Hikari 풀 (primary / replica)
+ * - 풀은 DataSource 빈으로 노출하지 않는다. 빈으로 만들면 벌크헤드 래핑·자동 구성 대상이 중복된다.
+ * - 애플리케이션 종료 시 두 풀을 닫는다.
+ */
+public record RoutingDataSourcePools(HikariDataSource primary, HikariDataSource replica) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
@@ -0,0 +1,40 @@
+package com.back.matchduo.global.entity;
+
+import java.util.Map;
+
+/**
+ * 테이블 기반 ID 생성기 (id_sequence) 공용 상수
+ * - IDENTITY는 INSERT를 즉시 실행해야 ID를 알 수 있어 JDBC 배치가 꺼진다.
+ *   여러 행을 한 번에 저장하는 엔티티는 id_sequence에서 ID 블록을 받아 쓴다.
+ * - pooled-lo: next_val = 다음 블록 시작값, 한 번 읽을 때 ALLOCATION_SIZE만큼 예약한다. (재시작 시 남은 블록은 건너뜀)
+ * - 블록은 노드마다 따로 받으므로 노드 간 ID 순서는 생성 시각 순서와 다를 수 있다.
+ *   ID 순서에 의존하는 엔티티(chat_message 커서 등)는 IDENTITY를 유지한다.
+ * - 시퀀스 이름 = 테이블 이름, 새 엔티티를 추가하면 ID_COLUMNS와 Flyway(MAX(id)+1 행 추가)도 함께 수정한다.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequence";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+
+    public static final String MATCH = "match_history";
+    public static final String MATCH_PARTICIPANT = "match_participant";
+    public static final String FAVORITE_CHAMPION = "favorite_champion";
+    public static final String PARTY_MEMBER = "party_member";
+    public static final String REVIEW_REQUEST = "review_request";
+    public static final String NOTIFICATION = "notification";
+
+    /** 시퀀스 이름(테이블) → ID 컬럼 **/
+    public static final Map<String, String> ID_COLUMNS = Map.of(
+            MATCH, "match_id",
+            MATCH_PARTICIPANT, "match_participant_id",
+            FAVORITE_CHAMPION, "favorite_champion_id",
+            PARTY_MEMBER, "party_member_id",
+            REVIEW_REQUEST, "review_request_id",
+            NOTIFICATION, "notification_id"
+    );
+
+    private IdSequences() {
+    }
+}
@@ -12,6 +12,7 @@ public enum CustomErrorCode {
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "서버가 혼잡합니다. 잠시 후 다시 시도해주세요."),
 
     // 2. User (사용자)
     NOT_FOUND_USER(HttpStatus.NOT_FOUND, "유저를 찾을 수 없습니다."),
@@ -62,13 +63,13 @@ public enum CustomErrorCode {
     CANNOT_KICK_LEADER(HttpStatus.BAD_REQUEST, "파티장은 스스로 강퇴할 수 없습니다."),
     LEADER_CANNOT_LEAVE(HttpStatus.BAD_REQUEST, "파티장은 스스로 나갈 수 없습니다."),
     PARTY_ALREADY_LEFT(HttpStatus.BAD_REQUEST, "이미 나간 파티입니다."),
+    PARTY_CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청과 동시에 파티가 변경되었습니다. 잠시 후 다시 시도해주세요."),
 
 
 
     // 4. Post (모집글)
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 모집글을 찾을 수 없습니다."),
     GAME_MODE_NOT_FOUND(HttpStatus.NOT_FOUND, "게임 모드를 찾을 수 없습니다."),
-    POSITION_SERIALIZE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "포지션 직렬화에 실패했습니다."),
     INVALID_RECRUIT_COUNT(HttpStatus.BAD_REQUEST, "잘못된 모집 인원입니다."),
     POST_FORBIDDEN(HttpStatus.FORBIDDEN, "해당 모집글에 대한 권한이 없습니다."),
     INVALID_POST_MEMO(HttpStatus.BAD_REQUEST, "모집 내용은 1~50자이며 공백만 입력할 수 없습니다."),
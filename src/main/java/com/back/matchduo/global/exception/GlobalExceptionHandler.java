@@ -2,7 +2,9 @@ package com.back.matchduo.global.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -31,4 +33,22 @@ public class GlobalExceptionHandler {
                 .status(e.getErrorCode().getStatus())
                 .body(response);
     }
+
+    // 커넥션을 얻지 못해 트랜잭션을 시작하지 못한 경우 (MySQL 벌크헤드 초과, 풀 타임아웃 등) → 503
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<CustomErrorResponse> handleCannotCreateTransaction(
+            CannotCreateTransactionException e,
+            HttpServletRequest request
+    ) {
+        return handleCustomException(new CustomException(CustomErrorCode.SERVER_BUSY, e), request);
+    }
+
+    // @OptimisticRetry 밖에서 난 @Version 충돌 (재시도 경로가 없는 쓰기) → 500 대신 409
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<CustomErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException e,
+            HttpServletRequest request
+    ) {
+        return handleCustomException(new CustomException(CustomErrorCode.PARTY_CONCURRENT_MODIFICATION, e), request);
+    }
 }
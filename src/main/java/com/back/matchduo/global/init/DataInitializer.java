@@ -172,29 +172,29 @@ public class DataInitializer implements ApplicationRunner {
 
         // ── 5. Posts (12개) ──
         Post p1 = buildPost(u1, ga1, GameMode.SUMMONERS_RIFT, QueueType.DUO, Position.MID,
-                "[\"SUPPORT\"]", true, 2, "다이아 이상 서폿 구합니다! 마이크 필수");
+                List.of(Position.SUPPORT), true, 2, "다이아 이상 서폿 구합니다! 마이크 필수");
         Post p2 = buildPost(u4, ga4, GameMode.SUMMONERS_RIFT, QueueType.FLEX, Position.JUNGLE,
-                "[\"TOP\",\"MID\",\"ADC\",\"SUPPORT\"]", true, 5, "자랭 5인큐 모집합니다 골드 이상");
+                List.of(Position.TOP, Position.MID, Position.ADC, Position.SUPPORT), true, 5, "자랭 5인큐 모집합니다 골드 이상");
         Post p3 = buildPost(u5, ga5, GameMode.HOWLING_ABYSS, QueueType.NORMAL, Position.ANY,
-                "[\"ANY\"]", false, 2, "칼바람 같이 하실 분~");
+                List.of(Position.ANY), false, 2, "칼바람 같이 하실 분~");
         Post p4 = buildPost(u6, ga6, GameMode.SUMMONERS_RIFT, QueueType.DUO, Position.MID,
-                "[\"JUNGLE\"]", true, 2, "챌린저 미드 정글 듀오 구합니다");
+                List.of(Position.JUNGLE), true, 2, "챌린저 미드 정글 듀오 구합니다");
         Post p5 = buildPost(u7, ga7, GameMode.SUMMONERS_RIFT, QueueType.DUO, Position.ADC,
-                "[\"SUPPORT\"]", true, 2, "그마 원딜 서폿 듀오 찾습니다 마이크 필수");
+                List.of(Position.SUPPORT), true, 2, "그마 원딜 서폿 듀오 찾습니다 마이크 필수");
         Post p6 = buildPost(u8, ga8, GameMode.SUMMONERS_RIFT, QueueType.FLEX, Position.JUNGLE,
-                "[\"TOP\",\"MID\"]", true, 3, "마스터 정글러 자랭 같이 할 분");
+                List.of(Position.TOP, Position.MID), true, 3, "마스터 정글러 자랭 같이 할 분");
         Post p7 = buildPost(u10, ga10, GameMode.SUMMONERS_RIFT, QueueType.DUO, Position.TOP,
-                "[\"JUNGLE\"]", false, 2, "에메 탑 정글 듀오 구해요 편하게 ㄱㄱ");
+                List.of(Position.JUNGLE), false, 2, "에메 탑 정글 듀오 구해요 편하게 ㄱㄱ");
         Post p8 = buildPost(u11, ga11, GameMode.HOWLING_ABYSS, QueueType.NORMAL, Position.ANY,
-                "[\"ANY\"]", false, 5, "칼바람 5인큐 ㄱ ㄱ 아무나 환영");
+                List.of(Position.ANY), false, 5, "칼바람 5인큐 ㄱ ㄱ 아무나 환영");
         Post p9 = buildPost(u12, ga12, GameMode.SUMMONERS_RIFT, QueueType.DUO, Position.JUNGLE,
-                "[\"MID\"]", true, 2, "다이아 정글 미드 듀오 구합니다 캐리 가능");
+                List.of(Position.MID), true, 2, "다이아 정글 미드 듀오 구합니다 캐리 가능");
         Post p10 = buildPost(u14, ga14, GameMode.SUMMONERS_RIFT, QueueType.DUO, Position.SUPPORT,
-                "[\"ADC\"]", true, 2, "에메 서폿 원딜 듀오 찾아요 로밍 잘합니다");
+                List.of(Position.ADC), true, 2, "에메 서폿 원딜 듀오 찾아요 로밍 잘합니다");
         Post p11 = buildPost(u15, ga15, GameMode.SUMMONERS_RIFT, QueueType.FLEX, Position.SUPPORT,
-                "[\"TOP\",\"JUNGLE\",\"MID\",\"ADC\"]", true, 5, "플레 서폿 자랭 5인큐 모집 마이크 필수");
+                List.of(Position.TOP, Position.JUNGLE, Position.MID, Position.ADC), true, 5, "플레 서폿 자랭 5인큐 모집 마이크 필수");
         Post p12 = buildPost(u9, ga9, GameMode.SUMMONERS_RIFT, QueueType.DUO, Position.SUPPORT,
-                "[\"ADC\"]", true, 2, "다이아 서폿 원딜 듀오 찾습니다 와딩 장인");
+                List.of(Position.ADC), true, 2, "다이아 서폿 원딜 듀오 찾습니다 와딩 장인");
         postRepository.saveAll(List.of(p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11, p12));
 
         // ── 6. Party + PartyMembers ──
@@ -301,9 +301,9 @@ public class DataInitializer implements ApplicationRunner {
 
         // ── 6-1. CLOSED Posts + Parties (완료된 모집글 2개) ──
         Post p13 = buildPost(u2, ga2, GameMode.SUMMONERS_RIFT, QueueType.DUO, Position.SUPPORT,
-                "[\"ADC\"]", true, 2, "서폿 장인 원딜 듀오 구합니다");
+                List.of(Position.ADC), true, 2, "서폿 장인 원딜 듀오 구합니다");
         Post p14 = buildPost(u13, ga13, GameMode.SUMMONERS_RIFT, QueueType.DUO, Position.MID,
-                "[\"JUNGLE\"]", true, 2, "미드 정글 듀오 같이 랭크 돌리실 분");
+                List.of(Position.JUNGLE), true, 2, "미드 정글 듀오 같이 랭크 돌리실 분");
         postRepository.saveAll(List.of(p13, p14));
 
         p13.updateStatus(PostStatus.CLOSED);
@@ -411,12 +411,16 @@ public class DataInitializer implements ApplicationRunner {
     }
 
     private Post buildPost(User user, GameAccount ga, GameMode mode, QueueType queue,
-                           Position myPos, String lookingPos, boolean mic, int recruit, String memo) {
-        return Post.builder()
+                           Position myPos, List<Position> lookingPos, boolean mic, int recruit, String memo) {
+        Post post = Post.builder()
                 .user(user).gameAccount(ga)
                 .gameMode(mode).queueType(queue)
                 .myPosition(myPos).lookingPositions(lookingPos)
                 .mic(mic).recruitCount(recruit)
                 .memo(memo).build();
+        // 작성 계정 솔로랭크 티어 서열 (목록 티어 필터용)
+        rankRepository.findByGameAccount_GameAccountIdAndQueueType(ga.getGameAccountId(), Rank.SOLO_QUEUE_TYPE)
+                .ifPresent(rank -> post.updateWriterTierOrdinal(rank.getTierOrdinal()));
+        return post;
     }
 }
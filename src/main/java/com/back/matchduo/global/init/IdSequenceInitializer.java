@@ -0,0 +1,56 @@
+package com.back.matchduo.global.init;
+
+import com.back.matchduo.global.entity.IdSequences;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Flyway 없이 ddl-auto로 스키마를 만드는 환경(local/dev)에서 id_sequence를 기존 데이터에 맞춘다.
+ * - 행이 없으면 MAX(id) + 1로 만들고, next_val이 MAX(id) + 1보다 작으면 올린다. (IDENTITY 시절 데이터와 충돌 방지)
+ * - 운영은 Flyway V11이 같은 일을 한다.
+ * - 시드(DataInitializer)보다 먼저 실행한다.
+ */
+@Slf4j
+@Component
+@Profile({"local", "dev"})
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        IdSequences.ID_COLUMNS.forEach(this::sync);
+    }
+
+    private void sync(String table, String idColumn) {
+        String nextId = "SELECT COALESCE(MAX(" + idColumn + "), 0) + 1 FROM " + table;
+
+        int inserted = jdbcTemplate.update(
+                "INSERT INTO " + IdSequences.TABLE
+                        + " (" + IdSequences.NAME_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") "
+                        + "SELECT ?, (" + nextId + ") FROM (SELECT 1 AS one) dual_row "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM " + IdSequences.TABLE
+                        + " WHERE " + IdSequences.NAME_COLUMN + " = ?)",
+                table, table);
+
+        int raised = jdbcTemplate.update(
+                "UPDATE " + IdSequences.TABLE
+                        + " SET " + IdSequences.VALUE_COLUMN + " = (" + nextId + ")"
+                        + " WHERE " + IdSequences.NAME_COLUMN + " = ?"
+                        + " AND " + IdSequences.VALUE_COLUMN + " < (" + nextId + ")",
+                table);
+
+        if (inserted + raised > 0) {
+            log.info("id_sequence 동기화: sequence={}, inserted={}, raised={}", table, inserted, raised);
+        }
+    }
+}
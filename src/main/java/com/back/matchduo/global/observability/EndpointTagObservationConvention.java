@@ -0,0 +1,61 @@
+package com.back.matchduo.global.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * http.server.requests 에 endpoint 태그 추가 (k6 endpoint 태그와 같은 이름으로 서버/클라이언트 지연을 겹쳐 보기 위함)
+ * - 관측 종료 시점(필터 체인 복귀 후)에 태그를 계산하므로 매핑된 핸들러를 그대로 쓸 수 있다.
+ * - 핸들러가 없는 요청(정적 리소스, 404, 시큐리티에서 끊긴 요청)은 "none"
+ */
+@Component
+@RequiredArgsConstructor
+public class EndpointTagObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String ENDPOINT_TAG = "endpoint";
+    private static final String NONE = "none";
+
+    private final ObservabilityProperties properties;
+    private final Map<Method, String> endpointNames = new ConcurrentHashMap<>();
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context)
+                .and(KeyValue.of(ENDPOINT_TAG, resolveEndpoint(context)));
+    }
+
+    private String resolveEndpoint(ServerRequestObservationContext context) {
+        if (context.getCarrier() == null) {
+            return NONE;
+        }
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return endpointNames.computeIfAbsent(handlerMethod.getMethod(), method -> endpointName(handlerMethod));
+        }
+        return NONE;
+    }
+
+    private String endpointName(HandlerMethod handlerMethod) {
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+        String configured = properties.endpointNames().get(controller + "." + method);
+        if (configured != null) {
+            return configured;
+        }
+        return toSnakeCase(controller.replaceFirst("Controller$", "")) + "_" + toSnakeCase(method);
+    }
+
+    private static String toSnakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+}
@@ -0,0 +1,18 @@
+package com.back.matchduo.global.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 서버 지연 메트릭 설정
+ * - endpointNames: 핸들러("Controller.method") → k6 endpoint 태그와 같은 논리 이름
+ *   (없으면 "post_get_post_list"처럼 컨트롤러/메서드 이름에서 만든다)
+ * - SLO 버킷/히스토그램 범위는 management.metrics.distribution.* 에서 설정
+ */
+@ConfigurationProperties(prefix = "custom.observability")
+public record ObservabilityProperties(
+        @DefaultValue Map<String, String> endpointNames
+) {
+}
@@ -0,0 +1,35 @@
+package com.back.matchduo.global.observability;
+
+import io.prometheus.metrics.tracer.common.SpanContext;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 트레이싱 없이 Prometheus exemplar 붙이기
+ * - 현재 요청 ID(MDC requestId)를 trace_id/span_id 로 내보낸다.
+ * - Grafana에서 지연 히스토그램의 튀는 점을 누르면 해당 요청 ID로 로그를 찾을 수 있다.
+ * - 요청 스레드 밖(스케줄러 등)에서 기록된 값에는 exemplar를 붙이지 않는다.
+ */
+@Component
+public class RequestIdSpanContext implements SpanContext {
+
+    @Override
+    public String getCurrentTraceId() {
+        return MDC.get(RequestIdFilter.MDC_KEY);
+    }
+
+    @Override
+    public String getCurrentSpanId() {
+        return MDC.get(RequestIdFilter.MDC_KEY);
+    }
+
+    @Override
+    public boolean isCurrentSpanSampled() {
+        return MDC.get(RequestIdFilter.MDC_KEY) != null;
+    }
+
+    @Override
+    public void markCurrentSpanAsExemplar() {
+        // 트레이싱 백엔드가 없으므로 할 일 없음
+    }
+}
@@ -0,0 +1,112 @@
+package com.back.matchduo.global.query;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 스레드 단위 SQL 집계 (문장 수, 엔티티 행 수, JDBC 실행 시간, SQL 모양별 반복 횟수)
+ * - Scope는 중첩 가능: 요청 필터와 테스트 확장(@QueryBudget)이 동시에 열어도 각자 집계된다.
+ * - Scope가 없는 스레드(비동기 리스너, 스케줄러)의 SQL은 집계하지 않는다.
+ */
+public final class QueryCountContext {
+
+    private static final ThreadLocal<Deque<Scope>> SCOPES = new ThreadLocal<>();
+    private static final int MAX_TRACKED_SHAPES = 200;
+
+    private QueryCountContext() {
+    }
+
+    public static Scope open() {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        Scope scope = new Scope();
+        scopes.push(scope);
+        return scope;
+    }
+
+    static void recordStatement(String sql) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes != null) {
+            for (Scope scope : scopes) {
+                scope.statements++;
+                scope.countShape(sql);
+            }
+        }
+    }
+
+    static void recordRow() {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes != null) {
+            for (Scope scope : scopes) {
+                scope.rows++;
+            }
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes != null) {
+            for (Scope scope : scopes) {
+                scope.jdbcNanos += nanos;
+            }
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private int statements;
+        private long rows;
+        private long jdbcNanos;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+
+        private void countShape(String sql) {
+            if (shapes.size() < MAX_TRACKED_SHAPES || shapes.containsKey(sql)) {
+                shapes.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public double getJdbcMillis() {
+            return jdbcNanos / 1_000_000.0;
+        }
+
+        /** 가장 많이 반복된 SQL (N+1 후보), 없으면 null **/
+        public Map.Entry<String, Integer> getMostRepeated() {
+            Map.Entry<String, Integer> most = null;
+            for (Map.Entry<String, Integer> entry : shapes.entrySet()) {
+                if (most == null || entry.getValue() > most.getValue()) {
+                    most = entry;
+                }
+            }
+            return most;
+        }
+
+        public Map<String, Integer> getShapes() {
+            return shapes;
+        }
+
+        @Override
+        public void close() {
+            Deque<Scope> scopes = SCOPES.get();
+            if (scopes == null) {
+                return;
+            }
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+}
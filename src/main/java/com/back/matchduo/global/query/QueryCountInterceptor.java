@@ -0,0 +1,16 @@
+package com.back.matchduo.global.query;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * 엔티티로 읽힌 행 수 집계 (스칼라/DTO 프로젝션 결과는 포함되지 않음)
+ */
+public class QueryCountInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryCountContext.recordRow();
+        return false;
+    }
+}
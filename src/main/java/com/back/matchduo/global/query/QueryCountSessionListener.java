@@ -0,0 +1,38 @@
+package com.back.matchduo.global.query;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * 세션 단위 JDBC 실행 시간 집계 (hibernate.session.events.auto 로 세션마다 생성)
+ */
+public class QueryCountSessionListener extends BaseSessionEventListener {
+
+    private long executeStart = -1;
+    private long batchStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        if (executeStart >= 0) {
+            QueryCountContext.recordJdbcTime(System.nanoTime() - executeStart);
+            executeStart = -1;
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        if (batchStart >= 0) {
+            QueryCountContext.recordJdbcTime(System.nanoTime() - batchStart);
+            batchStart = -1;
+        }
+    }
+}
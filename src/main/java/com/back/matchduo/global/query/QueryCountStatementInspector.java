@@ -0,0 +1,15 @@
+package com.back.matchduo.global.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 현재 스레드의 QueryCountContext에 집계 (SQL은 변경하지 않음)
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCountContext.recordStatement(sql);
+        return sql;
+    }
+}
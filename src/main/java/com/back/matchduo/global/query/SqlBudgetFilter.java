@@ -0,0 +1,99 @@
+package com.back.matchduo.global.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청당 SQL 집계 + 예산 초과 / N+1 의심 경고
+ * - 메트릭 (tag: handler = "Controller.method"):
+ *   sql.request.statements, sql.request.rows (엔티티 행), sql.request.jdbc.time (ms)
+ * - 시큐리티 필터보다 바깥에서 열어 인증 과정의 SQL까지 포함한다.
+ *   순서: RequestIdFilter(+0) → Boot ServerHttpObservationFilter(+1) → 이 필터(+2) → 시큐리티
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "custom.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        QueryCountContext.Scope scope = QueryCountContext.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            report(request, scope);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCountContext.Scope scope) {
+        String handler = resolveHandler(request);
+        if (handler == null) {
+            return; // 정적 리소스, 404, 시큐리티에서 끊긴 요청
+        }
+
+        summary("sql.request.statements", "statements", handler).record(scope.getStatements());
+        summary("sql.request.rows", "rows", handler).record(scope.getRows());
+        summary("sql.request.jdbc.time", "milliseconds", handler).record(scope.getJdbcMillis());
+
+        int budget = properties.maxStatementsFor(handler);
+        if (scope.getStatements() > budget) {
+            log.warn("event=sql_budget_exceeded handler={} method={} uri={} statements={} budget={} rows={} jdbcMs={}",
+                    handler, request.getMethod(), request.getRequestURI(),
+                    scope.getStatements(), budget, scope.getRows(), String.format("%.1f", scope.getJdbcMillis()));
+        }
+
+        Map.Entry<String, Integer> mostRepeated = scope.getMostRepeated();
+        if (mostRepeated != null && mostRepeated.getValue() >= properties.nPlusOneThreshold()) {
+            log.warn("event=sql_n_plus_one_suspected handler={} uri={} repeated={} sql=\"{}\"",
+                    handler, request.getRequestURI(), mostRepeated.getValue(), abbreviate(mostRepeated.getKey()));
+        }
+    }
+
+    private DistributionSummary summary(String name, String baseUnit, String handler) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tag("handler", handler)
+                .register(meterRegistry);
+    }
+
+    private String resolveHandler(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return null;
+    }
+
+    private String abbreviate(String sql) {
+        String compact = sql.replaceAll("\\s+", " ");
+        return compact.length() <= MAX_LOGGED_SQL_LENGTH ? compact : compact.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
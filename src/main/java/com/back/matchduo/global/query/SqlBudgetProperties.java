@@ -0,0 +1,24 @@
+package com.back.matchduo.global.query;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 요청당 SQL 예산
+ * - endpoints: 핸들러("Controller.method")별 최대 문장 수, 없으면 defaultMaxStatements
+ * - nPlusOneThreshold: 같은 SQL이 이 횟수 이상 반복되면 N+1 의심 경고
+ */
+@ConfigurationProperties(prefix = "custom.sql-budget")
+public record SqlBudgetProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int defaultMaxStatements,
+        @DefaultValue("5") int nPlusOneThreshold,
+        @DefaultValue Map<String, Integer> endpoints
+) {
+
+    public int maxStatementsFor(String handler) {
+        return endpoints.getOrDefault(handler, defaultMaxStatements);
+    }
+}
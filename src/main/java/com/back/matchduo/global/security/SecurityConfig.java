@@ -116,7 +116,7 @@ public class SecurityConfig {
                         // .requestMatchers("/api/v1/posts/**").permitAll()
 
                         // WebSocket 엔드포인트만 permitAll (STOMP 인증은 StompAuthChannelInterceptor에서 처리)
-                        .requestMatchers("/ws/**").permitAll()
+                        .requestMatchers("/ws/**", "/ws-native").permitAll()
 
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
@@ -1,6 +1,7 @@
 package com.back.matchduo.global.security.websocket;
 
-import com.back.matchduo.domain.chat.repository.ChatRoomRepository;
+import com.back.matchduo.domain.chat.service.ChatRoomMembershipService;
+import com.back.matchduo.global.exception.CustomException;
 import com.back.matchduo.global.security.jwt.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,7 +26,8 @@ import java.util.regex.Pattern;
  * WebSocket STOMP 인증/인가
  * - CONNECT: JWT 토큰 검증 + 만료시간 저장
  * - SUBSCRIBE: 채팅방 멤버 검증
- * - SEND: 토큰 만료 여부 재검증
+ * - SEND: 토큰 만료 여부 재검증 + 채팅방 멤버 검증
+ * - 멤버 검증은 캐시된 구성원 스냅샷으로 (DB 조회 없음)
  */
 @Slf4j
 @Component
@@ -33,9 +35,10 @@ import java.util.regex.Pattern;
 public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
     private final JwtProvider jwtProvider;
-    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMembershipService chatRoomMembershipService;
 
     private static final Pattern CHAT_ROOM_PATTERN = Pattern.compile("/sub/chats/(\\d+)");
+    private static final Pattern CHAT_SEND_PATTERN = Pattern.compile("/pub/chats/(\\d+)/messages");
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -57,9 +60,10 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
             validateSubscription(accessor);
         }
 
-        // SEND: 토큰 만료 여부 재검증
+        // SEND: 토큰 만료 여부 재검증 + 채팅방 멤버 검증
         if (StompCommand.SEND.equals(command)) {
             validateTokenNotExpired(accessor);
+            validateSend(accessor);
         }
 
         return message;
@@ -109,24 +113,47 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
             return;
         }
 
+        validateChatRoomMember(accessor, Long.parseLong(matcher.group(1)), "구독");
+    }
+
+    private void validateSend(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return;
+        }
+
+        // 채팅 메시지 전송인 경우만 검증
+        Matcher matcher = CHAT_SEND_PATTERN.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+
+        validateChatRoomMember(accessor, Long.parseLong(matcher.group(1)), "전송");
+    }
+
+    private void validateChatRoomMember(StompHeaderAccessor accessor, Long chatRoomId, String action) {
         // 인증 확인
         Authentication auth = (Authentication) accessor.getUser();
         if (auth == null) {
-            log.warn("WebSocket 구독 실패: 인증 정보 없음");
+            log.warn("WebSocket {} 실패: 인증 정보 없음", action);
             throw new MessageDeliveryException("인증이 필요합니다.");
         }
 
         Long userId = (Long) auth.getPrincipal();
-        Long chatRoomId = Long.parseLong(matcher.group(1));
 
-        // 채팅방 멤버 검증
-        boolean isMember = chatRoomRepository.existsByIdAndMember(chatRoomId, userId);
+        // 채팅방 멤버 검증 (없는 방도 권한 없음으로)
+        boolean isMember;
+        try {
+            isMember = chatRoomMembershipService.get(chatRoomId).isMember(userId);
+        } catch (CustomException e) {
+            isMember = false;
+        }
         if (!isMember) {
-            log.warn("WebSocket 구독 실패: 채팅방 멤버 아님 - chatRoomId={}, userId={}", chatRoomId, userId);
+            log.warn("WebSocket {} 실패: 채팅방 멤버 아님 - chatRoomId={}, userId={}", action, chatRoomId, userId);
             throw new MessageDeliveryException("채팅방에 접근 권한이 없습니다.");
         }
 
-        log.debug("WebSocket 구독 성공: chatRoomId={}, userId={}", chatRoomId, userId);
+        log.debug("WebSocket {} 성공: chatRoomId={}, userId={}", action, chatRoomId, userId);
     }
 
     private void validateTokenNotExpired(StompHeaderAccessor accessor) {
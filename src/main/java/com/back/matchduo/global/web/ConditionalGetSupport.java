@@ -0,0 +1,96 @@
+package com.back.matchduo.global.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET (ETag / If-None-Match)
+ * - ETag는 응답 본문이 아니라 가벼운 버전 값(갱신 시각, 카운트 등)으로 만든다. 무거운 조회/직렬화 전에 비교해서 같으면 304.
+ * - 200 응답의 ETag는 본문과 같은 트랜잭션에서 읽은 값({@link EtaggedBody})을 쓴다. (캐시된 본문과 버전 값이 어긋나지 않게)
+ * - 브라우저가 저장 후 재검증하도록 Cache-Control: private, no-cache (Spring Security 기본 no-store 대신)
+ * - 메트릭: http.conditional.get (tag: endpoint, result = not_modified | modified), 304 비율 = not_modified / 전체
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetSupport {
+
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 버전 값으로 강한 ETag 생성 (순서가 같은 값이면 같은 ETag)
+     * @param stampParts 갱신 시각/카운트/사용자 등, null 허용
+     */
+    public static String etag(Object... stampParts) {
+        String stamp = Arrays.stream(stampParts)
+                .map(ConditionalGetSupport::stampValue)
+                .collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(stamp.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * If-None-Match와 비교 (응답에 ETag/Cache-Control을 붙인다)
+     * @param endpoint 메트릭 태그
+     * @return true면 304가 설정된 상태, 컨트롤러는 본문 없이 null을 반환
+     */
+    public boolean checkNotModified(WebRequest request, String endpoint, String etag) {
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            }
+        }
+
+        boolean notModified = request.checkNotModified(etag);
+        meterRegistry.counter("http.conditional.get",
+                "endpoint", endpoint,
+                "result", notModified ? "not_modified" : "modified"
+        ).increment();
+        return notModified;
+    }
+
+    /**
+     * 200 응답: 본문과 함께 읽은 ETag를 그대로 싣는다 (checkNotModified가 붙인 ETag를 덮어씀)
+     * - 미리 읽은 ETag와 다르면 캐시된 본문이 무효화 전 값이거나 지연된 복제본에서 채워진 것이므로 evict 후 한 번 다시 읽는다.
+     * - 그래도 다르면 본문 쪽 ETag를 보낸다. 다음 요청에서 다시 비교되므로 이전 본문이 새 ETag로 저장되지 않는다.
+     * @param currentEtag 본 조회 전에 읽은 ETag, null이면 비교 없이 본문 쪽 ETag를 보낸다
+     * @param loader 본문 + ETag 조회 (캐시 경유)
+     * @param evict 해당 캐시 키 무효화
+     */
+    public <T> ResponseEntity<T> ok(String currentEtag, Supplier<EtaggedBody<T>> loader, Runnable evict) {
+        EtaggedBody<T> loaded = loader.get();
+        if (currentEtag != null && !currentEtag.equals(loaded.etag())) {
+            evict.run();
+            loaded = loader.get();
+        }
+        return ResponseEntity.ok()
+                .eTag(loaded.etag())
+                .body(loaded.body());
+    }
+
+    private static String stampValue(Object part) {
+        if (part == null) {
+            return "-";
+        }
+        if (part instanceof LocalDateTime time) {
+            // 초 단위 절사 없이 (같은 초 안의 갱신도 구분)
+            return time.toEpochSecond(ZoneOffset.UTC) + "." + time.getNano();
+        }
+        return String.valueOf(part);
+    }
+}
@@ -0,0 +1,9 @@
+package com.back.matchduo.global.web;
+
+/**
+ * 응답 본문 + 그 본문을 읽은 시점의 ETag
+ * - 버전 값과 본문을 같은 읽기 트랜잭션에서 만들고 캐시에도 함께 저장한다.
+ *   (무효화 전 캐시/복제 지연으로 본문이 버전 값보다 오래된 경우, 이전 본문이 새 ETag로 나가지 않게)
+ */
+public record EtaggedBody<T>(String etag, T body) {
+}
@@ -0,0 +1,84 @@
+package com.back.matchduo.global.websocket;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.sockjs.transport.SockJsSession;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * 네이티브 WebSocket 송신 처리 (세션마다 OutboundSessionQueue를 씌움)
+ * - 같은 세션으로 delay-ms 안에 나가는 STOMP 프레임을 WebSocket 메시지 1개로 합쳐 보낸다. (STOMP 프레임은 NUL로 끝나므로 이어 붙여도 클라이언트가 나눠 읽음)
+ * - max-bytes까지만 합침, 텍스트가 아닌 메시지는 순서를 지켜 그대로 전송, delay-ms가 0이면 합치지 않음
+ * - 전송은 세션 큐를 비우는 가상 스레드에서, 밀린 바이트가 쌓이면 SlowConsumerPolicy로 버림/연결 종료
+ * - SockJS 세션은 SockJS 자체 큐와 Spring 송신 제한(send-time/buffer-size-limit)에 맡기고 제외
+ * - 메트릭: websocket.outbound.batch.frames (메시지 1개에 담긴 프레임 수)
+ */
+@Component
+public class OutboundFrameAggregator implements WebSocketHandlerDecoratorFactory {
+
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final SlowConsumerPolicy slowConsumerPolicy;
+    private final long delayMs;
+    private final int maxBytes;
+    private final DistributionSummary batchFrames;
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("ws-outbound-aggregator").daemon(true).factory());
+    private final ExecutorService flushExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public OutboundFrameAggregator(
+            MeterRegistry meterRegistry,
+            WebSocketSessionRegistry sessionRegistry,
+            SlowConsumerPolicy slowConsumerPolicy,
+            @Value("${custom.websocket.native.aggregate-delay-ms:5}") long delayMs,
+            @Value("${custom.websocket.native.aggregate-max-bytes:16384}") int maxBytes
+    ) {
+        this.sessionRegistry = sessionRegistry;
+        this.slowConsumerPolicy = slowConsumerPolicy;
+        this.delayMs = delayMs;
+        this.maxBytes = maxBytes;
+        this.batchFrames = DistributionSummary.builder("websocket.outbound.batch.frames")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                if (session instanceof SockJsSession) {
+                    super.afterConnectionEstablished(session);
+                    return;
+                }
+                OutboundSessionQueue queue = new OutboundSessionQueue(session, slowConsumerPolicy,
+                        timer, flushExecutor, delayMs, maxBytes, batchFrames);
+                sessionRegistry.trackOutbound(session.getId(), queue);
+                super.afterConnectionEstablished(queue);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessionRegistry.untrackOutbound(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        flushExecutor.shutdown();
+    }
+}
@@ -0,0 +1,267 @@
+package com.back.matchduo.global.websocket;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 네이티브 세션 송신 큐 (OutboundFrameAggregator가 씌움)
+ * - sendMessage는 큐에 넣고 바로 반환, 실제 전송은 세션당 하나의 drain 작업이 순서대로 수행
+ *   (느린 클라이언트 때문에 outbound 스레드가 막히지 않고, 밀린 양이 여기서 보임)
+ * - 넣기 전에 SlowConsumerPolicy로 판단: 버림 / 연결 종료(SESSION_NOT_RELIABLE)
+ * - delayMs > 0이면 그동안 쌓인 텍스트 프레임을 maxBatchBytes까지 WebSocket 메시지 1개로 합쳐 보냄
+ */
+@Slf4j
+class OutboundSessionQueue extends WebSocketSessionDecorator {
+
+    private static final long CLOSE_DRAIN_TIMEOUT_MS = 1000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Pending> queue = new ArrayDeque<>();
+
+    private final SlowConsumerPolicy policy;
+    private final ScheduledExecutorService timer;
+    private final Executor writer;
+    private final long delayMs;
+    private final int maxBatchBytes;
+    private final DistributionSummary batchFrames;
+
+    private long pendingBytes;
+    private boolean draining;
+    private boolean delayed;
+    private long writeStartedAt;
+    private CloseStatus closeAfterDrain;
+    private boolean closed;
+
+    OutboundSessionQueue(WebSocketSession delegate, SlowConsumerPolicy policy,
+                         ScheduledExecutorService timer, Executor writer,
+                         long delayMs, int maxBatchBytes, DistributionSummary batchFrames) {
+        super(delegate);
+        this.policy = policy;
+        this.timer = timer;
+        this.writer = writer;
+        this.delayMs = delayMs;
+        this.maxBatchBytes = maxBatchBytes;
+        this.batchFrames = batchFrames;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        int bytes = message.getPayloadLength();
+        lock.lock();
+        try {
+            if (closed || closeAfterDrain != null) {
+                return;
+            }
+            long writingMs = writeStartedAt > 0 ? System.currentTimeMillis() - writeStartedAt : 0;
+            switch (policy.decide(pendingBytes, bytes, writingMs, message)) {
+                case DROP -> {
+                    return;
+                }
+                case DISCONNECT -> {
+                    log.warn("느린 WebSocket 클라이언트 연결 종료: sessionId={}, pendingBytes={}, writingMs={}",
+                            getId(), pendingBytes, writingMs);
+                    discard();
+                }
+                case ACCEPT -> {
+                    queue.add(new Pending(message, bytes));
+                    pendingBytes += bytes;
+                    boolean batchable = message instanceof TextMessage && pendingBytes < maxBatchBytes;
+                    if (!draining) {
+                        draining = true;
+                        delayed = batchable && delayMs > 0;
+                        if (delayed) {
+                            timer.schedule(() -> writer.execute(this::drainDelayed), delayMs, TimeUnit.MILLISECONDS);
+                        } else {
+                            writer.execute(this::drain);
+                        }
+                    } else if (delayed && !batchable) {
+                        // 묶음이 찼거나 텍스트가 아닌 메시지면 지연을 기다리지 않음
+                        delayed = false;
+                        writer.execute(this::drain);
+                    }
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        closeDelegate(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        // 닫기 전에 쌓인 프레임(RECEIPT/ERROR 등)을 먼저 보내고 닫음, 전송이 막혀 있으면 잠시 후 강제 종료
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (draining) {
+                closeAfterDrain = status;
+                timer.schedule(() -> forceClose(status), CLOSE_DRAIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                return;
+            }
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+        super.close(status);
+    }
+
+    long pendingBytes() {
+        lock.lock();
+        try {
+            return pendingBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drainDelayed() {
+        lock.lock();
+        try {
+            if (!delayed) {
+                return;
+            }
+            delayed = false;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    private void drain() {
+        while (true) {
+            WebSocketMessage<?> next;
+            long bytes;
+            CloseStatus closeStatus;
+            lock.lock();
+            try {
+                Pending first = queue.poll();
+                if (first == null) {
+                    draining = false;
+                    closeStatus = closeAfterDrain;
+                    if (closeStatus != null) {
+                        closed = true;
+                    }
+                    next = null;
+                    bytes = 0;
+                } else if (delayMs > 0 && first.message() instanceof TextMessage text) {
+                    Batch batch = pollBatch(text, first.bytes());
+                    next = batch.message();
+                    bytes = batch.bytes();
+                    closeStatus = null;
+                } else {
+                    next = first.message();
+                    bytes = first.bytes();
+                    closeStatus = null;
+                }
+                writeStartedAt = next != null ? System.currentTimeMillis() : 0;
+            } finally {
+                lock.unlock();
+            }
+
+            if (next == null) {
+                if (closeStatus != null) {
+                    closeDelegate(closeStatus);
+                }
+                return;
+            }
+
+            try {
+                if (isOpen()) {
+                    super.sendMessage(next);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("WebSocket 전송 실패, 연결 종료: sessionId={}, {}", getId(), e.getMessage());
+                discardQuietly();
+                closeDelegate(CloseStatus.SESSION_NOT_RELIABLE);
+                return;
+            } finally {
+                lock.lock();
+                try {
+                    pendingBytes = Math.max(0, pendingBytes - bytes);
+                    writeStartedAt = 0;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /** 이어지는 텍스트 프레임을 maxBatchBytes까지 합친다 (STOMP 프레임은 NUL로 끝나므로 클라이언트가 나눠 읽음) */
+    private Batch pollBatch(TextMessage first, int firstBytes) {
+        if (!(queue.peek() != null && queue.peek().message() instanceof TextMessage)) {
+            batchFrames.record(1);
+            return new Batch(first, firstBytes);
+        }
+
+        StringBuilder payload = new StringBuilder(first.getPayload());
+        long bytes = firstBytes;
+        int frames = 1;
+        while (bytes < maxBatchBytes
+                && queue.peek() != null
+                && queue.peek().message() instanceof TextMessage text) {
+            bytes += queue.poll().bytes();
+            payload.append(text.getPayload());
+            frames++;
+        }
+        batchFrames.record(frames);
+        return new Batch(new TextMessage(payload), bytes);
+    }
+
+    private void discard() {
+        closed = true;
+        queue.clear();
+        pendingBytes = 0;
+    }
+
+    private void forceClose(CloseStatus status) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            discard();
+        } finally {
+            lock.unlock();
+        }
+        closeDelegate(status);
+    }
+
+    private void discardQuietly() {
+        lock.lock();
+        try {
+            discard();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeDelegate(CloseStatus status) {
+        try {
+            getDelegate().close(status);
+        } catch (IOException ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+
+    private record Pending(WebSocketMessage<?> message, int bytes) {
+    }
+
+    private record Batch(WebSocketMessage<?> message, long bytes) {
+    }
+}
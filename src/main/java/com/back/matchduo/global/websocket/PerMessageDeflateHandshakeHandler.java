@@ -0,0 +1,37 @@
+package com.back.matchduo.global.websocket;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
+
+/**
+ * 네이티브 WebSocket 핸드셰이크 (/ws-native)
+ * - 클라이언트가 요청한 확장 중 permessage-deflate만 수락 (컨테이너가 지원할 때)
+ * - compression=false면 압축 없이 연결 (CPU 비교/장애 시 끄기용)
+ */
+public class PerMessageDeflateHandshakeHandler extends DefaultHandshakeHandler {
+
+    static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean compression;
+
+    public PerMessageDeflateHandshakeHandler(boolean compression) {
+        this.compression = compression;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(
+            ServerHttpRequest request,
+            List<WebSocketExtension> requestedExtensions,
+            List<WebSocketExtension> supportedExtensions
+    ) {
+        if (!compression) {
+            return List.of();
+        }
+        return super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions).stream()
+                .filter(extension -> PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+                .toList();
+    }
+}
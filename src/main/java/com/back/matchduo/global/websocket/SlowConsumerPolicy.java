@@ -0,0 +1,75 @@
+package com.back.matchduo.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 느린 클라이언트 정책 (네이티브 세션 송신 큐에 넣을 때마다 판단)
+ * - 밀린 바이트가 drop-threshold-bytes를 넘으면 브로드캐스트(MESSAGE) 프레임은 버린다.
+ *   (채팅 메시지는 seq가 있어 클라이언트가 빈 순번을 afterSeq로 다시 조회)
+ * - send-buffer-size-limit를 넘거나 한 번의 전송이 send-time-limit-ms보다 오래 걸리면 연결 종료
+ * - CONNECTED/RECEIPT/ERROR/heartbeat는 버리지 않는다.
+ * - 메트릭: websocket.slow.consumer (tag: action=dropped|disconnected)
+ */
+@Component
+public class SlowConsumerPolicy {
+
+    public enum Decision { ACCEPT, DROP, DISCONNECT }
+
+    private static final byte[] MESSAGE_COMMAND = "MESSAGE\n".getBytes(StandardCharsets.UTF_8);
+
+    private final long dropThresholdBytes;
+    private final long disconnectThresholdBytes;
+    private final long maxWriteMs;
+    private final Counter dropped;
+    private final Counter disconnected;
+
+    public SlowConsumerPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${custom.websocket.slow-consumer.drop-threshold-bytes:65536}") long dropThresholdBytes,
+            @Value("${custom.websocket.send-buffer-size-limit:524288}") long disconnectThresholdBytes,
+            @Value("${custom.websocket.send-time-limit-ms:10000}") long maxWriteMs
+    ) {
+        this.dropThresholdBytes = dropThresholdBytes;
+        this.disconnectThresholdBytes = disconnectThresholdBytes;
+        this.maxWriteMs = maxWriteMs;
+        this.dropped = Counter.builder("websocket.slow.consumer")
+                .tag("action", "dropped")
+                .register(meterRegistry);
+        this.disconnected = Counter.builder("websocket.slow.consumer")
+                .tag("action", "disconnected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param pendingBytes 아직 보내지 못한 바이트
+     * @param writingMs 진행 중인 전송이 걸린 시간 (전송 중이 아니면 0)
+     */
+    public Decision decide(long pendingBytes, int messageBytes, long writingMs, WebSocketMessage<?> message) {
+        if (writingMs > maxWriteMs || pendingBytes + messageBytes > disconnectThresholdBytes) {
+            disconnected.increment();
+            return Decision.DISCONNECT;
+        }
+        if (pendingBytes > dropThresholdBytes && isBroadcast(message)) {
+            dropped.increment();
+            return Decision.DROP;
+        }
+        return Decision.ACCEPT;
+    }
+
+    static boolean isBroadcast(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage text)) {
+            return false;
+        }
+        byte[] payload = text.asBytes();
+        return payload.length >= MESSAGE_COMMAND.length
+                && Arrays.equals(payload, 0, MESSAGE_COMMAND.length, MESSAGE_COMMAND, 0, MESSAGE_COMMAND.length);
+    }
+}
@@ -0,0 +1,151 @@
+package com.back.matchduo.global.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongBinaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 세션/구독 현황 (이 노드 기준)
+ * - Session*Event로 세션과 구독을 추적, 네이티브 세션 송신 큐는 OutboundFrameAggregator가 등록
+ * - 메트릭
+ *   - websocket.sessions: 연결된 STOMP 세션 수
+ *   - websocket.subscriptions (tag: destination): 목적지별 구독 수, 숫자 경로는 {id}로 묶음 (/sub/chats/{id})
+ *   - websocket.outbound.pending.bytes / .max: 네이티브 세션 송신 큐에 밀린 바이트 합계 / 세션 최대값
+ */
+@Component
+public class WebSocketSessionRegistry {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final MeterRegistry meterRegistry;
+
+    /** sessionId → (subscriptionId → 집계용 destination) */
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> subscriptionCounts = new ConcurrentHashMap<>();
+    private final Map<String, OutboundSessionQueue> outboundQueues = new ConcurrentHashMap<>();
+
+    public WebSocketSessionRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.pending.bytes", this, r -> r.pendingBytes(Long::sum))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.pending.bytes.max", this, r -> r.pendingBytes(Math::max))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        String sessionId = sessionId(event.getMessage());
+        if (sessionId != null) {
+            sessions.putIfAbsent(sessionId, new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+
+        String normalized = normalize(destination);
+        String previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, normalized);
+        if (previous != null) {
+            decrement(previous);
+        }
+        counter(normalized).incrementAndGet();
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() != null
+                ? sessions.get(accessor.getSessionId())
+                : null;
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String destination = subscriptions.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            decrement(destination);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+        outboundQueues.remove(event.getSessionId());
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    public int subscriptionCount(String destination) {
+        AtomicInteger count = subscriptionCounts.get(normalize(destination));
+        return count == null ? 0 : count.get();
+    }
+
+    void trackOutbound(String sessionId, OutboundSessionQueue queue) {
+        outboundQueues.put(sessionId, queue);
+    }
+
+    void untrackOutbound(String sessionId) {
+        outboundQueues.remove(sessionId);
+    }
+
+    static String normalize(String destination) {
+        return NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}");
+    }
+
+    private long pendingBytes(LongBinaryOperator combiner) {
+        return outboundQueues.values().stream()
+                .mapToLong(OutboundSessionQueue::pendingBytes)
+                .reduce(0L, combiner);
+    }
+
+    private AtomicInteger counter(String destination) {
+        return subscriptionCounts.computeIfAbsent(destination, d -> {
+            AtomicInteger count = new AtomicInteger();
+            Gauge.builder("websocket.subscriptions", count, AtomicInteger::get)
+                    .tag("destination", d)
+                    .register(meterRegistry);
+            return count;
+        });
+    }
+
+    private void decrement(String destination) {
+        AtomicInteger count = subscriptionCounts.get(destination);
+        if (count != null) {
+            count.updateAndGet(c -> Math.max(0, c - 1));
+        }
+    }
+
+    private static String sessionId(Message<?> message) {
+        return SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+    }
+}
@@ -0,0 +1,37 @@
+-- [1] user.nickname n-gram FULLTEXT 인덱스 (유저 검색: LIKE '%keyword%' 풀스캔 대체)
+SET @idx_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'user'
+      AND INDEX_NAME = 'ft_user_nickname'
+);
+
+SET @query := IF(
+    @idx_exists = 0,
+    'ALTER TABLE user ADD FULLTEXT INDEX ft_user_nickname (nickname) WITH PARSER ngram',
+    'SELECT "ft_user_nickname already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- [2] game_account.game_nickname n-gram FULLTEXT 인덱스 (Riot ID 검색)
+SET @idx_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'game_account'
+      AND INDEX_NAME = 'ft_game_account_game_nickname'
+);
+
+SET @query := IF(
+    @idx_exists = 0,
+    'ALTER TABLE game_account ADD FULLTEXT INDEX ft_game_account_game_nickname (game_nickname) WITH PARSER ngram',
+    'SELECT "ft_game_account_game_nickname already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,27 @@
+-- [1] id_sequence 테이블 (Hibernate 테이블 기반 ID 생성기, pooled-lo)
+-- 배치 INSERT가 필요한 엔티티는 IDENTITY 대신 이 테이블에서 ID 블록을 받는다. (IdSequences 참고)
+-- 기존 AUTO_INCREMENT 속성은 그대로 둔다. (SQL로 직접 넣는 시드/운영 스크립트 호환)
+CREATE TABLE IF NOT EXISTS `id_sequence` (
+  `sequence_name` varchar(255) NOT NULL,
+  `next_val` bigint DEFAULT NULL,
+  PRIMARY KEY (`sequence_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- [2] 시퀀스 초기값 = 기존 MAX(id) + 1 (이미 있는 행은 유지)
+INSERT IGNORE INTO id_sequence (sequence_name, next_val)
+SELECT 'match_history', COALESCE(MAX(match_id), 0) + 1 FROM match_history;
+
+INSERT IGNORE INTO id_sequence (sequence_name, next_val)
+SELECT 'match_participant', COALESCE(MAX(match_participant_id), 0) + 1 FROM match_participant;
+
+INSERT IGNORE INTO id_sequence (sequence_name, next_val)
+SELECT 'favorite_champion', COALESCE(MAX(favorite_champion_id), 0) + 1 FROM favorite_champion;
+
+INSERT IGNORE INTO id_sequence (sequence_name, next_val)
+SELECT 'party_member', COALESCE(MAX(party_member_id), 0) + 1 FROM party_member;
+
+INSERT IGNORE INTO id_sequence (sequence_name, next_val)
+SELECT 'review_request', COALESCE(MAX(review_request_id), 0) + 1 FROM review_request;
+
+INSERT IGNORE INTO id_sequence (sequence_name, next_val)
+SELECT 'notification', COALESCE(MAX(notification_id), 0) + 1 FROM notification;
@@ -0,0 +1,60 @@
+-- [1] game_account_stats 테이블 (계정당 1행: 솔로랭크 최근 20경기 합계 + 선호 챔피언 TOP 3 이름)
+-- 전적 갱신 시 MatchService가 증분 반영한다. 모집글 목록/상세는 match_participant 대신 이 행을 읽는다.
+CREATE TABLE IF NOT EXISTS `game_account_stats` (
+  `game_account_id` bigint NOT NULL,
+  `created_at` datetime(6) NOT NULL,
+  `deleted_at` datetime(6) DEFAULT NULL,
+  `is_active` bit(1) NOT NULL,
+  `updated_at` datetime(6) NOT NULL,
+  `solo_games` int NOT NULL,
+  `solo_wins` int NOT NULL,
+  `solo_kills` int NOT NULL,
+  `solo_deaths` int NOT NULL,
+  `solo_assists` int NOT NULL,
+  `champion1_name` varchar(255) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
+  `champion2_name` varchar(255) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
+  `champion3_name` varchar(255) COLLATE utf8mb4_unicode_ci DEFAULT NULL,
+  PRIMARY KEY (`game_account_id`),
+  CONSTRAINT `FK_game_account_stats_game_account` FOREIGN KEY (`game_account_id`)
+      REFERENCES `game_account` (`game_account_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- [2] 기존 계정 채우기 (이미 있는 행은 유지)
+-- 현재 puuid로 뛴 솔로랭크(420) 경기 중 최근 20경기, 정렬은 GameAccountStatsQueryRepository와 동일
+INSERT IGNORE INTO game_account_stats (
+    game_account_id, created_at, updated_at, is_active,
+    solo_games, solo_wins, solo_kills, solo_deaths, solo_assists,
+    champion1_name, champion2_name, champion3_name
+)
+SELECT ga.game_account_id, NOW(6), NOW(6), b'1',
+       COALESCE(w.games, 0), COALESCE(w.wins, 0), COALESCE(w.kills, 0),
+       COALESCE(w.deaths, 0), COALESCE(w.assists, 0),
+       fc1.champion_name, fc2.champion_name, fc3.champion_name
+FROM game_account ga
+LEFT JOIN (
+    SELECT ranked.game_account_id,
+           COUNT(*) AS games,
+           SUM(IF(ranked.win, 1, 0)) AS wins,
+           SUM(ranked.kills) AS kills,
+           SUM(ranked.deaths) AS deaths,
+           SUM(ranked.assists) AS assists
+    FROM (
+        SELECT mp.game_account_id, mh.win, mp.kills, mp.deaths, mp.assists,
+               ROW_NUMBER() OVER (
+                   PARTITION BY mp.game_account_id
+                   ORDER BY mh.game_start_timestamp DESC, mp.match_participant_id DESC
+               ) AS rn
+        FROM match_participant mp
+        JOIN match_history mh ON mh.match_id = mp.match_id
+        JOIN game_account g ON g.game_account_id = mp.game_account_id
+        WHERE mh.queue_id = 420
+          AND mp.puuid = g.puuid
+    ) ranked
+    WHERE ranked.rn <= 20
+    GROUP BY ranked.game_account_id
+) w ON w.game_account_id = ga.game_account_id
+LEFT JOIN favorite_champion fc1 ON fc1.game_account_id = ga.game_account_id AND fc1.champion_rank = 1
+LEFT JOIN favorite_champion fc2 ON fc2.game_account_id = ga.game_account_id AND fc2.champion_rank = 2
+LEFT JOIN favorite_champion fc3 ON fc3.game_account_id = ga.game_account_id AND fc3.champion_rank = 3
+WHERE ga.puuid IS NOT NULL
+  AND (w.game_account_id IS NOT NULL OR fc1.game_account_id IS NOT NULL);
@@ -0,0 +1,76 @@
+-- [1] post.looking_positions: JSON 배열 → SMALLINT 비트마스크 (Position.bit 합)
+-- ANY=1, TOP=2, JUNGLE=4, MID=8, ADC=16, SUPPORT=32
+-- 이미 SMALLINT로 바뀐 경우(재실행, dev ddl-auto) 전부 건너뛴다.
+SET @is_json := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'post'
+      AND COLUMN_NAME = 'looking_positions'
+      AND DATA_TYPE = 'json'
+);
+
+SET @query := IF(
+    @is_json = 1,
+    'ALTER TABLE post ADD COLUMN looking_positions_mask SMALLINT NOT NULL DEFAULT 0',
+    'SELECT "looking_positions already converted"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @query := IF(
+    @is_json = 1,
+    'UPDATE post SET looking_positions_mask =
+        IF(JSON_CONTAINS(looking_positions, ''"ANY"''), 1, 0)
+      | IF(JSON_CONTAINS(looking_positions, ''"TOP"''), 2, 0)
+      | IF(JSON_CONTAINS(looking_positions, ''"JUNGLE"''), 4, 0)
+      | IF(JSON_CONTAINS(looking_positions, ''"MID"''), 8, 0)
+      | IF(JSON_CONTAINS(looking_positions, ''"ADC"''), 16, 0)
+      | IF(JSON_CONTAINS(looking_positions, ''"SUPPORT"''), 32, 0)',
+    'SELECT "looking_positions already converted"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @query := IF(
+    @is_json = 1,
+    'ALTER TABLE post DROP COLUMN looking_positions',
+    'SELECT "looking_positions already converted"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @query := IF(
+    @is_json = 1,
+    'ALTER TABLE post RENAME COLUMN looking_positions_mask TO looking_positions',
+    'SELECT "looking_positions already converted"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- [2] lookingFor 필터용 인덱스 (마스크 IN 목록 range 조회 + post_id 역순)
+SET @idx_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'post'
+      AND INDEX_NAME = 'idx_post_looking_positions'
+);
+
+SET @query := IF(
+    @idx_exists = 0,
+    'ALTER TABLE post ADD INDEX idx_post_looking_positions (looking_positions, post_id)',
+    'SELECT "idx_post_looking_positions already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
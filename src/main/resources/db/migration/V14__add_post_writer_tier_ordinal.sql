@@ -0,0 +1,76 @@
+-- [1] post.writer_tier_ordinal: 작성 계정 솔로랭크 티어/디비전 서열 (Tier.toOrdinal)
+-- 티어 순번 * 4 + 디비전 순번 (IV=0 … I=3), 마스터 이상은 디비전 없이 티어 최하 서열, 언랭은 NULL
+SET @col_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'post'
+      AND COLUMN_NAME = 'writer_tier_ordinal'
+);
+
+SET @query := IF(
+    @col_exists = 0,
+    'ALTER TABLE post ADD COLUMN writer_tier_ordinal SMALLINT NULL',
+    'SELECT "writer_tier_ordinal already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- [2] 기존 모집글 채우기 (작성 계정의 RANKED_SOLO_5x5 행 기준, 이미 채워진 행은 유지)
+UPDATE post p
+JOIN game_rank r
+  ON r.game_account_id = p.game_account_id
+ AND r.queue_type = 'RANKED_SOLO_5x5'
+SET p.writer_tier_ordinal =
+    CASE r.tier
+        WHEN 'IRON' THEN 0
+        WHEN 'BRONZE' THEN 4
+        WHEN 'SILVER' THEN 8
+        WHEN 'GOLD' THEN 12
+        WHEN 'PLATINUM' THEN 16
+        WHEN 'EMERALD' THEN 20
+        WHEN 'DIAMOND' THEN 24
+    END
+    + CASE r.rank_division
+        WHEN 'IV' THEN 0
+        WHEN 'III' THEN 1
+        WHEN 'II' THEN 2
+        WHEN 'I' THEN 3
+    END
+WHERE p.writer_tier_ordinal IS NULL
+  AND r.tier IN ('IRON', 'BRONZE', 'SILVER', 'GOLD', 'PLATINUM', 'EMERALD', 'DIAMOND')
+  AND r.rank_division IN ('I', 'II', 'III', 'IV');
+
+UPDATE post p
+JOIN game_rank r
+  ON r.game_account_id = p.game_account_id
+ AND r.queue_type = 'RANKED_SOLO_5x5'
+SET p.writer_tier_ordinal =
+    CASE r.tier
+        WHEN 'MASTER' THEN 28
+        WHEN 'GRANDMASTER' THEN 32
+        WHEN 'CHALLENGER' THEN 36
+    END
+WHERE p.writer_tier_ordinal IS NULL
+  AND r.tier IN ('MASTER', 'GRANDMASTER', 'CHALLENGER');
+
+-- [3] 티어 범위 필터용 인덱스 (서열 range 조회 + post_id 역순)
+SET @idx_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'post'
+      AND INDEX_NAME = 'idx_post_writer_tier'
+);
+
+SET @query := IF(
+    @idx_exists = 0,
+    'ALTER TABLE post ADD INDEX idx_post_writer_tier (writer_tier_ordinal, post_id)',
+    'SELECT "idx_post_writer_tier already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,19 @@
+-- [1] game_account.matches_refreshed_at: 마지막 전적 갱신 시각
+-- 전적/선호 챔피언 조회 ETag 버전 값 (기존 계정은 NULL, 다음 전적 갱신 때 채워진다)
+SET @col_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'game_account'
+      AND COLUMN_NAME = 'matches_refreshed_at'
+);
+
+SET @query := IF(
+    @col_exists = 0,
+    'ALTER TABLE game_account ADD COLUMN matches_refreshed_at DATETIME(6) NULL',
+    'SELECT "matches_refreshed_at already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,108 @@
+-- [1] chat_room.last_seq: 현재 세션의 마지막 메시지 순번 (메시지 전송 시 방 row 락 안에서 증가, 새 세션이면 0)
+SET @col_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'chat_room'
+      AND COLUMN_NAME = 'last_seq'
+);
+
+SET @query := IF(
+    @col_exists = 0,
+    'ALTER TABLE chat_room ADD COLUMN last_seq BIGINT NOT NULL DEFAULT 0',
+    'SELECT "last_seq already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- [2] chat_message.seq: 방-세션 안 순번 (1부터 빈틈없이)
+SET @col_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'chat_message'
+      AND COLUMN_NAME = 'seq'
+);
+
+SET @query := IF(
+    @col_exists = 0,
+    'ALTER TABLE chat_message ADD COLUMN seq BIGINT NULL',
+    'SELECT "seq already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 기존 메시지 채우기 (방-세션별 메시지 ID 순서대로)
+UPDATE chat_message m
+JOIN (
+    SELECT chat_message_id,
+           ROW_NUMBER() OVER (PARTITION BY chat_room_id, session_no ORDER BY chat_message_id) AS rn
+    FROM chat_message
+) numbered ON numbered.chat_message_id = m.chat_message_id
+SET m.seq = numbered.rn
+WHERE m.seq IS NULL;
+
+ALTER TABLE chat_message MODIFY COLUMN seq BIGINT NOT NULL;
+
+-- 현재 세션의 마지막 순번
+UPDATE chat_room r
+JOIN (
+    SELECT m.chat_room_id, MAX(m.seq) AS max_seq
+    FROM chat_message m
+    JOIN chat_room cr
+      ON cr.chat_room_id = m.chat_room_id
+     AND cr.current_session_no = m.session_no
+    GROUP BY m.chat_room_id
+) last_message ON last_message.chat_room_id = r.chat_room_id
+SET r.last_seq = last_message.max_seq
+WHERE r.last_seq = 0;
+
+-- 방-세션당 순번 1개 (catch-up 범위 조회 인덱스 겸용)
+SET @idx_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'chat_message'
+      AND INDEX_NAME = 'uk_chat_message_room_session_seq'
+);
+
+SET @query := IF(
+    @idx_exists = 0,
+    'ALTER TABLE chat_message ADD CONSTRAINT uk_chat_message_room_session_seq UNIQUE (chat_room_id, session_no, seq)',
+    'SELECT "uk_chat_message_room_session_seq already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- [3] chat_message_read.last_read_seq: 마지막으로 읽은 메시지 순번 (안 읽은 수 = last_seq - last_read_seq)
+SET @col_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'chat_message_read'
+      AND COLUMN_NAME = 'last_read_seq'
+);
+
+SET @query := IF(
+    @col_exists = 0,
+    'ALTER TABLE chat_message_read ADD COLUMN last_read_seq BIGINT NOT NULL DEFAULT 0',
+    'SELECT "last_read_seq already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 기존 읽음 포인터 채우기 (현재 세션 메시지를 가리키는 경우만, 이전 세션 포인터는 0)
+UPDATE chat_message_read rd
+JOIN chat_message m ON m.chat_message_id = rd.last_read_message_id
+JOIN chat_room r ON r.chat_room_id = rd.chat_room_id
+SET rd.last_read_seq = m.seq
+WHERE rd.last_read_seq = 0
+  AND m.session_no = r.current_session_no;
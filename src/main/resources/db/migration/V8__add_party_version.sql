@@ -0,0 +1,18 @@
+-- [1] party.version 추가 (낙관적 동시성 모드용 @Version 컬럼)
+SET @col_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'party'
+      AND COLUMN_NAME = 'version'
+);
+
+SET @query := IF(
+    @col_exists = 0,
+    'ALTER TABLE party ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER joined_member_count',
+    'SELECT "version already exists in party"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,19 @@
+-- [1] user_bans (to_user_id, from_user_id) 인덱스 추가
+-- 벤 캐시 미스 시 양방향 조회(from = ? OR to = ?)의 to 쪽 분기를 커버링 인덱스로 처리
+SET @idx_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'user_bans'
+      AND INDEX_NAME = 'idx_user_bans_to_from'
+);
+
+SET @query := IF(
+    @idx_exists = 0,
+    'CREATE INDEX idx_user_bans_to_from ON user_bans (to_user_id, from_user_id)',
+    'SELECT "idx_user_bans_to_from already exists"'
+);
+
+PREPARE stmt FROM @query;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
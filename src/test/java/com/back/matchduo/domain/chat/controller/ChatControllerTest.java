@@ -1,16 +1,18 @@
 package com.back.matchduo.domain.chat.controller;
 
 import com.back.matchduo.domain.chat.dto.internal.ChatMessagesWithRoom;
+import com.back.matchduo.domain.chat.dto.internal.ChatReadPointer;
 import com.back.matchduo.domain.chat.dto.internal.ChatRoomDetailWithGameAccount;
 import com.back.matchduo.domain.chat.dto.request.ChatMessageReadRequest;
 import com.back.matchduo.domain.chat.dto.request.ChatMessageSendRequest;
 import com.back.matchduo.domain.chat.dto.request.ChatRoomCreateRequest;
+import com.back.matchduo.domain.chat.dto.response.ChatMessageListResponse;
 import com.back.matchduo.domain.chat.dto.response.ChatRoomSummaryResponse;
 import com.back.matchduo.domain.chat.entity.ChatMessage;
-import com.back.matchduo.domain.chat.entity.ChatMessageRead;
 import com.back.matchduo.domain.chat.entity.ChatRoom;
 import com.back.matchduo.domain.chat.entity.MessageType;
 import com.back.matchduo.domain.chat.service.ChatMessageService;
+import com.back.matchduo.domain.chat.service.ChatRoomLanes;
 import com.back.matchduo.domain.chat.service.ChatRoomService;
 import com.back.matchduo.domain.post.entity.GameMode;
 import com.back.matchduo.domain.post.entity.Post;
@@ -33,6 +35,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
@@ -51,6 +54,7 @@ class ChatControllerTest {
     @Autowired private ObjectMapper objectMapper;
     @MockitoBean private ChatRoomService chatRoomService;
     @MockitoBean private ChatMessageService chatMessageService;
+    @MockitoBean private ChatRoomLanes chatRoomLanes;
 
     private User postAuthor;
     private User applicant;
@@ -60,6 +64,10 @@ class ChatControllerTest {
 
     @BeforeEach
     void setUp() {
+        // 방 lane은 호출 스레드에서 바로 실행
+        given(chatRoomLanes.call(any(), any())).willAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(1).get());
+
         postAuthor = User.builder()
                 .email("author@test.com")
                 .password("password123")
@@ -179,7 +187,8 @@ class ChatControllerTest {
         ReflectionTestUtils.setField(message, "id", 1L);
         ReflectionTestUtils.setField(message, "createdAt", LocalDateTime.now());
 
-        ChatMessagesWithRoom result = new ChatMessagesWithRoom(List.of(message), chatRoom);
+        ChatMessagesWithRoom result = new ChatMessagesWithRoom(
+                List.of(ChatMessageListResponse.ChatMessageItemResponse.of(message)), chatRoom);
 
         given(chatMessageService.getMessagesWithRoom(1L, 2L, null, 31))
                 .willReturn(result);
@@ -195,6 +204,36 @@ class ChatControllerTest {
                 .andExpect(jsonPath("$.messages[0].content").value("테스트 메시지"));
     }
 
+    @Test
+    @DisplayName("afterSeq 메시지 조회 API 성공 - 다음 afterSeq는 마지막 순번")
+    void getMessages_afterSeq_success() throws Exception {
+        // given
+        ChatMessage first = ChatMessage.create(chatRoom, applicant, MessageType.TEXT, "놓친 메시지1");
+        ChatMessage second = ChatMessage.create(chatRoom, postAuthor, MessageType.TEXT, "놓친 메시지2");
+        ReflectionTestUtils.setField(first, "id", 1L);
+        ReflectionTestUtils.setField(second, "id", 2L);
+
+        ChatMessagesWithRoom result = new ChatMessagesWithRoom(List.of(
+                ChatMessageListResponse.ChatMessageItemResponse.of(first),
+                ChatMessageListResponse.ChatMessageItemResponse.of(second)), chatRoom);
+
+        given(chatMessageService.getMessagesAfterSeq(1L, 2L, 0L, 2))
+                .willReturn(result);
+
+        // when & then
+        mockMvc.perform(
+                        get("/api/v1/chats/{chatRoomId}/messages", 1L)
+                                .param("afterSeq", "0")
+                                .param("size", "1")
+                                .with(user(userDetails))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messages.length()").value(1))
+                .andExpect(jsonPath("$.messages[0].seq").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value(1L))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Test
     @DisplayName("채팅방 상세 조회 API 성공")
     void getChatRoom_success() throws Exception {
@@ -237,14 +276,9 @@ class ChatControllerTest {
         // given
         ChatMessageReadRequest request = new ChatMessageReadRequest(10L);
 
-        ChatMessage lastReadMessage = ChatMessage.create(chatRoom, postAuthor, MessageType.TEXT, "마지막 읽은 메시지");
-        ReflectionTestUtils.setField(lastReadMessage, "id", 10L);
-
-        ChatMessageRead readState = ChatMessageRead.create(chatRoom, applicant);
-        ReflectionTestUtils.setField(readState, "lastReadMessage", lastReadMessage);
-        ReflectionTestUtils.setField(readState, "lastReadAt", LocalDateTime.now());
+        ChatReadPointer pointer = new ChatReadPointer(1L, 2L, 1, 3L, 10L, LocalDateTime.now());
 
-        given(chatMessageService.markReadUpTo(1L, 2L, 10L)).willReturn(readState);
+        given(chatMessageService.markReadUpTo(1L, 2L, 10L)).willReturn(pointer);
 
         // when & then
         mockMvc.perform(
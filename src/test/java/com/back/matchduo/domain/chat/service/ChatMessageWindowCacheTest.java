@@ -0,0 +1,206 @@
+package com.back.matchduo.domain.chat.service;
+
+import com.back.matchduo.domain.chat.dto.response.ChatMessageListResponse.ChatMessageItemResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageWindowCache 테스트")
+class ChatMessageWindowCacheTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+    private static final Integer SESSION_NO = 2;
+    private static final List<String> EXPECTED_KEYS = List.of("chat:window:1:2", "chat:window:1:2:floor");
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build();
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("getLatest 메서드")
+    class GetLatestTest {
+
+        @Test
+        @DisplayName("세션 전체가 창에 있으면(floor=0) 요청보다 적어도 창으로 응답")
+        void getLatest_wholeSession_hit() throws Exception {
+            // given
+            givenWindow("0", item(12L), item(11L));
+
+            // when
+            Optional<List<ChatMessageItemResponse>> result = cache(true).getLatest(CHAT_ROOM_ID, SESSION_NO, 21);
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get()).extracting(ChatMessageItemResponse::chatMessageId).containsExactly(12L, 11L);
+            assertThat(result.get().get(0).createdAt()).isEqualTo(item(12L).createdAt());
+            assertThat(meterRegistry.counter("chat.window", "result", "hit").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("floor 위 메시지만으로 요청 개수를 못 채우면 미스")
+        void getLatest_belowFloor_miss() throws Exception {
+            // given
+            givenWindow("11", item(12L), item(11L), item(9L));
+
+            // when
+            Optional<List<ChatMessageItemResponse>> result = cache(true).getLatest(CHAT_ROOM_ID, SESSION_NO, 3);
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(meterRegistry.counter("chat.window", "result", "miss").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("창이 없으면(floor 없음) 미스")
+        void getLatest_noWindow_miss() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(EXPECTED_KEYS), any(Object[].class)))
+                    .willReturn(List.of());
+
+            // when
+            Optional<List<ChatMessageItemResponse>> result = cache(true).getLatest(CHAT_ROOM_ID, SESSION_NO, 21);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Redis 연결 실패 시 예외를 삼키고 empty (DB fallback)")
+        void getLatest_fail_gracefully() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .willThrow(new RuntimeException("Redis 연결 실패"));
+
+            // when
+            Optional<List<ChatMessageItemResponse>> result = cache(true).getLatest(CHAT_ROOM_ID, SESSION_NO, 21);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("비활성화면 Redis를 호출하지 않는다")
+        void getLatest_disabled() {
+            // when
+            Optional<List<ChatMessageItemResponse>> result = cache(false).getLatest(CHAT_ROOM_ID, SESSION_NO, 21);
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(stringRedisTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("fill 메서드")
+    class FillTest {
+
+        @Test
+        @DisplayName("창 크기보다 적게 읽었으면 세션 전체이므로 floor=0")
+        void fill_wholeSession() {
+            // when
+            cache(true).fill(CHAT_ROOM_ID, SESSION_NO, List.of(item(12L), item(11L)));
+
+            // then
+            Object[] args = captureScriptArgs();
+            assertThat(args[2]).isEqualTo("0");
+            assertThat(args[3]).isEqualTo("12");
+        }
+
+        @Test
+        @DisplayName("창 크기만큼 읽었으면 가장 오래된 메시지 ID가 floor")
+        void fill_fullWindow() {
+            // given
+            List<ChatMessageItemResponse> latest = new ArrayList<>();
+            for (long id = 100; id > 50; id--) {
+                latest.add(item(id));
+            }
+
+            // when
+            cache(true).fill(CHAT_ROOM_ID, SESSION_NO, latest);
+
+            // then
+            assertThat(captureScriptArgs()[2]).isEqualTo("51");
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 append하면 바로 창에 추가")
+    void append_outsideTransaction() {
+        // when
+        cache(true).append(CHAT_ROOM_ID, SESSION_NO, item(13L));
+
+        // then
+        Object[] args = captureScriptArgs();
+        assertThat(args[2]).isEqualTo("13");
+        assertThat((String) args[3]).contains("\"chatMessageId\":13");
+    }
+
+    @Test
+    @DisplayName("창 추가에 실패하면 창과 floor를 지워 다음 조회가 MySQL에서 다시 채우게 한다")
+    void append_fail_invalidatesWindow() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(EXPECTED_KEYS), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        cache(true).append(CHAT_ROOM_ID, SESSION_NO, item(13L));
+
+        // then
+        verify(stringRedisTemplate).delete(EXPECTED_KEYS);
+    }
+
+    private ChatMessageWindowCache cache(boolean enabled) {
+        return new ChatMessageWindowCache(stringRedisTemplate, meterRegistry, enabled, 50, 86400);
+    }
+
+    private void givenWindow(String floor, ChatMessageItemResponse... items) throws Exception {
+        List<String> raw = new ArrayList<>();
+        raw.add(floor);
+        for (ChatMessageItemResponse item : items) {
+            raw.add(MAPPER.writeValueAsString(item));
+        }
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(EXPECTED_KEYS), any(Object[].class)))
+                .willReturn(raw);
+    }
+
+    private Object[] captureScriptArgs() {
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(EXPECTED_KEYS), args.capture());
+        return args.getValue();
+    }
+
+    private static ChatMessageItemResponse item(Long id) {
+        return new ChatMessageItemResponse(id, id, 100L, "메시지 " + id, "TEXT",
+                LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000).plusSeconds(id));
+    }
+}
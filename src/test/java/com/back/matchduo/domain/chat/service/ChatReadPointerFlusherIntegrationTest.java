@@ -0,0 +1,206 @@
+package com.back.matchduo.domain.chat.service;
+
+import com.back.matchduo.domain.chat.dto.internal.ChatReadPointer;
+import com.back.matchduo.domain.chat.entity.ChatMessage;
+import com.back.matchduo.domain.chat.entity.ChatMessageRead;
+import com.back.matchduo.domain.chat.entity.ChatRoom;
+import com.back.matchduo.domain.chat.entity.MessageType;
+import com.back.matchduo.domain.chat.repository.ChatMessageReadRepository;
+import com.back.matchduo.domain.chat.repository.ChatMessageRepository;
+import com.back.matchduo.domain.gameaccount.entity.GameAccount;
+import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
+import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.Post;
+import com.back.matchduo.domain.post.entity.QueueType;
+import com.back.matchduo.domain.post.repository.PostRepository;
+import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("ChatReadPointerFlusher 통합 테스트")
+class ChatReadPointerFlusherIntegrationTest {
+
+    @Autowired
+    private ChatRoomService chatRoomService;
+
+    @Autowired
+    private ChatMessageService chatMessageService;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatMessageReadRepository chatMessageReadRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameAccountRepository gameAccountRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // Redis 쪽만 mock, UPDATE는 H2의 chat_message_read 행에 그대로 실행
+    private final ChatReadPointerService chatReadPointerService = mock(ChatReadPointerService.class);
+
+    private User postAuthor;
+    private User applicant;
+    private Post post;
+    private ChatRoom chatRoom;
+    private ChatReadPointerFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        postAuthor = userRepository.save(User.builder()
+                .email("flush-author@test.com")
+                .password("password123")
+                .nickname("작성자")
+                .verificationCode("1234")
+                .build());
+
+        applicant = userRepository.save(User.builder()
+                .email("flush-applicant@test.com")
+                .password("password123")
+                .nickname("지원자")
+                .verificationCode("5678")
+                .build());
+
+        GameAccount gameAccount = gameAccountRepository.save(GameAccount.builder()
+                .gameNickname("읽음반영게이머")
+                .gameTag("KR1")
+                .gameType("LOL")
+                .puuid("flush-test-puuid-12345")
+                .profileIconId(1234)
+                .user(postAuthor)
+                .build());
+
+        post = postRepository.save(Post.builder()
+                .user(postAuthor)
+                .gameAccount(gameAccount)
+                .gameMode(GameMode.SUMMONERS_RIFT)
+                .queueType(QueueType.DUO)
+                .myPosition(Position.MID)
+                .lookingPositions(List.of(Position.TOP))
+                .mic(true)
+                .recruitCount(1)
+                .memo("읽음 반영 테스트")
+                .build());
+
+        chatRoom = chatRoomService.createOrGet(post.getId(), applicant.getId());
+        flusher = new ChatReadPointerFlusher(chatReadPointerService, jdbcTemplate, new SimpleMeterRegistry(), true, 500);
+    }
+
+    @Test
+    @DisplayName("저장된 순번보다 큰 포인터만 반영하고, 작은 포인터는 무시한다")
+    void flush_onlyForward() {
+        // given
+        ChatMessage first = send("메시지1");
+        ChatMessage second = send("메시지2");
+        chatMessageService.markReadUpTo(chatRoom.getId(), postAuthor.getId(), second.getId());
+
+        givenDrained(
+                pointer(postAuthor, 1, first),   // 이미 2까지 읽음 → 무시
+                pointer(applicant, 1, second));  // 0 → 2
+
+        // when
+        flushAndClear();
+
+        // then
+        ChatMessageRead authorState = readState(postAuthor);
+        assertThat(authorState.getLastReadSeq()).isEqualTo(second.getSeq());
+        assertThat(authorState.getLastReadMessage().getId()).isEqualTo(second.getId());
+
+        ChatMessageRead applicantState = readState(applicant);
+        assertThat(applicantState.getLastReadSeq()).isEqualTo(second.getSeq());
+        assertThat(applicantState.getLastReadMessage().getId()).isEqualTo(second.getId());
+    }
+
+    @Test
+    @DisplayName("이전 세션 포인터는 재개된 방의 읽음 행을 덮어쓰지 않는다")
+    void flush_staleSession_ignored() {
+        // given: 1세션에서 보낸 메시지, 나갔다가 재개 → 2세션
+        ChatMessage oldMessage = send("이전 세션");
+        chatRoomService.leave(chatRoom.getId(), applicant.getId());
+        chatRoomService.createOrGet(post.getId(), applicant.getId());
+
+        givenDrained(pointer(postAuthor, 1, oldMessage));
+
+        // when
+        flushAndClear();
+
+        // then
+        ChatMessageRead authorState = readState(postAuthor);
+        assertThat(authorState.getLastReadSeq()).isZero();
+        assertThat(authorState.getLastReadMessage()).isNull();
+    }
+
+    @Test
+    @DisplayName("그 사이 삭제된 메시지를 가리키면 순번은 반영하고 메시지 포인터는 NULL로 둔다")
+    void flush_deletedMessage_nullPointer() {
+        // given
+        ChatMessage message = send("곧 삭제될 메시지");
+        ChatReadPointer pointer = pointer(postAuthor, 1, message);
+        chatMessageRepository.delete(message);
+        givenDrained(pointer);
+
+        // when
+        flushAndClear();
+
+        // then
+        ChatMessageRead authorState = readState(postAuthor);
+        assertThat(authorState.getLastReadSeq()).isEqualTo(message.getSeq());
+        assertThat(authorState.getLastReadMessage()).isNull();
+    }
+
+    private ChatMessage send(String content) {
+        return chatMessageService.send(chatRoom.getId(), applicant.getId(), MessageType.TEXT, content);
+    }
+
+    private ChatReadPointer pointer(User user, int sessionNo, ChatMessage message) {
+        return new ChatReadPointer(chatRoom.getId(), user.getId(), sessionNo,
+                message.getSeq(), message.getId(), LocalDateTime.now());
+    }
+
+    private void givenDrained(ChatReadPointer... pointers) {
+        given(chatReadPointerService.drainDirty(500)).willReturn(List.of(pointers));
+    }
+
+    /** JPA 변경을 DB에 내린 뒤 JDBC로 반영하고, 다시 읽도록 영속성 컨텍스트를 비운다 */
+    private void flushAndClear() {
+        entityManager.flush();
+        flusher.flush();
+        entityManager.clear();
+    }
+
+    private ChatMessageRead readState(User user) {
+        return chatMessageReadRepository.findByChatRoomIdAndUserId(chatRoom.getId(), user.getId())
+                .orElseThrow();
+    }
+}
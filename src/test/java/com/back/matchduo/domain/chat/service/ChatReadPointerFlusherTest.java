@@ -0,0 +1,85 @@
+package com.back.matchduo.domain.chat.service;
+
+import com.back.matchduo.domain.chat.dto.internal.ChatReadPointer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatReadPointerFlusher 테스트")
+class ChatReadPointerFlusherTest {
+
+    @Mock
+    private ChatReadPointerService chatReadPointerService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static final List<ChatReadPointer> POINTERS = List.of(
+            new ChatReadPointer(1L, 100L, 2, 5L, 55L, LocalDateTime.now()),
+            new ChatReadPointer(3L, 200L, 1, 7L, 70L, LocalDateTime.now()));
+
+    @Test
+    @DisplayName("꺼낸 포인터를 한 번의 배치로 반영")
+    void flush_batchUpdate() {
+        // given
+        given(chatReadPointerService.drainDirty(500)).willReturn(POINTERS);
+
+        // when
+        flusher(true).flush();
+
+        // then
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(POINTERS), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        verify(chatReadPointerService, never()).markDirty(any());
+        assertThat(meterRegistry.counter("chat.read.pointer.flushed").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("MySQL 반영 실패 시 다음 주기에 다시 시도하도록 dirty로 되돌린다")
+    void flush_fail_requeue() {
+        // given
+        given(chatReadPointerService.drainDirty(500)).willReturn(POINTERS);
+        given(jdbcTemplate.batchUpdate(anyString(), eq(POINTERS), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new RuntimeException("DB 연결 실패"));
+
+        // when
+        flusher(true).flush();
+
+        // then
+        verify(chatReadPointerService).markDirty(POINTERS);
+    }
+
+    @Test
+    @DisplayName("비활성화면 아무것도 하지 않는다")
+    void flush_disabled() {
+        // when
+        flusher(false).flush();
+
+        // then
+        verifyNoInteractions(chatReadPointerService, jdbcTemplate);
+    }
+
+    private ChatReadPointerFlusher flusher(boolean enabled) {
+        return new ChatReadPointerFlusher(chatReadPointerService, jdbcTemplate, meterRegistry, enabled, 500);
+    }
+}
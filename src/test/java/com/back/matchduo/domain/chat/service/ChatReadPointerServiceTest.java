@@ -0,0 +1,118 @@
+package com.back.matchduo.domain.chat.service;
+
+import com.back.matchduo.domain.chat.dto.internal.ChatReadPointer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatReadPointerService 테스트")
+class ChatReadPointerServiceTest {
+
+    private static final Long CHAT_ROOM_ID = 1L;
+    private static final Long USER_ID = 100L;
+    private static final List<String> EXPECTED_KEYS =
+            List.of("chat:read:1:100", "chat:read:dirty", "chat:unread:1:100");
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Nested
+    @DisplayName("advance 메서드")
+    class AdvanceTest {
+
+        @Test
+        @DisplayName("스크립트가 돌려준 현재 포인터를 반환")
+        void advance_success() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(EXPECTED_KEYS), any(Object[].class)))
+                    .willReturn(List.of("2", "5", "55", "1735700000000"));
+
+            // when
+            Optional<ChatReadPointer> result = service().advance(CHAT_ROOM_ID, USER_ID, 2, 5L, 55L);
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().sessionNo()).isEqualTo(2);
+            assertThat(result.get().lastReadSeq()).isEqualTo(5L);
+            assertThat(result.get().lastReadMessageId()).isEqualTo(55L);
+            assertThat(result.get().readAt()).isNotNull();
+
+            ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(EXPECTED_KEYS), args.capture());
+            assertThat(args.getValue()[0]).isEqualTo("2");
+            assertThat(args.getValue()[1]).isEqualTo("5");
+            assertThat(args.getValue()[5]).isEqualTo("1:100");
+        }
+
+        @Test
+        @DisplayName("저장된 포인터가 이전 세션이면 현재 세션은 읽은 게 없는 포인터")
+        void advance_previousSession() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(EXPECTED_KEYS), any(Object[].class)))
+                    .willReturn(List.of("1", "9", "40", "1735700000000"));
+
+            // when
+            Optional<ChatReadPointer> result = service().advance(CHAT_ROOM_ID, USER_ID, 2, 0L, 41L);
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().lastReadSeq()).isZero();
+            assertThat(result.get().lastReadMessageId()).isNull();
+        }
+
+        @Test
+        @DisplayName("Redis 연결 실패 시 예외를 삼키고 empty (DB fallback)")
+        void advance_fail_gracefully() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .willThrow(new RuntimeException("Redis 연결 실패"));
+
+            // when
+            Optional<ChatReadPointer> result = service().advance(CHAT_ROOM_ID, USER_ID, 2, 5L, 55L);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("dirty 포인터를 (방, 유저) 단위로 꺼낸다")
+    void drainDirty_success() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("chat:read:dirty")), any(Object[].class)))
+                .willReturn(Arrays.asList(
+                        "1:100", "2", "5", "55", "1735700000000",
+                        "3:200", "1", "7", "70", "1735700001000"));
+
+        // when
+        List<ChatReadPointer> result = service().drainDirty(500);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(1).chatRoomId()).isEqualTo(3L);
+        assertThat(result.get(1).userId()).isEqualTo(200L);
+        assertThat(result.get(1).lastReadSeq()).isEqualTo(7L);
+    }
+
+    private ChatReadPointerService service() {
+        return new ChatReadPointerService(stringRedisTemplate, true, 604800);
+    }
+}
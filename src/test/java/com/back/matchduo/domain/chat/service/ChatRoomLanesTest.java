@@ -0,0 +1,65 @@
+package com.back.matchduo.domain.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatRoomLanes 테스트")
+class ChatRoomLanesTest {
+
+    private ChatRoomLanes lanes;
+
+    @BeforeEach
+    void setUp() {
+        lanes = new ChatRoomLanes(new SimpleMeterRegistry(), new MockEnvironment(), true, 1, 16, 100, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        lanes.close();
+    }
+
+    @Test
+    @DisplayName("lane 작업은 호출 스레드의 인증 정보로 실행되고, 끝나면 lane 스레드에서 지워진다")
+    void call_propagatesSecurityContext() {
+        // given
+        Authentication authentication = new TestingAuthenticationToken("user-1", null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // when
+        Authentication inLane = lanes.call(1L, () -> SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+        Authentication afterward = lanes.call(1L, () -> SecurityContextHolder.getContext().getAuthentication());
+
+        // then
+        assertThat(inLane).isSameAs(authentication);
+        assertThat(afterward).isNull();
+    }
+
+    @Test
+    @DisplayName("execute도 호출 스레드의 인증 정보를 넘긴다")
+    void execute_propagatesSecurityContext() throws Exception {
+        // given
+        Authentication authentication = new TestingAuthenticationToken("user-1", null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        CompletableFuture<Authentication> inLane = new CompletableFuture<>();
+
+        // when
+        lanes.execute(1L, () -> inLane.complete(SecurityContextHolder.getContext().getAuthentication()));
+
+        // then
+        assertThat(inLane.get(5, TimeUnit.SECONDS)).isSameAs(authentication);
+    }
+}
@@ -1,11 +1,14 @@
 package com.back.matchduo.domain.chat.service;
 
 import com.back.matchduo.domain.chat.dto.internal.ChatMessagesWithRoom;
+import com.back.matchduo.domain.chat.dto.internal.ChatReadPointer;
 import com.back.matchduo.domain.chat.dto.internal.ChatRoomDetailWithGameAccount;
 import com.back.matchduo.domain.chat.entity.ChatMessage;
 import com.back.matchduo.domain.chat.entity.ChatMessageRead;
 import com.back.matchduo.domain.chat.entity.ChatRoom;
 import com.back.matchduo.domain.chat.entity.MessageType;
+import com.back.matchduo.domain.chat.repository.ChatMessageReadRepository;
+import com.back.matchduo.domain.chat.repository.ChatRoomRepository;
 import com.back.matchduo.domain.gameaccount.entity.GameAccount;
 import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
 import com.back.matchduo.domain.post.entity.GameMode;
@@ -25,6 +28,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -42,6 +47,12 @@ class ChatServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ChatMessageReadRepository chatMessageReadRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
     @Autowired
     private PostRepository postRepository;
 
@@ -84,7 +95,7 @@ class ChatServiceTest {
                 .gameMode(GameMode.SUMMONERS_RIFT)
                 .queueType(QueueType.DUO)
                 .myPosition(Position.MID)
-                .lookingPositions("[\"TOP\", \"JUNGLE\"]")
+                .lookingPositions(List.of(Position.TOP, Position.JUNGLE))
                 .mic(true)
                 .recruitCount(1)
                 .memo("테스트 모집글")
@@ -234,11 +245,82 @@ class ChatServiceTest {
                     chatRoom.getId(), applicant.getId(), MessageType.TEXT, "메시지");
 
             // when
-            ChatMessageRead readState = chatMessageService.markReadUpTo(
+            ChatReadPointer pointer = chatMessageService.markReadUpTo(
                     chatRoom.getId(), postAuthor.getId(), message.getId());
 
             // then
-            assertThat(readState.getLastReadMessage().getId()).isEqualTo(message.getId());
+            assertThat(pointer.lastReadMessageId()).isEqualTo(message.getId());
+            assertThat(pointer.lastReadSeq()).isEqualTo(message.getSeq());
+        }
+
+        @Test
+        @DisplayName("메시지 순번은 세션 안에서 1부터 빈틈없이 증가")
+        void send_assignsSeq() {
+            // when
+            ChatMessage first = chatMessageService.send(
+                    chatRoom.getId(), applicant.getId(), MessageType.TEXT, "메시지1");
+            ChatMessage second = chatMessageService.send(
+                    chatRoom.getId(), postAuthor.getId(), MessageType.TEXT, "메시지2");
+
+            // then
+            assertThat(first.getSeq()).isEqualTo(1L);
+            assertThat(second.getSeq()).isEqualTo(2L);
+            assertThat(chatRoomRepository.findLastSeqById(chatRoom.getId())).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("채팅방 재개 후 전송하면 새 세션에서 순번 1부터")
+        void send_afterResume_newSession() {
+            // given
+            chatMessageService.send(chatRoom.getId(), applicant.getId(), MessageType.TEXT, "이전 세션");
+            chatRoomService.leave(chatRoom.getId(), applicant.getId());
+            chatRoomService.createOrGet(testPost.getId(), applicant.getId());
+
+            // when
+            ChatMessage message = chatMessageService.send(
+                    chatRoom.getId(), postAuthor.getId(), MessageType.TEXT, "새 세션");
+
+            // then
+            assertThat(message.getSessionNo()).isEqualTo(2);
+            assertThat(message.getSeq()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("afterSeq 이후 메시지만 오래된순으로 조회")
+        void getMessagesAfterSeq_success() {
+            // given
+            chatMessageService.send(chatRoom.getId(), applicant.getId(), MessageType.TEXT, "메시지1");
+            chatMessageService.send(chatRoom.getId(), postAuthor.getId(), MessageType.TEXT, "메시지2");
+            chatMessageService.send(chatRoom.getId(), applicant.getId(), MessageType.TEXT, "메시지3");
+
+            // when
+            ChatMessagesWithRoom result = chatMessageService.getMessagesAfterSeq(
+                    chatRoom.getId(), postAuthor.getId(), 1L, 10);
+
+            // then
+            assertThat(result.messages())
+                    .extracting(item -> item.seq())
+                    .containsExactly(2L, 3L);
+        }
+
+        @Test
+        @DisplayName("안 읽은 메시지 수는 마지막 순번 - 읽은 순번")
+        void unreadCount_fromSeq() {
+            // given
+            ChatMessage first = chatMessageService.send(
+                    chatRoom.getId(), applicant.getId(), MessageType.TEXT, "메시지1");
+            chatMessageService.send(chatRoom.getId(), applicant.getId(), MessageType.TEXT, "메시지2");
+            chatMessageService.send(chatRoom.getId(), applicant.getId(), MessageType.TEXT, "메시지3");
+
+            // when
+            chatMessageService.markReadUpTo(chatRoom.getId(), postAuthor.getId(), first.getId());
+            ChatMessageRead readState = chatMessageReadRepository
+                    .findByChatRoomIdAndUserId(chatRoom.getId(), postAuthor.getId())
+                    .orElseThrow();
+
+            // then
+            assertThat(readState.unreadCount(chatRoomRepository.findById(chatRoom.getId()).orElseThrow()))
+                    .isEqualTo(2L);
         }
     }
 }
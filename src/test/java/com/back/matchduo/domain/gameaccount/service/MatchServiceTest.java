@@ -0,0 +1,265 @@
+package com.back.matchduo.domain.gameaccount.service;
+
+import com.back.matchduo.domain.gameaccount.client.RiotApiClient;
+import com.back.matchduo.domain.gameaccount.dto.RiotApiDto;
+import com.back.matchduo.domain.gameaccount.entity.GameAccount;
+import com.back.matchduo.domain.gameaccount.entity.GameAccountStats;
+import com.back.matchduo.domain.gameaccount.entity.MatchParticipant;
+import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
+import com.back.matchduo.domain.gameaccount.repository.GameAccountStatsQueryRepository;
+import com.back.matchduo.domain.gameaccount.repository.GameAccountStatsRepository;
+import com.back.matchduo.domain.gameaccount.repository.MatchParticipantRepository;
+import com.back.matchduo.domain.gameaccount.repository.MatchRepository;
+import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.domain.user.repository.UserRepository;
+import com.back.matchduo.global.query.QueryCountContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("MatchService 통합 테스트")
+class MatchServiceTest {
+
+    private static final String PUUID = "match-service-puuid";
+    private static final int MATCH_COUNT = 20;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameAccountRepository gameAccountRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private MatchParticipantRepository matchParticipantRepository;
+
+    @Autowired
+    private GameAccountStatsRepository gameAccountStatsRepository;
+
+    @Autowired
+    private GameAccountStatsQueryRepository gameAccountStatsQueryRepository;
+
+    @MockitoBean
+    private RiotApiClient riotApiClient;
+
+    @MockitoBean
+    private DataDragonService dataDragonService;
+
+    private GameAccount gameAccount;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("matchservice@test.com")
+                .password("password123")
+                .nickname("전적갱신테스터")
+                .verificationCode("VERIFIED")
+                .build());
+        gameAccount = gameAccountRepository.save(GameAccount.builder()
+                .gameNickname("전적갱신")
+                .gameTag("KR1")
+                .gameType("LEAGUE_OF_LEGENDS")
+                .puuid(PUUID)
+                .profileIconId(1234)
+                .user(user)
+                .build());
+        gameAccountRepository.flush();
+
+        givenRiotMatches(1, MATCH_COUNT);
+        given(dataDragonService.getLatestVersion()).willReturn("15.1.1");
+        given(dataDragonService.getStyleName(anyInt())).willReturn("Precision");
+        given(dataDragonService.getPerkName(anyInt(), anyInt())).willReturn("Conqueror");
+    }
+
+    @Nested
+    @DisplayName("전적 갱신 (refreshMatchHistory)")
+    class RefreshMatchHistory {
+
+        @Test
+        @DisplayName("성공: 20경기 저장 시 테이블당 INSERT 배치 1번 (매치마다 INSERT 2번 → 전체 2번)")
+        void insertsInOneBatchPerTable() {
+            // given
+            Long gameAccountId = gameAccount.getGameAccountId();
+
+            // when
+            try (QueryCountContext.Scope scope = QueryCountContext.open()) {
+                matchService.refreshMatchHistory(gameAccountId, gameAccount.getUser().getId(), MATCH_COUNT);
+
+                // then
+                assertThat(countStatements(scope, "insert into match_history")).isEqualTo(1);
+                assertThat(countStatements(scope, "insert into match_participant")).isEqualTo(1);
+            }
+            assertThat(matchRepository.findByGameAccount_GameAccountIdOrderByGameStartTimestampDesc(gameAccountId))
+                    .hasSize(MATCH_COUNT);
+            assertThat(matchParticipantRepository.count()).isGreaterThanOrEqualTo(MATCH_COUNT);
+        }
+
+        @Test
+        @DisplayName("성공: 이미 저장된 매치는 건너뛴다")
+        void skipsSavedMatches() {
+            // given
+            Long gameAccountId = gameAccount.getGameAccountId();
+            Long userId = gameAccount.getUser().getId();
+            matchService.refreshMatchHistory(gameAccountId, userId, MATCH_COUNT);
+
+            // when
+            try (QueryCountContext.Scope scope = QueryCountContext.open()) {
+                matchService.refreshMatchHistory(gameAccountId, userId, MATCH_COUNT);
+
+                // then
+                assertThat(countStatements(scope, "insert into match_history")).isZero();
+            }
+            assertThat(matchRepository.findByGameAccount_GameAccountIdOrderByGameStartTimestampDesc(gameAccountId))
+                    .hasSize(MATCH_COUNT);
+        }
+    }
+
+    @Nested
+    @DisplayName("솔로랭크 집계 (game_account_stats)")
+    class SoloStats {
+
+        @Test
+        @DisplayName("성공: 첫 갱신 시 최근 20경기로 집계 행과 선호 챔피언 이름을 만든다")
+        void createsOnFirstRefresh() {
+            // given
+            Long gameAccountId = gameAccount.getGameAccountId();
+
+            // when
+            matchService.refreshMatchHistory(gameAccountId, gameAccount.getUser().getId(), MATCH_COUNT);
+
+            // then
+            GameAccountStats stats = gameAccountStatsRepository.findById(gameAccountId).orElseThrow();
+            assertSameAsRecentWindow(stats);
+            assertThat(stats.getSoloGames()).isEqualTo(GameAccountStats.WINDOW_SIZE);
+            assertThat(stats.getFavoriteChampionNames()).containsExactly("Ahri");
+        }
+
+        @Test
+        @DisplayName("성공: 새 경기가 들어오면 밀려난 경기만큼 빼서 최근 20경기 합계를 유지한다")
+        void appliesNewerMatchesIncrementally() {
+            // given
+            Long gameAccountId = gameAccount.getGameAccountId();
+            Long userId = gameAccount.getUser().getId();
+            matchService.refreshMatchHistory(gameAccountId, userId, MATCH_COUNT);
+            givenRiotMatches(-2, 0);  // 기존 20경기보다 최신 3경기
+
+            // when
+            matchService.refreshMatchHistory(gameAccountId, userId, MATCH_COUNT);
+
+            // then
+            GameAccountStats stats = gameAccountStatsRepository.findById(gameAccountId).orElseThrow();
+            assertThat(stats.getSoloGames()).isEqualTo(GameAccountStats.WINDOW_SIZE);
+            assertSameAsRecentWindow(stats);
+        }
+
+        @Test
+        @DisplayName("성공: 창보다 오래된 경기가 뒤늦게 저장되면 집계는 그대로다")
+        void ignoresOlderMatches() {
+            // given
+            Long gameAccountId = gameAccount.getGameAccountId();
+            Long userId = gameAccount.getUser().getId();
+            matchService.refreshMatchHistory(gameAccountId, userId, MATCH_COUNT);
+            int kills = gameAccountStatsRepository.findById(gameAccountId).orElseThrow().getSoloKills();
+            givenRiotMatches(MATCH_COUNT + 1, MATCH_COUNT + 2);
+
+            // when
+            matchService.refreshMatchHistory(gameAccountId, userId, MATCH_COUNT);
+
+            // then
+            GameAccountStats stats = gameAccountStatsRepository.findById(gameAccountId).orElseThrow();
+            assertThat(stats.getSoloKills()).isEqualTo(kills);
+            assertSameAsRecentWindow(stats);
+        }
+
+        @Test
+        @DisplayName("성공: 매치 정보 삭제 시 집계 행도 삭제된다")
+        void deletedWithMatches() {
+            // given
+            Long gameAccountId = gameAccount.getGameAccountId();
+            matchService.refreshMatchHistory(gameAccountId, gameAccount.getUser().getId(), MATCH_COUNT);
+
+            // when
+            matchService.deleteMatchesByGameAccountId(gameAccountId);
+
+            // then
+            assertThat(gameAccountStatsRepository.findById(gameAccountId)).isEmpty();
+        }
+
+        // 증분 반영 결과가 최근 20경기를 다시 합산한 값과 같은지 확인
+        private void assertSameAsRecentWindow(GameAccountStats stats) {
+            List<MatchParticipant> window = gameAccountStatsQueryRepository.findRecentParticipants(
+                    gameAccount.getGameAccountId(), PUUID, GameAccountStats.SOLO_QUEUE_ID,
+                    0, GameAccountStats.WINDOW_SIZE);
+            assertThat(stats.getSoloGames()).isEqualTo(window.size());
+            assertThat(stats.getSoloWins())
+                    .isEqualTo((int) window.stream().filter(mp -> mp.getMatch().getWin()).count());
+            assertThat(stats.getSoloKills()).isEqualTo(window.stream().mapToInt(MatchParticipant::getKills).sum());
+            assertThat(stats.getSoloDeaths()).isEqualTo(window.stream().mapToInt(MatchParticipant::getDeaths).sum());
+            assertThat(stats.getSoloAssists()).isEqualTo(window.stream().mapToInt(MatchParticipant::getAssists).sum());
+        }
+    }
+
+    // seq가 작을수록 최신 경기 (게임 시작 시각 = 기준 - seq시간)
+    private void givenRiotMatches(int fromSeq, int toSeq) {
+        List<String> matchIds = IntStream.rangeClosed(fromSeq, toSeq)
+                .mapToObj(i -> "KR_" + (7_900_000_000L + i))
+                .toList();
+        given(riotApiClient.getMatchIdsByPuuid(eq(PUUID), anyInt(), anyInt())).willReturn(matchIds);
+        matchIds.forEach(matchId ->
+                given(riotApiClient.getMatchByMatchId(matchId)).willReturn(matchResponse(matchId)));
+    }
+
+    private static int countStatements(QueryCountContext.Scope scope, String prefix) {
+        return scope.getShapes().entrySet().stream()
+                .filter(entry -> entry.getKey().toLowerCase().startsWith(prefix))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static RiotApiDto.MatchResponse matchResponse(String matchId) {
+        long seq = Long.parseLong(matchId.substring(3)) - 7_900_000_000L;
+        RiotApiDto.MatchResponse.Participant participant = RiotApiDto.MatchResponse.Participant.builder()
+                .puuid(PUUID)
+                .championId(103)
+                .championName("Ahri")
+                .summoner1Id(4)
+                .summoner2Id(14)
+                .kills((int) Math.floorMod(seq, 10L)).deaths(3).assists((int) Math.floorMod(seq, 7L))
+                .totalMinionsKilled(190)
+                .champLevel(16)
+                .item0(3031).item1(3006).item2(3094).item3(3036).item4(0).item5(1055).item6(3363)
+                .win(Math.floorMod(seq, 2L) == 0)
+                .build();
+        return RiotApiDto.MatchResponse.builder()
+                .info(RiotApiDto.MatchResponse.MatchInfo.builder()
+                        .queueId(420)
+                        .gameStartTimestamp(1_767_600_000_000L - seq * 3_600_000L)
+                        .gameDuration(1_800)
+                        .participants(List.of(participant))
+                        .build())
+                .build();
+    }
+}
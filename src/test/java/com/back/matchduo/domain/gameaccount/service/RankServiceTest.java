@@ -0,0 +1,188 @@
+package com.back.matchduo.domain.gameaccount.service;
+
+import com.back.matchduo.domain.gameaccount.client.RiotApiClient;
+import com.back.matchduo.domain.gameaccount.dto.RiotApiDto;
+import com.back.matchduo.domain.gameaccount.entity.GameAccount;
+import com.back.matchduo.domain.gameaccount.entity.Rank;
+import com.back.matchduo.domain.gameaccount.entity.Tier;
+import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
+import com.back.matchduo.domain.gameaccount.repository.RankRepository;
+import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.Post;
+import com.back.matchduo.domain.post.entity.QueueType;
+import com.back.matchduo.domain.post.repository.PostRepository;
+import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.domain.user.repository.UserRepository;
+import com.back.matchduo.global.query.QueryCountContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("RankService 통합 테스트")
+class RankServiceTest {
+
+    private static final String PUUID = "rank-service-puuid";
+
+    @Autowired
+    private RankService rankService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameAccountRepository gameAccountRepository;
+
+    @Autowired
+    private RankRepository rankRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @MockitoBean
+    private RiotApiClient riotApiClient;
+
+    private GameAccount gameAccount;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("rankservice@test.com")
+                .password("password123")
+                .nickname("랭크갱신테스터")
+                .verificationCode("VERIFIED")
+                .build());
+        gameAccount = gameAccountRepository.save(GameAccount.builder()
+                .gameNickname("랭크갱신")
+                .gameTag("KR1")
+                .gameType("LEAGUE_OF_LEGENDS")
+                .puuid(PUUID)
+                .profileIconId(1234)
+                .user(user)
+                .build());
+        rankRepository.save(Rank.builder()
+                .queueType(Rank.SOLO_QUEUE_TYPE)
+                .tier("GOLD").rank("I")
+                .wins(10).losses(10).winRate(50.0)
+                .gameAccount(gameAccount)
+                .build());
+
+        post = Post.builder()
+                .user(user)
+                .gameAccount(gameAccount)
+                .gameMode(GameMode.SUMMONERS_RIFT)
+                .queueType(QueueType.DUO)
+                .myPosition(Position.MID)
+                .lookingPositions(List.of(Position.JUNGLE))
+                .mic(true)
+                .recruitCount(2)
+                .memo("티어 서열 테스트")
+                .build();
+        post.updateWriterTierOrdinal(Tier.toOrdinal("GOLD", "I"));
+        postRepository.saveAndFlush(post);
+    }
+
+    @Nested
+    @DisplayName("모집글 티어 서열 동기화 (refreshRankData)")
+    class SyncPostTierOrdinal {
+
+        @Test
+        @DisplayName("성공: 솔로랭크 티어가 바뀌면 작성 계정 모집글의 티어 서열도 바뀐다")
+        void updatesPostsWhenSoloTierChanges() {
+            // given
+            givenRiotSoloRank("DIAMOND", "IV");
+
+            // when
+            rankService.refreshRankData(gameAccount.getGameAccountId(), gameAccount.getUser().getId());
+
+            // then
+            Post reloaded = postRepository.findById(post.getId()).orElseThrow();
+            assertThat(reloaded.getWriterTierOrdinal()).isEqualTo(Tier.DIAMOND.lowestOrdinal());
+        }
+
+        @Test
+        @DisplayName("성공: 티어/디비전이 그대로면 모집글 UPDATE를 보내지 않는다")
+        void skipsPostUpdateWhenSoloTierUnchanged() {
+            // given
+            givenRiotSoloRank("GOLD", "I");
+
+            // when
+            try (QueryCountContext.Scope scope = QueryCountContext.open()) {
+                rankService.refreshRankData(gameAccount.getGameAccountId(), gameAccount.getUser().getId());
+
+                // then
+                assertThat(scope.getShapes().keySet())
+                        .noneMatch(sql -> sql.toLowerCase().startsWith("update post"));
+            }
+            Post reloaded = postRepository.findById(post.getId()).orElseThrow();
+            assertThat(reloaded.getWriterTierOrdinal()).isEqualTo(Tier.toOrdinal("GOLD", "I"));
+        }
+
+        @Test
+        @DisplayName("성공: 솔로랭크 항목이 빠지면 모집글 티어 서열을 비우고 남은 솔로랭크 행을 지운다")
+        void clearsPostsWhenSoloRankDropped() {
+            // given: 자유랭크만 내려옴
+            given(riotApiClient.getRankByPuuid(PUUID)).willReturn(List.of(
+                    RiotApiDto.RankResponse.builder()
+                            .queueType("RANKED_FLEX_SR")
+                            .tier("SILVER")
+                            .rank("II")
+                            .puuid(PUUID)
+                            .wins(5)
+                            .losses(5)
+                            .build()
+            ));
+
+            // when
+            rankService.refreshRankData(gameAccount.getGameAccountId(), gameAccount.getUser().getId());
+
+            // then
+            Post reloaded = postRepository.findById(post.getId()).orElseThrow();
+            assertThat(reloaded.getWriterTierOrdinal()).isNull();
+            assertThat(rankRepository.findByGameAccount_GameAccountIdAndQueueType(
+                    gameAccount.getGameAccountId(), Rank.SOLO_QUEUE_TYPE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 랭크 정보가 비어 있어도 모집글 티어 서열을 비운다")
+        void clearsPostsWhenNoRankData() {
+            // given
+            given(riotApiClient.getRankByPuuid(PUUID)).willReturn(List.of());
+
+            // when
+            rankService.refreshRankData(gameAccount.getGameAccountId(), gameAccount.getUser().getId());
+
+            // then
+            Post reloaded = postRepository.findById(post.getId()).orElseThrow();
+            assertThat(reloaded.getWriterTierOrdinal()).isNull();
+        }
+    }
+
+    private void givenRiotSoloRank(String tier, String division) {
+        given(riotApiClient.getRankByPuuid(PUUID)).willReturn(List.of(
+                RiotApiDto.RankResponse.builder()
+                        .queueType(Rank.SOLO_QUEUE_TYPE)
+                        .tier(tier)
+                        .rank(division)
+                        .puuid(PUUID)
+                        .wins(20)
+                        .losses(10)
+                        .build()
+        ));
+    }
+}
@@ -34,6 +34,9 @@ import java.util.List;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -121,7 +124,7 @@ class PartyControllerTest {
                 .gameMode(gameMode)
                 .queueType(QueueType.DUO)
                 .myPosition(Position.TOP)
-                .lookingPositions("[\"JUNGLE\"]")
+                .lookingPositions(List.of(Position.JUNGLE))
                 .mic(true)
                 .recruitCount(4)
                 .memo("테스트 모집글") // ★ 제목 역할
@@ -227,6 +230,61 @@ class PartyControllerTest {
                     .andExpect(jsonPath("$.code").value("PARTY_NOT_FOUND"))
                     .andDo(print());
         }
+
+        @Test
+        @DisplayName("성공: If-None-Match가 현재 ETag와 같으면 304, 로그인 사용자가 다르면 200")
+        void notModified_sameEtag() throws Exception {
+            // given
+            String etag = mockMvc.perform(
+                            get("/api/v1/posts/{postId}/party", testPostId)
+                                    .with(user(new CustomUserDetails(leaderUser))))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists("ETag"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            // when & then
+            mockMvc.perform(
+                            get("/api/v1/posts/{postId}/party", testPostId)
+                                    .header("If-None-Match", etag)
+                                    .with(user(new CustomUserDetails(leaderUser))))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            mockMvc.perform(
+                            get("/api/v1/posts/{postId}/party", testPostId)
+                                    .header("If-None-Match", etag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.isJoined").value(false));
+        }
+
+        @Test
+        @DisplayName("성공: 파티원이 바뀌면 ETag가 달라져 200으로 다시 받는다")
+        void modified_afterMemberJoined() throws Exception {
+            // given
+            String etag = mockMvc.perform(
+                            get("/api/v1/posts/{postId}/party", testPostId)
+                                    .with(user(new CustomUserDetails(leaderUser))))
+                    .andReturn().getResponse().getHeader("ETag");
+            mockMvc.perform(
+                            post("/api/v1/parties/{partyId}/members", testParty.getId())
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(
+                                            new PartyMemberAddRequest(List.of(targetUser1.getId()))))
+                                    .with(user(new CustomUserDetails(leaderUser))))
+                    .andExpect(status().isOk());
+
+            // when
+            ResultActions resultActions = mockMvc.perform(
+                    get("/api/v1/posts/{postId}/party", testPostId)
+                            .header("If-None-Match", etag)
+                            .with(user(new CustomUserDetails(leaderUser))));
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(etag)))
+                    .andExpect(jsonPath("$.currentCount").value(3));
+        }
     }
 
     @Nested
@@ -451,7 +509,7 @@ class PartyControllerTest {
                     .gameMode(flexMode)
                     .queueType(QueueType.FLEX)
                     .myPosition(Position.MID)
-                    .lookingPositions("[\"JUNGLE\"]")
+                    .lookingPositions(List.of(Position.JUNGLE))
                     .mic(true)
                     .recruitCount(5)
                     .memo("자유랭크 달리실 분") // ★ 제목 역할
@@ -661,7 +719,7 @@ class PartyControllerTest {
                     .gameMode(GameMode.SUMMONERS_RIFT) // [변경] Enum 상수 직접 사용
                     .queueType(QueueType.DUO)
                     .myPosition(Position.ADC)
-                    .lookingPositions("[\"SUPPORT\"]")
+                    .lookingPositions(List.of(Position.SUPPORT))
                     .mic(true)
                     .recruitCount(2)
                     .memo("새로운 글")
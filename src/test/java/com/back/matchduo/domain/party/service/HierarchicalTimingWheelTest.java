@@ -0,0 +1,79 @@
+package com.back.matchduo.domain.party.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimingWheel 테스트")
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 20;
+    private static final int WHEEL_SIZE = 8;
+
+    @Test
+    @DisplayName("이미 지난 데드라인은 등록되지 않고 false를 반환한다")
+    void add_pastDeadline_returnsFalse() {
+        long now = System.currentTimeMillis();
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, now);
+
+        assertThat(wheel.add(1L, now - 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("데드라인이 지나기 전에는 꺼내지지 않는다")
+    void pollExpired_notBeforeDeadline() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, now);
+        long deadline = now + 100;
+        wheel.add(1L, deadline);
+
+        List<HierarchicalTimingWheel.Entry<Long>> expired = pollUntil(wheel, 1, 2000);
+
+        assertThat(expired).extracting(HierarchicalTimingWheel.Entry::key).containsExactly(1L);
+        assertThat(System.currentTimeMillis()).isGreaterThanOrEqualTo(deadline);
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴를 넘는 데드라인은 상위 휠을 거쳐 데드라인 순서대로 꺼내진다")
+    void pollExpired_overflowWheel_cascades() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, now);
+        // 레벨 0 한 바퀴 = 160ms
+        wheel.add(2L, now + 400);
+        wheel.add(1L, now + 60);
+
+        List<HierarchicalTimingWheel.Entry<Long>> expired = pollUntil(wheel, 2, 3000);
+
+        assertThat(expired).extracting(HierarchicalTimingWheel.Entry::key).containsExactly(1L, 2L);
+        assertThat(System.currentTimeMillis()).isGreaterThanOrEqualTo(now + 400);
+    }
+
+    @Test
+    @DisplayName("대기 중에 더 가까운 데드라인이 추가되면 그 시점에 깨어난다")
+    void pollExpired_wakesUpForEarlierDeadline() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, now);
+        wheel.add(1L, now + 5000);
+
+        Thread adder = new Thread(() -> wheel.add(2L, System.currentTimeMillis() + 50));
+        adder.start();
+
+        List<HierarchicalTimingWheel.Entry<Long>> expired = pollUntil(wheel, 1, 2000);
+
+        assertThat(expired).extracting(HierarchicalTimingWheel.Entry::key).containsExactly(2L);
+    }
+
+    private List<HierarchicalTimingWheel.Entry<Long>> pollUntil(HierarchicalTimingWheel<Long> wheel,
+                                                                int count, long timeoutMs) throws InterruptedException {
+        List<HierarchicalTimingWheel.Entry<Long>> expired = new ArrayList<>();
+        long until = System.currentTimeMillis() + timeoutMs;
+        while (expired.size() < count && System.currentTimeMillis() < until) {
+            expired.addAll(wheel.pollExpired(until - System.currentTimeMillis()));
+        }
+        return expired;
+    }
+}
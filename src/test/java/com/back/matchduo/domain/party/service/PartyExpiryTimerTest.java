@@ -0,0 +1,99 @@
+package com.back.matchduo.domain.party.service;
+
+import com.back.matchduo.domain.party.entity.Party;
+import com.back.matchduo.domain.party.entity.PartyStatus;
+import com.back.matchduo.domain.party.repository.PartyRepository;
+import com.back.matchduo.domain.review.event.PartyStatusChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartyExpiryTimer 테스트")
+class PartyExpiryTimerTest {
+
+    private static final Long PARTY_ID = 1L;
+
+    @Mock
+    private PartyExpiryQueue expiryQueue;
+
+    @Mock
+    private PartyExpirationService partyExpirationService;
+
+    @Mock
+    private PartyRepository partyRepository;
+
+    @InjectMocks
+    private PartyExpiryTimer partyExpiryTimer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(partyExpiryTimer, "horizonMs", 300_000L);
+        ReflectionTestUtils.setField(partyExpiryTimer, "wheel",
+                new HierarchicalTimingWheel<Long>(200, 64, System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("ACTIVE 전환 시 데드라인이 이미 지났으면 휠에 올리지 않고 바로 종료한다")
+    void handlePartyStatusChange_overdue_closesImmediately() {
+        // given
+        LocalDateTime expiresAt = LocalDateTime.now().minusMinutes(1);
+        long deadlineMs = PartyExpiryQueue.toEpochMillis(expiresAt);
+        given(partyRepository.findById(PARTY_ID)).willReturn(Optional.of(activeParty(expiresAt)));
+        given(expiryQueue.claim(PARTY_ID, deadlineMs)).willReturn(true);
+
+        // when
+        partyExpiryTimer.handlePartyStatusChange(
+                new PartyStatusChangedEvent(PARTY_ID, PartyStatus.RECRUIT, PartyStatus.ACTIVE));
+
+        // then
+        verify(partyExpirationService).closeExpired(eq(List.of(PARTY_ID)), any());
+        assertThat(scheduled()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("horizon 안의 데드라인은 휠에 올리고 기록한다")
+    void handlePartyStatusChange_withinHorizon_schedulesLocally() {
+        // given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(1);
+        long deadlineMs = PartyExpiryQueue.toEpochMillis(expiresAt);
+        given(partyRepository.findById(PARTY_ID)).willReturn(Optional.of(activeParty(expiresAt)));
+
+        // when
+        partyExpiryTimer.handlePartyStatusChange(
+                new PartyStatusChangedEvent(PARTY_ID, PartyStatus.RECRUIT, PartyStatus.ACTIVE));
+
+        // then
+        verify(partyExpirationService, never()).closeExpired(any(), any());
+        assertThat(scheduled()).containsEntry(PARTY_ID, deadlineMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> scheduled() {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(partyExpiryTimer, "scheduled");
+    }
+
+    private static Party activeParty(LocalDateTime expiresAt) {
+        Party party = new Party(100L, 1L, 2);
+        ReflectionTestUtils.setField(party, "id", PARTY_ID);
+        party.activateParty(expiresAt);
+        return party;
+    }
+}
@@ -0,0 +1,178 @@
+package com.back.matchduo.domain.party.service;
+
+import com.back.matchduo.domain.gameaccount.entity.GameAccount;
+import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
+import com.back.matchduo.domain.party.dto.request.PartyMemberAddRequest;
+import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.domain.user.repository.UserRepository;
+import com.back.matchduo.global.exception.CustomErrorCode;
+import com.back.matchduo.global.exception.CustomException;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파티원 추가 동시성 모드 비교 (pessimistic vs optimistic)
+ * - 파티 하나에 THREADS개 요청이 동시에 1명씩 추가 → 정원(CAPACITY)만큼만 성공해야 한다.
+ * - 실행: ./gradlew benchmark --tests "*PartyMembershipConcurrencyBenchmarkTest"
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("파티원 추가 동시성 모드 벤치마크")
+class PartyMembershipConcurrencyBenchmarkTest {
+
+    private static final int ROUNDS = 200;
+    private static final int THREADS = 16;
+    private static final int CAPACITY = 5;
+    private static final String BENCH_MEMO = "party-concurrency-bench";
+
+    @Autowired
+    private PartyService partyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameAccountRepository gameAccountRepository;
+
+    private User leader;
+    private GameAccount gameAccount;
+    private final List<User> members = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        leader = userRepository.save(User.createUser("bench-concurrency-leader@test.com", "1234", "동시성파티장"));
+        gameAccount = gameAccountRepository.save(GameAccount.builder()
+                .gameNickname("BenchConcurrency")
+                .gameTag("KR1")
+                .gameType("LEAGUE_OF_LEGENDS")
+                .puuid("bench-concurrency-puuid")
+                .profileIconId(1)
+                .user(leader)
+                .build());
+        for (int i = 0; i < THREADS; i++) {
+            members.add(userRepository.save(
+                    User.createUser("bench-concurrency-" + i + "@test.com", "1234", "동시성멤버" + i)));
+        }
+    }
+
+    @AfterEach
+    void cleanUpParties() {
+        jdbcTemplate.update("DELETE FROM review_request WHERE party_id IN " +
+                "(SELECT party_id FROM party WHERE leader_id = ?)", leader.getId());
+        jdbcTemplate.update("DELETE FROM party_member WHERE party_id IN " +
+                "(SELECT party_id FROM party WHERE leader_id = ?)", leader.getId());
+        jdbcTemplate.update("DELETE FROM party WHERE leader_id = ?", leader.getId());
+        jdbcTemplate.update("DELETE FROM post WHERE memo = ?", BENCH_MEMO);
+    }
+
+    @AfterAll
+    void tearDown() {
+        gameAccountRepository.delete(gameAccount);
+        userRepository.deleteAll(members);
+        userRepository.delete(leader);
+    }
+
+    @ParameterizedTest(name = "mode={0}")
+    @ValueSource(strings = {"pessimistic", "optimistic"})
+    @DisplayName("동시에 정원보다 많은 인원을 추가해도 정원까지만 성공한다")
+    void addMembers_underContention(String mode) throws Exception {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(partyService), "concurrencyMode", mode);
+        List<Long> partyIds = seedParties();
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        long start = System.nanoTime();
+        try {
+            for (Long partyId : partyIds) {
+                CountDownLatch ready = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (User member : members) {
+                    futures.add(executor.submit(() -> {
+                        ready.await();
+                        try {
+                            partyService.addMembers(partyId, leader.getId(),
+                                    new PartyMemberAddRequest(List.of(member.getId())));
+                            succeeded.incrementAndGet();
+                        } catch (CustomException e) {
+                            if (e.getErrorCode() != CustomErrorCode.PARTY_IS_FULL
+                                    && e.getErrorCode() != CustomErrorCode.PARTY_ALREADY_CLOSED) {
+                                throw e;
+                            }
+                            rejected.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                ready.countDown();
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        System.out.printf("[benchmark] addMembers mode=%s: rounds=%d, threads=%d, success=%d, rejected=%d, " +
+                        "elapsed=%dms, throughput=%.0f req/s%n",
+                mode, ROUNDS, THREADS, succeeded.get(), rejected.get(),
+                elapsedMs, ROUNDS * THREADS * 1000.0 / Math.max(elapsedMs, 1));
+
+        // then: 모든 파티가 정확히 정원만큼 차고 ACTIVE로 한 번만 전환
+        assertThat(succeeded.get()).isEqualTo(ROUNDS * (CAPACITY - 1));
+        Integer overbooked = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM party p
+                WHERE p.leader_id = ?
+                  AND (p.joined_member_count <> p.capacity
+                       OR p.status <> 'ACTIVE'
+                       OR (SELECT COUNT(*) FROM party_member pm
+                           WHERE pm.party_id = p.party_id AND pm.state = 'JOINED') <> p.capacity - 1)
+                """, Integer.class, leader.getId());
+        assertThat(overbooked).isZero();
+    }
+
+    private List<Long> seedParties() {
+        jdbcTemplate.update("""
+                INSERT INTO post (created_at, updated_at, is_active, user_id, game_account_id, game_mode, status,
+                                  queue_type, my_position, looking_positions, mic, recruit_count, memo)
+                SELECT CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, TRUE, ?, ?, 'SUMMONERS_RIFT', 'RECRUIT',
+                       'FLEX', 'TOP', 8, TRUE, ?, ?
+                FROM SYSTEM_RANGE(1, ?)
+                """, leader.getId(), gameAccount.getGameAccountId(), CAPACITY, BENCH_MEMO, ROUNDS);
+
+        jdbcTemplate.update("""
+                INSERT INTO party (created_at, updated_at, is_active, post_id, leader_id, capacity,
+                                   joined_member_count, status, version)
+                SELECT CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, TRUE, post_id, user_id, ?, 1, 'RECRUIT', 0
+                FROM post WHERE memo = ?
+                """, CAPACITY, BENCH_MEMO);
+
+        return jdbcTemplate.queryForList(
+                "SELECT party_id FROM party WHERE leader_id = ? ORDER BY party_id", Long.class, leader.getId());
+    }
+}
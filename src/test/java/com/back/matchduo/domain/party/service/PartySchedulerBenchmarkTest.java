@@ -0,0 +1,105 @@
+package com.back.matchduo.domain.party.service;
+
+import com.back.matchduo.domain.gameaccount.entity.GameAccount;
+import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
+import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 만료 파티 50,000개 자동 종료 벤치마크
+ * - 실행: ./gradlew benchmark --tests "*PartySchedulerBenchmarkTest"
+ * - 기본 test 태스크에서는 제외된다 (@Tag("benchmark"))
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("PartyScheduler 벌크 종료 벤치마크")
+class PartySchedulerBenchmarkTest {
+
+    private static final int PARTY_COUNT = 50_000;
+    private static final String BENCH_MEMO = "party-expire-bench";
+
+    @Autowired
+    private PartyScheduler partyScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameAccountRepository gameAccountRepository;
+
+    private User leader;
+    private GameAccount gameAccount;
+
+    @BeforeAll
+    void setUp() {
+        leader = userRepository.save(User.createUser("bench-leader@test.com", "1234", "벤치파티장"));
+        gameAccount = gameAccountRepository.save(GameAccount.builder()
+                .gameNickname("BenchLeader")
+                .gameTag("KR1")
+                .gameType("LEAGUE_OF_LEGENDS")
+                .puuid("bench-puuid")
+                .profileIconId(1)
+                .user(leader)
+                .build());
+
+        // 엔티티 저장 대신 set-based INSERT로 시드 (시드 시간이 측정값을 가리지 않도록)
+        jdbcTemplate.update("""
+                INSERT INTO post (created_at, updated_at, is_active, user_id, game_account_id, game_mode, status,
+                                  queue_type, my_position, looking_positions, mic, recruit_count, memo)
+                SELECT CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, TRUE, ?, ?, 'SUMMONERS_RIFT', 'ACTIVE',
+                       'DUO', 'TOP', 8, TRUE, 2, ?
+                FROM SYSTEM_RANGE(1, ?)
+                """, leader.getId(), gameAccount.getGameAccountId(), BENCH_MEMO, PARTY_COUNT);
+
+        jdbcTemplate.update("""
+                INSERT INTO party (created_at, updated_at, is_active, post_id, leader_id, capacity,
+                                   joined_member_count, status, expires_at, version)
+                SELECT CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, TRUE, post_id, user_id, 2, 2, 'ACTIVE',
+                       DATEADD('MINUTE', -5, CURRENT_TIMESTAMP), 0
+                FROM post WHERE memo = ?
+                """, BENCH_MEMO);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM party WHERE post_id IN (SELECT post_id FROM post WHERE memo = ?)", BENCH_MEMO);
+        jdbcTemplate.update("DELETE FROM post WHERE memo = ?", BENCH_MEMO);
+        gameAccountRepository.delete(gameAccount);
+        userRepository.delete(leader);
+    }
+
+    @Test
+    @DisplayName("만료된 ACTIVE 파티 50,000개를 청크 단위 벌크 UPDATE로 종료한다")
+    void closes_50k_expired_parties() {
+        // when
+        long start = System.nanoTime();
+        partyScheduler.autoCloseExpiredParties();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        System.out.printf("[benchmark] autoCloseExpiredParties: parties=%d, elapsed=%dms, throughput=%.0f parties/s%n",
+                PARTY_COUNT, elapsedMs, PARTY_COUNT * 1000.0 / Math.max(elapsedMs, 1));
+
+        // then
+        Integer remainingActive = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM party WHERE status = 'ACTIVE' AND leader_id = ?", Integer.class, leader.getId());
+        Integer closedPosts = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post WHERE status = 'CLOSED' AND memo = ?", Integer.class, BENCH_MEMO);
+
+        assertThat(remainingActive).isZero();
+        assertThat(closedPosts).isEqualTo(PARTY_COUNT);
+    }
+}
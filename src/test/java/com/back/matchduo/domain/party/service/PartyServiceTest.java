@@ -18,6 +18,7 @@ import com.back.matchduo.domain.user.entity.User;
 import com.back.matchduo.domain.user.repository.UserRepository;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,6 +28,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
@@ -59,6 +61,9 @@ class PartyServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private PartyService partyService;
 
@@ -107,7 +112,7 @@ class PartyServiceTest {
                 .gameMode(GameMode.SUMMONERS_RIFT)
                 .queueType(QueueType.DUO)
                 .myPosition(Position.TOP)
-                .lookingPositions("[\"JUNGLE\"]")
+                .lookingPositions(List.of(Position.JUNGLE))
                 .mic(true)
                 .recruitCount(recruitCount)
                 .memo("테스트 모집글")
@@ -357,4 +362,83 @@ class PartyServiceTest {
                     });
         }
     }
+
+    @Nested
+    @DisplayName("파티원 추가 테스트 - 낙관적 동시성 모드")
+    class AddMembersOptimisticTest {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(partyService, "concurrencyMode", "optimistic");
+        }
+
+        @Test
+        @DisplayName("성공: 잠금 없이 조회하고 조건부 UPDATE로 인원 증가 후 ACTIVE 전환")
+        void addMembers_success_optimistic() {
+            // given
+            PartyMemberAddRequest request = new PartyMemberAddRequest(List.of(3L));
+
+            given(partyRepository.findById(1L)).willReturn(Optional.of(party));
+            given(partyMemberRepository.findAllByPartyIdAndUserIdIn(1L, List.of(3L))).willReturn(List.of());
+            given(userRepository.findAllById(List.of(3L))).willReturn(List.of(targetUser));
+            given(partyMemberRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(partyRepository.reserveSeats(eq(1L), eq(1), eq(PartyStatus.RECRUIT), any())).willReturn(1);
+            given(partyRepository.activateIfFull(eq(1L), eq(PartyStatus.RECRUIT), eq(PartyStatus.ACTIVE), any(), any()))
+                    .willReturn(1);
+
+            // when
+            List<PartyMemberAddResponse> result = partyService.addMembers(1L, 1L, request);
+
+            // then
+            assertThat(result).hasSize(1);
+            verify(partyRepository, never()).findByIdForUpdate(any());
+            verify(eventPublisher).publishEvent(any(Object.class));
+            verify(postRepository).updateStatusById(100L, com.back.matchduo.domain.post.entity.PostStatus.ACTIVE);
+        }
+
+        @Test
+        @DisplayName("성공: 나갔던 멤버는 벌크 UPDATE로만 재참여시키고 엔티티는 DB 값으로 갱신")
+        void addMembers_rejoin_optimistic() {
+            // given
+            normalMember.leaveParty();
+            PartyMemberAddRequest request = new PartyMemberAddRequest(List.of(2L));
+
+            given(partyRepository.findById(1L)).willReturn(Optional.of(party));
+            given(partyMemberRepository.findAllByPartyIdAndUserIdIn(1L, List.of(2L))).willReturn(List.of(normalMember));
+            given(userRepository.findAllById(List.of(2L))).willReturn(List.of(memberUser));
+            given(partyMemberRepository.rejoinAllIfLeft(eq(List.of(2L)), eq(PartyMemberState.LEFT),
+                    eq(PartyMemberState.JOINED), any())).willReturn(1);
+            given(partyRepository.reserveSeats(eq(1L), eq(1), eq(PartyStatus.RECRUIT), any())).willReturn(1);
+
+            // when
+            partyService.addMembers(1L, 1L, request);
+
+            // then: 엔티티 변경(dirty checking)으로 같은 UPDATE가 다시 나가지 않음
+            verify(entityManager).refresh(normalMember);
+            assertThat(normalMember.getState()).isEqualTo(PartyMemberState.LEFT);
+        }
+
+        @Test
+        @DisplayName("실패: 그 사이 다른 요청이 정원을 채우면 PARTY_IS_FULL")
+        void addMembers_fail_optimistic_full() {
+            // given
+            PartyMemberAddRequest request = new PartyMemberAddRequest(List.of(3L));
+
+            given(partyRepository.findById(1L)).willReturn(Optional.of(party));
+            given(partyMemberRepository.findAllByPartyIdAndUserIdIn(1L, List.of(3L))).willReturn(List.of());
+            given(userRepository.findAllById(List.of(3L))).willReturn(List.of(targetUser));
+            given(partyMemberRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+            given(partyRepository.reserveSeats(eq(1L), eq(1), eq(PartyStatus.RECRUIT), any())).willReturn(0);
+            given(partyRepository.findStatusById(1L)).willReturn(Optional.of(PartyStatus.RECRUIT));
+
+            // when & then
+            assertThatThrownBy(() -> partyService.addMembers(1L, 1L, request))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> {
+                        CustomException customEx = (CustomException) ex;
+                        assertThat(customEx.getErrorCode()).isEqualTo(CustomErrorCode.PARTY_IS_FULL);
+                    });
+            verify(partyRepository, never()).activateIfFull(any(), any(), any(), any(), any());
+        }
+    }
 }
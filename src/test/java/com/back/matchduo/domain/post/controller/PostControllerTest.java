@@ -1,6 +1,7 @@
 package com.back.matchduo.domain.post.controller;
 
 import com.back.matchduo.domain.gameaccount.entity.GameAccount;
+import com.back.matchduo.domain.gameaccount.entity.Tier;
 import com.back.matchduo.domain.gameaccount.repository.GameAccountRepository;
 import com.back.matchduo.domain.party.entity.Party;
 import com.back.matchduo.domain.party.entity.PartyMember;
@@ -13,8 +14,10 @@ import com.back.matchduo.domain.post.entity.Post;
 import com.back.matchduo.domain.post.entity.PostStatus;
 import com.back.matchduo.domain.post.entity.QueueType;
 import com.back.matchduo.domain.post.repository.PostRepository;
+import com.back.matchduo.domain.post.service.PostMatchIndexService;
 import com.back.matchduo.domain.user.entity.User;
 import com.back.matchduo.domain.user.repository.UserRepository;
+import com.back.matchduo.global.query.QueryBudget;
 import com.back.matchduo.global.security.CustomUserDetails;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +29,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -57,6 +62,9 @@ class PostControllerTest {
     @Autowired
     private GameAccountRepository gameAccountRepository;
 
+    @Autowired
+    private PostMatchIndexService postMatchIndexService;
+
     private User testUser;
     private User testUser2;
     private GameAccount testGameAccount;
@@ -101,11 +109,12 @@ class PostControllerTest {
                 .gameMode(GameMode.SUMMONERS_RIFT)
                 .queueType(QueueType.DUO)
                 .myPosition(Position.TOP)
-                .lookingPositions("[\"JUNGLE\"]")
+                .lookingPositions(List.of(Position.JUNGLE))
                 .mic(true)
                 .recruitCount(2)
                 .memo("모집중 테스트")
                 .build();
+        recruitPost.updateWriterTierOrdinal(Tier.toOrdinal("DIAMOND", "II"));
         postRepository.save(recruitPost);
 
         // RECRUIT 파티 생성
@@ -120,7 +129,7 @@ class PostControllerTest {
                 .gameMode(GameMode.SUMMONERS_RIFT)
                 .queueType(QueueType.FLEX)
                 .myPosition(Position.MID)
-                .lookingPositions("[\"SUPPORT\"]")
+                .lookingPositions(List.of(Position.SUPPORT))
                 .mic(false)
                 .recruitCount(2)
                 .memo("모집완료 테스트")
@@ -144,7 +153,7 @@ class PostControllerTest {
                 .gameMode(GameMode.HOWLING_ABYSS)
                 .queueType(QueueType.NORMAL)
                 .myPosition(Position.ANY)
-                .lookingPositions("[\"ANY\"]")
+                .lookingPositions(List.of(Position.ANY))
                 .mic(false)
                 .recruitCount(5)
                 .memo("종료된 테스트")
@@ -161,6 +170,7 @@ class PostControllerTest {
 
     @Nested
     @DisplayName("모집글 상태별 조회 테스트")
+    @QueryBudget(max = 15)
     class GetPostsByStatus {
 
         @Test
@@ -237,6 +247,96 @@ class PostControllerTest {
                     .andDo(print());
         }
 
+        @Test
+        @DisplayName("성공: lookingFor=JUNGLE로 조회하면 정글을 구하는 글만 반환된다 (응답은 JSON 목록 그대로)")
+        void success_filter_looking_for() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(
+                    get("/api/v1/posts")
+                            .param("lookingFor", "JUNGLE")
+                            .accept(MediaType.APPLICATION_JSON)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)].lookingPositions[0]", recruitPost.getId())
+                            .value("JUNGLE"))
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)]", activePost.getId()).doesNotExist())
+                    .andDo(print());
+        }
+
+        @Test
+        @DisplayName("성공: gameMode 필터링")
+        void success_filter_game_mode() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(
+                    get("/api/v1/posts")
+                            .param("gameMode", "SUMMONERS_RIFT")
+                            .accept(MediaType.APPLICATION_JSON)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)]", recruitPost.getId()).exists())
+                    .andExpect(jsonPath("$.posts[?(@.gameMode != '%s')]", GameMode.SUMMONERS_RIFT.name())
+                            .doesNotExist())
+                    .andDo(print());
+        }
+
+        @Test
+        @DisplayName("성공: minTier~maxTier 범위 안의 솔로랭크 티어 글만 반환된다 (언랭 글 제외)")
+        void success_filter_tier_range() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(
+                    get("/api/v1/posts")
+                            .param("minTier", "EMERALD")
+                            .param("maxTier", "diamond")
+                            .accept(MediaType.APPLICATION_JSON)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)]", recruitPost.getId()).exists())
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)]", activePost.getId()).doesNotExist())
+                    .andDo(print());
+        }
+
+        @Test
+        @DisplayName("성공: tier 단일 필터는 해당 티어 전체 디비전만 반환한다")
+        void success_filter_single_tier() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(
+                    get("/api/v1/posts")
+                            .param("tier", "GOLD")
+                            .accept(MediaType.APPLICATION_JSON)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)]", recruitPost.getId()).doesNotExist())
+                    .andDo(print());
+        }
+
+        @Test
+        @DisplayName("실패: 알 수 없는 티어는 400")
+        void fail_filter_unknown_tier() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(
+                    get("/api/v1/posts")
+                            .param("minTier", "WOOD")
+                            .accept(MediaType.APPLICATION_JSON)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isBadRequest())
+                    .andDo(print());
+        }
+
         @Test
         @DisplayName("성공: 비로그인 상태에서도 목록 조회 가능")
         void success_guest_access() throws Exception {
@@ -271,8 +371,78 @@ class PostControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("추천 모집글 조회 테스트 (매칭 인덱스)")
+    @QueryBudget(max = 2)
+    class GetRecommendedPosts {
+
+        @BeforeEach
+        void rebuildIndex() {
+            // setUp 데이터는 이벤트 없이 저장됐으므로 인덱스를 DB 기준으로 다시 만든다
+            postMatchIndexService.rebuild();
+        }
+
+        @Test
+        @DisplayName("성공: 내 포지션을 구하는 모집 중(RECRUIT) 글만 반환된다")
+        void success_recommend_by_position() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(
+                    get("/api/v1/posts/recommended")
+                            .param("queueType", "DUO")
+                            .param("myPosition", "JUNGLE")
+                            .accept(MediaType.APPLICATION_JSON)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)].writerTier", recruitPost.getId())
+                            .value("DIAMOND"))
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)]", activePost.getId()).doesNotExist())
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)]", closedPost.getId()).doesNotExist())
+                    .andDo(print());
+        }
+
+        @Test
+        @DisplayName("성공: 내 티어 ± tierRange 밖의 작성자 글은 제외된다")
+        void success_recommend_by_tier() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(
+                    get("/api/v1/posts/recommended")
+                            .param("tier", "SILVER")
+                            .param("tierRange", "1")
+                            .accept(MediaType.APPLICATION_JSON)
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)]", recruitPost.getId()).doesNotExist())
+                    .andDo(print());
+        }
+
+        @Test
+        @DisplayName("성공: 로그인 사용자 본인 글은 추천하지 않는다")
+        void success_recommend_excludes_own_posts() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(
+                    get("/api/v1/posts/recommended")
+                            .param("myPosition", "JUNGLE")
+                            .accept(MediaType.APPLICATION_JSON)
+                            .with(user(new CustomUserDetails(testUser)))
+            );
+
+            // then
+            resultActions
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.posts[?(@.postId == %d)]", recruitPost.getId()).doesNotExist())
+                    .andDo(print());
+        }
+    }
+
     @Nested
     @DisplayName("모집글 단건 조회 테스트")
+    @QueryBudget(max = 10)
     class GetPostDetail {
 
         @Test
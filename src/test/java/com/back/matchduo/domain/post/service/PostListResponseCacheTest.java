@@ -0,0 +1,163 @@
+package com.back.matchduo.domain.post.service;
+
+import com.back.matchduo.domain.post.dto.response.PostListResponse;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.QueueType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostListResponseCache 테스트")
+class PostListResponseCacheTest {
+
+    private static final PostListResponseCache.Key KEY =
+            PostListResponseCache.Key.of(null, null, QueueType.DUO, null, null, null, null, null, null);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 키로 동시에 미스가 나면 조회는 한 번만 하고 나머지는 그 결과를 받는다")
+    void get_concurrentMisses_loadOnce() throws Exception {
+        // given
+        PostListResponseCache cache = cache(60_000);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<PostListResponseCache.CachedPage>> results = new ArrayList<>();
+        try {
+            results.add(executor.submit(() -> cache.get(KEY, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return page(1L);
+            })));
+            await(loading);
+            for (int i = 1; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get(KEY, () -> {
+                    loads.incrementAndGet();
+                    return page(2L);
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<PostListResponseCache.CachedPage> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).response().nextCursor()).isEqualTo(1L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("post.list.cache", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 저장된 JSON을 그대로 주고, 지나면 다시 조회한다")
+    void get_ttl() throws Exception {
+        // given
+        PostListResponseCache cache = cache(50);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        PostListResponseCache.CachedPage first = cache.get(KEY, () -> page(loads.incrementAndGet()));
+        PostListResponseCache.CachedPage cached = cache.get(KEY, () -> page(loads.incrementAndGet()));
+        Thread.sleep(100);
+        PostListResponseCache.CachedPage reloaded = cache.get(KEY, () -> page(loads.incrementAndGet()));
+
+        // then
+        assertThat(cached.json()).isSameAs(first.json());
+        assertThat(reloaded.response().nextCursor()).isEqualTo(2L);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화하면 TTL 안이어도 다시 조회한다")
+    void invalidateAll_reloads() {
+        // given
+        PostListResponseCache cache = cache(60_000);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(KEY, () -> page(loads.incrementAndGet()));
+
+        // when
+        cache.invalidateAll();
+        PostListResponseCache.CachedPage reloaded = cache.get(KEY, () -> page(loads.incrementAndGet()));
+
+        // then
+        assertThat(reloaded.response().nextCursor()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 저장하지 않고 다음 요청이 다시 조회한다")
+    void get_failure_notCached() {
+        // given
+        PostListResponseCache cache = cache(60_000);
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(KEY, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(KEY, () -> page(7L)).response().nextCursor()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("조회 중 Error가 나도 슬롯을 비우고 다음 요청이 다시 조회한다")
+    void get_error_releasesSlot() {
+        // given
+        PostListResponseCache cache = cache(60_000);
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(KEY, () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+        assertThat(cache.get(KEY, () -> page(7L)).response().nextCursor()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("포지션 순서/중복, 대소문자, ANY는 같은 키로 정규화한다")
+    void key_normalized() {
+        // when
+        PostListResponseCache.Key a = PostListResponseCache.Key.of(
+                null, null, null, null, "MID,TOP,MID", Position.ANY, "gold", null, null);
+        PostListResponseCache.Key b = PostListResponseCache.Key.of(
+                20, null, null, null, " top , mid", null, "GOLD", null, null);
+
+        // then
+        assertThat(a).isEqualTo(b);
+        assertThat(PostListResponseCache.Key.of(null, null, null, null, "TOP,ANY", null, null, null, null))
+                .isEqualTo(PostListResponseCache.Key.of(null, null, null, null, null, null, null, null, null));
+    }
+
+    private PostListResponseCache cache(long ttlMs) {
+        return new PostListResponseCache(new ObjectMapper(), meterRegistry, true, ttlMs);
+    }
+
+    private static PostListResponse page(long nextCursor) {
+        return new PostListResponse(List.of(), nextCursor, true);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
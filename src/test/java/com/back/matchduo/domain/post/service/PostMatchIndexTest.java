@@ -0,0 +1,112 @@
+package com.back.matchduo.domain.post.service;
+
+import com.back.matchduo.domain.gameaccount.entity.Tier;
+import com.back.matchduo.domain.post.entity.GameMode;
+import com.back.matchduo.domain.post.entity.Position;
+import com.back.matchduo.domain.post.entity.QueueType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostMatchIndex 테스트")
+class PostMatchIndexTest {
+
+    @Test
+    @DisplayName("내 포지션 또는 ANY를 구하는 글만, 최신 글 먼저 반환한다")
+    void search_byPosition_newestFirst() {
+        // given
+        PostMatchIndex index = PostMatchIndex.build(List.of(
+                entry(1L, QueueType.DUO, List.of(Position.JUNGLE), true, "GOLD", "I"),
+                entry(2L, QueueType.DUO, List.of(Position.ANY), true, "GOLD", "II"),
+                entry(3L, QueueType.DUO, List.of(Position.SUPPORT), true, "GOLD", "III")
+        ));
+
+        // when
+        List<PostMatchEntry> result = search(index, QueueType.DUO, Position.JUNGLE, null, null, null);
+
+        // then
+        assertThat(result).extracting(PostMatchEntry::postId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("큐 타입, 티어 구간, 마이크 조건을 모두 적용한다 (티어 조건이 있으면 언랭 제외)")
+    void search_byQueueTierAndMic() {
+        // given
+        PostMatchIndex index = PostMatchIndex.build(List.of(
+                entry(1L, QueueType.DUO, List.of(Position.MID), true, "GOLD", "I"),
+                entry(2L, QueueType.FLEX, List.of(Position.MID), true, "GOLD", "I"),
+                entry(3L, QueueType.DUO, List.of(Position.MID), true, "DIAMOND", "IV"),
+                entry(4L, QueueType.DUO, List.of(Position.MID), false, "PLATINUM", "II"),
+                entry(5L, QueueType.DUO, List.of(Position.MID), true, null, null)
+        ));
+
+        // when
+        List<PostMatchEntry> result = search(index, QueueType.DUO, Position.MID, Tier.SILVER, Tier.PLATINUM, true);
+
+        // then
+        assertThat(result).extracting(PostMatchEntry::postId).containsExactly(1L);
+        assertThat(search(index, QueueType.DUO, Position.MID, null, null, null))
+                .extracting(PostMatchEntry::postId).containsExactly(5L, 4L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("갱신하면 이전 버킷에서 빠지고, 제거하면 더 이상 조회되지 않는다")
+    void upsertAndRemove() {
+        // given
+        PostMatchIndex index = PostMatchIndex.build(List.of(
+                entry(1L, QueueType.DUO, List.of(Position.TOP), true, "GOLD", "I"),
+                entry(2L, QueueType.DUO, List.of(Position.TOP), true, "GOLD", "I")
+        ));
+
+        // when
+        index.upsert(entry(1L, QueueType.FLEX, List.of(Position.TOP), true, "GOLD", "I"));
+        index.remove(2L);
+
+        // then
+        assertThat(search(index, QueueType.DUO, Position.TOP, null, null, null)).isEmpty();
+        assertThat(search(index, QueueType.FLEX, Position.TOP, null, null, null))
+                .extracting(PostMatchEntry::postId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제외 조건(본인/차단 유저 글)에 걸린 글은 건너뛰고 limit만큼 채운다")
+    void search_excludeAndLimit() {
+        // given
+        PostMatchIndex index = PostMatchIndex.build(List.of(
+                entry(1L, QueueType.DUO, List.of(Position.ADC), true, "GOLD", "I"),
+                entry(2L, QueueType.DUO, List.of(Position.ADC), true, "GOLD", "I"),
+                entry(3L, QueueType.DUO, List.of(Position.ADC), true, "GOLD", "I")
+        ));
+
+        // when
+        List<PostMatchEntry> result = index.search(QueueType.DUO, Position.ADC, null, null, null, 1,
+                entry -> entry.writerId() == 103L);
+
+        // then
+        assertThat(result).extracting(PostMatchEntry::postId).containsExactly(2L);
+    }
+
+    private static List<PostMatchEntry> search(PostMatchIndex index, QueueType queueType, Position myPosition,
+                                               Tier minTier, Tier maxTier, Boolean mic) {
+        return index.search(queueType, myPosition, minTier, maxTier, mic, 20, entry -> false);
+    }
+
+    private static PostMatchEntry entry(Long postId, QueueType queueType, List<Position> lookingPositions,
+                                        boolean mic, String tier, String division) {
+        return new PostMatchEntry(
+                postId,
+                100L + postId,
+                GameMode.SUMMONERS_RIFT,
+                queueType,
+                Position.TOP,
+                Position.toMask(lookingPositions),
+                mic,
+                2,
+                Tier.toOrdinal(tier, division)
+        );
+    }
+}
@@ -10,6 +10,7 @@ import com.back.matchduo.domain.post.dto.response.PostUpdateResponse;
 import com.back.matchduo.domain.post.entity.*;
 import com.back.matchduo.domain.post.repository.PostRepository;
 import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.domain.user.service.UserBanCacheService;
 import com.back.matchduo.global.exception.CustomErrorCode;
 import com.back.matchduo.global.exception.CustomException;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +48,18 @@ class PostServiceTest {
     @Mock
     private PostListFacade postListFacade;
 
+    @Mock
+    private PostMatchIndexService postMatchIndexService;
+
+    @Mock
+    private PostListResponseCache postListResponseCache;
+
+    @Mock
+    private UserBanCacheService userBanCacheService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PostService postService;
 
@@ -79,7 +93,7 @@ class PostServiceTest {
                 .gameMode(GameMode.SUMMONERS_RIFT)
                 .queueType(QueueType.DUO)
                 .myPosition(Position.TOP)
-                .lookingPositions("[\"JUNGLE\"]")
+                .lookingPositions(List.of(Position.JUNGLE))
                 .mic(true)
                 .recruitCount(2)
                 .memo("테스트 모집글")
@@ -34,6 +34,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -129,7 +131,7 @@ class ReviewControllerTest {
                 .gameMode(GameMode.SUMMONERS_RIFT)
                 .queueType(QueueType.DUO)
                 .myPosition(Position.TOP)
-                .lookingPositions("[\"JUNGLE\"]")
+                .lookingPositions(List.of(Position.JUNGLE))
                 .mic(true)
                 .recruitCount(2)
                 .memo("리뷰 테스트용 모집글")
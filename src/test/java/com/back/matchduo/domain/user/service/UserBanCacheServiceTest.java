@@ -0,0 +1,169 @@
+package com.back.matchduo.domain.user.service;
+
+import com.back.matchduo.domain.user.repository.UserBanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBanCacheService 테스트")
+class UserBanCacheServiceTest {
+
+    @Mock
+    private UserBanRepository userBanRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private UserBanCacheService userBanCacheService;
+
+    private static final Long USER_ID = 1L;
+    private static final String EXPECTED_KEY = "user:ban:1";
+    private static final String EXPECTED_VERSION_KEY = "user:ban:ver:1";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userBanCacheService, "localTtlSeconds", 60L);
+    }
+
+    @Nested
+    @DisplayName("getBannedUserIds 메서드")
+    class GetBannedUserIdsTest {
+
+        @Test
+        @DisplayName("Redis에 있으면 DB를 조회하지 않고 빈 집합 표시값은 제외한다")
+        void getBannedUserIds_redisHit() {
+            // given
+            given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(EXPECTED_KEY)).willReturn(Set.of("-1", "2", "3"));
+
+            // when
+            Set<Long> result = userBanCacheService.getBannedUserIds(USER_ID);
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder(2L, 3L);
+            verify(userBanRepository, never()).findBannedUserIds(any());
+        }
+
+        @Test
+        @DisplayName("Redis에 없으면 DB 조회 후 표시값과 함께 Redis에 저장한다 (읽어 둔 버전 조건)")
+        void getBannedUserIds_redisMiss() {
+            // given
+            given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(EXPECTED_KEY)).willReturn(Set.of());
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(EXPECTED_VERSION_KEY)).willReturn("3");
+            given(userBanRepository.findBannedUserIds(USER_ID)).willReturn(List.of());
+
+            // when
+            Set<Long> result = userBanCacheService.getBannedUserIds(USER_ID);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(EXPECTED_KEY, EXPECTED_VERSION_KEY)), eq("3"), eq("3600"), eq("-1"));
+        }
+
+        @Test
+        @DisplayName("DB를 읽는 사이 무효화되면 결과는 돌려주되 로컬에 저장하지 않는다")
+        void getBannedUserIds_evictedWhileLoading() {
+            // given
+            given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(EXPECTED_KEY)).willReturn(Set.of());
+            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+            given(userBanRepository.findBannedUserIds(USER_ID)).willAnswer(invocation -> {
+                userBanCacheService.evict(USER_ID, 2L); // 차단 커밋이 끼어듦
+                return List.of();
+            });
+
+            // when
+            userBanCacheService.getBannedUserIds(USER_ID);
+            userBanCacheService.getBannedUserIds(USER_ID);
+
+            // then
+            verify(setOperations, times(2)).members(EXPECTED_KEY);
+        }
+
+        @Test
+        @DisplayName("로컬 캐시가 유효하면 Redis를 다시 조회하지 않는다")
+        void getBannedUserIds_localHit() {
+            // given
+            given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(EXPECTED_KEY)).willReturn(Set.of("-1", "2"));
+
+            // when
+            userBanCacheService.getBannedUserIds(USER_ID);
+            Set<Long> result = userBanCacheService.getBannedUserIds(USER_ID);
+
+            // then
+            assertThat(result).containsExactly(2L);
+            verify(setOperations, times(1)).members(anyString());
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 DB fallback")
+        void getBannedUserIds_redisFailure() {
+            // given
+            given(stringRedisTemplate.opsForSet()).willThrow(new RuntimeException("Redis down"));
+            given(userBanRepository.findBannedUserIds(USER_ID)).willReturn(List.of(5L));
+
+            // when
+            Set<Long> result = userBanCacheService.getBannedUserIds(USER_ID);
+
+            // then
+            assertThat(result).containsExactly(5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("evict 메서드")
+    class EvictTest {
+
+        @Test
+        @DisplayName("양쪽 유저의 로컬/Redis 캐시를 모두 지운다")
+        void evict_bothUsers() {
+            // given
+            given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(EXPECTED_KEY)).willReturn(Set.of("-1"));
+            userBanCacheService.getBannedUserIds(USER_ID);
+
+            // when
+            userBanCacheService.evict(USER_ID, 2L);
+            userBanCacheService.getBannedUserIds(USER_ID);
+
+            // then
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    eq(List.of("user:ban:1", "user:ban:ver:1", "user:ban:2", "user:ban:ver:2")), eq("3600"));
+            verify(setOperations, times(2)).members(EXPECTED_KEY);
+        }
+    }
+}
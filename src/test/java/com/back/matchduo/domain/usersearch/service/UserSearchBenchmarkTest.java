@@ -0,0 +1,135 @@
+package com.back.matchduo.domain.usersearch.service;
+
+import com.back.matchduo.domain.usersearch.dto.response.UserSearchListResponse;
+import com.back.matchduo.domain.usersearch.repository.UserSearchQueryRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유저 100만 명 기준 닉네임 검색 벤치마크 (LIKE '%keyword%' vs n-gram FULLTEXT)
+ * - H2에는 FULLTEXT가 없으므로 MySQL 컨테이너에 Flyway로 스키마(V10 인덱스 포함)를 올려서 측정한다.
+ * - 실행: ./gradlew benchmark --tests "*UserSearchBenchmarkTest"
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("유저 검색 벤치마크 (1M users)")
+class UserSearchBenchmarkTest {
+
+    private static final int USER_COUNT = 1_000_000;
+    private static final int ITERATIONS = 50;
+    private static final List<String> KEYWORDS = List.of("정글러12", "미드킹", "Faker", "Hide#KR");
+
+    @Container
+    static final GenericContainer<?> mysql = new GenericContainer<>("mysql:8.0")
+            .withEnv("MYSQL_ROOT_PASSWORD", "test")
+            .withEnv("MYSQL_DATABASE", "matchduo")
+            .withExposedPorts(3306)
+            .waitingFor(Wait.forLogMessage(".*ready for connections.*port: 3306.*", 1))
+            .withStartupTimeout(java.time.Duration.ofMinutes(3));
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:mysql://" + mysql.getHost() + ":" + mysql.getMappedPort(3306)
+                + "/matchduo?useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true");
+        registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "test");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @Autowired
+    private UserSearchQueryRepository userSearchQueryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        long start = System.nanoTime();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION cte_max_recursion_depth = " + (USER_COUNT + 1));
+                statement.executeUpdate("""
+                        INSERT INTO user (created_at, updated_at, is_active, email, nickname, password)
+                        WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                        SELECT NOW(6), NOW(6), b'1', CONCAT('bench', n, '@test.com'),
+                               CONCAT(ELT(1 + n %% 8, '소환사', '정글러', '탑신병자', '미드킹',
+                                          '원딜장인', '서폿러', 'Faker', 'Ranker'), n),
+                               'password'
+                        FROM seq
+                        """.formatted(USER_COUNT));
+                // 10명 중 1명은 LOL 계정 연동 (Riot ID 검색 대상)
+                statement.executeUpdate("""
+                        INSERT INTO game_account (created_at, updated_at, is_active, game_nickname, game_tag,
+                                                  game_type, profile_icon_id, puuid, user_id)
+                        SELECT NOW(6), NOW(6), b'1',
+                               CONCAT(ELT(1 + id % 4, 'Hide', 'on', 'bush', 'Deft'), id),
+                               ELT(1 + id % 3, 'KR1', 'KR2', 'JP1'),
+                               'LEAGUE_OF_LEGENDS', 1, CONCAT('bench-puuid-', id), id
+                        FROM user WHERE id % 10 = 0
+                        """);
+            }
+            return null;
+        });
+        System.out.printf("[benchmark] seeded %d users in %dms%n",
+                USER_COUNT, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @ParameterizedTest(name = "mode={0}")
+    @ValueSource(strings = {"like", "fulltext"})
+    @DisplayName("검색어별 첫 페이지 + capped count 응답 시간")
+    void search_latency(String mode) {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(userSearchQueryRepository), "searchMode", mode);
+
+        for (String keyword : KEYWORDS) {
+            userSearchService.search(keyword, null, 10); // 워밍업
+
+            List<Long> samples = new ArrayList<>();
+            UserSearchListResponse last = null;
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                last = userSearchService.search(keyword, null, 10);
+                samples.add(System.nanoTime() - start);
+            }
+            Collections.sort(samples);
+
+            System.out.printf("[benchmark] search mode=%s keyword=%s: p50=%.1fms, p95=%.1fms, count=%d%s%n",
+                    mode, keyword,
+                    samples.get(ITERATIONS / 2) / 1_000_000.0,
+                    samples.get(ITERATIONS * 95 / 100) / 1_000_000.0,
+                    last.totalCount(), last.totalCountCapped() ? "+" : "");
+
+            assertThat(last.users()).isNotEmpty();
+        }
+    }
+}
@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -125,6 +127,38 @@ class UserSearchServiceTest {
             assertThat(gameAccount.tagLine()).isEqualTo("KR1");
         }
 
+        @Test
+        @DisplayName("Riot ID(gameNickname#gameTag)로 검색")
+        void search_by_riot_id() {
+            // when
+            UserSearchListResponse result = userSearchService.search("TestPlayer#KR", null, 10);
+
+            // then
+            assertThat(result.users()).hasSize(1);
+            assertThat(result.users().get(0).nickname()).isEqualTo("프로게이머");
+        }
+
+        @Test
+        @DisplayName("Riot ID 태그가 다르면 검색되지 않음")
+        void search_by_riot_id_wrong_tag() {
+            // when
+            UserSearchListResponse result = userSearchService.search("TestPlayer#NA1", null, 10);
+
+            // then
+            assertThat(result.users()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("게임 닉네임 일부로 검색")
+        void search_by_game_nickname() {
+            // when
+            UserSearchListResponse result = userSearchService.search("TestPlay", null, 10);
+
+            // then
+            assertThat(result.users()).hasSize(1);
+            assertThat(result.users().get(0).gameAccount().gameName()).isEqualTo("TestPlayer");
+        }
+
         @Test
         @DisplayName("게임 계정 미연동 유저 검색")
         void search_user_without_game_account() {
@@ -203,6 +237,25 @@ class UserSearchServiceTest {
             assertThat(result.users()).hasSize(10);
         }
 
+        @Test
+        @DisplayName("결과 수가 상한을 넘으면 상한값과 capped 플래그를 반환")
+        void search_count_capped() {
+            // given
+            Object target = AopTestUtils.getTargetObject(userSearchService);
+            ReflectionTestUtils.setField(target, "countCap", 10);
+
+            try {
+                // when
+                UserSearchListResponse result = userSearchService.search("페이징테스트", null, 5);
+
+                // then
+                assertThat(result.totalCount()).isEqualTo(10);
+                assertThat(result.totalCountCapped()).isTrue();
+            } finally {
+                ReflectionTestUtils.setField(target, "countCap", 1000);
+            }
+        }
+
         @Test
         @DisplayName("size가 50 초과시 최대 50으로 제한")
         void search_max_size_limit() {
@@ -0,0 +1,180 @@
+package com.back.matchduo.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TwoLevelCache 테스트")
+class TwoLevelCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache remote;
+    private List<String> published;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        remote = new ConcurrentMapCache("gameAccount", false);
+        published = new ArrayList<>();
+        cache = newCache(remote);
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class GetTest {
+
+        @Test
+        @DisplayName("처음에는 원본을 읽어 로컬/Redis에 저장하고, 다음부터는 로컬에서 읽는다")
+        void loadThenLocalHit() {
+            // given
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            String first = cache.get(1L, () -> "account-" + loads.incrementAndGet());
+            String second = cache.get(1L, () -> "account-" + loads.incrementAndGet());
+
+            // then
+            assertThat(first).isEqualTo("account-1");
+            assertThat(second).isEqualTo("account-1");
+            assertThat(loads).hasValue(1);
+            assertThat(remote.get(1L).get()).isEqualTo("account-1");
+            assertThat(gets("miss")).isEqualTo(1.0);
+            assertThat(gets("local_hit")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("로컬에 없고 Redis에 있으면 Redis 값을 로컬에 채운다")
+        void redisHit() {
+            // given
+            remote.put(1L, "from-redis");
+
+            // when
+            String value = cache.get(1L, () -> "from-db");
+
+            // then
+            assertThat(value).isEqualTo("from-redis");
+            assertThat(((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).getIfPresent("1"))
+                    .isEqualTo("from-redis");
+            assertThat(gets("redis_hit")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 원본 값을 그대로 돌려준다")
+        void redisFailureFallsBackToLoader() {
+            // given
+            Cache brokenRemote = mock(Cache.class);
+            given(brokenRemote.get(any())).willThrow(new RedisConnectionFailureException("down"));
+            willThrow(new RedisConnectionFailureException("down")).given(brokenRemote).put(any(), any());
+            TwoLevelCache brokenCache = newCache(brokenRemote);
+
+            // when
+            String value = brokenCache.get(1L, () -> "from-db");
+
+            // then
+            assertThat(value).isEqualTo("from-db");
+            assertThat(brokenCache.get(1L, () -> "reloaded")).isEqualTo("from-db");
+        }
+
+        @Test
+        @DisplayName("같은 키를 동시에 조회하면 원본은 한 번만 읽는다")
+        void singleFlight() throws Exception {
+            // given
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch loaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                // when
+                Future<String> first = executor.submit(() -> cache.get(1L, () -> {
+                    loads.incrementAndGet();
+                    loaderStarted.countDown();
+                    release.await();
+                    return "account";
+                }));
+                assertThat(loaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+                Future<String> second = executor.submit(() -> cache.get(1L, () -> "account-" + loads.incrementAndGet()));
+                release.countDown();
+
+                // then
+                assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("account");
+                assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("account");
+                assertThat(loads).hasValue(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class EvictTest {
+
+        @Test
+        @DisplayName("evict는 로컬/Redis를 모두 지우고 다른 노드에 키를 브로드캐스트한다")
+        void evictBroadcasts() {
+            // given
+            cache.put(1L, "account");
+
+            // when
+            cache.evict(1L);
+
+            // then
+            assertThat(cache.get(1L)).isNull();
+            assertThat(remote.get(1L)).isNull();
+            assertThat(published).containsExactly("gameAccount:1");
+        }
+
+        @Test
+        @DisplayName("다른 노드의 무효화 메시지는 로컬만 지운다")
+        void invalidateLocalKeepsRedis() {
+            // given
+            cache.put(1L, "account");
+
+            // when
+            cache.invalidateLocal("1");
+
+            // then
+            assertThat(remote.get(1L).get()).isEqualTo("account");
+            assertThat(cache.get(1L).get()).isEqualTo("account");
+            assertThat(gets("redis_hit")).isEqualTo(1.0);
+            assertThat(published).isEmpty();
+        }
+    }
+
+    private TwoLevelCache newCache(Cache remoteCache) {
+        return new TwoLevelCache(
+                "gameAccount",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache,
+                (cacheName, key) -> published.add(cacheName + ":" + key),
+                meterRegistry);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.two-level.gets").tag("cache", "gameAccount").tag("result", result)
+                .counter().count();
+    }
+}
@@ -0,0 +1,199 @@
+package com.back.matchduo.global.concurrency;
+
+import com.back.matchduo.global.exception.CustomErrorCode;
+import com.back.matchduo.global.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Bulkhead 테스트")
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new Bulkhead("test", 2, Duration.ofMillis(10), meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("permit 획득/반납")
+    class AcquireTest {
+
+        @Test
+        @DisplayName("최대 동시 실행 수를 넘으면 대기 후 SERVER_BUSY로 거절하고 rejected 메트릭을 올린다")
+        void acquire_rejectWhenFull() {
+            // given
+            bulkhead.acquire();
+            bulkhead.acquire();
+
+            // when & then
+            assertThatThrownBy(() -> bulkhead.acquire())
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(CustomErrorCode.SERVER_BUSY);
+            assertThat(meterRegistry.get("bulkhead.rejected").tag("name", "test").counter().count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("작업이 예외로 끝나도 permit은 반납된다")
+        void call_releaseOnException() {
+            // when
+            assertThatThrownBy(() -> bulkhead.call(() -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(bulkhead.getAvailablePermits()).isEqualTo(2);
+            assertThat(meterRegistry.get("bulkhead.available.permits").tag("name", "test").gauge().value())
+                    .isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("DataSource 래핑")
+    class DataSourceTest {
+
+        @Test
+        @DisplayName("커넥션을 빌리는 동안 permit을 점유하고 close() 시 한 번만 반납한다")
+        void getConnection_releaseOnClose() throws Exception {
+            // given
+            DataSource target = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            given(target.getConnection()).willReturn(connection);
+            DataSource dataSource = wrap(target);
+
+            // when
+            Connection first = dataSource.getConnection();
+            Connection second = dataSource.getConnection();
+
+            // then
+            assertThat(bulkhead.getAvailablePermits()).isZero();
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+            first.close();
+            first.close();
+            assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+            verify(connection, times(2)).close();
+
+            second.close();
+            assertThat(bulkhead.getAvailablePermits()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("실제 커넥션 획득이 실패하면 permit을 즉시 반납한다")
+        void getConnection_releaseOnFailure() throws Exception {
+            // given
+            DataSource target = mock(DataSource.class);
+            given(target.getConnection()).willThrow(new SQLTransientConnectionException("pool timeout"));
+            DataSource dataSource = wrap(target);
+
+            // when & then
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(bulkhead.getAvailablePermits()).isEqualTo(2);
+        }
+
+        private DataSource wrap(DataSource target) {
+            BeanFactory beanFactory = mock(BeanFactory.class);
+            given(beanFactory.getBean("mysqlBulkhead", Bulkhead.class)).willReturn(bulkhead);
+            return (DataSource) new ConnectionBulkheadPostProcessor(beanFactory)
+                    .postProcessAfterInitialization(target, "dataSource");
+        }
+    }
+
+    @Nested
+    @DisplayName("RedisConnectionFactory 래핑")
+    class RedisConnectionFactoryTest {
+
+        @Test
+        @DisplayName("커넥션을 빌리는 동안 permit을 점유하고 close() 시 반납한다")
+        void getConnection_releaseOnClose() {
+            // given
+            LettuceConnectionFactory target = mock(LettuceConnectionFactory.class);
+            given(target.getConnection()).willReturn(mock(RedisConnection.class));
+            RedisConnectionFactory connectionFactory = wrap(target);
+
+            // when
+            RedisConnection first = connectionFactory.getConnection();
+            connectionFactory.getConnection();
+
+            // then
+            assertThat(bulkhead.getAvailablePermits()).isZero();
+            assertThatThrownBy(connectionFactory::getConnection).isInstanceOf(RedisConnectionFailureException.class);
+
+            first.close();
+            assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("구독 커넥션은 subscribe 시점에 permit을 반납하고, 이후 close()에서 다시 반납하지 않는다")
+        void subscribe_releasesPermit() {
+            // given
+            LettuceConnectionFactory target = mock(LettuceConnectionFactory.class);
+            RedisConnection connection = mock(RedisConnection.class);
+            given(target.getConnection()).willReturn(connection);
+            RedisConnectionFactory connectionFactory = wrap(target);
+
+            // when
+            RedisConnection subscriber = connectionFactory.getConnection();
+            subscriber.subscribe(mock(MessageListener.class), "channel".getBytes());
+
+            // then
+            assertThat(bulkhead.getAvailablePermits()).isEqualTo(2);
+            verify(connection).subscribe(any(), any());
+
+            subscriber.close();
+            assertThat(bulkhead.getAvailablePermits()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("reactive 팩토리와 수명주기 호출은 원본에 넘긴다")
+        void delegatesReactiveAndLifecycle() throws Exception {
+            // given
+            LettuceConnectionFactory target = mock(LettuceConnectionFactory.class);
+            RedisConnectionFactory connectionFactory = wrap(target);
+
+            // when
+            ((ReactiveRedisConnectionFactory) connectionFactory).getReactiveConnection();
+            ((ConnectionBulkheadPostProcessor.BulkheadRedisConnectionFactory) connectionFactory).stop();
+            ((ConnectionBulkheadPostProcessor.BulkheadRedisConnectionFactory) connectionFactory).destroy();
+
+            // then
+            verify(target).getReactiveConnection();
+            verify(target).stop();
+            verify(target).destroy();
+        }
+
+        private RedisConnectionFactory wrap(RedisConnectionFactory target) {
+            BeanFactory beanFactory = mock(BeanFactory.class);
+            given(beanFactory.getBean("redisBulkhead", Bulkhead.class)).willReturn(bulkhead);
+            return (RedisConnectionFactory) new ConnectionBulkheadPostProcessor(beanFactory)
+                    .postProcessAfterInitialization(target, "redisConnectionFactory");
+        }
+    }
+}
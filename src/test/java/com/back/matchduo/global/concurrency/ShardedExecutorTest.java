@@ -0,0 +1,139 @@
+package com.back.matchduo.global.concurrency;
+
+import com.back.matchduo.global.exception.CustomErrorCode;
+import com.back.matchduo.global.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ShardedExecutor 테스트")
+class ShardedExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ShardedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 제출 순서대로 한 스레드에서 실행된다")
+    void execute_sameKeyInOrder() throws Exception {
+        // given
+        executor = new ShardedExecutor("test", 4, 1000, Duration.ofMillis(100), false, meterRegistry);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            int order = i;
+            executor.execute(7L, () -> {
+                executed.add(order);
+                threads.add(Thread.currentThread().getName());
+            });
+        }
+        executor.submit(7L, () -> null).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(executed).isSorted().hasSize(100);
+        assertThat(threads).containsOnly("test-lane-" + executor.laneOf(7L));
+    }
+
+    @Test
+    @DisplayName("lane 큐가 가득 차면 maxWait 후 SERVER_BUSY로 거절하고 rejected 메트릭을 올린다")
+    void execute_rejectWhenFull() throws Exception {
+        // given: lane 1개, 큐 1칸, 실행 중인 작업이 lane을 막고 있음
+        executor = new ShardedExecutor("test", 1, 1, Duration.ofMillis(10), false, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(1L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        started.await(5, TimeUnit.SECONDS);
+        executor.execute(1L, () -> { });
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(1L, () -> { }))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(CustomErrorCode.SERVER_BUSY);
+        assertThat(meterRegistry.get("sharded.executor.rejected").tag("name", "test").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("sharded.executor.queue.depth").tag("lane", "0").gauge().value())
+                .isEqualTo(1.0);
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("작업 예외는 future로 전달되고 lane은 계속 동작한다")
+    void submit_exceptionDoesNotStopLane() throws Exception {
+        // given
+        executor = new ShardedExecutor("test", 2, 10, Duration.ofMillis(100), false, meterRegistry);
+
+        // when
+        CompletableFuture<Object> failed = executor.submit(3L, () -> {
+            throw new IllegalStateException("실패");
+        });
+        CompletableFuture<String> next = executor.submit(3L, () -> "ok");
+
+        // then
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("close는 큐에 남은 작업을 모두 처리할 때까지 기다리고, 이후 제출은 거절한다")
+    void close_drainsQueuedTasks() {
+        // given
+        executor = new ShardedExecutor("test", 2, 100, Duration.ofMillis(10), false, meterRegistry);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 20; i++) {
+            int order = i;
+            executor.execute(order, () -> {
+                sleepQuietly(5);
+                executed.add(order);
+            });
+        }
+
+        // when
+        boolean terminated = executor.close(Duration.ofSeconds(5));
+
+        // then
+        assertThat(terminated).isTrue();
+        assertThat(executed).hasSize(20);
+        assertThatThrownBy(() -> executor.execute(1L, () -> { }))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
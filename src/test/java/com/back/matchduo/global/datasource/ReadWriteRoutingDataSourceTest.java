@@ -0,0 +1,198 @@
+package com.back.matchduo.global.datasource;
+
+import com.back.matchduo.domain.user.entity.User;
+import com.back.matchduo.global.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ReadWriteRoutingDataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Long USER_ID = 7L;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final ReplicaLagMonitor replicaLagMonitor = mock(ReplicaLagMonitor.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replica.getConnection()).willReturn(replicaConnection);
+        given(replicaLagMonitor.isAvailable()).willReturn(true);
+
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica,
+                new ReadYourWritesTracker(Duration.ofSeconds(5)), replicaLagMonitor, meterRegistry);
+
+        User user = User.createUser("routing@test.com", "password", "라우팅");
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new CustomUserDetails(user), null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        endTransaction();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("라우팅")
+    class Route {
+
+        @Test
+        @DisplayName("트랜잭션 밖 → primary")
+        void noTransaction() throws SQLException {
+            // when
+            Connection connection = routingDataSource.getConnection();
+
+            // then
+            assertThat(connection).isSameAs(primaryConnection);
+            assertThat(count("primary", "no_transaction")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("readOnly 트랜잭션 → replica")
+        void readOnlyTransaction() throws SQLException {
+            // given
+            beginTransaction(true);
+
+            // when
+            Connection connection = routingDataSource.getConnection();
+
+            // then
+            assertThat(connection).isSameAs(replicaConnection);
+            assertThat(count("replica", "read")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("쓰기 트랜잭션 → primary")
+        void writeTransaction() throws SQLException {
+            // given
+            beginTransaction(false);
+
+            // when
+            Connection connection = routingDataSource.getConnection();
+
+            // then
+            assertThat(connection).isSameAs(primaryConnection);
+            assertThat(count("primary", "write")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("복제 지연 초과 → readOnly여도 primary")
+        void replicaUnavailable() throws SQLException {
+            // given
+            given(replicaLagMonitor.isAvailable()).willReturn(false);
+            beginTransaction(true);
+
+            // when
+            Connection connection = routingDataSource.getConnection();
+
+            // then
+            assertThat(connection).isSameAs(primaryConnection);
+            assertThat(count("primary", "replica_unavailable")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("read-your-writes")
+    class ReadYourWrites {
+
+        @Test
+        @DisplayName("쓰기 커밋 후 같은 사용자의 readOnly 트랜잭션 → primary")
+        void stickyAfterCommit() throws SQLException {
+            // given
+            beginTransaction(false);
+            routingDataSource.getConnection();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            endTransaction();
+
+            // when
+            beginTransaction(true);
+            Connection connection = routingDataSource.getConnection();
+
+            // then
+            assertThat(connection).isSameAs(primaryConnection);
+            assertThat(count("primary", "sticky")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("커밋되지 않은 쓰기는 고정하지 않는다")
+        void notStickyWithoutCommit() throws SQLException {
+            // given
+            beginTransaction(false);
+            routingDataSource.getConnection();
+            endTransaction();
+
+            // when
+            beginTransaction(true);
+            Connection connection = routingDataSource.getConnection();
+
+            // then
+            assertThat(connection).isSameAs(replicaConnection);
+        }
+
+        @Test
+        @DisplayName("익명 요청은 고정 대상이 아니다")
+        void anonymous() throws SQLException {
+            // given
+            SecurityContextHolder.clearContext();
+            beginTransaction(false);
+            routingDataSource.getConnection();
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+            endTransaction();
+
+            // when
+            beginTransaction(true);
+            Connection connection = routingDataSource.getConnection();
+
+            // then
+            assertThat(connection).isSameAs(replicaConnection);
+        }
+    }
+
+    private double count(String route, String reason) {
+        return meterRegistry.get("datasource.routing.connections")
+                .tag("route", route)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private static void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+}
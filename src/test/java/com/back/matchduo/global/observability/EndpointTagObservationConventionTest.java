@@ -0,0 +1,67 @@
+package com.back.matchduo.global.observability;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EndpointTagObservationConvention 테스트")
+class EndpointTagObservationConventionTest {
+
+    private final EndpointTagObservationConvention convention = new EndpointTagObservationConvention(
+            new ObservabilityProperties(Map.of("PostController.getPostList", "posts_list")));
+
+    @Test
+    @DisplayName("설정된 핸들러는 k6 endpoint 이름으로 태그한다")
+    void configuredEndpointName() throws Exception {
+        assertThat(endpointTag(handler("getPostList"))).isEqualTo("posts_list");
+    }
+
+    @Test
+    @DisplayName("설정이 없으면 컨트롤러/메서드 이름을 snake_case로 만든다")
+    void derivedEndpointName() throws Exception {
+        assertThat(endpointTag(handler("getPostDetail"))).isEqualTo("post_get_post_detail");
+    }
+
+    @Test
+    @DisplayName("핸들러가 없는 요청은 none")
+    void noHandler() {
+        assertThat(endpointTag(null)).isEqualTo("none");
+    }
+
+    private String endpointTag(HandlerMethod handler) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        if (handler != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+        }
+        ServerRequestObservationContext context =
+                new ServerRequestObservationContext(request, new MockHttpServletResponse());
+
+        return convention.getLowCardinalityKeyValues(context).stream()
+                .filter(keyValue -> keyValue.getKey().equals(EndpointTagObservationConvention.ENDPOINT_TAG))
+                .map(KeyValue::getValue)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new PostController(), PostController.class.getMethod(methodName));
+    }
+
+    static class PostController {
+
+        public void getPostList() {
+        }
+
+        public void getPostDetail() {
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.back.matchduo.global.query;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 실행 중 발생한 SQL 문장 수 상한
+ * - @BeforeEach 데이터 준비는 제외하고 테스트 본문(MockMvc 요청 포함)만 센다.
+ * - 클래스에 붙이면 @Nested 포함 하위 테스트 전체에 적용, 메서드 선언이 우선한다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int max();
+}
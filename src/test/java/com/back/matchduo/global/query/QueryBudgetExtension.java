@@ -0,0 +1,54 @@
+package com.back.matchduo.global.query;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * @QueryBudget 처리: 테스트 본문 실행 동안 QueryCountContext Scope를 열고, 상한을 넘으면 SQL 목록과 함께 실패시킨다.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCountContext.open());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCountContext.Scope scope =
+                context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryCountContext.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+
+        QueryBudget budget = findBudget(context);
+        if (budget == null || scope.getStatements() <= budget.max()) {
+            return;
+        }
+
+        String shapes = scope.getShapes().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> "  x" + entry.getValue() + " " + entry.getKey())
+                .collect(Collectors.joining("\n"));
+        throw new AssertionError("SQL 예산 초과: " + scope.getStatements() + "개 실행 (허용 " + budget.max() + "개)\n"
+                + shapes);
+    }
+
+    // 메서드 → 테스트 클래스 → 바깥 클래스(@Nested) 순으로 탐색
+    private QueryBudget findBudget(ExtensionContext context) {
+        QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        for (Class<?> type = context.getRequiredTestClass(); budget == null && type != null;
+             type = type.getEnclosingClass()) {
+            budget = type.getAnnotation(QueryBudget.class);
+        }
+        return budget;
+    }
+}
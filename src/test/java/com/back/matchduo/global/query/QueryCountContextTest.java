@@ -0,0 +1,55 @@
+package com.back.matchduo.global.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryCountContext 테스트")
+class QueryCountContextTest {
+
+    @Test
+    @DisplayName("중첩된 Scope는 각자 열린 이후의 SQL만 집계한다")
+    void nestedScopes() {
+        try (QueryCountContext.Scope outer = QueryCountContext.open()) {
+            QueryCountContext.recordStatement("select * from post where id=?");
+
+            try (QueryCountContext.Scope inner = QueryCountContext.open()) {
+                QueryCountContext.recordStatement("select * from users where id=?");
+                QueryCountContext.recordRow();
+                QueryCountContext.recordJdbcTime(2_000_000);
+
+                assertThat(inner.getStatements()).isEqualTo(1);
+                assertThat(inner.getRows()).isEqualTo(1);
+                assertThat(inner.getJdbcMillis()).isEqualTo(2.0);
+            }
+
+            assertThat(outer.getStatements()).isEqualTo(2);
+            assertThat(outer.getJdbcMillis()).isEqualTo(2.0);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 SQL이 반복되면 가장 많이 반복된 SQL로 보고한다 (N+1 후보)")
+    void mostRepeated() {
+        try (QueryCountContext.Scope scope = QueryCountContext.open()) {
+            QueryCountContext.recordStatement("select * from post limit ?");
+            for (int i = 0; i < 5; i++) {
+                QueryCountContext.recordStatement("select * from party where post_id=?");
+            }
+
+            assertThat(scope.getMostRepeated().getKey()).isEqualTo("select * from party where post_id=?");
+            assertThat(scope.getMostRepeated().getValue()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Scope가 없으면 집계하지 않는다")
+    void noScope() {
+        QueryCountContext.recordStatement("select 1");
+
+        try (QueryCountContext.Scope scope = QueryCountContext.open()) {
+            assertThat(scope.getStatements()).isZero();
+        }
+    }
+}
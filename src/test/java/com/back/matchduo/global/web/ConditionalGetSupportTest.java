@@ -0,0 +1,153 @@
+package com.back.matchduo.global.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConditionalGetSupport 테스트")
+class ConditionalGetSupportTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConditionalGetSupport conditionalGetSupport = new ConditionalGetSupport(meterRegistry);
+
+    @Test
+    @DisplayName("버전 값이 같으면 같은 ETag, 갱신 시각이 1나노초라도 다르면 다른 ETag")
+    void etag_fromStamp() {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 100);
+
+        // when
+        String etag = ConditionalGetSupport.etag("ranks", 1L, updatedAt, 2L);
+
+        // then
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(ConditionalGetSupport.etag("ranks", 1L, updatedAt, 2L)).isEqualTo(etag);
+        assertThat(ConditionalGetSupport.etag("ranks", 1L, updatedAt.plusNanos(1), 2L)).isNotEqualTo(etag);
+        assertThat(ConditionalGetSupport.etag("ranks", 1L, null, 2L)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 같으면 304로 표시하고 not_modified로 센다")
+    void checkNotModified_match() {
+        // given
+        String etag = ConditionalGetSupport.etag("party", 1L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts/1/party");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = conditionalGetSupport.checkNotModified(
+                new ServletWebRequest(request, response), "party_detail", etag);
+
+        // then
+        assertThat(notModified).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo(etag);
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("private, no-cache");
+        assertThat(meterRegistry.counter("http.conditional.get",
+                "endpoint", "party_detail", "result", "not_modified").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 없거나 다르면 본문을 내려주고 ETag를 붙인다")
+    void checkNotModified_mismatch() {
+        // given
+        String etag = ConditionalGetSupport.etag("party", 1L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts/1/party");
+        request.addHeader("If-None-Match", ConditionalGetSupport.etag("party", 2L));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = conditionalGetSupport.checkNotModified(
+                new ServletWebRequest(request, response), "party_detail", etag);
+
+        // then
+        assertThat(notModified).isFalse();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isEqualTo(etag);
+        assertThat(meterRegistry.counter("http.conditional.get",
+                "endpoint", "party_detail", "result", "modified").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전 값은 바뀌었는데 캐시에 이전 본문이 남아 있으면 evict 후 다시 읽어 새 본문과 새 ETag를 보낸다")
+    void ok_staleCachedBody_reloaded() {
+        // given: 캐시에는 갱신 전 본문, DB(버전 값)는 이미 갱신됨
+        String oldEtag = ConditionalGetSupport.etag("ranks", 1L, LocalDateTime.of(2025, 1, 1, 12, 0), 1L);
+        String newEtag = ConditionalGetSupport.etag("ranks", 1L, LocalDateTime.of(2025, 1, 1, 12, 5), 2L);
+        AtomicReference<EtaggedBody<List<String>>> cache =
+                new AtomicReference<>(new EtaggedBody<>(oldEtag, List.of("SILVER")));
+        AtomicInteger dbReads = new AtomicInteger();
+
+        // when
+        ResponseEntity<List<String>> result = conditionalGetSupport.ok(newEtag,
+                () -> cache.updateAndGet(cached -> {
+                    if (cached != null) {
+                        return cached;
+                    }
+                    dbReads.incrementAndGet();
+                    return new EtaggedBody<>(newEtag, List.of("SILVER", "GOLD"));
+                }),
+                () -> cache.set(null));
+
+        // then
+        assertThat(result.getStatusCode().value()).isEqualTo(200);
+        assertThat(result.getBody()).containsExactly("SILVER", "GOLD");
+        assertThat(result.getHeaders().getETag()).isEqualTo(newEtag);
+        assertThat(dbReads.get()).isEqualTo(1);
+        assertThat(cache.get().etag()).isEqualTo(newEtag);
+    }
+
+    @Test
+    @DisplayName("다시 읽어도 이전 본문이면(지연된 복제본) 새 ETag가 아니라 본문의 ETag를 보낸다")
+    void ok_stillStale_sendsBodyEtag() {
+        // given
+        String oldEtag = ConditionalGetSupport.etag("favorite-champions", 1L, LocalDateTime.of(2025, 1, 1, 12, 0));
+        String newEtag = ConditionalGetSupport.etag("favorite-champions", 1L, LocalDateTime.of(2025, 1, 1, 12, 5));
+        AtomicInteger evictions = new AtomicInteger();
+
+        // when
+        ResponseEntity<List<String>> result = conditionalGetSupport.ok(newEtag,
+                () -> new EtaggedBody<>(oldEtag, List.of("Ahri")),
+                evictions::incrementAndGet);
+
+        // then
+        assertThat(result.getBody()).containsExactly("Ahri");
+        assertThat(result.getHeaders().getETag()).isEqualTo(oldEtag);
+        assertThat(evictions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 본문의 ETag가 현재 버전 값과 같으면 evict 없이 한 번만 읽는다")
+    void ok_fresh_noEvict() {
+        // given
+        String etag = ConditionalGetSupport.etag("ranks", 1L, LocalDateTime.of(2025, 1, 1, 12, 0), 1L);
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger evictions = new AtomicInteger();
+
+        // when
+        ResponseEntity<List<String>> result = conditionalGetSupport.ok(etag,
+                () -> {
+                    loads.incrementAndGet();
+                    return new EtaggedBody<>(etag, List.of("GOLD"));
+                },
+                evictions::incrementAndGet);
+
+        // then
+        assertThat(result.getBody()).containsExactly("GOLD");
+        assertThat(result.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(evictions.get()).isZero();
+    }
+}
@@ -0,0 +1,206 @@
+package com.back.matchduo.global.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.sockjs.transport.SockJsSession;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OutboundFrameAggregator 테스트")
+class OutboundFrameAggregatorTest {
+
+    private static final String FRAME_A = "MESSAGE\ndestination:/sub/chats/1\n\n{\"seq\":1}\0";
+    private static final String FRAME_B = "MESSAGE\ndestination:/sub/chats/1\n\n{\"seq\":2}\0";
+    private static final String RECEIPT = "RECEIPT\nreceipt-id:1\n\n\0";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WebSocketSessionRegistry sessionRegistry = new WebSocketSessionRegistry(meterRegistry);
+    private final WebSocketHandler handler = mock(WebSocketHandler.class);
+    private final WebSocketSession rawSession = mock(WebSocketSession.class);
+    private OutboundFrameAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        given(rawSession.isOpen()).willReturn(true);
+        given(rawSession.getId()).willReturn("s1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        aggregator.shutdown();
+    }
+
+    @Test
+    @DisplayName("지연 시간 안에 나간 프레임은 WebSocket 메시지 1개로 합쳐 보낸다")
+    void sendMessage_coalesce() throws Exception {
+        // given
+        WebSocketSession session = connect(50, 16384);
+
+        // when
+        session.sendMessage(new TextMessage(FRAME_A));
+        session.sendMessage(new TextMessage(FRAME_B));
+
+        // then
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(rawSession, timeout(1000)).sendMessage(sent.capture());
+        assertThat(sent.getValue().getPayload()).isEqualTo(FRAME_A + FRAME_B);
+        assertThat(meterRegistry.get("websocket.outbound.batch.frames").summary().max()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("묶음이 최대 크기를 넘으면 기다리지 않고 바로 보낸다")
+    void sendMessage_flushWhenFull() throws Exception {
+        // given
+        WebSocketSession session = connect(10_000, FRAME_A.length());
+
+        // when
+        session.sendMessage(new TextMessage(FRAME_A));
+
+        // then
+        verify(rawSession, timeout(1000)).sendMessage(any(TextMessage.class));
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    @DisplayName("텍스트가 아닌 메시지는 쌓인 프레임을 먼저 보내고 순서대로 전송")
+    void sendMessage_nonTextKeepsOrder() throws Exception {
+        // given
+        WebSocketSession session = connect(10_000, 16384);
+        PingMessage ping = new PingMessage();
+
+        // when
+        session.sendMessage(new TextMessage(FRAME_A));
+        session.sendMessage(ping);
+
+        // then
+        ArgumentCaptor<WebSocketMessage> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(rawSession, timeout(1000).times(2)).sendMessage(sent.capture());
+        List<WebSocketMessage> messages = sent.getAllValues();
+        assertThat(messages.get(0).getPayload()).isEqualTo(FRAME_A);
+        assertThat(messages.get(1)).isSameAs(ping);
+    }
+
+    @Test
+    @DisplayName("SockJS 세션은 감싸지 않는다")
+    void decorate_skipSockJs() throws Exception {
+        // given
+        aggregator = new OutboundFrameAggregator(meterRegistry, sessionRegistry, policy(65536, 524288), 50, 16384);
+        SockJsSession sockJsSession = mock(SockJsSession.class);
+
+        // when
+        aggregator.decorate(handler).afterConnectionEstablished(sockJsSession);
+
+        // then
+        verify(handler).afterConnectionEstablished(sockJsSession);
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    @DisplayName("지연 시간이 0이면 묶지 않는다")
+    void decorate_disabled() throws Exception {
+        // given: 느린 클라이언트 판단을 위해 세션은 감싸되 프레임은 하나씩 보낸다
+        WebSocketSession session = connect(0, 16384);
+
+        // when
+        session.sendMessage(new TextMessage(FRAME_A));
+        session.sendMessage(new TextMessage(FRAME_B));
+
+        // then
+        ArgumentCaptor<WebSocketMessage> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(rawSession, timeout(1000).times(2)).sendMessage(sent.capture());
+        assertThat(sent.getAllValues()).extracting(WebSocketMessage::getPayload)
+                .containsExactly(FRAME_A, FRAME_B);
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    @DisplayName("밀린 바이트가 기준을 넘으면 MESSAGE 프레임은 버리고 RECEIPT는 보낸다")
+    void sendMessage_dropBroadcast() throws Exception {
+        // given: 첫 전송이 끝나지 않는 클라이언트
+        WebSocketSession session = connect(0, 16384, policy(0, 524288));
+        CountDownLatch release = blockWrites();
+
+        // when
+        session.sendMessage(new TextMessage(FRAME_A));
+        session.sendMessage(new TextMessage(FRAME_B));
+        session.sendMessage(new TextMessage(RECEIPT));
+
+        // then
+        assertThat(meterRegistry.get("websocket.outbound.pending.bytes").gauge().value())
+                .isEqualTo((double) (FRAME_A.length() + RECEIPT.length()));
+        assertThat(meterRegistry.get("websocket.slow.consumer").tag("action", "dropped").counter().count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        ArgumentCaptor<WebSocketMessage> sent = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(rawSession, timeout(1000).times(2)).sendMessage(sent.capture());
+        assertThat(sent.getAllValues()).extracting(WebSocketMessage::getPayload)
+                .containsExactly(FRAME_A, RECEIPT);
+    }
+
+    @Test
+    @DisplayName("밀린 바이트가 송신 버퍼 한도를 넘으면 연결을 끊는다")
+    void sendMessage_disconnectSlowConsumer() throws Exception {
+        // given
+        WebSocketSession session = connect(0, 16384, policy(524288, FRAME_A.length() + 1));
+        CountDownLatch release = blockWrites();
+
+        // when
+        session.sendMessage(new TextMessage(FRAME_A));
+        session.sendMessage(new TextMessage(FRAME_B));
+
+        // then
+        verify(rawSession).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get("websocket.slow.consumer").tag("action", "disconnected").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("websocket.outbound.pending.bytes").gauge().value()).isZero();
+
+        release.countDown();
+    }
+
+    private SlowConsumerPolicy policy(long dropThresholdBytes, long disconnectThresholdBytes) {
+        return new SlowConsumerPolicy(meterRegistry, dropThresholdBytes, disconnectThresholdBytes, 10_000);
+    }
+
+    private CountDownLatch blockWrites() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(rawSession).sendMessage(any());
+        return release;
+    }
+
+    private WebSocketSession connect(long delayMs, int maxBytes) throws Exception {
+        return connect(delayMs, maxBytes, policy(65536, 524288));
+    }
+
+    private WebSocketSession connect(long delayMs, int maxBytes, SlowConsumerPolicy policy) throws Exception {
+        aggregator = new OutboundFrameAggregator(meterRegistry, sessionRegistry, policy, delayMs, maxBytes);
+        aggregator.decorate(handler).afterConnectionEstablished(rawSession);
+
+        ArgumentCaptor<WebSocketSession> decorated = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(decorated.capture());
+        return decorated.getValue();
+    }
+}
@@ -0,0 +1,73 @@
+package com.back.matchduo.global.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WebSocketSessionRegistry 테스트")
+class WebSocketSessionRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WebSocketSessionRegistry registry = new WebSocketSessionRegistry(meterRegistry);
+
+    @Test
+    @DisplayName("구독은 방 번호를 묶은 destination별로 집계된다")
+    void subscribe_normalizeDestination() {
+        // given
+        registry.onConnect(new SessionConnectEvent(this, frame(StompCommand.CONNECT, "s1", null, null)));
+        registry.onConnect(new SessionConnectEvent(this, frame(StompCommand.CONNECT, "s2", null, null)));
+
+        // when
+        registry.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-0", "/sub/chats/1")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-0", "/sub/chats/2")));
+
+        // then
+        assertThat(registry.sessionCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("websocket.sessions").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("websocket.subscriptions").tag("destination", "/sub/chats/{id}").gauge().value())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("구독 해제와 연결 종료 시 구독 수가 줄어든다")
+    void unsubscribeAndDisconnect() {
+        // given
+        registry.onConnect(new SessionConnectEvent(this, frame(StompCommand.CONNECT, "s1", null, null)));
+        registry.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-0", "/sub/chats/1")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1", "/sub/chats/2")));
+
+        // when
+        registry.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null)));
+        int afterUnsubscribe = registry.subscriptionCount("/sub/chats/1");
+        registry.onDisconnect(new SessionDisconnectEvent(this,
+                frame(StompCommand.DISCONNECT, "s1", null, null), "s1", CloseStatus.NORMAL));
+
+        // then
+        assertThat(afterUnsubscribe).isEqualTo(1);
+        assertThat(registry.subscriptionCount("/sub/chats/1")).isZero();
+        assertThat(registry.sessionCount()).isZero();
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}